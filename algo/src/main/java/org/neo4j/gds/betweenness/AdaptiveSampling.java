@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Approximates betweenness centrality up to an absolute error `epsilon` with probability `1 - delta`.
+ *
+ * Shortest paths between uniformly chosen pairs of nodes are sampled as described by
+ * Riondato and Kornaropoulos [1]. Their bound on the number of samples required for the
+ * guarantee is only used as a fallback. Sampling usually stops earlier, once the adaptive
+ * bounds of KADABRA [2] are below `epsilon` for every node.
+ *
+ * The error refers to the normalized betweenness, which is the score of a node divided by
+ * the number of pairs of nodes.
+ *
+ * [1]: <a href="https://doi.org/10.1007/s10618-015-0423-0">Fast approximation of betweenness centrality through sampling</a>
+ * [2]: <a href="https://doi.org/10.1145/3284359">KADABRA is an ADAptive Algorithm for Betweenness via Random Approximation</a>
+ */
+public final class AdaptiveSampling {
+
+    // Universal constant of the VC-dimension based bound, as suggested in [1].
+    private static final double C = 0.5;
+
+    private final double epsilon;
+    private final double delta;
+    private final Optional<Long> maybeRandomSeed;
+
+    public AdaptiveSampling(double epsilon, double delta, Optional<Long> maybeRandomSeed) {
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.maybeRandomSeed = maybeRandomSeed;
+    }
+
+    double epsilon() {
+        return epsilon;
+    }
+
+    SplittableRandom random() {
+        return maybeRandomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+    }
+
+    /**
+     * The number of samples after which the error is below `epsilon` with probability `1 - delta / 2`.
+     * The vertex diameter is bounded by the number of nodes, which only enters logarithmically.
+     */
+    long maxSamples(long nodeCount) {
+        var vertexDiameter = Math.max(nodeCount, 3);
+        var log2VertexDiameter = 63 - Long.numberOfLeadingZeros(vertexDiameter - 2);
+        return (long) Math.ceil(C / (epsilon * epsilon) * (log2VertexDiameter + 1 + Math.log(2 / delta)));
+    }
+
+    /**
+     * The largest error of any node after `samples` samples, given that no node has
+     * been an inner node of more than `maxCount` sampled paths.
+     *
+     * The remaining `delta / 2` is split evenly over the lower and upper bounds of all nodes.
+     * Both bounds grow with the estimated betweenness, and the upper bound is never smaller
+     * than the lower bound, so the upper bound of the node with the highest estimate suffices.
+     */
+    double error(long maxCount, long samples, long maxSamples, long nodeCount) {
+        double tau = samples;
+        double omega = maxSamples;
+        var logInverseDelta = Math.log(4.0 * nodeCount / delta);
+        var estimate = maxCount / tau;
+        var offset = 1.0 / 3.0 + omega / tau;
+        return logInverseDelta / tau * (offset + Math.sqrt(offset * offset + 2 * estimate * omega / logInverseDelta));
+    }
+}
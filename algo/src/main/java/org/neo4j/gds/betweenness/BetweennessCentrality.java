@@ -21,6 +21,7 @@ package org.neo4j.gds.betweenness;
 
 import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.cursor.HugeCursor;
@@ -33,19 +34,32 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.ArrayList;
+import java.util.OptionalDouble;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
     static final String BETWEENNESS_DESCRIPTION = "Betweenness centrality measures the relative information flow that passes through a node.";
+
+    // Number of paths sampled per thread between two checks of the stopping condition.
+    private static final int SAMPLING_BATCH_SIZE = 256;
+
     private final Graph graph;
     private final long nodeCount;
     private final double divisor;
-    private final ForwardTraverser.Factory traverserFactory;
+    private final @Nullable ForwardTraverser.Factory traverserFactory;
+    private final @Nullable AdaptiveSampling adaptiveSampling;
+    private final boolean weighted;
 
     private HugeAtomicDoubleArray centrality;
-    private SelectionStrategy selectionStrategy;
+    private @Nullable SelectionStrategy selectionStrategy;
+    private OptionalDouble samplingError = OptionalDouble.empty();
 
     private final ExecutorService executorService;
     private final int concurrency;
@@ -58,6 +72,34 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, traverserFactory, null, false, executorService, concurrency, progressTracker);
+        this.selectionStrategy.init(graph, executorService, concurrency);
+    }
+
+    /**
+     * Approximates the scores by sampling shortest paths until the error bound of `adaptiveSampling` is met.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        AdaptiveSampling adaptiveSampling,
+        boolean weighted,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, null, null, adaptiveSampling, weighted, executorService, concurrency, progressTracker);
+    }
+
+    private BetweennessCentrality(
+        Graph graph,
+        @Nullable SelectionStrategy selectionStrategy,
+        @Nullable ForwardTraverser.Factory traverserFactory,
+        @Nullable AdaptiveSampling adaptiveSampling,
+        boolean weighted,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -66,20 +108,76 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         this.nodeCount = graph.nodeCount();
         this.centrality = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
         this.selectionStrategy = selectionStrategy;
-        this.selectionStrategy.init(graph, executorService, concurrency);
         this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
         this.traverserFactory = traverserFactory;
-
+        this.adaptiveSampling = adaptiveSampling;
+        this.weighted = weighted;
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        if (adaptiveSampling == null) {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        } else if (nodeCount > 1) {
+            computeBySampling(adaptiveSampling);
+        }
         progressTracker.endSubTask();
         return centrality;
     }
 
+    /**
+     * The bound on the error of the normalized scores that has been achieved by adaptive sampling.
+     * Empty, if the scores have not been computed by adaptive sampling.
+     */
+    public OptionalDouble samplingError() {
+        return samplingError;
+    }
+
+    private void computeBySampling(AdaptiveSampling adaptiveSampling) {
+        var maxSamples = adaptiveSampling.maxSamples(nodeCount);
+        var random = adaptiveSampling.random();
+        // The highest number of sampled paths any node has been an inner node of.
+        var maxCount = new AtomicLong();
+        var tasks = new ArrayList<SamplingTask>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new SamplingTask(random.split(), maxCount));
+        }
+
+        long samples = 0;
+        double error = Double.MAX_VALUE;
+        while (samples < maxSamples && terminationFlag.running()) {
+            var batchSize = Math.min((long) SAMPLING_BATCH_SIZE * concurrency, maxSamples - samples);
+            for (int i = 0; i < concurrency; i++) {
+                tasks.get(i).samples = batchSize / concurrency + (i < batchSize % concurrency ? 1 : 0);
+            }
+            ParallelUtil.run(tasks, executorService);
+            samples += batchSize;
+
+            error = adaptiveSampling.error(maxCount.get(), samples, maxSamples, nodeCount);
+            if (error <= adaptiveSampling.epsilon()) {
+                break;
+            }
+        }
+        if (samples >= maxSamples) {
+            error = Math.min(error, adaptiveSampling.epsilon());
+        } else {
+            // the task volume is the maximum number of samples, account for the ones that are not needed
+            progressTracker.logProgress(maxSamples - samples);
+        }
+
+        samplingError = OptionalDouble.of(error);
+        progressTracker.logInfo(formatWithLocale("Sampled %d paths with a maximum error of %.6f", samples, error));
+
+        // scale the number of sampled paths through a node to an estimate of its score
+        var scale = (double) nodeCount * (nodeCount - 1) / (divisor * samples);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> centrality.set(nodeId, centrality.get(nodeId) * scale)
+        );
+    }
+
     final class BCTask implements Runnable {
         private final HugeObjectArray<LongArrayList> predecessors;
         private final HugeCursor<LongArrayList[]> predecessorsCursor;
@@ -164,4 +262,38 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
             }
         }
     }
+
+    final class SamplingTask implements Runnable {
+        private final ShortestPathSampler sampler;
+        private final SplittableRandom random;
+        private final AtomicLong maxCount;
+        private long samples;
+
+        private SamplingTask(SplittableRandom random, AtomicLong maxCount) {
+            this.sampler = new ShortestPathSampler(graph.concurrentCopy(), weighted, terminationFlag);
+            this.random = random;
+            this.maxCount = maxCount;
+        }
+
+        @Override
+        public void run() {
+            for (long i = 0; i < samples && terminationFlag.running(); i++) {
+                long source = random.nextLong(nodeCount);
+                // pick a target different from `source`
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+                sampler.sample(source, target, random, this::count);
+                getProgressTracker().logProgress();
+            }
+        }
+
+        private void count(long nodeId) {
+            var count = (long) centrality.getAndAdd(nodeId, 1.0) + 1;
+            if (count > maxCount.get()) {
+                maxCount.accumulateAndGet(count, Math::max);
+            }
+        }
+    }
 }
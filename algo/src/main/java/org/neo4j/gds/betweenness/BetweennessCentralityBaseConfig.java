@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
@@ -32,6 +33,20 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Maximum absolute error of the normalized scores when sampling adaptively.
+     */
+    Optional<Double> samplingEpsilon();
+
+    /**
+     * Probability that the error of adaptive sampling exceeds `samplingEpsilon`.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double samplingDelta() {
+        return 0.1;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -43,5 +58,19 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
                 ));
             }
         });
+        samplingEpsilon().ifPresent(samplingEpsilon -> {
+            if (samplingEpsilon <= 0 || samplingEpsilon >= 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'samplingEpsilon' must be within the range (0, 1), got %s.",
+                    samplingEpsilon
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'samplingSize' and 'samplingEpsilon' cannot be used together."
+                );
+            }
+        });
     }
 }
@@ -54,6 +54,18 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
 
+        var samplingEpsilon = configuration.samplingEpsilon();
+        if (samplingEpsilon.isPresent()) {
+            return new BetweennessCentrality(
+                graph,
+                new AdaptiveSampling(samplingEpsilon.get(), configuration.samplingDelta(), samplingSeed),
+                configuration.hasRelationshipWeightProperty(),
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                progressTracker
+            );
+        }
+
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
@@ -75,14 +87,33 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
-            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation);
+        if (configuration.samplingEpsilon().isPresent()) {
+            builder.perThread("sampling task", samplingTaskMemoryEstimation());
+        } else {
+            builder.perThread("compute task",
                 bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
             );
+        }
         return builder
             .build();
     }
 
+    private static MemoryEstimation samplingTaskMemoryEstimation() {
+        return MemoryEstimations.builder(BetweennessCentrality.SamplingTask.class)
+            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
+                return MemoryEstimations.builder(HugeObjectArray.class)
+                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
+                    .build();
+            }))
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("sigmas", HugeDoubleArray::memoryEstimation)
+            .perNode("reachedNodes", HugeLongArray::memoryEstimation)
+            .perNode("settled", MemoryUsage::sizeOfBitset)
+            .build();
+    }
+
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
@@ -121,6 +152,10 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
-        return Tasks.leaf(taskName(), config.samplingSize().orElse(graph.nodeCount()));
+        var volume = config.samplingEpsilon()
+            .map(epsilon -> new AdaptiveSampling(epsilon, config.samplingDelta(), config.samplingSeed()))
+            .map(adaptiveSampling -> adaptiveSampling.maxSamples(graph.nodeCount()))
+            .orElseGet(() -> config.samplingSize().orElse(graph.nodeCount()));
+        return Tasks.leaf(taskName(), volume);
     }
 }
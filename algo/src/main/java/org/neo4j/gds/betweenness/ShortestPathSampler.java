@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.queue.GrowingLongMinHeap;
+
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * Samples one of the shortest paths between two nodes uniformly at random.
+ *
+ * The search from the source node stops as soon as all shortest paths to the
+ * target node are known. Afterwards, only the nodes reached by the search are
+ * reset, so the cost of a sample depends on the distance between the nodes
+ * rather than on the size of the graph.
+ */
+final class ShortestPathSampler {
+
+    private static final double UNREACHED = -1.0;
+
+    private final Graph graph;
+    private final boolean weighted;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeDoubleArray distances;
+    private final HugeDoubleArray sigma;
+    private final HugeObjectArray<LongArrayList> predecessors;
+    // Nodes reached by the current search, in the order they have been reached.
+    // For unweighted graphs, this doubles as the BFS queue.
+    private final HugeLongArray reachedNodes;
+    private long reachedNodeCount;
+
+    // Only used for weighted graphs.
+    private final GrowingLongMinHeap queue;
+    private final BitSet settled;
+
+    private final RelationshipConsumer unweightedConsumer;
+    private final RelationshipWithPropertyConsumer weightedConsumer;
+
+    ShortestPathSampler(Graph graph, boolean weighted, TerminationFlag terminationFlag) {
+        var nodeCount = graph.nodeCount();
+        this.graph = graph;
+        this.weighted = weighted;
+        this.terminationFlag = terminationFlag;
+        this.distances = HugeDoubleArray.newArray(nodeCount);
+        this.distances.fill(UNREACHED);
+        this.sigma = HugeDoubleArray.newArray(nodeCount);
+        this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        this.reachedNodes = HugeLongArray.newArray(nodeCount);
+        this.queue = weighted ? new GrowingLongMinHeap() : null;
+        this.settled = weighted ? new BitSet(nodeCount) : null;
+        this.unweightedConsumer = (source, target) -> {
+            relax(source, target, 1.0);
+            return true;
+        };
+        this.weightedConsumer = (source, target, weight) -> {
+            if (!settled.get(target)) {
+                relax(source, target, weight);
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Samples a shortest path from `source` to `target` and passes all of its nodes,
+     * except for `source` and `target`, to `innerNodeConsumer`.
+     *
+     * @return false, if `target` is not reachable from `source`
+     */
+    boolean sample(long source, long target, SplittableRandom random, LongConsumer innerNodeConsumer) {
+        reach(source, 0.0);
+        sigma.set(source, 1.0);
+
+        if (weighted) {
+            searchWeighted(target);
+        } else {
+            searchUnweighted(target);
+        }
+
+        var reachable = distances.get(target) != UNREACHED && terminationFlag.running();
+        if (reachable) {
+            long node = target;
+            while (node != source) {
+                node = samplePredecessor(node, random);
+                if (node != source) {
+                    innerNodeConsumer.accept(node);
+                }
+            }
+        }
+
+        reset();
+        return reachable;
+    }
+
+    private void searchUnweighted(long target) {
+        long head = 0;
+        while (head < reachedNodeCount && terminationFlag.running()) {
+            long node = reachedNodes.get(head++);
+            var targetDistance = distances.get(target);
+            // all predecessors of `target` have been expanded
+            if (targetDistance != UNREACHED && distances.get(node) >= targetDistance) {
+                return;
+            }
+            graph.forEachRelationship(node, unweightedConsumer);
+        }
+    }
+
+    private void searchWeighted(long target) {
+        while (!queue.isEmpty() && terminationFlag.running()) {
+            long node = queue.topElement();
+            double nodeDistance = queue.topKey();
+            queue.pop();
+            if (settled.get(node) || nodeDistance > distances.get(node)) {
+                continue;
+            }
+            settled.set(node);
+            if (node == target) {
+                break;
+            }
+            graph.forEachRelationship(node, 1.0D, weightedConsumer);
+        }
+        queue.clear();
+    }
+
+    private void relax(long source, long target, double weight) {
+        var distance = distances.get(source) + weight;
+        var targetDistance = distances.get(target);
+        if (targetDistance == UNREACHED) {
+            reach(target, distance);
+            sigma.set(target, sigma.get(source));
+            predecessors(target).add(source);
+        } else if (Double.compare(distance, targetDistance) == 0) {
+            sigma.addTo(target, sigma.get(source));
+            predecessors(target).add(source);
+        } else if (distance < targetDistance) {
+            // only happens for weighted graphs, BFS reaches nodes at their final distance
+            distances.set(target, distance);
+            sigma.set(target, sigma.get(source));
+            var targetPredecessors = predecessors(target);
+            targetPredecessors.elementsCount = 0;
+            targetPredecessors.add(source);
+            queue.add(distance, target);
+        }
+    }
+
+    private void reach(long node, double distance) {
+        distances.set(node, distance);
+        reachedNodes.set(reachedNodeCount++, node);
+        if (weighted) {
+            queue.add(distance, node);
+        }
+    }
+
+    // A predecessor is picked with a probability proportional to the number of shortest paths through it.
+    private long samplePredecessor(long node, SplittableRandom random) {
+        var nodePredecessors = predecessors.get(node);
+        var remaining = random.nextDouble() * sigma.get(node);
+        var lastIndex = nodePredecessors.size() - 1;
+        for (int i = 0; i < lastIndex; i++) {
+            var predecessor = nodePredecessors.get(i);
+            remaining -= sigma.get(predecessor);
+            if (remaining < 0) {
+                return predecessor;
+            }
+        }
+        return nodePredecessors.get(lastIndex);
+    }
+
+    private LongArrayList predecessors(long node) {
+        var nodePredecessors = predecessors.get(node);
+        if (nodePredecessors == null) {
+            nodePredecessors = new LongArrayList();
+            predecessors.set(node, nodePredecessors);
+        }
+        return nodePredecessors;
+    }
+
+    private void reset() {
+        for (long i = 0; i < reachedNodeCount; i++) {
+            var node = reachedNodes.get(i);
+            distances.set(node, UNREACHED);
+            sigma.set(node, 0.0);
+            var nodePredecessors = predecessors.get(node);
+            if (nodePredecessors != null) {
+                // avoid LongArrayList#clear which would fill the inner array with zeros
+                nodePredecessors.elementsCount = 0;
+            }
+            if (weighted) {
+                settled.clear(node);
+            }
+        }
+        reachedNodeCount = 0;
+    }
+}
@@ -26,29 +26,23 @@ import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.NativeFactory;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.construction.AggregatedGraphBuilder;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.LongToIntFunction;
 
 class GraphAggregationPhase {
 
@@ -93,9 +87,17 @@ class GraphAggregationPhase {
                 var max = memoryEstimation.estimate(rootDimensions, concurrency).memoryUsage().max;
 
                 return MemoryRange.of(min, max);
-            }).perNode("sorted communities", HugeLongArray::memoryEstimation)
-            .perNode("atomic coordination array", HugeAtomicLongArray::memoryEstimation).
-            build();
+            })
+            // the counting sort of the nodes by community in AggregatedGraphBuilder
+            .perNode("mapped communities", HugeLongArray::memoryEstimation)
+            .perNode("nodes by community", HugeLongArray::memoryEstimation)
+            .perNode("community offsets", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount + 1))
+            // every community is a node in the worst case
+            .perThread("aggregation task", MemoryEstimations.builder()
+                .perNode("community weights", HugeDoubleArray::memoryEstimation)
+                .perNode("seen communities", MemoryUsage::sizeOfBitset)
+                .build())
+            .build();
     }
 
     private final Graph workingGraph;
@@ -129,98 +131,18 @@ class GraphAggregationPhase {
     }
 
     Graph run() {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(this.concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        ParallelUtil.parallelForEachNode(
-            workingGraph.nodeCount(),
-            concurrency,
-            (nodeId) -> {
-                nodesBuilder.addNode(communities.get(nodeId));
-            }
-        );
-
-        terminationFlag.assertRunning();
-
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .relationshipType(RelationshipType.of("_IGNORED_"))
-            .orientation(direction.toOrientation())
-            .addPropertyConfig(GraphFactory.PropertyConfig.builder()
-                .propertyKey("property")
-                .aggregation(Aggregation.SUM)
-                .build())
-            .executorService(executorService)
-            .build();
-
-        var sortedNodesByCommunity = getNodesSortedByCommunity(
-            communities,
-            concurrency
-        );
-
-        LongToIntFunction customDegree = x -> workingGraph.degree(sortedNodesByCommunity.get(x));
-        var relationshipCreators = PartitionUtils.customDegreePartitionWithBatchSize(
+        return new AggregatedGraphBuilder(
             workingGraph,
+            communities::get,
+            maxCommunityId,
+            RelationshipType.of("_IGNORED_"),
+            direction,
+            false,
+            1.0,
+            executorService,
             concurrency,
-            customDegree,
-            partition ->
-                new RelationshipCreator(
-                    sortedNodesByCommunity,
-                    communities,
-                    partition,
-                    relationshipsBuilder,
-                    workingGraph.concurrentCopy(),
-                    direction,
-                    progressTracker
-                ),
-            Optional.empty(),
-            Optional.of(workingGraph.relationshipCount())
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
-    }
-
-    static HugeLongArray getNodesSortedByCommunity(HugeLongArray communities, int concurrency) {
-        long nodeCount = communities.size();
-
-        var sortedNodesByCommunity = HugeLongArray.newArray(nodeCount);
-        var communityCoordinateArray = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
-
-
-        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
-            {
-                long communityId = communities.get(nodeId);
-                communityCoordinateArray.getAndAdd(communityId, 1);
-            }
-        });
-        AtomicLong atomicNodeSum = new AtomicLong();
-        ParallelUtil.parallelForEachNode(nodeCount, concurrency, indexId ->
-        {
-            if (communityCoordinateArray.get(indexId) > 0) {
-                var nodeSum = atomicNodeSum.addAndGet(communityCoordinateArray.get(indexId));
-                communityCoordinateArray.set(indexId, nodeSum);
-            }
-        });
-
-        ParallelUtil.parallelForEachNode(nodeCount, concurrency, indexId ->
-        {
-
-            long nodeId = nodeCount - indexId - 1;
-            long communityId = communities.get(nodeId);
-            long coordinate = communityCoordinateArray.getAndAdd(communityId, -1);
-            sortedNodesByCommunity.set(coordinate - 1, nodeId);
-
-        });
-
-        return sortedNodesByCommunity;
-
+            terminationFlag,
+            progressTracker
+        ).build();
     }
-
 }
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -37,6 +38,8 @@ import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.DoubleAdder;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 //TODO: take care of potential issues w. self-loops
 
 public class Leiden extends Algorithm<LeidenResult> {
@@ -124,118 +127,120 @@ public class Leiden extends Algorithm<LeidenResult> {
         progressTracker.beginSubTask("Iteration");
 
         for (iteration = 0; iteration < maxIterations; iteration++) {
-            // 1. LOCAL MOVE PHASE - over the singleton localMoveCommunities
-            progressTracker.beginSubTask("Local Move");
-            var localMovePhase = LocalMovePhase.create(
-                workingGraph,
-                localMoveCommunities,
-                localMoveNodeVolumes,
-                localMoveCommunityVolumes,
-                gamma,
-                concurrency
-            );
-
-            localMovePhase.run();
-            //if you do swaps,  no convergence
-            boolean localPhaseConverged = localMovePhase.swaps == 0;
-            progressTracker.endSubTask("Local Move");
-
-            progressTracker.beginSubTask("Modularity Computation");
-            updateModularity(
-                workingGraph,
-                localMoveCommunities,
-                localMoveCommunityVolumes,
-                modularityScaleCoefficient,
-                gamma,
-                localPhaseConverged,
-                iteration
-            );
-
-            progressTracker.endSubTask("Modularity Computation");
-
-            if (localPhaseConverged) {
-                didConverge = true;
-                break;
-            }
-            var toleranceStatus = getToleranceStatus(iteration);
-
-            //if you deteriotate performance, exit and return previous iteration
-            if (toleranceStatus == ToleranceStatus.DECREASE) {
-                break;
-            }
-            dendrogramManager.updateOutputDendrogram(
-                workingGraph,
-                currentActualCommunities,
-                localMoveCommunities,
-                seedCommunityManager,
-                iteration
-            ); //write user's output
-
-            if (toleranceStatus == ToleranceStatus.CONVERGED) {
-                didConverge = true;
-                modularity = modularities[iteration];
-                iteration++;
-                break;
-            } //if little difference from previous iteration, keep and break
-
-            if (iteration < maxIterations - 1) { //if there's no next iteration, skip refinement/graph aggregation
-                // 2 REFINE
-                progressTracker.beginSubTask("Refinement");
-                var refinementPhase = RefinementPhase.create(
+            int currentIteration = iteration;
+            try (var ignored = ProgressTimer.start(took -> logIterationTime(currentIteration + 1, took))) {
+                // 1. LOCAL MOVE PHASE - over the singleton localMoveCommunities
+                progressTracker.beginSubTask("Local Move");
+                var localMovePhase = LocalMovePhase.create(
                     workingGraph,
                     localMoveCommunities,
                     localMoveNodeVolumes,
                     localMoveCommunityVolumes,
                     gamma,
-                    theta,
-                    randomSeed,
-                    concurrency,
-                    executorService,
-                    progressTracker
+                    concurrency
                 );
-                var refinementPhaseResult = refinementPhase.run();
-                var refinedCommunities = refinementPhaseResult.communities();
-                var refinedCommunityVolumes = refinementPhaseResult.communityVolumes();
-                var maximumRefinedCommunityId = refinementPhaseResult.maximumRefinedCommunityId();
 
-                progressTracker.endSubTask("Refinement");
+                localMovePhase.run();
+                //if you do swaps,  no convergence
+                boolean localPhaseConverged = localMovePhase.swaps == 0;
+                progressTracker.endSubTask("Local Move");
 
-                progressTracker.beginSubTask("Aggregation");
-                dendrogramManager.updateAlgorithmDendrogram(
+                progressTracker.beginSubTask("Modularity Computation");
+                updateModularity(
                     workingGraph,
-                    currentActualCommunities,
-                    refinedCommunities,
+                    localMoveCommunities,
+                    localMoveCommunityVolumes,
+                    modularityScaleCoefficient,
+                    gamma,
+                    localPhaseConverged,
                     iteration
-                );  //update the actual communities with the refined ones
-
-                // 3 CREATE NEW GRAPH
-                var graphAggregationPhase = new GraphAggregationPhase(
-                    workingGraph,
-                    this.direction,
-                    refinedCommunities,
-                    maximumRefinedCommunityId,
-                    this.executorService,
-                    this.concurrency,
-                    this.terminationFlag,
-                    this.progressTracker
                 );
-                var previousNodeCount = workingGraph.nodeCount();
-                workingGraph = graphAggregationPhase.run();
 
-                // Post-aggregate step: MAINTAIN PARTITION
-                var communityData = maintainPartition(
+                progressTracker.endSubTask("Modularity Computation");
+
+                if (localPhaseConverged) {
+                    didConverge = true;
+                    break;
+                }
+                var toleranceStatus = getToleranceStatus(iteration);
+
+                //if you deteriotate performance, exit and return previous iteration
+                if (toleranceStatus == ToleranceStatus.DECREASE) {
+                    break;
+                }
+                dendrogramManager.updateOutputDendrogram(
                     workingGraph,
+                    currentActualCommunities,
                     localMoveCommunities,
-                    refinedCommunityVolumes,
-                    previousNodeCount
-                );
-                localMoveCommunities = communityData.seededCommunitiesForNextIteration;
-                localMoveCommunityVolumes = communityData.communityVolumes;
-                localMoveNodeVolumes = communityData.aggregatedNodeSeedVolume;
-                progressTracker.endSubTask("Aggregation");
+                    seedCommunityManager,
+                    iteration
+                ); //write user's output
+
+                if (toleranceStatus == ToleranceStatus.CONVERGED) {
+                    didConverge = true;
+                    modularity = modularities[iteration];
+                    iteration++;
+                    break;
+                } //if little difference from previous iteration, keep and break
+
+                if (iteration < maxIterations - 1) { //if there's no next iteration, skip refinement/graph aggregation
+                    // 2 REFINE
+                    progressTracker.beginSubTask("Refinement");
+                    var refinementPhase = RefinementPhase.create(
+                        workingGraph,
+                        localMoveCommunities,
+                        localMoveNodeVolumes,
+                        localMoveCommunityVolumes,
+                        gamma,
+                        theta,
+                        randomSeed,
+                        concurrency,
+                        executorService,
+                        progressTracker
+                    );
+                    var refinementPhaseResult = refinementPhase.run();
+                    var refinedCommunities = refinementPhaseResult.communities();
+                    var refinedCommunityVolumes = refinementPhaseResult.communityVolumes();
+                    var maximumRefinedCommunityId = refinementPhaseResult.maximumRefinedCommunityId();
+
+                    progressTracker.endSubTask("Refinement");
+
+                    progressTracker.beginSubTask("Aggregation");
+                    dendrogramManager.updateAlgorithmDendrogram(
+                        workingGraph,
+                        currentActualCommunities,
+                        refinedCommunities,
+                        iteration
+                    );  //update the actual communities with the refined ones
+
+                    // 3 CREATE NEW GRAPH
+                    var graphAggregationPhase = new GraphAggregationPhase(
+                        workingGraph,
+                        this.direction,
+                        refinedCommunities,
+                        maximumRefinedCommunityId,
+                        this.executorService,
+                        this.concurrency,
+                        this.terminationFlag,
+                        this.progressTracker
+                    );
+                    var previousNodeCount = workingGraph.nodeCount();
+                    workingGraph = graphAggregationPhase.run();
+
+                    // Post-aggregate step: MAINTAIN PARTITION
+                    var communityData = maintainPartition(
+                        workingGraph,
+                        localMoveCommunities,
+                        refinedCommunityVolumes,
+                        previousNodeCount
+                    );
+                    localMoveCommunities = communityData.seededCommunitiesForNextIteration;
+                    localMoveCommunityVolumes = communityData.communityVolumes;
+                    localMoveNodeVolumes = communityData.aggregatedNodeSeedVolume;
+                    progressTracker.endSubTask("Aggregation");
+                }
+                modularity = modularities[iteration];
             }
-            modularity = modularities[iteration];
-
         }
         progressTracker.endSubTask("Iteration");
 
@@ -244,6 +249,10 @@ public class Leiden extends Algorithm<LeidenResult> {
         return getLeidenResult(didConverge, iteration);
     }
 
+    private void logIterationTime(int iteration, long ms) {
+        progressTracker.logInfo(formatWithLocale("Iteration %d took %d ms", iteration, ms));
+    }
+
     @NotNull
     private LeidenResult getLeidenResult(boolean didConverge, int iteration) {
         boolean stoppedAtFirstIteration = didConverge && iteration == 0;
@@ -21,6 +21,7 @@ package org.neo4j.gds.leiden;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -104,21 +105,17 @@ final class LocalMovePhase {
      * @return The new community count.
      */
     public void run() {
-        var atomicCommunityVolumes = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(concurrency));
-        graph.forEachNode(v -> {
-            atomicCommunityVolumes.set(v, communityVolumes.get(v));
-            return true;
-        });
+        var atomicCommunityVolumes = HugeAtomicDoubleArray.of(
+            graph.nodeCount(),
+            ParallelDoublePageCreator.of(concurrency, communityVolumes::get)
+        );
         HugeLongArray globalQueue = HugeLongArray.newArray(graph.nodeCount());
         AtomicLong globalQueueIndex = new AtomicLong();
         AtomicLong globalQueueSize = new AtomicLong(graph.nodeCount());
 
         HugeAtomicBitSet nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
         nodeInQueue.set(0, graph.nodeCount());
-        graph.forEachNode(v -> {
-            globalQueue.set(v, v);
-            return true;
-        });
+        ParallelUtil.parallelForEachNode(graph.nodeCount(), concurrency, v -> globalQueue.set(v, v));
         var tasks = new ArrayList<LocalMoveTask>();
         for (int i = 0; i < concurrency; ++i) {
             tasks.add(new LocalMoveTask(
@@ -144,10 +141,11 @@ final class LocalMovePhase {
             swaps += task.swaps;
         }
 
-        graph.forEachNode(v -> {
-            communityVolumes.set(v, atomicCommunityVolumes.get(v));
-            return true;
-        });
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            v -> communityVolumes.set(v, atomicCommunityVolumes.get(v))
+        );
 
     }
 
@@ -19,23 +19,36 @@
  */
 package org.neo4j.gds.leiden;
 
-import com.carrotsearch.hppc.BitSet;
-import org.apache.commons.lang3.mutable.MutableLong;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.mem.MemoryUsage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
-
+import java.util.stream.IntStream;
+
+/**
+ * Refines the communities of the local move phase by merging nodes only within their local move community.
+ * <p>
+ * As nodes never move across local move communities, the refinement of different communities is independent.
+ * The communities are split into contiguous ranges of roughly equal volume and every range is refined by
+ * its own task, visiting its nodes in id order. All per-community state is indexed by ids of nodes within the
+ * same community and is therefore never shared between tasks. With a concurrency of one, the refinement is
+ * identical to the sequential algorithm.
+ */
 final class RefinementPhase {
 
     private final Graph workingGraph;
@@ -50,10 +63,9 @@ final class RefinementPhase {
     private final HugeLongArray encounteredCommunities;
     private final HugeDoubleArray encounteredCommunitiesWeights;
     private final long seed;
-    private long communityCounter = 0L;
     private final int concurrency;
     private final ExecutorService executorService;
-    private final HugeDoubleArray nextCommunityProbabilities;
+    private final HugeLongArray nodesByTask;
     private final ProgressTracker progressTracker;
     static RefinementPhase create(
         Graph workingGraph,
@@ -70,7 +82,7 @@ final class RefinementPhase {
         var encounteredCommunities = HugeLongArray.newArray(workingGraph.nodeCount());
         var encounteredCommunitiesWeights = HugeDoubleArray.newArray(workingGraph.nodeCount());
         encounteredCommunitiesWeights.setAll(c -> -1L);
-        HugeDoubleArray nextCommunityProbabilities = HugeDoubleArray.newArray(workingGraph.nodeCount());
+        var nodesByTask = HugeLongArray.newArray(workingGraph.nodeCount());
 
         return new RefinementPhase(
             workingGraph,
@@ -79,7 +91,7 @@ final class RefinementPhase {
             communityVolumes,
             encounteredCommunities,
             encounteredCommunitiesWeights,
-            nextCommunityProbabilities,
+            nodesByTask,
             gamma,
             theta,
             seed,
@@ -95,7 +107,7 @@ final class RefinementPhase {
         HugeDoubleArray communityVolumes,
         HugeLongArray encounteredCommunities,
         HugeDoubleArray encounteredCommunitiesWeights,
-        HugeDoubleArray nextCommunityProbabilities,
+        HugeLongArray nodesByTask,
         double gamma,
         double theta,
         long seed,
@@ -110,7 +122,7 @@ final class RefinementPhase {
         this.communityVolumes = communityVolumes;
         this.encounteredCommunities = encounteredCommunities;
         this.encounteredCommunitiesWeights = encounteredCommunitiesWeights;
-        this.nextCommunityProbabilities = nextCommunityProbabilities;
+        this.nodesByTask = nodesByTask;
         this.gamma = gamma;
         this.theta = theta;
         this.seed = seed;
@@ -125,11 +137,11 @@ final class RefinementPhase {
         return MemoryEstimations.builder(RefinementPhase.class)
             .perNode("encountered communities", HugeLongArray::memoryEstimation)
             .perNode("encountered community weights", HugeDoubleArray::memoryEstimation)
-            .perNode("next community probabilities", HugeDoubleArray::memoryEstimation)
+            .perNode("nodes by task", HugeLongArray::memoryEstimation)
             .perNode("merged community volumes", HugeDoubleArray::memoryEstimation)
             .perNode("relationships between communities", HugeDoubleArray::memoryEstimation)
             .perNode("refined communities", HugeLongArray::memoryEstimation)
-            .perNode("merge tracking bitset", MemoryUsage::sizeOfBitset)
+            .perNode("merge tracking bitset", HugeAtomicBitSet::memoryEstimation)
             .build();
     }
 
@@ -139,31 +151,35 @@ final class RefinementPhase {
 
         computeRelationshipsBetweenCommunities();
 
-        BitSet singleton = new BitSet(workingGraph.nodeCount());
+        var singleton = HugeAtomicBitSet.create(workingGraph.nodeCount());
         singleton.set(0, workingGraph.nodeCount());
 
-        var random = new Random(seed);
+        long[] taskBounds = groupNodesByTask();
 
-        MutableLong maximumCommunityId = new MutableLong(-1);
-        workingGraph.forEachNode(nodeId -> {
-            boolean isSingleton = singleton.get(nodeId);
-            if (isSingleton && isWellConnected(nodeId)) {
-                mergeNodeSubset(nodeId, refinedCommunities, singleton, random);
-            }
-            var refinedId = refinedCommunities.get(nodeId);
-            if (maximumCommunityId.longValue() < refinedId) {
-                maximumCommunityId.setValue(refinedId);
-            }
-            progressTracker.logProgress();
-            return true;
+        var tasks = new ArrayList<RefinementTask>();
+        for (int taskId = 0; taskId < taskBounds.length - 1; taskId++) {
+            tasks.add(new RefinementTask(
+                taskBounds[taskId],
+                taskBounds[taskId + 1],
+                refinedCommunities,
+                singleton,
+                new Random(seed + taskId)
+            ));
+        }
 
-        });
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        long maximumCommunityId = tasks.stream().mapToLong(task -> task.maximumCommunityId).max().orElse(-1);
 
         // We don't use the `communityCount` from the RefinementPhase => set it to `-1` in case we try to read it by mistake.
         return new RefinementPhaseResult(
             refinedCommunities,
             communityVolumesAfterMerge,
-            maximumCommunityId.longValue()
+            maximumCommunityId
         );
     }
 
@@ -187,166 +203,253 @@ final class RefinementPhase {
             run();
     }
 
-    private void mergeNodeSubset(
-        long nodeId,
-        HugeLongArray refinedCommunities,
-        BitSet singleton,
-        Random random
-    ) {
-
-        // Reset the community counter
-        communityCounter = 0;
-
-        computeCommunityInformation(nodeId, refinedCommunities);
-
-        var currentNodeCommunityId = refinedCommunities.get(nodeId);
-        var currentNodeVolume = nodeVolumes.get(nodeId);
-
-        long i = 0;
-        double probabilitiesSum = 0d;
-        if (communityCounter == 0)
-            return;
-
-        double bestGain = 0d;
-        long bestCommunityId = 0;
-        double totalSumOfRelationships = 0.0;
-        for (long c = 0; c < communityCounter; c++) {
-            var candidateCommunityId = encounteredCommunities.get(c);
-            var communityRelationshipsCount = encounteredCommunitiesWeights.get(candidateCommunityId);
-            totalSumOfRelationships += communityRelationshipsCount;
-            encounteredCommunitiesWeights.set(candidateCommunityId, -communityRelationshipsCount);
-
-            var modularityGain =
-                communityRelationshipsCount - currentNodeVolume * communityVolumesAfterMerge.get(candidateCommunityId) * gamma;
-            if (modularityGain > bestGain) {
-                bestGain = modularityGain;
-                bestCommunityId = candidateCommunityId;
-            }
-            double nextCommunityProbability = 0d;
-            if (modularityGain >= 0) {
-                nextCommunityProbability = Math.exp(modularityGain / theta);
+    /**
+     * Splits the local move communities into contiguous id ranges of roughly equal volume, one per task,
+     * and writes the nodes of each range into {@link #nodesByTask}, keeping them in ascending id order.
+     *
+     * @return the bounds of the nodes of each task within {@link #nodesByTask}
+     */
+    private long[] groupNodesByTask() {
+        long nodeCount = workingGraph.nodeCount();
+
+        double totalVolume = 0D;
+        for (long communityId = 0; communityId < nodeCount; communityId++) {
+            totalVolume += communityVolumes.get(communityId);
+        }
+        var communityBounds = new LongArrayList();
+        communityBounds.add(0L);
+        if (concurrency > 1 && totalVolume > 0) {
+            double volumePerTask = totalVolume / concurrency;
+            double volume = 0D;
+            for (long communityId = 0; communityId < nodeCount - 1; communityId++) {
+                volume += communityVolumes.get(communityId);
+                if (volume >= volumePerTask * communityBounds.size() && communityBounds.size() < concurrency) {
+                    communityBounds.add(communityId + 1);
+                }
             }
-
-            nextCommunityProbabilities.set(i++, nextCommunityProbability);
-            probabilitiesSum += nextCommunityProbability;
         }
-
-        long nextCommunityId = currentNodeCommunityId;
-
-        if (Double.isInfinite(probabilitiesSum) || probabilitiesSum <= 0) {
-            if (bestGain > 0) {
-                nextCommunityId = bestCommunityId;
+        communityBounds.add(nodeCount);
+        long[] bounds = communityBounds.toArray();
+        int taskCount = bounds.length - 1;
+
+        // stable counting sort of the nodes by task, each partition counts and places its own nodes
+        var partitions = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> partition, Optional.empty());
+        var counts = new long[partitions.size()][taskCount];
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(IntStream.range(0, partitions.size()).mapToObj(partitionId -> (Runnable) () ->
+                partitions.get(partitionId).consume(nodeId -> counts[partitionId][taskOf(nodeId, bounds)]++)
+            ))
+            .executor(executorService)
+            .run();
+
+        var taskBounds = new long[taskCount + 1];
+        long offset = 0;
+        for (int taskId = 0; taskId < taskCount; taskId++) {
+            taskBounds[taskId] = offset;
+            for (long[] partitionCounts : counts) {
+                long count = partitionCounts[taskId];
+                partitionCounts[taskId] = offset;
+                offset += count;
             }
-        } else {
-            nextCommunityId = selectRandomCommunity(
-                nextCommunityProbabilities,
-                probabilitiesSum,
-                random,
-                nextCommunityId
-            );
         }
+        taskBounds[taskCount] = offset;
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(IntStream.range(0, partitions.size()).mapToObj(partitionId -> (Runnable) () ->
+                partitions.get(partitionId).consume(nodeId ->
+                    nodesByTask.set(counts[partitionId][taskOf(nodeId, bounds)]++, nodeId)
+                )
+            ))
+            .executor(executorService)
+            .run();
+
+        return taskBounds;
+    }
 
-        if (nextCommunityId != currentNodeCommunityId) {
-            addToCommunity(
-                nodeId,
-                refinedCommunities,
-                singleton,
-                currentNodeCommunityId,
-                totalSumOfRelationships,
-                nextCommunityId
-            );
-        }
+    private int taskOf(long nodeId, long[] communityBounds) {
+        int index = Arrays.binarySearch(communityBounds, originalCommunities.get(nodeId));
+        return index >= 0 ? index : -index - 2;
     }
 
-    private long selectRandomCommunity(
-        HugeDoubleArray nextCommunityProbabilities,
-        double probabilitiesSum,
-        Random random,
-        long defaultCommunity
+    private boolean isWellConnected(
+        long nodeOrCommunityId
     ) {
-        var x = probabilitiesSum * random.nextDouble();
+        long originalCommunityId = originalCommunities.get(nodeOrCommunityId);
+        double originalCommunityVolume = communityVolumes.get(originalCommunityId);
+        double updatedCommunityVolume = communityVolumesAfterMerge.get(nodeOrCommunityId);
+        double rightSide = gamma * updatedCommunityVolume * (originalCommunityVolume - updatedCommunityVolume);
 
-        assert x >= 0;
-        long nextCommunityId = defaultCommunity;
-        long j = 0;
-        double curr = 0d;
+        return relationshipsBetweenCommunities.get(nodeOrCommunityId) >= rightSide;
+    }
 
-        for (long c = 0; c < communityCounter; c++) {
-            var candidateCommunityId = encounteredCommunities.get(c);
+    private final class RefinementTask implements Runnable {
+
+        private final long startIndex;
+        private final long endIndex;
+        private final HugeLongArray refinedCommunities;
+        private final HugeAtomicBitSet singleton;
+        private final Random random;
+        private final RelationshipIterator relationshipIterator;
+        // the probabilities of the encountered communities of the current node
+        private final DoubleArrayList nextCommunityProbabilities;
+        private long communityCounter;
+        private long maximumCommunityId;
+
+        RefinementTask(
+            long startIndex,
+            long endIndex,
+            HugeLongArray refinedCommunities,
+            HugeAtomicBitSet singleton,
+            Random random
+        ) {
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.refinedCommunities = refinedCommunities;
+            this.singleton = singleton;
+            this.random = random;
+            this.relationshipIterator = workingGraph.concurrentCopy();
+            this.nextCommunityProbabilities = new DoubleArrayList();
+            this.maximumCommunityId = -1;
+        }
 
-            var candidateCommunityProbability = nextCommunityProbabilities.get(j);
-            curr += candidateCommunityProbability;
-            if (x <= curr) {
-                nextCommunityId = candidateCommunityId;
-                break;
+        @Override
+        public void run() {
+            for (long index = startIndex; index < endIndex; index++) {
+                long nodeId = nodesByTask.get(index);
+                boolean isSingleton = singleton.get(nodeId);
+                if (isSingleton && isWellConnected(nodeId)) {
+                    mergeNodeSubset(nodeId);
+                }
+                maximumCommunityId = Math.max(maximumCommunityId, refinedCommunities.get(nodeId));
+                progressTracker.logProgress();
             }
-            j++;
         }
-        return nextCommunityId;
-    }
 
-    private void addToCommunity(
-        long nodeId,
-        HugeLongArray refinedCommunities,
-        BitSet singleton,
-        long currentNodeCommunityId,
-        double totalSumOfRelationships,
-        long nextCommunityId
-    ) {
-        refinedCommunities.set(nodeId, nextCommunityId);
-        if (singleton.get(nextCommunityId)) {
-            singleton.flip(nextCommunityId);
-        }
+        private void mergeNodeSubset(long nodeId) {
 
-        var nodeVolume = nodeVolumes.get(nodeId);
+            // Reset the community counter
+            communityCounter = 0;
+            nextCommunityProbabilities.elementsCount = 0;
 
-        communityVolumesAfterMerge.addTo(nextCommunityId, nodeVolume);
-        communityVolumesAfterMerge.addTo(currentNodeCommunityId, -nodeVolume);
+            computeCommunityInformation(nodeId);
 
-        final long updatedCommunityId = nextCommunityId;
-        double externalEdgesWithNewCommunity = Math.abs(encounteredCommunitiesWeights.get(updatedCommunityId));
-        relationshipsBetweenCommunities.addTo(
-            updatedCommunityId,
-            totalSumOfRelationships - externalEdgesWithNewCommunity
-        );
-    }
+            var currentNodeCommunityId = refinedCommunities.get(nodeId);
+            var currentNodeVolume = nodeVolumes.get(nodeId);
 
-    private void computeCommunityInformation(
-        long nodeId,
-        HugeLongArray refinedCommunities
-    ) {
+            double probabilitiesSum = 0d;
+            if (communityCounter == 0)
+                return;
 
-        long originalCommunityId = originalCommunities.get(nodeId);
-        workingGraph.forEachRelationship(nodeId, 1.0, (s, t, relationshipWeight) -> {
-            long tOriginalCommunity = originalCommunities.get(t);
-            if (tOriginalCommunity == originalCommunityId) { //they are in the same original partition
-                long tCommunity = refinedCommunities.get(t);
-
-                boolean candidateCommunityIsWellConnected = isWellConnected(tCommunity);
-
-                if (candidateCommunityIsWellConnected) {
-                    if (encounteredCommunitiesWeights.get(tCommunity) < 0) {
-                        encounteredCommunities.set(communityCounter, tCommunity);
-                        communityCounter++;
-                        encounteredCommunitiesWeights.set(tCommunity, relationshipWeight);
-                    } else {
-                        encounteredCommunitiesWeights.addTo(tCommunity, relationshipWeight);
-                    }
+            double bestGain = 0d;
+            long bestCommunityId = 0;
+            double totalSumOfRelationships = 0.0;
+            for (long c = 0; c < communityCounter; c++) {
+                var candidateCommunityId = encounteredCommunities.get(startIndex + c);
+                var communityRelationshipsCount = encounteredCommunitiesWeights.get(candidateCommunityId);
+                totalSumOfRelationships += communityRelationshipsCount;
+                encounteredCommunitiesWeights.set(candidateCommunityId, -communityRelationshipsCount);
+
+                var modularityGain =
+                    communityRelationshipsCount - currentNodeVolume * communityVolumesAfterMerge.get(candidateCommunityId) * gamma;
+                if (modularityGain > bestGain) {
+                    bestGain = modularityGain;
+                    bestCommunityId = candidateCommunityId;
+                }
+                double nextCommunityProbability = 0d;
+                if (modularityGain >= 0) {
+                    nextCommunityProbability = Math.exp(modularityGain / theta);
                 }
+
+                nextCommunityProbabilities.add(nextCommunityProbability);
+                probabilitiesSum += nextCommunityProbability;
             }
-            return true;
-        });
-    }
 
-    private boolean isWellConnected(
-        long nodeOrCommunityId
-    ) {
-        long originalCommunityId = originalCommunities.get(nodeOrCommunityId);
-        double originalCommunityVolume = communityVolumes.get(originalCommunityId);
-        double updatedCommunityVolume = communityVolumesAfterMerge.get(nodeOrCommunityId);
-        double rightSide = gamma * updatedCommunityVolume * (originalCommunityVolume - updatedCommunityVolume);
+            long nextCommunityId = currentNodeCommunityId;
 
-        return relationshipsBetweenCommunities.get(nodeOrCommunityId) >= rightSide;
+            if (Double.isInfinite(probabilitiesSum) || probabilitiesSum <= 0) {
+                if (bestGain > 0) {
+                    nextCommunityId = bestCommunityId;
+                }
+            } else {
+                nextCommunityId = selectRandomCommunity(probabilitiesSum, nextCommunityId);
+            }
+
+            if (nextCommunityId != currentNodeCommunityId) {
+                addToCommunity(nodeId, currentNodeCommunityId, totalSumOfRelationships, nextCommunityId);
+            }
+        }
+
+        private long selectRandomCommunity(double probabilitiesSum, long defaultCommunity) {
+            var x = probabilitiesSum * random.nextDouble();
+
+            assert x >= 0;
+            long nextCommunityId = defaultCommunity;
+            int j = 0;
+            double curr = 0d;
+
+            for (long c = 0; c < communityCounter; c++) {
+                var candidateCommunityId = encounteredCommunities.get(startIndex + c);
+
+                var candidateCommunityProbability = nextCommunityProbabilities.get(j);
+                curr += candidateCommunityProbability;
+                if (x <= curr) {
+                    nextCommunityId = candidateCommunityId;
+                    break;
+                }
+                j++;
+            }
+            return nextCommunityId;
+        }
+
+        private void addToCommunity(
+            long nodeId,
+            long currentNodeCommunityId,
+            double totalSumOfRelationships,
+            long nextCommunityId
+        ) {
+            refinedCommunities.set(nodeId, nextCommunityId);
+            singleton.clear(nextCommunityId);
+
+            var nodeVolume = nodeVolumes.get(nodeId);
+
+            communityVolumesAfterMerge.addTo(nextCommunityId, nodeVolume);
+            communityVolumesAfterMerge.addTo(currentNodeCommunityId, -nodeVolume);
+
+            final long updatedCommunityId = nextCommunityId;
+            double externalEdgesWithNewCommunity = Math.abs(encounteredCommunitiesWeights.get(updatedCommunityId));
+            relationshipsBetweenCommunities.addTo(
+                updatedCommunityId,
+                totalSumOfRelationships - externalEdgesWithNewCommunity
+            );
+        }
+
+        // the encountered communities are written into this task's range of `encounteredCommunities`,
+        // which is large enough as only communities of nodes in the same local move community are considered
+        private void computeCommunityInformation(long nodeId) {
+
+            long originalCommunityId = originalCommunities.get(nodeId);
+            relationshipIterator.forEachRelationship(nodeId, 1.0, (s, t, relationshipWeight) -> {
+                long tOriginalCommunity = originalCommunities.get(t);
+                if (tOriginalCommunity == originalCommunityId) { //they are in the same original partition
+                    long tCommunity = refinedCommunities.get(t);
+
+                    boolean candidateCommunityIsWellConnected = isWellConnected(tCommunity);
+
+                    if (candidateCommunityIsWellConnected) {
+                        if (encounteredCommunitiesWeights.get(tCommunity) < 0) {
+                            encounteredCommunities.set(startIndex + communityCounter, tCommunity);
+                            communityCounter++;
+                            encounteredCommunitiesWeights.set(tCommunity, relationshipWeight);
+                        } else {
+                            encounteredCommunitiesWeights.addTo(tCommunity, relationshipWeight);
+                        }
+                    }
+                }
+                return true;
+            });
+        }
     }
 
     static class RefinementPhaseResult {
@@ -22,16 +22,11 @@ package org.neo4j.gds.louvain;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.construction.AggregatedGraphBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.modularityoptimization.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
@@ -221,48 +216,21 @@ public final class Louvain extends Algorithm<LouvainResult> {
         ModularityOptimizationResult modularityOptimizationResult,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimizationResult.communityId(nodeId));
-            return true;
-        });
-
-        terminationFlag.assertRunning();
-
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .relationshipType(RelationshipType.of("IGNORED"))
-            .orientation(rootGraph.schema().direction().toOrientation())
-            .addPropertyConfig(GraphFactory.PropertyConfig.builder()
-                .propertyKey("property")
-                .aggregation(Aggregation.SUM)
-                .build())
-            .executorService(executorService)
-            .build();
-
-        var relationshipCreators = PartitionUtils.rangePartition(
+        var direction = rootGraph.schema().direction();
+        // undirected relationships are visited from both of their nodes, which doubles their aggregated weight
+        return new AggregatedGraphBuilder(
+            workingGraph,
+            modularityOptimizationResult::communityId,
+            maxCommunityId,
+            RelationshipType.of("IGNORED"),
+            direction,
+            true,
+            direction == Direction.UNDIRECTED ? 2.0 : 1.0,
+            executorService,
             concurrency,
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimizationResult,
-                    workingGraph.concurrentCopy(),
-                    partition
-                ),
-            Optional.empty()
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
+            terminationFlag,
+            ProgressTracker.NULL_TRACKER
+        ).build();
     }
 
     private boolean hasConverged() {
@@ -278,45 +246,4 @@ public final class Louvain extends Algorithm<LouvainResult> {
     private int levels() {
         return this.ranLevels == 0 ? 1 : this.ranLevels;
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimizationResult modularityOptimizationResult;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimizationResult modularityOptimizationResult,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimizationResult = modularityOptimizationResult;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            partition.consume(nodeId -> {
-                long communityId = modularityOptimizationResult.communityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    //ignore scaling alltogether
-                        relationshipsBuilder.add(
-                            communityId,
-                            modularityOptimizationResult.communityId(target),
-                            property
-                        );
-
-
-                    return true;
-                });
-            });
-        }
-    }
 }
@@ -20,6 +20,8 @@
 package org.neo4j.gds.msbfs;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -41,13 +43,41 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
  * but then always for different sources.
  * </li>
  * </ul>
+ * <p>
+ * A direction-optimizing strategy, see {@link #directionOptimizing(BfsConsumer)}, computes
+ * the next visit set bottom-up once the current visit set touches a large part of the graph.
+ * Instead of pushing the visit set of every node to its neighbours, every node that has
+ * not yet been seen by all sources pulls the visit sets of its incoming neighbours
+ * and stops as soon as all missing sources have been found, as described in
+ * <a href="https://doi.org/10.1109/SC.2012.50">Direction-Optimizing Breadth-First Search</a>.
+ * Both directions compute the same visit sets.
  */
 public class ANPStrategy implements ExecutionStrategy {
 
+    // Switch to bottom-up once the relationships of the visited nodes exceed
+    // the incoming relationships of nodes not seen by all sources divided by `ALPHA`.
+    private static final int ALPHA = 14;
+    // Switch back to top-down once less than `nodeCount / BETA` nodes are visited.
+    private static final int BETA = 24;
+
     final BfsConsumer perNodeAction;
+    private final boolean directionOptimizing;
 
     public ANPStrategy(BfsConsumer perNodeAction) {
+        this(perNodeAction, false);
+    }
+
+    private ANPStrategy(BfsConsumer perNodeAction, boolean directionOptimizing) {
         this.perNodeAction = perNodeAction;
+        this.directionOptimizing = directionOptimizing;
+    }
+
+    /**
+     * Creates a strategy that switches to bottom-up steps if the relationships
+     * are a {@link Graph} that is undirected or inverse indexed.
+     */
+    static ANPStrategy directionOptimizing(BfsConsumer perNodeAction) {
+        return new ANPStrategy(perNodeAction, true);
     }
 
     @Override
@@ -63,18 +93,35 @@ public class ANPStrategy implements ExecutionStrategy {
         HugeCursor<long[]> visitCursor = visitSet.newCursor();
         HugeCursor<long[]> nextCursor = visitNextSet.newCursor();
 
+        var bottomUpStep = bottomUpStep(relationships, sourceNodes, visitSet);
+        var bottomUp = false;
+        // Relationships leaving the visited nodes and relationships leading to nodes not seen by all sources.
+        long visitedRelationships = 0;
+        long unexploredRelationships = 0;
+        long visitedNodes = 0;
+
         var depth = 0;
 
         while (true) {
-            visitSet.initCursor(visitCursor);
-            while (visitCursor.next()) {
-                long[] array = visitCursor.array;
-                int offset = visitCursor.offset;
-                int limit = visitCursor.limit;
-                long base = visitCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+            if (bottomUpStep != null) {
+                bottomUp = bottomUp
+                    ? visitedNodes >= totalNodeCount / BETA
+                    : visitedRelationships > unexploredRelationships / ALPHA;
+            }
+
+            if (bottomUp) {
+                bottomUpStep.run(totalNodeCount, visitNextSet, seenSet);
+            } else {
+                visitSet.initCursor(visitCursor);
+                while (visitCursor.next()) {
+                    long[] array = visitCursor.array;
+                    int offset = visitCursor.offset;
+                    int limit = visitCursor.limit;
+                    long base = visitCursor.base;
+                    for (int i = offset; i < limit; ++i) {
+                        if (array[i] != 0L) {
+                            prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+                        }
                     }
                 }
             }
@@ -83,6 +130,9 @@ public class ANPStrategy implements ExecutionStrategy {
 
             boolean hasNext = false;
             long next;
+            visitedRelationships = 0;
+            unexploredRelationships = 0;
+            visitedNodes = 0;
 
             visitNextSet.initCursor(nextCursor);
             while (nextCursor.next()) {
@@ -97,8 +147,15 @@ public class ANPStrategy implements ExecutionStrategy {
                             sourceNodes.reset(next);
                             perNodeAction.accept(base + i, depth, sourceNodes);
                             hasNext = true;
+                            if (bottomUpStep != null) {
+                                visitedNodes++;
+                                visitedRelationships += bottomUpStep.degree(base + i);
+                            }
                         }
                     }
+                    if (bottomUpStep != null && bottomUpStep.missingSources(base + i, seenSet) != 0L) {
+                        unexploredRelationships += bottomUpStep.inverseDegree(base + i);
+                    }
                 }
             }
 
@@ -111,6 +168,22 @@ public class ANPStrategy implements ExecutionStrategy {
         }
     }
 
+    private @Nullable BottomUpStep bottomUpStep(
+        RelationshipIterator relationships,
+        SourceNodes sourceNodes,
+        HugeLongArray visitSet
+    ) {
+        if (!directionOptimizing || !(relationships instanceof Graph)) {
+            return null;
+        }
+        var graph = (Graph) relationships;
+        var characteristics = graph.characteristics();
+        if (!characteristics.isUndirected() && !characteristics.isInverseIndexed()) {
+            return null;
+        }
+        return new BottomUpStep(graph, sourceNodes.allSourcesMask(), visitSet);
+    }
+
     protected boolean stopTraversal(boolean hasNext, int depth) {
         return !hasNext;
     }
@@ -137,4 +210,63 @@ public class ANPStrategy implements ExecutionStrategy {
         seenSet.or(nodeId, next);
         return next;
     }
+
+    /**
+     * Computes the next visit set by scanning the incoming relationships
+     * of every node that has not been seen by all sources.
+     */
+    private static final class BottomUpStep implements RelationshipConsumer {
+
+        private final Graph graph;
+        private final boolean undirected;
+        private final long allSources;
+        private final HugeLongArray visitSet;
+
+        // Sources that have not seen the current node yet and those that reach it in the next step.
+        private long missing;
+        private long found;
+
+        BottomUpStep(Graph graph, long allSources, HugeLongArray visitSet) {
+            this.graph = graph;
+            this.undirected = graph.characteristics().isUndirected();
+            this.allSources = allSources;
+            this.visitSet = visitSet;
+        }
+
+        void run(long nodeCount, HugeLongArray nextSet, HugeLongArray seenSet) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                missing = missingSources(nodeId, seenSet);
+                if (missing == 0L) {
+                    continue;
+                }
+                found = 0L;
+                if (undirected) {
+                    graph.forEachRelationship(nodeId, this);
+                } else {
+                    graph.forEachInverseRelationship(nodeId, this);
+                }
+                if (found != 0L) {
+                    nextSet.or(nodeId, found);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long predecessorId) {
+            found |= visitSet.get(predecessorId) & missing;
+            return found != missing;
+        }
+
+        long missingSources(long nodeId, HugeLongArray seenSet) {
+            return allSources & ~seenSet.get(nodeId);
+        }
+
+        long degree(long nodeId) {
+            return graph.degree(nodeId);
+        }
+
+        long inverseDegree(long nodeId) {
+            return undirected ? graph.degree(nodeId) : graph.degreeInverse(nodeId);
+        }
+    }
 }
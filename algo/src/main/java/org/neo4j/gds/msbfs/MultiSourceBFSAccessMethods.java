@@ -87,7 +87,7 @@ public final class MultiSourceBFSAccessMethods {
         return createWithoutSeensNextOrSourceNodesOrStartNodeTraversal(
             nodeCount,
             relationships,
-            new ANPStrategy(perNodeAction)
+            ANPStrategy.directionOptimizing(perNodeAction)
         );
     }
 
@@ -100,7 +100,7 @@ public final class MultiSourceBFSAccessMethods {
         return createWithoutSeensNextOrStartNodeTraversal(
             nodeCount,
             relationships,
-            new ANPStrategy(perNodeAction),
+            ANPStrategy.directionOptimizing(perNodeAction),
             sourceNodes
         );
     }
@@ -41,6 +41,13 @@ final class SourceNodes implements BfsSources {
         this.startPos = -1;
     }
 
+    /**
+     * A mask with one bit set for each source node.
+     */
+    long allSourcesMask() {
+        return maxPos == MSBFSConstants.OMEGA ? -1L : (1L << maxPos) - 1;
+    }
+
     void reset() {
         this.pos = startPos;
         fetchNext();
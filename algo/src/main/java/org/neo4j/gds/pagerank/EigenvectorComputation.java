@@ -21,6 +21,7 @@ package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
 import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.beta.pregel.Messages;
@@ -47,6 +48,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction weightDenominator;
+    private final @Nullable String seedProperty;
 
     private final double tolerance;
     private final double initialValue;
@@ -69,6 +71,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
             : 1.0 / nodeCount;
 
         this.weightDenominator = weightDenominator;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -81,7 +84,14 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(RANK, initialValue(context));
+        // Seeded scores are normalized in the first master compute step,
+        // so a previous result is a valid starting point for the power iteration.
+        if (seedProperty != null) {
+            var seedValue = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            context.setNodeValue(RANK, Double.isNaN(seedValue) ? initialValue(context) : seedValue);
+        } else {
+            context.setNodeValue(RANK, initialValue(context));
+        }
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
 import org.neo4j.gds.beta.pregel.PregelComputation;
@@ -38,6 +39,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction degreeFunction;
+    private final @Nullable String seedProperty;
 
     private final double dampingFactor;
     private final double tolerance;
@@ -54,6 +56,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -63,11 +66,17 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        var initialValue = initialValue(context.nodeId());
+        if (seedProperty != null) {
+            var seedValue = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            context.setNodeValue(PAGE_RANK, Double.isNaN(seedValue) ? initialValue : seedValue);
+        } else {
+            context.setNodeValue(PAGE_RANK, initialValue);
+        }
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double initialValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -84,10 +93,16 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
                 sum += message;
             }
             delta = dampingFactor * sum;
+            if (seedProperty != null && context.superstep() == 1) {
+                // The initial superstep sent the seeded scores instead of deltas.
+                // The resulting residual corrects the seeded score for the changes in the graph.
+                delta += initialValue(context.nodeId()) - rank;
+            }
             context.setNodeValue(PAGE_RANK, rank + delta);
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        // warm-started deltas can be negative
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 context.sendToNeighbors(delta / degree);
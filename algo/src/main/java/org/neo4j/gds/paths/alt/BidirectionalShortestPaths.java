@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.paths.alt.SearchState.Direction.NO_PREDECESSOR;
+import static org.neo4j.gds.paths.alt.SearchState.Direction.UNREACHED;
+
+/**
+ * Point-to-point shortest paths using bidirectional Dijkstra. If landmark
+ * distances are given, both searches are guided by the landmark lower bounds
+ * (ALT, the symmetric approach by Goldberg and Harrelson), the forward search
+ * towards the target and the backward search towards the source.
+ *
+ * Instances are thread-safe and meant to be reused across many queries on the
+ * same graph. Search states are pooled, so a query does not allocate memory
+ * proportional to the graph size once the pool is warm.
+ *
+ * All node ids are mapped node ids. Relationship weights must not be negative.
+ */
+public final class BidirectionalShortestPaths {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+    private static final SearchState.NodeHeuristic NO_HEURISTIC = node -> 0;
+
+    private final Graph graph;
+    private final Optional<LandmarkDistances> landmarks;
+    private final boolean undirected;
+    private final Queue<SearchState> searchStates;
+
+    public static BidirectionalShortestPaths create(Graph graph, Optional<LandmarkDistances> landmarks) {
+        var characteristics = graph.characteristics();
+        if (!characteristics.isUndirected() && !characteristics.isInverseIndexed()) {
+            throw new UnsupportedOperationException(
+                "Bidirectional shortest paths on directed graphs require an inverse indexed relationship projection"
+            );
+        }
+        return new BidirectionalShortestPaths(graph, landmarks);
+    }
+
+    /**
+     * Memory used by a single pooled search state, the pool holds
+     * at most one state per concurrently running query.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(BidirectionalShortestPaths.class)
+            .perThread("search state", SearchState.memoryEstimation())
+            .build();
+    }
+
+    private BidirectionalShortestPaths(Graph graph, Optional<LandmarkDistances> landmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.undirected = graph.characteristics().isUndirected();
+        this.searchStates = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Computes the shortest path between the given nodes.
+     * Returns {@link PathResult#EMPTY} if the target is not reachable.
+     */
+    public PathResult query(long sourceNode, long targetNode) {
+        var state = acquire();
+        try {
+            return search(state, sourceNode, targetNode, 0);
+        } finally {
+            release(state);
+        }
+    }
+
+    /**
+     * Computes the shortest paths for all combinations of source and target nodes.
+     * The index of a path is {@code sourceIndex * targets.length + targetIndex},
+     * unreachable pairs are not part of the result.
+     */
+    public PathFindingResult manyToMany(
+        long[] sourceNodes,
+        long[] targetNodes,
+        int concurrency,
+        ExecutorService executor
+    ) {
+        var results = new PathResult[Math.multiplyExact(sourceNodes.length, targetNodes.length)];
+
+        var tasks = new ArrayList<Runnable>(sourceNodes.length);
+        for (int i = 0; i < sourceNodes.length; i++) {
+            int sourceIndex = i;
+            tasks.add(() -> {
+                var state = acquire();
+                try {
+                    for (int targetIndex = 0; targetIndex < targetNodes.length; targetIndex++) {
+                        int pathIndex = sourceIndex * targetNodes.length + targetIndex;
+                        results[pathIndex] = search(
+                            state,
+                            sourceNodes[sourceIndex],
+                            targetNodes[targetIndex],
+                            pathIndex
+                        );
+                    }
+                } finally {
+                    release(state);
+                }
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executor)
+            .run();
+
+        return new PathFindingResult(Arrays.stream(results).filter(path -> path != PathResult.EMPTY));
+    }
+
+    private SearchState acquire() {
+        var state = searchStates.poll();
+        return state != null ? state : new SearchState(graph.concurrentCopy());
+    }
+
+    private void release(SearchState state) {
+        searchStates.offer(state);
+    }
+
+    private PathResult search(SearchState state, long sourceNode, long targetNode, long pathIndex) {
+        state.reset();
+
+        var forward = state.forward;
+        var backward = state.backward;
+
+        SearchState.NodeHeuristic towardsTarget = landmarks
+            .<SearchState.NodeHeuristic>map(distances -> node -> distances.lowerBound(node, targetNode))
+            .orElse(NO_HEURISTIC);
+        SearchState.NodeHeuristic towardsSource = landmarks
+            .<SearchState.NodeHeuristic>map(distances -> node -> distances.lowerBound(sourceNode, node))
+            .orElse(NO_HEURISTIC);
+
+        forward.update(sourceNode, 0, NO_PREDECESSOR, towardsTarget);
+        backward.update(targetNode, 0, NO_PREDECESSOR, towardsSource);
+        if (sourceNode == targetNode) {
+            state.meet(sourceNode, 0);
+        }
+
+        while (true) {
+            var forwardKey = forward.minKey();
+            var backwardKey = backward.minKey();
+
+            // With lower bounds, each search on its own proves optimality once its
+            // smallest key exceeds the best path found so far. Without lower bounds
+            // the classic stopping criterion of bidirectional Dijkstra applies.
+            if (forwardKey >= state.bestDistance() || backwardKey >= state.bestDistance()) {
+                break;
+            }
+            if (landmarks.isEmpty() && forwardKey + backwardKey >= state.bestDistance()) {
+                break;
+            }
+
+            if (forward.size() <= backward.size()) {
+                scan(state, forward.pop(), forward, backward, towardsTarget, false);
+            } else {
+                scan(state, backward.pop(), backward, forward, towardsSource, !undirected);
+            }
+        }
+
+        if (state.bestDistance() == UNREACHED) {
+            return PathResult.EMPTY;
+        }
+
+        return pathResult(state, sourceNode, targetNode, pathIndex);
+    }
+
+    private static void scan(
+        SearchState state,
+        long node,
+        SearchState.Direction self,
+        SearchState.Direction other,
+        SearchState.NodeHeuristic heuristic,
+        boolean inverse
+    ) {
+        var distance = self.distance(node);
+        if (inverse) {
+            state.graph.forEachInverseRelationship(node, 1.0, (source, target, weight) -> {
+                relax(state, node, target, distance + weight, self, other, heuristic);
+                return true;
+            });
+        } else {
+            state.graph.forEachRelationship(node, 1.0, (source, target, weight) -> {
+                relax(state, node, target, distance + weight, self, other, heuristic);
+                return true;
+            });
+        }
+    }
+
+    private static void relax(
+        SearchState state,
+        long node,
+        long neighbour,
+        double distance,
+        SearchState.Direction self,
+        SearchState.Direction other,
+        SearchState.NodeHeuristic heuristic
+    ) {
+        if (distance < self.distance(neighbour)) {
+            self.update(neighbour, distance, node, heuristic);
+            var otherDistance = other.distance(neighbour);
+            if (otherDistance != UNREACHED) {
+                state.meet(neighbour, distance + otherDistance);
+            }
+        }
+    }
+
+    private static PathResult pathResult(SearchState state, long sourceNode, long targetNode, long pathIndex) {
+        var forward = state.forward;
+        var backward = state.backward;
+        var meetingNode = state.meetingNode();
+        var totalCost = state.bestDistance();
+
+        // source -> meeting node, collected backwards
+        var prefixLength = 0;
+        for (long node = meetingNode; node != NO_PREDECESSOR; node = forward.predecessor(node)) {
+            prefixLength++;
+        }
+        var suffixLength = 0;
+        for (long node = backward.predecessor(meetingNode); node != NO_PREDECESSOR; node = backward.predecessor(node)) {
+            suffixLength++;
+        }
+
+        var nodeIds = new long[prefixLength + suffixLength];
+        var costs = new double[prefixLength + suffixLength];
+
+        var index = prefixLength - 1;
+        for (long node = meetingNode; node != NO_PREDECESSOR; node = forward.predecessor(node)) {
+            nodeIds[index] = node;
+            costs[index] = forward.distance(node);
+            index--;
+        }
+        // meeting node -> target, the backward distances are distances to the target
+        index = prefixLength;
+        for (long node = backward.predecessor(meetingNode); node != NO_PREDECESSOR; node = backward.predecessor(node)) {
+            nodeIds[index] = node;
+            costs[index] = totalCost - backward.distance(node);
+            index++;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(pathIndex)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds)
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps landmark distances next to the catalog graphs they were computed
+ * for, so that the tables are computed once per projection and shared by
+ * all subsequent queries. Distances are only returned as long as their
+ * graph store has not been modified since they were computed.
+ */
+public final class LandmarkCache {
+
+    private LandmarkCache() {}
+
+    /**
+     * Returns the landmark distances for the given projection or computes
+     * them, if they are missing or the graph store has been modified since.
+     *
+     * The distances are computed without holding any lock, so concurrent calls
+     * may compute them more than once. They are only kept if the graph store
+     * is in the catalog and has not been modified while computing.
+     */
+    public static LandmarkDistances getOrCompute(
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        int landmarkCount,
+        Function<Graph, LandmarkDistances> computation
+    ) {
+        var artifactKey = formatWithLocale(
+            "landmarkDistances(nodeLabels=%s, relationshipTypes=%s, relationshipWeightProperty=%s, landmarks=%d)",
+            sortedNames(nodeLabels),
+            sortedNames(relationshipTypes),
+            relationshipWeightProperty.orElse(""),
+            landmarkCount
+        );
+        var existing = GraphStoreCatalog.getArtifact(graphStore, artifactKey, LandmarkDistances.class);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        // taken before loading the graph, so that modifications while computing are detected
+        var modificationCount = graphStore.modificationCount();
+        var graph = graphStore.getGraph(nodeLabels, relationshipTypes, relationshipWeightProperty);
+        var landmarkDistances = computation.apply(graph);
+        GraphStoreCatalog.setArtifact(graphStore, artifactKey, landmarkDistances, modificationCount);
+        return landmarkDistances;
+    }
+
+    private static String sortedNames(Collection<? extends ElementIdentifier> identifiers) {
+        return identifiers
+            .stream()
+            .map(ElementIdentifier::name)
+            .sorted()
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Shortest path distances from and to a small set of landmark nodes.
+ * The distances are used to derive lower bounds on the distance between
+ * any two nodes via the triangle inequality, as described in
+ * "Computing the Shortest Path: A* Search Meets Graph Theory"
+ * by Goldberg and Harrelson.
+ *
+ * Landmarks are selected greedily, each new landmark is the node that is
+ * farthest away from all previously selected landmarks. Nodes that cannot
+ * be reached from any landmark are preferred, which places at least one
+ * landmark in every component until the landmarks are exhausted.
+ *
+ * The tables are immutable and can be shared by any number of queries.
+ */
+public final class LandmarkDistances {
+
+    private final long[] landmarks;
+    // distances from the landmark to every node, d(L, v)
+    private final HugeDoubleArray[] fromLandmark;
+    // distances from every node to the landmark, d(v, L)
+    // for undirected graphs this is the same array as fromLandmark
+    private final HugeDoubleArray[] toLandmark;
+
+    public static MemoryEstimation memoryEstimation(int landmarkCount, boolean undirected) {
+        var tables = undirected ? landmarkCount : 2 * landmarkCount;
+        return MemoryEstimations.builder(LandmarkDistances.class)
+            .perNode("landmark distances", nodeCount -> tables * HugeDoubleArray.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    /**
+     * Selects {@code landmarkCount} landmarks and computes their distance tables.
+     * For directed graphs, the graph needs to be inverse indexed in order to
+     * compute the distances towards the landmarks.
+     */
+    public static LandmarkDistances compute(
+        Graph graph,
+        int landmarkCount,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executor
+    ) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of landmarks must be at least 1, but got %d",
+                landmarkCount
+            ));
+        }
+        var undirected = graph.characteristics().isUndirected();
+        if (!undirected && !graph.characteristics().isInverseIndexed()) {
+            throw new UnsupportedOperationException(
+                "Landmark distances on directed graphs require an inverse indexed relationship projection"
+            );
+        }
+
+        var nodeCount = graph.nodeCount();
+        var actualLandmarkCount = (int) Math.min(landmarkCount, nodeCount);
+        var landmarks = new long[actualLandmarkCount];
+        var fromLandmark = new HugeDoubleArray[actualLandmarkCount];
+
+        if (actualLandmarkCount > 0) {
+            // The first landmark is the node farthest away from a random start node.
+            var start = new SplittableRandom(randomSeed).nextLong(nodeCount);
+            var minDistance = distances(graph, start, false);
+
+            for (int i = 0; i < actualLandmarkCount; i++) {
+                var landmark = farthestNode(minDistance);
+                landmarks[i] = landmark;
+                fromLandmark[i] = distances(graph, landmark, false);
+
+                var distances = fromLandmark[i];
+                if (i == 0) {
+                    minDistance.setAll(distances::get);
+                } else {
+                    for (long node = 0; node < nodeCount; node++) {
+                        minDistance.set(node, Math.min(minDistance.get(node), distances.get(node)));
+                    }
+                }
+                // never select the same node twice
+                minDistance.set(landmark, -1);
+            }
+        }
+
+        HugeDoubleArray[] toLandmark;
+        if (undirected) {
+            toLandmark = fromLandmark;
+        } else {
+            toLandmark = new HugeDoubleArray[actualLandmarkCount];
+            var tasks = new ArrayList<Runnable>(actualLandmarkCount);
+            for (int i = 0; i < actualLandmarkCount; i++) {
+                int landmarkIndex = i;
+                tasks.add(() -> toLandmark[landmarkIndex] = distances(
+                    graph.concurrentCopy(),
+                    landmarks[landmarkIndex],
+                    true
+                ));
+            }
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .executor(executor)
+                .run();
+        }
+
+        return new LandmarkDistances(landmarks, fromLandmark, toLandmark);
+    }
+
+    private LandmarkDistances(long[] landmarks, HugeDoubleArray[] fromLandmark, HugeDoubleArray[] toLandmark) {
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    public long[] landmarks() {
+        return landmarks.clone();
+    }
+
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns a lower bound for the distance from {@code source} to {@code target}.
+     * Landmarks that do not reach or are not reached by one of the nodes
+     * are ignored, which keeps the bound admissible.
+     */
+    public double lowerBound(long source, long target) {
+        double bound = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            // d(L, t) <= d(L, s) + d(s, t)
+            var fromSource = fromLandmark[i].get(source);
+            var fromTarget = fromLandmark[i].get(target);
+            if (fromSource != Double.MAX_VALUE && fromTarget != Double.MAX_VALUE) {
+                bound = Math.max(bound, fromTarget - fromSource);
+            }
+            // d(s, L) <= d(s, t) + d(t, L)
+            var toSource = toLandmark[i].get(source);
+            var toTarget = toLandmark[i].get(target);
+            if (toSource != Double.MAX_VALUE && toTarget != Double.MAX_VALUE) {
+                bound = Math.max(bound, toSource - toTarget);
+            }
+        }
+        return bound;
+    }
+
+    private static long farthestNode(HugeDoubleArray minDistance) {
+        long farthest = 0;
+        double maxDistance = -1;
+        for (long node = 0; node < minDistance.size(); node++) {
+            var distance = minDistance.get(node);
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Single source Dijkstra over the outgoing or incoming relationships.
+     * Unreachable nodes have a distance of {@link Double#MAX_VALUE}.
+     */
+    private static HugeDoubleArray distances(Graph graph, long source, boolean inverse) {
+        var nodeCount = graph.nodeCount();
+        var distances = HugeDoubleArray.newArray(nodeCount);
+        distances.fill(Double.MAX_VALUE);
+
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        queue.add(source, 0);
+
+        while (!queue.isEmpty()) {
+            var node = queue.pop();
+            var cost = queue.cost(node);
+            distances.set(node, cost);
+
+            if (inverse) {
+                graph.forEachInverseRelationship(node, 1.0, (s, t, weight) -> {
+                    relax(queue, distances, t, cost + weight);
+                    return true;
+                });
+            } else {
+                graph.forEachRelationship(node, 1.0, (s, t, weight) -> {
+                    relax(queue, distances, t, cost + weight);
+                    return true;
+                });
+            }
+        }
+
+        return distances;
+    }
+
+    private static void relax(HugeLongPriorityQueue queue, HugeDoubleArray distances, long target, double cost) {
+        if (distances.get(target) != Double.MAX_VALUE) {
+            // already settled
+            return;
+        }
+        if (!queue.containsElement(target)) {
+            queue.add(target, cost);
+        } else if (cost < queue.cost(target)) {
+            queue.set(target, cost);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Source-target shortest path using a bidirectional search that is guided by
+ * landmark distances (ALT). The landmark distances are computed by the first
+ * query on a projection of a catalog graph and reused by all subsequent queries
+ * until the graph is modified, see {@link LandmarkCache}.
+ *
+ * Paths do not contain relationship ids.
+ */
+public final class LandmarkShortestPath extends Algorithm<PathFindingResult> {
+
+    // landmarks are shared between queries, so their selection must not depend on the query
+    static final long LANDMARK_SEED = 42L;
+
+    private final GraphStore graphStore;
+    private final Graph graph;
+    private final ShortestPathBaseConfig config;
+    private final int landmarkCount;
+
+    public LandmarkShortestPath(
+        GraphStore graphStore,
+        Graph graph,
+        ShortestPathBaseConfig config,
+        int landmarkCount,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graphStore = graphStore;
+        this.graph = graph;
+        this.config = config;
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        var landmarks = LandmarkCache.getOrCompute(
+            graphStore,
+            config.nodeLabelIdentifiers(graphStore),
+            config.internalRelationshipTypes(graphStore),
+            config.relationshipWeightProperty(),
+            landmarkCount,
+            landmarkGraph -> LandmarkDistances.compute(
+                landmarkGraph,
+                landmarkCount,
+                LANDMARK_SEED,
+                config.concurrency(),
+                Pools.DEFAULT
+            )
+        );
+        var path = BidirectionalShortestPaths
+            .create(graph, Optional.of(landmarks))
+            .query(graph.toMappedNodeId(config.sourceNode()), graph.toMappedNodeId(config.targetNode()));
+
+        progressTracker.endSubTask();
+
+        return new PathFindingResult(Stream.of(path).filter(p -> p != PathResult.EMPTY));
+    }
+}
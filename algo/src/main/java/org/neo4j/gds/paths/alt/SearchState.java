@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.GrowingLongMinHeap;
+
+/**
+ * Per-thread state of a bidirectional search. All node-indexed arrays are
+ * allocated once and invalidated in constant time by bumping a version
+ * counter, so the cost of a query only depends on the number of nodes it
+ * touches. The priority queues hold (key, node) pairs and grow with the
+ * number of relaxed relationships, outdated entries are skipped on poll.
+ */
+final class SearchState {
+
+    final Graph graph;
+    final Direction forward;
+    final Direction backward;
+
+    // length of the shortest path found so far and the node where both searches met
+    private double bestDistance;
+    private long meetingNode;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(SearchState.class)
+            .add("forward", Direction.memoryEstimation())
+            .add("backward", Direction.memoryEstimation())
+            .build();
+    }
+
+    SearchState(Graph graph) {
+        this.graph = graph;
+        this.forward = new Direction(graph.nodeCount());
+        this.backward = new Direction(graph.nodeCount());
+    }
+
+    void reset() {
+        forward.reset();
+        backward.reset();
+        bestDistance = Direction.UNREACHED;
+        meetingNode = Direction.NO_PREDECESSOR;
+    }
+
+    void meet(long node, double distance) {
+        if (distance < bestDistance) {
+            bestDistance = distance;
+            meetingNode = node;
+        }
+    }
+
+    double bestDistance() {
+        return bestDistance;
+    }
+
+    long meetingNode() {
+        return meetingNode;
+    }
+
+    static final class Direction {
+
+        static final double UNREACHED = Double.POSITIVE_INFINITY;
+        static final long NO_PREDECESSOR = -1L;
+
+        private final HugeDoubleArray distances;
+        private final HugeDoubleArray heuristics;
+        private final HugeLongArray predecessors;
+        private final HugeIntArray versions;
+        private final GrowingLongMinHeap heap;
+
+        private int version;
+
+        static MemoryEstimation memoryEstimation() {
+            return MemoryEstimations.builder(Direction.class)
+                .perNode("distances", HugeDoubleArray::memoryEstimation)
+                .perNode("heuristics", HugeDoubleArray::memoryEstimation)
+                .perNode("predecessors", HugeLongArray::memoryEstimation)
+                .perNode("versions", HugeIntArray::memoryEstimation)
+                .build();
+        }
+
+        Direction(long nodeCount) {
+            this.distances = HugeDoubleArray.newArray(nodeCount);
+            this.heuristics = HugeDoubleArray.newArray(nodeCount);
+            this.predecessors = HugeLongArray.newArray(nodeCount);
+            this.versions = HugeIntArray.newArray(nodeCount);
+            this.heap = new GrowingLongMinHeap();
+            this.version = 1;
+        }
+
+        void reset() {
+            heap.clear();
+            if (version == Integer.MAX_VALUE) {
+                versions.fill(0);
+                version = 0;
+            }
+            version++;
+        }
+
+        boolean isReached(long node) {
+            return versions.get(node) == version;
+        }
+
+        double distance(long node) {
+            return isReached(node) ? distances.get(node) : UNREACHED;
+        }
+
+        long predecessor(long node) {
+            return isReached(node) ? predecessors.get(node) : NO_PREDECESSOR;
+        }
+
+        /**
+         * Records a shorter distance for the node and schedules it with
+         * the given heuristic, which is only evaluated on first contact.
+         */
+        void update(long node, double distance, long predecessor, NodeHeuristic heuristic) {
+            double estimate;
+            if (isReached(node)) {
+                estimate = heuristics.get(node);
+            } else {
+                versions.set(node, version);
+                estimate = heuristic.estimate(node);
+                heuristics.set(node, estimate);
+            }
+            distances.set(node, distance);
+            predecessors.set(node, predecessor);
+            heap.add(distance + estimate, node);
+        }
+
+        /**
+         * Drops outdated entries and returns the smallest key, or
+         * {@link #UNREACHED} if there are no more nodes to scan.
+         */
+        double minKey() {
+            while (!heap.isEmpty()) {
+                var node = heap.topElement();
+                if (heap.topKey() <= distances.get(node) + heuristics.get(node)) {
+                    return heap.topKey();
+                }
+                heap.pop();
+            }
+            return UNREACHED;
+        }
+
+        long size() {
+            return heap.size();
+        }
+
+        /**
+         * Removes the node with the smallest key. Must only be called
+         * after {@link #minKey()} returned a reachable key.
+         */
+        long pop() {
+            var node = heap.topElement();
+            heap.pop();
+            return node;
+        }
+    }
+
+    @FunctionalInterface
+    interface NodeHeuristic {
+        double estimate(long node);
+    }
+}
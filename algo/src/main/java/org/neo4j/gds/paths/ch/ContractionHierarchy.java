@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.GrowingLongMinHeap;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+/**
+ * A contraction hierarchy (Geisberger et al.) over a graph. Every node is
+ * assigned a rank and the graph is augmented with shortcuts, such that a
+ * shortest path between any two nodes can be found by a bidirectional search
+ * that only follows relationships to higher ranked nodes. Such searches
+ * typically settle a few hundred nodes, independent of the graph size.
+ *
+ * The hierarchy is immutable, queries are thread-safe and only allocate
+ * memory proportional to the number of nodes they touch. The hierarchy
+ * reflects the graph at the time it was built and must be rebuilt after
+ * the graph has been modified, see {@link ContractionHierarchyCatalog}.
+ *
+ * All node ids are mapped node ids. Relationship weights must not be negative.
+ */
+public final class ContractionHierarchy {
+
+    static final int NO_MIDDLE_NODE = -1;
+
+    private static final long NO_PREDECESSOR = -1L;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final long nodeCount;
+    // relationships to higher ranked nodes, grouped by source node
+    private final Csr upward;
+    // relationships from higher ranked nodes, grouped by target node
+    private final Csr downward;
+
+    public static ContractionHierarchy build(
+        Graph graph,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var builder = new ContractionHierarchyBuilder(graph, progressTracker);
+        builder.setTerminationFlag(terminationFlag);
+        return builder.compute();
+    }
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.leaf("ContractionHierarchy", graph.nodeCount());
+    }
+
+    ContractionHierarchy(long nodeCount, Csr upward, Csr downward) {
+        this.nodeCount = nodeCount;
+        this.upward = upward;
+        this.downward = downward;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * The number of relationships in the hierarchy, including shortcuts.
+     */
+    public long relationshipCount() {
+        return upward.size() + downward.size();
+    }
+
+    public long shortcutCount() {
+        return upward.shortcutCount() + downward.shortcutCount();
+    }
+
+    /**
+     * Computes the shortest path between the given nodes.
+     * Returns {@link PathResult#EMPTY} if the target is not reachable.
+     */
+    public PathResult query(long sourceNode, long targetNode) {
+        return query(sourceNode, targetNode, 0);
+    }
+
+    public PathResult query(long sourceNode, long targetNode, long pathIndex) {
+        var forward = new Search();
+        var backward = new Search();
+        forward.update(sourceNode, 0, NO_PREDECESSOR, NO_PREDECESSOR);
+        backward.update(targetNode, 0, NO_PREDECESSOR, NO_PREDECESSOR);
+
+        var bestDistance = sourceNode == targetNode ? 0 : Double.POSITIVE_INFINITY;
+        var meetingNode = sourceNode == targetNode ? sourceNode : NO_PREDECESSOR;
+
+        // Both searches only move upwards, the first meeting node is not
+        // necessarily on the shortest path, so each search continues until
+        // its smallest key exceeds the best path found so far.
+        while (true) {
+            var forwardKey = forward.minKey();
+            var backwardKey = backward.minKey();
+            if (forwardKey >= bestDistance && backwardKey >= bestDistance) {
+                break;
+            }
+
+            var forwardStep = forwardKey <= backwardKey;
+            var self = forwardStep ? forward : backward;
+            var other = forwardStep ? backward : forward;
+            var edges = forwardStep ? upward : downward;
+            var stallEdges = forwardStep ? downward : upward;
+
+            var node = self.pop();
+            var distance = self.distance(node);
+
+            // stall-on-demand: a higher ranked node proves that the node was not reached
+            // on a shortest path, so its relationships do not have to be relaxed
+            if (isStalled(node, distance, self, stallEdges)) {
+                continue;
+            }
+
+            var end = edges.offsets.get(node + 1);
+            for (long edge = edges.offsets.get(node); edge < end; edge++) {
+                var neighbour = edges.targets.get(edge);
+                var neighbourDistance = distance + edges.weights.get(edge);
+                if (neighbourDistance < self.distance(neighbour)) {
+                    self.update(neighbour, neighbourDistance, node, edge);
+                    var totalDistance = neighbourDistance + other.distance(neighbour);
+                    if (totalDistance < bestDistance) {
+                        bestDistance = totalDistance;
+                        meetingNode = neighbour;
+                    }
+                }
+            }
+        }
+
+        if (meetingNode == NO_PREDECESSOR) {
+            return PathResult.EMPTY;
+        }
+
+        return pathResult(forward, backward, sourceNode, targetNode, meetingNode, pathIndex);
+    }
+
+    private static boolean isStalled(long node, double distance, Search search, Csr stallEdges) {
+        var end = stallEdges.offsets.get(node + 1);
+        for (long edge = stallEdges.offsets.get(node); edge < end; edge++) {
+            if (search.distance(stallEdges.targets.get(edge)) + stallEdges.weights.get(edge) < distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PathResult pathResult(
+        Search forward,
+        Search backward,
+        long sourceNode,
+        long targetNode,
+        long meetingNode,
+        long pathIndex
+    ) {
+        var unpacker = new Unpacker(sourceNode);
+
+        // source -> meeting node, the predecessor chain is collected backwards
+        var forwardNodes = new LongArrayList();
+        for (long node = meetingNode; forward.predecessor(node) != NO_PREDECESSOR; node = forward.predecessor(node)) {
+            forwardNodes.add(node);
+        }
+        for (int i = forwardNodes.size() - 1; i >= 0; i--) {
+            var node = forwardNodes.get(i);
+            var edge = forward.edge(node);
+            unpacker.unpack(
+                forward.predecessor(node),
+                node,
+                upward.weights.get(edge),
+                upward.middleNodes.get(edge)
+            );
+        }
+
+        // meeting node -> target, each backward edge points from a node to its predecessor
+        for (long node = meetingNode; backward.predecessor(node) != NO_PREDECESSOR; node = backward.predecessor(node)) {
+            var edge = backward.edge(node);
+            unpacker.unpack(
+                node,
+                backward.predecessor(node),
+                downward.weights.get(edge),
+                downward.middleNodes.get(edge)
+            );
+        }
+
+        return ImmutablePathResult.builder()
+            .index(pathIndex)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(unpacker.nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(unpacker.costs.toArray())
+            .build();
+    }
+
+    /**
+     * Replaces shortcuts by the two relationships they were created from, until
+     * only relationships of the original graph remain.
+     */
+    private final class Unpacker {
+        private final LongArrayList nodeIds;
+        private final DoubleArrayList costs;
+        private final LongArrayDeque stack;
+        private final DoubleArrayDeque weights;
+
+        Unpacker(long sourceNode) {
+            this.nodeIds = new LongArrayList();
+            this.costs = new DoubleArrayList();
+            this.stack = new LongArrayDeque();
+            this.weights = new DoubleArrayDeque();
+            nodeIds.add(sourceNode);
+            costs.add(0);
+        }
+
+        void unpack(long source, long target, double weight, long middleNode) {
+            push(source, target, weight, middleNode);
+            while (!stack.isEmpty()) {
+                source = stack.removeLast();
+                target = stack.removeLast();
+                middleNode = stack.removeLast();
+                weight = weights.removeLast();
+
+                if (middleNode == NO_MIDDLE_NODE) {
+                    nodeIds.add(target);
+                    costs.add(costs.get(costs.size() - 1) + weight);
+                    continue;
+                }
+
+                // the shortcut source -> target replaced source -> middle -> target when the
+                // lower ranked middle node was contracted, both relationships are stored there
+                var first = downward.find(middleNode, source);
+                var second = upward.find(middleNode, target);
+                push(middleNode, target, upward.weights.get(second), upward.middleNodes.get(second));
+                push(source, middleNode, downward.weights.get(first), downward.middleNodes.get(first));
+            }
+        }
+
+        private void push(long source, long target, double weight, long middleNode) {
+            stack.addLast(middleNode);
+            stack.addLast(target);
+            stack.addLast(source);
+            weights.addLast(weight);
+        }
+    }
+
+    /**
+     * State of one direction of a query, backed by hash maps as a query only touches a few nodes.
+     */
+    private static final class Search {
+        private final LongDoubleHashMap distances;
+        private final LongLongHashMap predecessors;
+        private final LongLongHashMap edges;
+        private final GrowingLongMinHeap heap;
+
+        Search() {
+            this.distances = new LongDoubleHashMap();
+            this.predecessors = new LongLongHashMap();
+            this.edges = new LongLongHashMap();
+            this.heap = new GrowingLongMinHeap();
+        }
+
+        double distance(long node) {
+            return distances.getOrDefault(node, Double.POSITIVE_INFINITY);
+        }
+
+        long predecessor(long node) {
+            return predecessors.getOrDefault(node, NO_PREDECESSOR);
+        }
+
+        long edge(long node) {
+            return edges.get(node);
+        }
+
+        void update(long node, double distance, long predecessor, long edge) {
+            distances.put(node, distance);
+            predecessors.put(node, predecessor);
+            edges.put(node, edge);
+            heap.add(distance, node);
+        }
+
+        /**
+         * Drops outdated entries and returns the smallest key,
+         * or positive infinity if there are no more nodes to scan.
+         */
+        double minKey() {
+            while (!heap.isEmpty()) {
+                if (heap.topKey() <= distance(heap.topElement())) {
+                    return heap.topKey();
+                }
+                heap.pop();
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        long pop() {
+            var node = heap.topElement();
+            heap.pop();
+            return node;
+        }
+    }
+
+    static final class Csr {
+        final HugeLongArray offsets;
+        final HugeLongArray targets;
+        final HugeDoubleArray weights;
+        final HugeLongArray middleNodes;
+
+        Csr(HugeLongArray offsets, HugeLongArray targets, HugeDoubleArray weights, HugeLongArray middleNodes) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.middleNodes = middleNodes;
+        }
+
+        long size() {
+            return targets.size();
+        }
+
+        long shortcutCount() {
+            long count = 0;
+            for (long edge = 0; edge < middleNodes.size(); edge++) {
+                if (middleNodes.get(edge) != NO_MIDDLE_NODE) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        long find(long node, long target) {
+            var end = offsets.get(node + 1);
+            for (long edge = offsets.get(node); edge < end; edge++) {
+                if (targets.get(edge) == target) {
+                    return edge;
+                }
+            }
+            throw new IllegalStateException("Missing relationship " + node + " - " + target + " in contraction hierarchy");
+        }
+    }
+}
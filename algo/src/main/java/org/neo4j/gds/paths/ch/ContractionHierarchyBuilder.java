@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.GrowingLongMinHeap;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.paths.ch.ContractionHierarchy.NO_MIDDLE_NODE;
+
+/**
+ * Contracts the nodes of a graph one by one, in the order of their edge
+ * difference (shortcuts added minus relationships removed, plus the number
+ * of already contracted neighbours to spread contractions evenly).
+ * Priorities are updated lazily when a node reaches the top of the queue
+ * and eagerly for the neighbours of every contracted node.
+ *
+ * Before a shortcut {@code u -> w} is added for a contracted node {@code v},
+ * a witness search looks for a path from {@code u} to {@code w} that avoids
+ * {@code v} and is not longer than the path via {@code v}. Witness searches
+ * stop once all targets are settled and are bounded by {@link #WITNESS_SETTLE_LIMIT},
+ * giving up early only adds superfluous shortcuts and never affects correctness.
+ *
+ * Contraction is sequential and works best on sparse graphs with low degree
+ * variance, such as road networks, where few shortcuts are needed.
+ */
+public final class ContractionHierarchyBuilder extends Algorithm<ContractionHierarchy> {
+
+    static final int WITNESS_SETTLE_LIMIT = 500;
+    // priorities only need to be estimates, so simulated contractions search less
+    static final int SIMULATION_SETTLE_LIMIT = 50;
+
+    private final Graph graph;
+    private final int nodeCount;
+
+    // The remaining graph, contracted nodes are removed from the lists of their neighbours.
+    // Once a node is contracted its own lists are no longer modified and hold the edges
+    // to and from higher ranked nodes.
+    private final Edges[] outgoing;
+    private final Edges[] incoming;
+    private final int[] contractedNeighbours;
+
+    // witness search state, invalidated by bumping the version
+    private final double[] witnessDistances;
+    private final int[] witnessVersions;
+    private final GrowingLongMinHeap witnessHeap;
+    private int witnessVersion;
+    // marks the targets of the node that is being contracted
+    private final int[] targetVersions;
+    private int targetVersion;
+
+    ContractionHierarchyBuilder(Graph graph, ProgressTracker progressTracker) {
+        super(progressTracker);
+        if (graph.nodeCount() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Contraction hierarchies support at most " + Integer.MAX_VALUE + " nodes, got " + graph.nodeCount()
+            );
+        }
+        this.graph = graph;
+        this.nodeCount = (int) graph.nodeCount();
+        this.outgoing = new Edges[nodeCount];
+        this.incoming = new Edges[nodeCount];
+        this.contractedNeighbours = new int[nodeCount];
+        this.witnessDistances = new double[nodeCount];
+        this.witnessVersions = new int[nodeCount];
+        this.witnessHeap = new GrowingLongMinHeap();
+        this.witnessVersion = 0;
+        this.targetVersions = new int[nodeCount];
+        this.targetVersion = 0;
+    }
+
+    @Override
+    public ContractionHierarchy compute() {
+        progressTracker.beginSubTask();
+
+        loadGraph();
+
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            queue.add(node, priority(node));
+        }
+
+        while (!queue.isEmpty()) {
+            terminationFlag.assertRunning();
+
+            var node = (int) queue.pop();
+            var priority = priority(node);
+            // lazy update: the priority may have grown since the node was queued
+            if (!queue.isEmpty() && priority > queue.cost(queue.top())) {
+                queue.add(node, priority);
+                continue;
+            }
+
+            contract(node);
+
+            for (var neighbours : new Edges[]{incoming[node], outgoing[node]}) {
+                for (int i = 0; i < neighbours.size; i++) {
+                    var neighbour = neighbours.nodes[i];
+                    queue.set(neighbour, priority(neighbour));
+                }
+            }
+
+            progressTracker.logProgress();
+        }
+
+        var hierarchy = new ContractionHierarchy(
+            graph.nodeCount(),
+            toCsr(outgoing),
+            toCsr(incoming)
+        );
+
+        progressTracker.endSubTask();
+
+        return hierarchy;
+    }
+
+    private void loadGraph() {
+        for (int node = 0; node < nodeCount; node++) {
+            outgoing[node] = new Edges();
+            incoming[node] = new Edges();
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, 1.0, (source, target, weight) -> {
+                if (source != target) {
+                    outgoing[(int) source].update((int) target, weight, NO_MIDDLE_NODE);
+                    incoming[(int) target].update((int) source, weight, NO_MIDDLE_NODE);
+                }
+                return true;
+            });
+        }
+    }
+
+    private double priority(int node) {
+        var edgeDifference = shortcuts(node, false) - incoming[node].size - outgoing[node].size;
+        return edgeDifference + contractedNeighbours[node];
+    }
+
+    private void contract(int node) {
+        shortcuts(node, true);
+
+        var in = incoming[node];
+        for (int i = 0; i < in.size; i++) {
+            outgoing[in.nodes[i]].remove(node);
+            contractedNeighbours[in.nodes[i]]++;
+        }
+        var out = outgoing[node];
+        for (int i = 0; i < out.size; i++) {
+            incoming[out.nodes[i]].remove(node);
+            contractedNeighbours[out.nodes[i]]++;
+        }
+    }
+
+    /**
+     * Counts the shortcuts needed to contract the node and adds them if {@code apply} is set.
+     */
+    private int shortcuts(int node, boolean apply) {
+        var in = incoming[node];
+        var out = outgoing[node];
+        var shortcuts = 0;
+        var settleLimit = apply ? WITNESS_SETTLE_LIMIT : SIMULATION_SETTLE_LIMIT;
+
+        if (targetVersion == Integer.MAX_VALUE) {
+            Arrays.fill(targetVersions, 0);
+            targetVersion = 0;
+        }
+        targetVersion++;
+        for (int j = 0; j < out.size; j++) {
+            targetVersions[out.nodes[j]] = targetVersion;
+        }
+
+        for (int i = 0; i < in.size; i++) {
+            var source = in.nodes[i];
+            var inWeight = in.weights[i];
+
+            var maxDistance = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < out.size; j++) {
+                if (out.nodes[j] != source) {
+                    maxDistance = Math.max(maxDistance, inWeight + out.weights[j]);
+                }
+            }
+            if (maxDistance == Double.NEGATIVE_INFINITY) {
+                continue;
+            }
+
+            witnessSearch(source, node, maxDistance, out.size, settleLimit);
+
+            for (int j = 0; j < out.size; j++) {
+                var target = out.nodes[j];
+                if (target == source) {
+                    continue;
+                }
+                var viaDistance = inWeight + out.weights[j];
+                if (witnessDistance(target) > viaDistance) {
+                    shortcuts++;
+                    if (apply) {
+                        outgoing[source].update(target, viaDistance, node);
+                        incoming[target].update(source, viaDistance, node);
+                    }
+                }
+            }
+        }
+
+        return shortcuts;
+    }
+
+    private void witnessSearch(int source, int excludedNode, double maxDistance, int targetCount, int settleLimit) {
+        if (witnessVersion == Integer.MAX_VALUE) {
+            Arrays.fill(witnessVersions, 0);
+            witnessVersion = 0;
+        }
+        witnessVersion++;
+
+        witnessHeap.clear();
+        setWitnessDistance(source, 0);
+        witnessHeap.add(0, source);
+
+        var settled = 0;
+        while (!witnessHeap.isEmpty()) {
+            var distance = witnessHeap.topKey();
+            var node = (int) witnessHeap.topElement();
+            witnessHeap.pop();
+
+            if (distance > witnessDistance(node)) {
+                continue;
+            }
+            if (distance > maxDistance || settled++ >= settleLimit) {
+                break;
+            }
+            // the distances of settled targets are final
+            if (targetVersions[node] == targetVersion && --targetCount == 0) {
+                break;
+            }
+
+            var out = outgoing[node];
+            for (int i = 0; i < out.size; i++) {
+                var target = out.nodes[i];
+                if (target == excludedNode) {
+                    continue;
+                }
+                var targetDistance = distance + out.weights[i];
+                if (targetDistance < witnessDistance(target)) {
+                    setWitnessDistance(target, targetDistance);
+                    witnessHeap.add(targetDistance, target);
+                }
+            }
+        }
+    }
+
+    private double witnessDistance(int node) {
+        return witnessVersions[node] == witnessVersion ? witnessDistances[node] : Double.POSITIVE_INFINITY;
+    }
+
+    private void setWitnessDistance(int node, double distance) {
+        witnessVersions[node] = witnessVersion;
+        witnessDistances[node] = distance;
+    }
+
+    private ContractionHierarchy.Csr toCsr(Edges[] edges) {
+        var offsets = HugeLongArray.newArray(nodeCount + 1L);
+        long edgeCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            offsets.set(node, edgeCount);
+            edgeCount += edges[node].size;
+        }
+        offsets.set(nodeCount, edgeCount);
+
+        var targets = HugeLongArray.newArray(edgeCount);
+        var weights = HugeDoubleArray.newArray(edgeCount);
+        var middleNodes = HugeLongArray.newArray(edgeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            var nodeEdges = edges[node];
+            var offset = offsets.get(node);
+            for (int i = 0; i < nodeEdges.size; i++) {
+                targets.set(offset + i, nodeEdges.nodes[i]);
+                weights.set(offset + i, nodeEdges.weights[i]);
+                middleNodes.set(offset + i, nodeEdges.middleNodes[i]);
+            }
+            // the builder lists are no longer needed
+            edges[node] = null;
+        }
+
+        return new ContractionHierarchy.Csr(offsets, targets, weights, middleNodes);
+    }
+
+    /**
+     * Growable adjacency list of a node in the remaining graph. Parallel edges are
+     * merged by keeping the smallest weight.
+     */
+    private static final class Edges {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        int[] nodes;
+        double[] weights;
+        int[] middleNodes;
+        int size;
+
+        Edges() {
+            this.nodes = new int[INITIAL_CAPACITY];
+            this.weights = new double[INITIAL_CAPACITY];
+            this.middleNodes = new int[INITIAL_CAPACITY];
+            this.size = 0;
+        }
+
+        void update(int node, double weight, int middleNode) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middleNodes[i] = middleNode;
+                    }
+                    return;
+                }
+            }
+            if (size == nodes.length) {
+                var newCapacity = size << 1;
+                nodes = Arrays.copyOf(nodes, newCapacity);
+                weights = Arrays.copyOf(weights, newCapacity);
+                middleNodes = Arrays.copyOf(middleNodes, newCapacity);
+            }
+            nodes[size] = node;
+            weights[size] = weight;
+            middleNodes[size] = middleNode;
+            size++;
+        }
+
+        void remove(int node) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    size--;
+                    nodes[i] = nodes[size];
+                    weights[i] = weights[size];
+                    middleNodes[i] = middleNodes[size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps contraction hierarchies next to the catalog graphs they were built
+ * for, keyed by the projection of the graph. A hierarchy is only returned
+ * as long as its graph store has not been modified since it was built,
+ * afterwards queries have to fall back to a regular shortest path search
+ * until the hierarchy is rebuilt.
+ */
+public final class ContractionHierarchyCatalog {
+
+    private ContractionHierarchyCatalog() {}
+
+    /**
+     * Returns the hierarchy for the given projection, if there is one that
+     * reflects the current state of the graph store.
+     */
+    public static Optional<ContractionHierarchy> get(
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty
+    ) {
+        return GraphStoreCatalog.getArtifact(
+            graphStore,
+            artifactKey(nodeLabels, relationshipTypes, relationshipWeightProperty),
+            ContractionHierarchy.class
+        );
+    }
+
+    /**
+     * Returns the hierarchy for the given projection or builds it, if it is
+     * missing or the graph store has been modified since.
+     *
+     * The hierarchy is built without holding any lock, so concurrent calls may
+     * build it more than once. It is only kept if the graph store is in the catalog
+     * and has not been modified while building.
+     */
+    public static ContractionHierarchy getOrBuild(
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        Function<Graph, ContractionHierarchy> builder
+    ) {
+        var artifactKey = artifactKey(nodeLabels, relationshipTypes, relationshipWeightProperty);
+        var existing = GraphStoreCatalog.getArtifact(graphStore, artifactKey, ContractionHierarchy.class);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        // taken before loading the graph, so that modifications while building are detected
+        var modificationCount = graphStore.modificationCount();
+        var graph = graphStore.getGraph(nodeLabels, relationshipTypes, relationshipWeightProperty);
+        var hierarchy = builder.apply(graph);
+        GraphStoreCatalog.setArtifact(graphStore, artifactKey, hierarchy, modificationCount);
+        return hierarchy;
+    }
+
+    private static String artifactKey(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty
+    ) {
+        return formatWithLocale(
+            "contractionHierarchy(nodeLabels=%s, relationshipTypes=%s, relationshipWeightProperty=%s)",
+            sortedNames(nodeLabels),
+            sortedNames(relationshipTypes),
+            relationshipWeightProperty.orElse("")
+        );
+    }
+
+    private static String sortedNames(Collection<? extends ElementIdentifier> identifiers) {
+        return identifiers
+            .stream()
+            .map(ElementIdentifier::name)
+            .sorted()
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
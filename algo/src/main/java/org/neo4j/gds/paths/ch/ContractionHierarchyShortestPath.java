@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Source-target shortest path that answers from the contraction hierarchy of
+ * the catalog graph if there is one for the current state of the graph store,
+ * and falls back to {@link Dijkstra} otherwise.
+ *
+ * Paths computed from the hierarchy do not contain relationship ids.
+ */
+public final class ContractionHierarchyShortestPath extends Algorithm<PathFindingResult> {
+
+    private final Graph graph;
+    private final Optional<ContractionHierarchy> hierarchy;
+    private final ShortestPathBaseConfig config;
+
+    public static ContractionHierarchyShortestPath sourceTarget(
+        GraphStore graphStore,
+        Graph graph,
+        ShortestPathBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        var hierarchy = ContractionHierarchyCatalog.get(
+            graphStore,
+            config.nodeLabelIdentifiers(graphStore),
+            config.internalRelationshipTypes(graphStore),
+            config.relationshipWeightProperty()
+        );
+        return new ContractionHierarchyShortestPath(graph, hierarchy, config, progressTracker);
+    }
+
+    ContractionHierarchyShortestPath(
+        Graph graph,
+        Optional<ContractionHierarchy> hierarchy,
+        ShortestPathBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        hierarchy.ifPresent(ch -> {
+            if (ch.nodeCount() != graph.nodeCount()) {
+                throw new IllegalArgumentException(
+                    "The contraction hierarchy covers " + ch.nodeCount() +
+                    " nodes, but the graph has " + graph.nodeCount() + " nodes"
+                );
+            }
+        });
+        this.graph = graph;
+        this.hierarchy = hierarchy;
+        this.config = config;
+    }
+
+    /**
+     * Whether the query is answered from a contraction hierarchy.
+     */
+    public boolean usesHierarchy() {
+        return hierarchy.isPresent();
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        if (hierarchy.isEmpty()) {
+            progressTracker.logWarning(
+                "There is no contraction hierarchy for the current state of the graph, falling back to Dijkstra."
+            );
+            var dijkstra = Dijkstra.sourceTarget(graph, config, Optional.empty(), progressTracker);
+            dijkstra.setTerminationFlag(terminationFlag);
+            return dijkstra.compute();
+        }
+
+        progressTracker.beginSubTask();
+        var path = hierarchy.get().query(
+            graph.toMappedNodeId(config.sourceNode()),
+            graph.toMappedNodeId(config.targetNode())
+        );
+        progressTracker.endSubTask();
+
+        return new PathFindingResult(Stream.of(path).filter(p -> p != PathResult.EMPTY));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.alt.BidirectionalShortestPaths;
+import org.neo4j.gds.paths.alt.LandmarkDistances;
+import org.neo4j.gds.paths.alt.LandmarkShortestPath;
+import org.neo4j.gds.paths.ch.ContractionHierarchyShortestPath;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
+
+/**
+ * Builds the source-target Dijkstra of the procedures, which can be answered from the contraction hierarchy
+ * of the catalog graph, see {@link ShortestPathDijkstraBaseConfig#useContractionHierarchy()}, or by a search
+ * that is guided by landmarks, see {@link ShortestPathDijkstraBaseConfig#landmarks()}.
+ * Otherwise, this is the same as {@link DijkstraFactory.SourceTargetDijkstraFactory}.
+ */
+public class ShortestPathDijkstraFactory<CONFIG extends ShortestPathDijkstraBaseConfig>
+    extends GraphStoreAlgorithmFactory<Algorithm<PathFindingResult>, CONFIG> {
+
+    private final DijkstraFactory.SourceTargetDijkstraFactory<CONFIG> dijkstraFactory =
+        new DijkstraFactory.SourceTargetDijkstraFactory<>();
+
+    @Override
+    public String taskName() {
+        return dijkstraFactory.taskName();
+    }
+
+    @Override
+    public Algorithm<PathFindingResult> build(
+        GraphStore graphStore,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        var graph = graph(graphStore, configuration);
+        if (configuration.useContractionHierarchy()) {
+            return ContractionHierarchyShortestPath.sourceTarget(graphStore, graph, configuration, progressTracker);
+        }
+        if (configuration.landmarks() > 0) {
+            return new LandmarkShortestPath(
+                graphStore,
+                graph,
+                configuration,
+                configuration.landmarks(),
+                progressTracker
+            );
+        }
+        return dijkstraFactory.build(graph, configuration, progressTracker);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (configuration.landmarks() > 0) {
+            // the landmark distances are computed by the first query, directed graphs need twice as many
+            return MemoryEstimations.builder(LandmarkShortestPath.class)
+                .add(LandmarkDistances.memoryEstimation(configuration.landmarks(), false))
+                .add(BidirectionalShortestPaths.memoryEstimation())
+                .build();
+        }
+        return dijkstraFactory.memoryEstimation(configuration);
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, CONFIG config) {
+        return dijkstraFactory.progressTask(graph(graphStore, config), config);
+    }
+
+    private static Graph graph(GraphStore graphStore, ShortestPathBaseConfig config) {
+        return graphStore.getGraph(
+            config.nodeLabelIdentifiers(graphStore),
+            config.internalRelationshipTypes(graphStore),
+            config.relationshipWeightProperty()
+        );
+    }
+}
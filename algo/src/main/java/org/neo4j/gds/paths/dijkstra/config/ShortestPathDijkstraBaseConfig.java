@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public interface ShortestPathDijkstraBaseConfig extends ShortestPathBaseConfig {
+
+    String USE_CONTRACTION_HIERARCHY_KEY = "useContractionHierarchy";
+    String LANDMARKS_KEY = "landmarks";
+
+    /**
+     * Whether to answer the query from the contraction hierarchy that has been built for the graph.
+     * Falls back to Dijkstra if there is none for the current state of the graph.
+     */
+    @Value.Default
+    @Configuration.Key(USE_CONTRACTION_HIERARCHY_KEY)
+    default boolean useContractionHierarchy() {
+        return false;
+    }
+
+    /**
+     * The number of landmarks that guide a bidirectional search (ALT), zero runs Dijkstra.
+     * The landmark distances are computed by the first query and reused until the graph is modified.
+     */
+    @Value.Default
+    @Configuration.Key(LANDMARKS_KEY)
+    @Configuration.IntegerRange(min = 0)
+    default int landmarks() {
+        return 0;
+    }
+
+    @Value.Check
+    default void validateSearch() {
+        if (useContractionHierarchy() && landmarks() > 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid parameter combination: %s combined with %s",
+                USE_CONTRACTION_HIERARCHY_KEY,
+                LANDMARKS_KEY
+            ));
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkSearch(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (landmarks() == 0) {
+            return;
+        }
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        // the backward search needs to traverse the relationships in reverse
+        var allUndirected = selectedRelationshipTypes.stream().allMatch(relationshipSchema::isUndirected);
+        var allInverseIndexed = inverseIndexedTypes.containsAll(selectedRelationshipTypes);
+        if (!allUndirected && !allInverseIndexed) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Searching with %s requires the relationship types to be either all undirected or all inverse indexed, " +
+                "but got %s.",
+                LANDMARKS_KEY,
+                StringJoining.join(selectedRelationshipTypes.stream().map(RelationshipType::name))
+            ));
+        }
+    }
+}
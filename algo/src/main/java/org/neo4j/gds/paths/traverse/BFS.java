@@ -29,11 +29,13 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -56,12 +58,29 @@ import java.util.concurrent.atomic.AtomicLong;
  * to create the next bucket, such that a correct BFS ordering is returned where all
  * descendants from the nodes of a chunk, appear together before those from a later
  * chunk.
+ *
+ * If the graph is undirected or inverse indexed, the traversal is direction-optimizing
+ * as described by Beamer et al. [1]. Once the relationships leaving the current bucket
+ * outnumber the relationships that can still lead to unvisited nodes, the next bucket
+ * is computed bottom-up: every unvisited node looks for a predecessor in the current
+ * bucket instead of the bucket pushing to all its neighbours. To produce the same
+ * ordering as a top-down step, a node has to find its first predecessor, so the search
+ * cannot stop at any predecessor and the switch happens later than in [1].
+ * The traversal returns to top-down steps once the bucket becomes small again.
+ *
+ * [1]: <a href="https://doi.org/10.1109/SC.2012.50">Direction-Optimizing Breadth-First Search</a>
  */
 public final class BFS extends Algorithm<HugeLongArray> {
 
     private static final int DEFAULT_DELTA = 64;
     public static final int ALL_DEPTHS_ALLOWED = -1;
 
+    // Switch to bottom-up once the relationships of the current bucket exceed
+    // the incoming relationships of unvisited nodes divided by `ALPHA`.
+    private static final int ALPHA = 2;
+    // Switch back to top-down once the bucket has less than `nodeCount / BETA` nodes.
+    private static final int BETA = 24;
+
     private final long sourceNodeId;
     private final ExitPredicate exitPredicate;
     private final Aggregator aggregatorFunction;
@@ -186,47 +205,87 @@ public final class BFS extends Algorithm<HugeLongArray> {
         traversedNodes.set(0, sourceNodeId);
         weights.set(0, 0);
 
+        // Bottom-up steps require traversing relationships in reverse.
+        var characteristics = graph.characteristics();
+        var directionOptimizing = characteristics.isUndirected() || characteristics.isInverseIndexed();
+        var frontier = directionOptimizing ? HugeAtomicBitSet.create(graph.nodeCount()) : null;
+
         var bfsTaskList = initializeBfsTasks(
             traversedNodesIndex,
             traversedNodesLength,
             targetFoundIndex,
             minimumChunk,
+            frontier,
             delta
         );
+        List<BFSBottomUpTask> bottomUpTaskList = directionOptimizing
+            ? initializeBottomUpTasks(frontier, minimumChunk)
+            : List.of();
+
+        // Relationships leaving the current bucket and relationships leading to unvisited nodes.
+        long frontierRelationships = graph.degree(sourceNodeId);
+        long unexploredRelationships = graph.relationshipCount() - inverseDegree(sourceNodeId);
+        boolean bottomUp = false;
+
         int bfsTaskListSize = bfsTaskList.size();
         long currentDepth = 0;
         while (terminationFlag.running()) {
             if (currentDepth == maximumDepth) {
                 break;
             }
+
+            var frontierStart = traversedNodesIndex.get();
+            var previousTraversedNodesLength = traversedNodesLength.get();
+            if (directionOptimizing) {
+                var frontierSize = previousTraversedNodesLength - frontierStart;
+                bottomUp = bottomUp
+                    ? frontierSize >= graph.nodeCount() / BETA
+                    : frontierRelationships > unexploredRelationships / ALPHA;
+                for (var bfsTask : bfsTaskList) {
+                    bfsTask.bottomUp(bottomUp);
+                }
+            }
+
             ParallelUtil.run(bfsTaskList, Pools.DEFAULT);
 
             if (targetFoundIndex.get() != Long.MAX_VALUE) {
                 break;
             }
 
-            // Synchronize the results sequentially
-            var previousTraversedNodesLength = traversedNodesLength.get();
-            int numberOfFinishedTasks = 0;
-            int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
-            while (numberOfFinishedTasks != numberOfTasksWithChunks && terminationFlag.running()) {
-                int minimumTaskIndex = -1;
-                for (int bfsTaskIndex = 0; bfsTaskIndex < bfsTaskListSize; ++bfsTaskIndex) {
-                    var currentBfsTask = bfsTaskList.get(bfsTaskIndex);
-                    if (currentBfsTask.hasMoreChunks()) {
-                        if (minimumTaskIndex == -1) {
-                            minimumTaskIndex = bfsTaskIndex;
-                        } else {
-                            if (bfsTaskList.get(minimumTaskIndex).currentChunkId() > currentBfsTask.currentChunkId()) {
+            if (bottomUp) {
+                bottomUpTaskList.forEach(task -> task.prepare(frontierStart));
+                ParallelUtil.run(bottomUpTaskList, Pools.DEFAULT);
+                syncBottomUp(
+                    bottomUpTaskList,
+                    minimumChunk,
+                    frontierStart,
+                    previousTraversedNodesLength,
+                    traversedNodesLength
+                );
+                frontier.clear();
+            } else {
+                // Synchronize the results sequentially
+                int numberOfFinishedTasks = 0;
+                int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
+                while (numberOfFinishedTasks != numberOfTasksWithChunks && terminationFlag.running()) {
+                    int minimumTaskIndex = -1;
+                    for (int bfsTaskIndex = 0; bfsTaskIndex < bfsTaskListSize; ++bfsTaskIndex) {
+                        var currentBfsTask = bfsTaskList.get(bfsTaskIndex);
+                        if (currentBfsTask.hasMoreChunks()) {
+                            if (minimumTaskIndex == -1) {
                                 minimumTaskIndex = bfsTaskIndex;
+                            } else {
+                                if (bfsTaskList.get(minimumTaskIndex).currentChunkId() > currentBfsTask.currentChunkId()) {
+                                    minimumTaskIndex = bfsTaskIndex;
+                                }
                             }
                         }
                     }
-                }
-                var minimumIndexBfsTask = bfsTaskList.get(minimumTaskIndex);
-                minimumIndexBfsTask.syncNextChunk();
-                if (!minimumIndexBfsTask.hasMoreChunks()) {
-                    numberOfFinishedTasks++;
+                    var minimumIndexBfsTask = bfsTaskList.get(minimumTaskIndex);
+                    minimumIndexBfsTask.syncNextChunk();
+                    if (!minimumIndexBfsTask.hasMoreChunks()) {
+                        numberOfFinishedTasks++;
+                    }
                 }
             }
 
@@ -234,6 +293,15 @@ public final class BFS extends Algorithm<HugeLongArray> {
                 break;
             }
 
+            if (directionOptimizing) {
+                frontierRelationships = 0;
+                for (long idx = previousTraversedNodesLength; idx < traversedNodesLength.get(); idx++) {
+                    var nodeId = traversedNodes.get(idx);
+                    frontierRelationships += graph.degree(nodeId);
+                    unexploredRelationships -= inverseDegree(nodeId);
+                }
+            }
+
             traversedNodesIndex.set(previousTraversedNodesLength);
             currentDepth++;
         }
@@ -255,6 +323,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
         AtomicLong traversedNodesLength,
         AtomicLong targetFoundIndex,
         HugeAtomicLongArray minimumChunk,
+        HugeAtomicBitSet frontier,
         int delta
     ) {
         var bfsTaskList = new ArrayList<BFSTask>(concurrency);
@@ -272,6 +341,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
                 aggregatorFunction,
                 delta,
                 sourceNodeId,
+                frontier,
                 terminationFlag,
                 progressTracker
             ));
@@ -279,6 +349,71 @@ public final class BFS extends Algorithm<HugeLongArray> {
         return bfsTaskList;
     }
 
+    private List<BFSBottomUpTask> initializeBottomUpTasks(
+        HugeAtomicBitSet frontier,
+        HugeAtomicLongArray minimumChunk
+    ) {
+        return PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new BFSBottomUpTask(
+                graph,
+                partition,
+                visited,
+                frontier,
+                minimumChunk,
+                terminationFlag
+            ),
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Appends the nodes discovered in a bottom-up step to `traversedNodes`, ordered by the
+     * position of their first predecessor and then by node id. For sorted adjacency lists,
+     * this is the order in which a top-down step would have added them.
+     */
+    private void syncBottomUp(
+        List<BFSBottomUpTask> bottomUpTaskList,
+        HugeAtomicLongArray minimumChunk,
+        long frontierStart,
+        long frontierEnd,
+        AtomicLong traversedNodesLength
+    ) {
+        // counting sort by the position of the first predecessor
+        var offsets = HugeLongArray.newArray(frontierEnd - frontierStart + 1);
+        long discovered = 0;
+        for (var task : bottomUpTaskList) {
+            var nodes = task.discoveredNodes();
+            for (int i = 0; i < nodes.size(); i++) {
+                var bucket = minimumChunk.get(nodes.get(i)) - frontierStart + 1;
+                offsets.set(bucket, offsets.get(bucket) + 1);
+            }
+            discovered += nodes.size();
+        }
+        for (long bucket = 1; bucket < offsets.size(); bucket++) {
+            offsets.set(bucket, offsets.get(bucket) + offsets.get(bucket - 1));
+        }
+
+        for (var task : bottomUpTaskList) {
+            var nodes = task.discoveredNodes();
+            for (int i = 0; i < nodes.size(); i++) {
+                var nodeId = nodes.get(i);
+                var bucket = minimumChunk.get(nodeId) - frontierStart;
+                var index = frontierEnd + offsets.get(bucket);
+                offsets.set(bucket, offsets.get(bucket) + 1);
+                traversedNodes.set(index, nodeId);
+                visited.set(nodeId);
+            }
+        }
+
+        traversedNodesLength.getAndAdd(discovered);
+    }
+
+    private long inverseDegree(long nodeId) {
+        return graph.characteristics().isUndirected() ? graph.degree(nodeId) : graph.degreeInverse(nodeId);
+    }
+
     private int countTasksWithChunks(Collection<BFSTask> bfsTaskList) {
         return (int) bfsTaskList.stream().filter(BFSTask::hasMoreChunks).count();
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+/**
+ * A task that computes the next BFS level bottom-up for a range of nodes.
+ *
+ * Every unvisited node in the range scans its incoming relationships for
+ * predecessors in the current frontier. For frontier nodes, `minimumChunk`
+ * holds their own position in `traversedNodes` during a bottom-up step, so
+ * each discovered node records the first frontier node that would have
+ * reached it in a top-down step. Discovered nodes are collected in ascending
+ * order of their ids and are added to `traversedNodes` during synchronization.
+ */
+class BFSBottomUpTask implements Runnable {
+
+    private final Graph graph;
+    private final boolean undirected;
+    private final Partition partition;
+    private final HugeAtomicBitSet visited;
+    private final HugeAtomicBitSet frontier;
+    private final HugeAtomicLongArray minimumChunk;
+    private final TerminationFlag terminationFlag;
+    private final RelationshipConsumer predecessorConsumer;
+
+    // Nodes of the next level discovered by this task, ordered by node id.
+    private final LongArrayList discoveredNodes;
+
+    // Position of the first node of the current frontier, no predecessor can have a smaller one.
+    private long frontierStart;
+    // The smallest position of a predecessor found for the current node.
+    private long minimumPosition;
+
+    BFSBottomUpTask(
+        Graph graph,
+        Partition partition,
+        HugeAtomicBitSet visited,
+        HugeAtomicBitSet frontier,
+        HugeAtomicLongArray minimumChunk,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph.concurrentCopy();
+        this.undirected = graph.characteristics().isUndirected();
+        this.partition = partition;
+        this.visited = visited;
+        this.frontier = frontier;
+        this.minimumChunk = minimumChunk;
+        this.terminationFlag = terminationFlag;
+        this.discoveredNodes = new LongArrayList();
+        this.predecessorConsumer = (nodeId, predecessorId) -> {
+            if (frontier.get(predecessorId)) {
+                minimumPosition = Math.min(minimumPosition, minimumChunk.get(predecessorId));
+            }
+            return minimumPosition != frontierStart;
+        };
+    }
+
+    void prepare(long frontierStart) {
+        this.frontierStart = frontierStart;
+        discoveredNodes.elementsCount = 0;
+    }
+
+    LongArrayList discoveredNodes() {
+        return discoveredNodes;
+    }
+
+    @Override
+    public void run() {
+        long endNode = partition.startNode() + partition.nodeCount();
+        for (long nodeId = partition.startNode(); nodeId < endNode && terminationFlag.running(); nodeId++) {
+            if (visited.get(nodeId)) {
+                continue;
+            }
+            minimumPosition = Long.MAX_VALUE;
+            if (undirected) {
+                graph.forEachRelationship(nodeId, predecessorConsumer);
+            } else {
+                graph.forEachInverseRelationship(nodeId, predecessorConsumer);
+            }
+            if (minimumPosition != Long.MAX_VALUE) {
+                minimumChunk.set(nodeId, minimumPosition);
+                discoveredNodes.add(nodeId);
+            }
+        }
+    }
+}
@@ -51,6 +51,8 @@ class BFSTask implements Runnable {
     private final ExitPredicate exitPredicate;
     private final Aggregator aggregatorFunction;
     private final long sourceNodeId;
+    // Frontier bitmap for bottom-up steps, `null` if the graph cannot be traversed in reverse.
+    private final HugeAtomicBitSet frontier;
 
     // variables local to the task
     // Chunk(s) of `traversedNodes` that a single task operates on; each chunk
@@ -64,6 +66,9 @@ class BFSTask implements Runnable {
 
     private final TerminationFlag terminationFlag;
 
+    // In a bottom-up step, the task only marks the frontier instead of relaxing it.
+    private boolean bottomUp;
+
     // Used in the synchronization phase, keeps track of the current chunk index.
     private int indexOfChunk;
 
@@ -85,6 +90,7 @@ class BFSTask implements Runnable {
         Aggregator aggregatorFunction,
         int delta,
         long sourceNodeId,
+        HugeAtomicBitSet frontier,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker
     ) {
@@ -100,6 +106,7 @@ class BFSTask implements Runnable {
         this.aggregatorFunction = aggregatorFunction;
         this.delta = delta;
         this.sourceNodeId = sourceNodeId;
+        this.frontier = frontier;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
 
@@ -119,6 +126,10 @@ class BFSTask implements Runnable {
         return indexOfChunk < chunks.size();
     }
 
+    void bottomUp(boolean bottomUp) {
+        this.bottomUp = bottomUp;
+    }
+
     /**
      * Processes a single chunk at a time.
      */
@@ -129,7 +140,9 @@ class BFSTask implements Runnable {
         long offset;
         while ((offset = traversedNodesIndex.getAndAdd(delta)) < traversedNodesLength.get()) {
             var chunkLimit = Math.min(offset + delta, traversedNodesLength.get());
-            chunks.add(offset);
+            if (!bottomUp) {
+                chunks.add(offset);
+            }
             for (long idx = offset; idx < chunkLimit; idx++) {
                 var nodeId = traversedNodes.get(idx);
                 long sourceId = sourceNodeId;
@@ -141,11 +154,17 @@ class BFSTask implements Runnable {
                     weights.set(idx, weight);
                 }
 
-                relaxNode(idx, nodeId, sourceId, weight);
+                if (bottomUp) {
+                    markFrontier(idx, nodeId, sourceId, weight);
+                } else {
+                    relaxNode(idx, nodeId, sourceId, weight);
+                }
                 examined++;
             }
-            // Add a chunk separator.
-            localNodes.add(CHUNK_SEPARATOR);
+            if (!bottomUp) {
+                // Add a chunk separator.
+                localNodes.add(CHUNK_SEPARATOR);
+            }
         }
 
         progressTracker.logProgress(examined);
@@ -181,6 +200,21 @@ class BFSTask implements Runnable {
         }
     }
 
+    /**
+     * Prepares a node of the current level for a bottom-up step, see {@link BFSBottomUpTask}.
+     * The weight of the node has already been computed, so its `minimumChunk` entry is
+     * replaced by its own position.
+     */
+    private void markFrontier(long nodeIndex, long nodeId, long sourceNodeId, double weight) {
+        var exitPredicateResult = exitPredicate.test(sourceNodeId, nodeId, weight);
+        if (exitPredicateResult == ExitPredicate.Result.BREAK) {
+            targetFoundIndex.getAndAccumulate(nodeIndex, Math::min);
+            return;
+        }
+        minimumChunk.set(nodeId, nodeIndex);
+        frontier.set(nodeId);
+    }
+
     private void relaxNode(long nodeIndex, long nodeId, long sourceNodeId, double weight) {
         var exitPredicateResult = exitPredicate.test(sourceNodeId, nodeId, weight);
         if (exitPredicateResult == ExitPredicate.Result.BREAK) {
@@ -82,7 +82,8 @@ public class BfsAlgorithmFactory<CONFIG extends BfsBaseConfig> extends GraphAlgo
         builder.perNode("visited ", HugeAtomicBitSet::memoryEstimation) //global variables
             .perNode("traversedNodes", HugeLongArray::memoryEstimation)
             .perNode("weights", HugeDoubleArray::memoryEstimation)
-            .perNode("minimumChunk", HugeAtomicLongArray::memoryEstimation);
+            .perNode("minimumChunk", HugeAtomicLongArray::memoryEstimation)
+            .perNode("frontier", HugeAtomicBitSet::memoryEstimation); // only used by bottom-up steps
 
         //per thread
         builder.rangePerGraphDimension("localNodes", (dimensions, concurrency) -> {
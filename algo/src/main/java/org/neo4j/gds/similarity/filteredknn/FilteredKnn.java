@@ -69,6 +69,10 @@ public class FilteredKnn extends Algorithm<FilteredKnnResult> {
      * @param optionalSimilarityFunction An actual similarity function if you want seeding, empty otherwise
      */
     static FilteredKnn create(Graph graph, FilteredKnnBaseConfig config, KnnContext context, Optional<SimilarityFunction> optionalSimilarityFunction) {
+        if (config.isQuantized()) {
+            // results are collected by the neighbour consumers, which never see the re-ranked similarities
+            throw new IllegalArgumentException("Product quantization is not supported for filtered KNN.");
+        }
         var targetNodeFilter = config.targetNodeFilter().toNodeFilter(graph);
         var targetNodeFiltering = TargetNodeFiltering.create(graph.nodeCount(),config.boundedK(graph.nodeCount()), targetNodeFilter, graph, optionalSimilarityFunction, config.similarityCutoff());
         var similarityFunction = optionalSimilarityFunction.orElse(Knn.defaultSimilarityFunction(graph, config.nodeProperties()));
@@ -31,6 +31,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.similarity.SimilarityGraphBuilder;
+import org.neo4j.gds.similarity.nodesim.MinHashCandidates;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarity;
 import org.neo4j.gds.similarity.nodesim.TopKMap;
 import org.neo4j.gds.similarity.nodesim.TopNList;
@@ -112,11 +113,22 @@ public class FilteredNodeSimilarityFactory<CONFIG extends FilteredNodeSimilarity
                     TopNList.memoryEstimation(dimensions.nodeCount(), topN))
             );
         }
+        if (config.useMinHashCandidates()) {
+            builder.add("minhash candidates", MinHashCandidates.memoryEstimation(config));
+        }
         return builder.build();
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.useMinHashCandidates()) {
+            return Tasks.task(
+                taskName(),
+                Tasks.leaf("prepare", graph.relationshipCount()),
+                Tasks.leaf("generate candidates", config.minHashBands()),
+                Tasks.leaf("compare node pairs")
+            );
+        }
         return Tasks.task(
             taskName(),
             Tasks.leaf("prepare", graph.relationshipCount()),
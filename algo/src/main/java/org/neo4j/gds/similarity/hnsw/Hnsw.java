@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Builds an {@link HnswIndex} by inserting all nodes concurrently.
+ * The levels of all nodes are drawn upfront, so that the entry point is known before the first insertion.
+ */
+public class Hnsw extends Algorithm<HnswIndex> {
+
+    private final Graph graph;
+    private final HnswBaseConfig config;
+    private final ExecutorService executor;
+
+    Hnsw(Graph graph, HnswBaseConfig config, ExecutorService executor, ProgressTracker progressTracker) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.executor = executor;
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        var similarity = VectorSimilarity.of(
+            graph,
+            config.nodeProperty(),
+            graph.nodeProperties(config.nodeProperty()),
+            config.similarityMetric()
+        );
+        var levels = HugeByteArray.newArray(graph.nodeCount());
+        long entryPoint = drawLevels(levels);
+        var index = new HnswIndex(graph, config.nodeProperty(), similarity, config.m(), levels, entryPoint);
+
+        if (graph.nodeCount() > 0) {
+            // the entry point needs no insertion
+            progressTracker.logProgress();
+
+            var tasks = PartitionUtils.rangePartition(
+                config.concurrency(),
+                graph.nodeCount(),
+                partition -> (Runnable) () -> {
+                    var context = new HnswIndex.SearchContext();
+                    partition.consume(nodeId -> {
+                        if (nodeId != entryPoint) {
+                            index.insert(nodeId, config.efConstruction(), context);
+                            progressTracker.logProgress();
+                        }
+                    });
+                },
+                Optional.empty()
+            );
+            RunWithConcurrency.builder()
+                .concurrency(config.concurrency())
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .executor(executor)
+                .run();
+        }
+
+        progressTracker.endSubTask();
+        return index;
+    }
+
+    /**
+     * Draws exponentially distributed levels with normalization factor {@code 1 / ln(m)}.
+     *
+     * @return the first node with the highest level
+     */
+    private long drawLevels(HugeByteArray levels) {
+        var random = config.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        double levelNormalization = 1.0 / Math.log(config.m());
+
+        long entryPoint = 0;
+        int maxLevel = -1;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            int level = (int) Math.min(
+                Byte.MAX_VALUE,
+                Math.floor(-Math.log(1.0 - random.nextDouble()) * levelNormalization)
+            );
+            levels.set(nodeId, (byte) level);
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = nodeId;
+            }
+        }
+        return entryPoint;
+    }
+}
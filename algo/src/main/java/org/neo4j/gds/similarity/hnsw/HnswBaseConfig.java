@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public interface HnswBaseConfig extends AlgoBaseConfig, SingleThreadedRandomSeedConfig {
+
+    String nodeProperty();
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.hnsw.HnswBaseConfig#parseSimilarityMetric")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.hnsw.HnswBaseConfig#renderSimilarityMetric")
+    default SimilarityMetric similarityMetric() {
+        return SimilarityMetric.COSINE;
+    }
+
+    /**
+     * The number of neighbours per node on the upper layers, twice as many are kept on layer zero.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 2)
+    default int m() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int efConstruction() {
+        return 200;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    @Value.Default
+    default void nodePropertyTypeValidation(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.hasNodeProperty(selectedLabels, nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded for the labels %s.",
+                nodeProperty(),
+                selectedLabels
+            ));
+        }
+        var valueType = graphStore.nodeProperty(nodeProperty()).valueType();
+        if (valueType != ValueType.DOUBLE_ARRAY && valueType != ValueType.FLOAT_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported node property value type [%s]. Value type required: [%s] or [%s].",
+                valueType,
+                ValueType.DOUBLE_ARRAY,
+                ValueType.FLOAT_ARRAY
+            ));
+        }
+    }
+
+    static SimilarityMetric parseSimilarityMetric(Object input) {
+        var supportedMetrics = EnumSet.of(
+            SimilarityMetric.COSINE,
+            SimilarityMetric.EUCLIDEAN,
+            SimilarityMetric.PEARSON
+        );
+        SimilarityMetric metric;
+        if (input instanceof SimilarityMetric) {
+            metric = (SimilarityMetric) input;
+        } else if (input instanceof String) {
+            try {
+                metric = SimilarityMetric.parse((String) input);
+            } catch (IllegalArgumentException e) {
+                metric = null;
+            }
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected SimilarityMetric or String. Got %s.",
+                input.getClass().getSimpleName()
+            ));
+        }
+        if (!supportedMetrics.contains(metric)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Similarity metric `%s` is not supported. Must be one of: %s.",
+                input,
+                supportedMetrics
+            ));
+        }
+        return metric;
+    }
+
+    static String renderSimilarityMetric(SimilarityMetric metric) {
+        return metric.name();
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.VectorIndex;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.util.Arrays;
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Hierarchical navigable small world graph over the vectors of a node property.
+ *
+ * Every node is part of layer zero and of each layer up to its randomly drawn level.
+ * A search greedily descends from the entry point through the sparse upper layers
+ * and finishes with a best-first search of width {@code ef} on layer zero.
+ *
+ * Neighbour lists are replaced, never modified, and always accessed under a lock striped by node id,
+ * so that nodes can be inserted concurrently.
+ *
+ * See: Malkov and Yashunin, "Efficient and robust approximate nearest neighbor search
+ *      using Hierarchical Navigable Small World graphs", 2018
+ */
+public final class HnswIndex implements VectorIndex {
+
+    private static final long[] NO_NEIGHBOURS = new long[0];
+    private static final int LOCK_STRIPES = 1 << 12;
+
+    private final IdMap idMap;
+    private final String nodeProperty;
+    private final VectorSimilarity similarity;
+    private final int m;
+    private final HugeObjectArray<long[][]> neighbours;
+    private final Object[] locks;
+    private final long entryPoint;
+    private final int maxLevel;
+
+    HnswIndex(
+        IdMap idMap,
+        String nodeProperty,
+        VectorSimilarity similarity,
+        int m,
+        HugeByteArray levels,
+        long entryPoint
+    ) {
+        this.idMap = idMap;
+        this.nodeProperty = nodeProperty;
+        this.similarity = similarity;
+        this.m = m;
+        this.entryPoint = entryPoint;
+        this.maxLevel = idMap.nodeCount() == 0 ? 0 : levels.get(entryPoint);
+
+        this.neighbours = HugeObjectArray.newArray(long[][].class, idMap.nodeCount());
+        this.neighbours.setAll(nodeId -> {
+            var neighboursPerLayer = new long[levels.get(nodeId) + 1][];
+            Arrays.fill(neighboursPerLayer, NO_NEIGHBOURS);
+            return neighboursPerLayer;
+        });
+
+        this.locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(locks, __ -> new Object());
+    }
+
+    @Override
+    public String nodeProperty() {
+        return nodeProperty;
+    }
+
+    @Override
+    public long nodeCount() {
+        return idMap.nodeCount();
+    }
+
+    @Override
+    public boolean contains(long originalNodeId) {
+        return idMap.containsOriginalId(originalNodeId);
+    }
+
+    public int maxLevel() {
+        return maxLevel;
+    }
+
+    @Override
+    public BoundedLongPriorityQueue nearestNeighbours(long originalNodeId, int k, int ef) {
+        if (!contains(originalNodeId)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node %d is not part of the index on property `%s`.",
+                originalNodeId,
+                nodeProperty
+            ));
+        }
+        long nodeId = idMap.toMappedNodeId(originalNodeId);
+        return search(similarity.similarityTo(nodeId), k, ef, nodeId);
+    }
+
+    @Override
+    public BoundedLongPriorityQueue nearestNeighbours(double[] vector, int k, int ef) {
+        return search(similarity.similarityTo(vector), k, ef, IdMap.NOT_FOUND);
+    }
+
+    private BoundedLongPriorityQueue search(LongToDoubleFunction similarityToQuery, int k, int ef, long excludedNode) {
+        var result = BoundedLongPriorityQueue.max(k);
+        if (idMap.nodeCount() == 0) {
+            return result;
+        }
+
+        long current = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            current = greedySearch(similarityToQuery, current, layer);
+        }
+
+        var context = new SearchContext();
+        // the excluded node may be among the closest nodes, which would otherwise leave us with only k - 1 results
+        searchLayer(similarityToQuery, new long[]{current}, Math.max(ef, k + 1), 0, excludedNode, context);
+        for (int i = 0; i < context.resultCount; i++) {
+            result.offer(idMap.toOriginalNodeId(context.resultNodes[i]), context.resultScores[i]);
+        }
+        return result;
+    }
+
+    void insert(long nodeId, int efConstruction, SearchContext context) {
+        if (nodeId == entryPoint) {
+            return;
+        }
+
+        var similarityToNode = similarity.similarityTo(nodeId);
+        int level = neighbours.get(nodeId).length - 1;
+
+        long current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedySearch(similarityToNode, current, layer);
+        }
+
+        long[] entryPoints = {current};
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            searchLayer(similarityToNode, entryPoints, efConstruction, layer, nodeId, context);
+
+            var selected = selectNeighbours(
+                context.resultNodes,
+                context.resultScores,
+                context.resultCount,
+                maxConnections(layer)
+            );
+            synchronized (lock(nodeId)) {
+                neighbours.get(nodeId)[layer] = selected;
+            }
+            for (long neighbour : selected) {
+                connect(neighbour, nodeId, layer);
+            }
+
+            entryPoints = Arrays.copyOf(context.resultNodes, context.resultCount);
+        }
+    }
+
+    private long greedySearch(LongToDoubleFunction similarityToQuery, long start, int layer) {
+        long current = start;
+        double currentSimilarity = similarityToQuery.applyAsDouble(current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (long candidate : neighbours(current, layer)) {
+                double candidateSimilarity = similarityToQuery.applyAsDouble(candidate);
+                if (candidateSimilarity > currentSimilarity) {
+                    current = candidate;
+                    currentSimilarity = candidateSimilarity;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search on a single layer, keeping the {@code ef} most similar nodes.
+     * The results are stored in the context, ordered by descending similarity.
+     */
+    private void searchLayer(
+        LongToDoubleFunction similarityToQuery,
+        long[] entryPoints,
+        int ef,
+        int layer,
+        long excludedNode,
+        SearchContext context
+    ) {
+        var visited = context.visited;
+        var candidates = context.candidates;
+        var results = context.results;
+        visited.clear();
+        candidates.clear();
+        results.clear();
+
+        for (long entry : entryPoints) {
+            if (visited.add(entry)) {
+                double entrySimilarity = similarityToQuery.applyAsDouble(entry);
+                candidates.push(entry, entrySimilarity);
+                offerResult(results, entry, entrySimilarity, ef, excludedNode);
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            long candidate = candidates.topNode();
+            if (results.size() >= ef && candidates.topScore() < results.topScore()) {
+                break;
+            }
+            candidates.pop();
+
+            for (long neighbour : neighbours(candidate, layer)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double neighbourSimilarity = similarityToQuery.applyAsDouble(neighbour);
+                if (results.size() < ef || neighbourSimilarity > results.topScore()) {
+                    candidates.push(neighbour, neighbourSimilarity);
+                    offerResult(results, neighbour, neighbourSimilarity, ef, excludedNode);
+                }
+            }
+        }
+
+        context.drainResults();
+    }
+
+    private static void offerResult(NodeScoreHeap results, long nodeId, double score, int ef, long excludedNode) {
+        if (nodeId == excludedNode) {
+            return;
+        }
+        results.push(nodeId, score);
+        if (results.size() > ef) {
+            results.pop();
+        }
+    }
+
+    /**
+     * Adds the new node to the neighbours of an existing node.
+     * If that exceeds the maximum number of connections, the neighbours are selected anew.
+     */
+    private void connect(long nodeId, long newNeighbour, int layer) {
+        synchronized (lock(nodeId)) {
+            var neighboursPerLayer = neighbours.get(nodeId);
+            var current = neighboursPerLayer[layer];
+            for (long neighbour : current) {
+                if (neighbour == newNeighbour) {
+                    return;
+                }
+            }
+
+            int maxConnections = maxConnections(layer);
+            if (current.length < maxConnections) {
+                var extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = newNeighbour;
+                neighboursPerLayer[layer] = extended;
+                return;
+            }
+
+            var candidates = Arrays.copyOf(current, current.length + 1);
+            candidates[current.length] = newNeighbour;
+            var scores = new double[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                scores[i] = similarity.similarity(nodeId, candidates[i]);
+            }
+            sortDescending(candidates, scores);
+            neighboursPerLayer[layer] = selectNeighbours(candidates, scores, candidates.length, maxConnections);
+        }
+    }
+
+    /**
+     * Neighbour selection heuristic: a candidate is skipped if it is more similar to an already selected
+     * neighbour than to the base node, which keeps links pointing in diverse directions.
+     * Skipped candidates fill up the remaining slots.
+     *
+     * @param candidates candidates ordered by descending similarity to the base node
+     */
+    private long[] selectNeighbours(long[] candidates, double[] scores, int candidateCount, int maxConnections) {
+        var selected = new long[Math.min(candidateCount, maxConnections)];
+        var isSelected = new boolean[candidateCount];
+        int selectedCount = 0;
+
+        for (int i = 0; i < candidateCount && selectedCount < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (similarity.similarity(candidates[i], selected[j]) > scores[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[selectedCount++] = candidates[i];
+                isSelected[i] = true;
+            }
+        }
+
+        for (int i = 0; i < candidateCount && selectedCount < selected.length; i++) {
+            if (!isSelected[i]) {
+                selected[selectedCount++] = candidates[i];
+            }
+        }
+
+        return selected;
+    }
+
+    private long[] neighbours(long nodeId, int layer) {
+        synchronized (lock(nodeId)) {
+            return neighbours.get(nodeId)[layer];
+        }
+    }
+
+    private Object lock(long nodeId) {
+        return locks[(int) (nodeId & (LOCK_STRIPES - 1))];
+    }
+
+    private int maxConnections(int layer) {
+        return layer == 0 ? 2 * m : m;
+    }
+
+    private static void sortDescending(long[] nodes, double[] scores) {
+        for (int i = 1; i < nodes.length; i++) {
+            long node = nodes[i];
+            double score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                nodes[j + 1] = nodes[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Per-thread buffers for searching a layer.
+     */
+    static final class SearchContext {
+        private final LongHashSet visited = new LongHashSet();
+        private final NodeScoreHeap candidates = NodeScoreHeap.highestFirst(64);
+        private final NodeScoreHeap results = NodeScoreHeap.lowestFirst(64);
+
+        private long[] resultNodes = new long[64];
+        private double[] resultScores = new double[64];
+        private int resultCount;
+
+        private void drainResults() {
+            resultCount = results.size();
+            if (resultNodes.length < resultCount) {
+                resultNodes = new long[resultCount];
+                resultScores = new double[resultCount];
+            }
+            // the lowest score is on top, so we fill from the back
+            for (int i = resultCount - 1; i >= 0; i--) {
+                resultNodes[i] = results.topNode();
+                resultScores[i] = results.topScore();
+                results.pop();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswQueryConfig extends BaseConfig {
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    /**
+     * The size of the candidate list on layer zero, at least {@code topK} candidates are always kept.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int ef() {
+        return 64;
+    }
+
+    static HnswQueryConfig of(CypherMapWrapper config) {
+        return new HnswQueryConfigImpl(config);
+    }
+}
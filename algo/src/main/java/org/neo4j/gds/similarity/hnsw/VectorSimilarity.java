@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.NullCheckingNodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Similarities between nodes and between a node and a query vector, using the KNN metrics.
+ */
+final class VectorSimilarity {
+
+    private interface FloatMetric {
+        double compute(float[] left, float[] right);
+    }
+
+    private interface DoubleMetric {
+        double compute(double[] left, double[] right);
+    }
+
+    private final NodePropertyValues properties;
+    private final SimilarityComputer nodeSimilarity;
+    private final FloatMetric floatMetric;
+    private final DoubleMetric doubleMetric;
+
+    static VectorSimilarity of(
+        IdMap idMap,
+        String propertyName,
+        NodePropertyValues properties,
+        SimilarityMetric metric
+    ) {
+        var nodeSimilarity = SimilarityComputer.ofProperty(idMap, propertyName, properties, metric);
+        var nullChecking = NullCheckingNodePropertyValues.create(properties, propertyName, idMap);
+        switch (metric) {
+            case COSINE:
+                return new VectorSimilarity(nullChecking, nodeSimilarity, Cosine::floatMetric, Cosine::doubleMetric);
+            case EUCLIDEAN:
+                return new VectorSimilarity(
+                    nullChecking,
+                    nodeSimilarity,
+                    Euclidean::floatMetric,
+                    Euclidean::doubleMetric
+                );
+            case PEARSON:
+                return new VectorSimilarity(nullChecking, nodeSimilarity, Pearson::floatMetric, Pearson::doubleMetric);
+            default:
+                throw SimilarityComputer.unsupportedSimilarityMetric(propertyName, properties.valueType(), metric);
+        }
+    }
+
+    private VectorSimilarity(
+        NodePropertyValues properties,
+        SimilarityComputer nodeSimilarity,
+        FloatMetric floatMetric,
+        DoubleMetric doubleMetric
+    ) {
+        this.properties = properties;
+        this.nodeSimilarity = nodeSimilarity;
+        this.floatMetric = floatMetric;
+        this.doubleMetric = doubleMetric;
+    }
+
+    double similarity(long firstNodeId, long secondNodeId) {
+        return nodeSimilarity.safeSimilarity(firstNodeId, secondNodeId);
+    }
+
+    LongToDoubleFunction similarityTo(long nodeId) {
+        return other -> similarity(nodeId, other);
+    }
+
+    LongToDoubleFunction similarityTo(double[] vector) {
+        switch (properties.valueType()) {
+            case FLOAT_ARRAY:
+                var floatVector = new float[vector.length];
+                for (int i = 0; i < vector.length; i++) {
+                    floatVector[i] = (float) vector[i];
+                }
+                return nodeId -> safe(floatMetric.compute(properties.floatArrayValue(nodeId), floatVector));
+            case DOUBLE_ARRAY:
+                return nodeId -> safe(doubleMetric.compute(properties.doubleArrayValue(nodeId), vector));
+            default:
+                throw new IllegalStateException("Unexpected value type " + properties.valueType());
+        }
+    }
+
+    private static double safe(double similarity) {
+        return Double.isFinite(similarity) ? similarity : 0.0;
+    }
+}
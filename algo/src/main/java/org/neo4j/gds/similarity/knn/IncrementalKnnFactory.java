@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds KNN for the mutate mode, which can seed the neighbour lists from a relationship type of the graph store.
+ * Without a {@link KnnMutateConfig#seedRelationshipType()}, this is the same as {@link KnnFactory}.
+ */
+public class IncrementalKnnFactory<CONFIG extends KnnMutateConfig> extends GraphStoreAlgorithmFactory<Knn, CONFIG> {
+
+    private final KnnFactory<CONFIG> knnFactory = new KnnFactory<>();
+
+    @Override
+    public String taskName() {
+        return knnFactory.taskName();
+    }
+
+    @Override
+    public Knn build(GraphStore graphStore, CONFIG configuration, ProgressTracker progressTracker) {
+        var nodeLabels = configuration.nodeLabelIdentifiers(graphStore);
+        var graph = graphStore.getGraph(
+            nodeLabels,
+            configuration.internalRelationshipTypes(graphStore),
+            Optional.empty()
+        );
+
+        if (!configuration.isIncremental()) {
+            return knnFactory.build(graph, configuration, progressTracker);
+        }
+
+        var seedGraph = graphStore.getGraph(
+            nodeLabels,
+            List.of(RelationshipType.of(configuration.seedRelationshipType().orElseThrow())),
+            configuration.seedRelationshipProperty()
+        );
+
+        return Knn.createIncremental(
+            graph,
+            seedGraph,
+            changedNodes(graph, configuration.changedNodes()),
+            configuration,
+            ImmutableKnnContext
+                .builder()
+                .progressTracker(progressTracker)
+                .executor(Pools.DEFAULT)
+                .build()
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (!configuration.isIncremental()) {
+            return knnFactory.memoryEstimation(configuration);
+        }
+        return MemoryEstimations.builder(Knn.class)
+            .add(knnFactory.memoryEstimation(configuration))
+            .perNode("changed-nodes", MemoryUsage::sizeOfBitset)
+            .build();
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, CONFIG config) {
+        var graph = graphStore.getGraph(config.nodeLabelIdentifiers(graphStore));
+        return config.isIncremental()
+            ? KnnFactory.knnTaskTree(graph, config, "Seed neighbors")
+            : KnnFactory.knnTaskTree(graph, config);
+    }
+
+    private static BitSet changedNodes(Graph graph, List<Long> originalNodeIds) {
+        var changedNodes = new BitSet(graph.nodeCount());
+        for (long originalNodeId : originalNodeIds) {
+            // the changed nodes are validated against the whole graph store, we skip those outside of the label filter
+            long nodeId = graph.safeToMappedNodeId(originalNodeId);
+            if (nodeId != IdMap.NOT_FOUND) {
+                changedNodes.set(nodeId);
+            }
+        }
+        return changedNodes;
+    }
+}
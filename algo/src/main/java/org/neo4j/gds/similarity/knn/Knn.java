@@ -19,12 +19,14 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.LongArrayList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
@@ -34,13 +36,18 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.NullCheckingNodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -56,8 +63,12 @@ public class Knn extends Algorithm<Knn.Result> {
     private final SplittableRandom splittableRandom;
     private final SimilarityFunction similarityFunction;
     private final NeighbourConsumers neighborConsumers;
+    private final @Nullable Graph seedGraph;
+    private final BitSet changedNodes;
 
     private long nodePairsConsidered;
+    // the number of nodes with unchecked neighbours after the initialization
+    private long activeNodes;
 
     public static Knn createWithDefaults(Graph graph, KnnBaseConfig config, KnnContext context) {
         return createWithDefaultsAndInstrumentation(graph, config, context, NeighbourConsumers.no_op, defaultSimilarityFunction(graph, config.nodeProperties()));
@@ -87,7 +98,37 @@ public class Knn extends Algorithm<Knn.Result> {
             new KnnNeighborFilterFactory(graph.nodeCount()),
             context.executor(),
             getSplittableRandom(config.randomSeed()),
-            neighborConsumers
+            neighborConsumers,
+            null,
+            new BitSet()
+        );
+    }
+
+    /**
+     * Creates a KNN that is seeded from the relationships of a previous result instead of random neighbours.
+     * Only the neighbourhoods of the changed nodes, of nodes without a full seed and of their neighbours are searched.
+     *
+     * @param seedGraph    the previous result, the similarities are taken from its relationship property if present
+     * @param changedNodes the nodes whose property values changed since the seed has been computed
+     */
+    public static Knn createIncremental(
+        Graph graph,
+        Graph seedGraph,
+        BitSet changedNodes,
+        KnnBaseConfig config,
+        KnnContext context
+    ) {
+        return new Knn(
+            context.progressTracker(),
+            graph,
+            config,
+            defaultSimilarityFunction(graph, config.nodeProperties()),
+            new KnnNeighborFilterFactory(graph.nodeCount()),
+            context.executor(),
+            getSplittableRandom(config.randomSeed()),
+            NeighbourConsumers.no_op,
+            seedGraph,
+            changedNodes
         );
     }
 
@@ -108,7 +149,9 @@ public class Knn extends Algorithm<Knn.Result> {
             neighborFilterFactory,
             context.executor(),
             splittableRandom,
-            NeighbourConsumers.no_op
+            NeighbourConsumers.no_op,
+            null,
+            new BitSet()
         );
     }
 
@@ -125,7 +168,9 @@ public class Knn extends Algorithm<Knn.Result> {
         NeighborFilterFactory neighborFilterFactory,
         ExecutorService executorService,
         SplittableRandom splittableRandom,
-        NeighbourConsumers neighborConsumers
+        NeighbourConsumers neighborConsumers,
+        @Nullable Graph seedGraph,
+        BitSet changedNodes
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -135,6 +180,8 @@ public class Knn extends Algorithm<Knn.Result> {
         this.executorService = executorService;
         this.splittableRandom = splittableRandom;
         this.neighborConsumers = neighborConsumers;
+        this.seedGraph = seedGraph;
+        this.changedNodes = changedNodes;
     }
 
     public long nodeCount() {
@@ -150,28 +197,63 @@ public class Knn extends Algorithm<Knn.Result> {
         this.progressTracker.beginSubTask();
         HugeObjectArray<NeighborList> neighbors;
         try (var ignored1 = ProgressTimer.start(this::logOverallTime)) {
+            var searchSimilarityFunction = this.similarityFunction;
+            // the exact similarities to re-rank the candidates of a quantized search with, if any
+            SimilarityFunction rerankSimilarityFunction = null;
+            var storedQuantization = storedQuantization();
+            if (storedQuantization.isPresent()) {
+                if (graph.nodeCount() >= 2) {
+                    var quantization = storedQuantization.get();
+                    var properties = graph.nodeProperties(config.nodeProperties().get(0).name());
+                    // codes read through a node filtered graph are indexed by the root node ids
+                    LongUnaryOperator toQuantizedNodeId = properties == quantization
+                        ? LongUnaryOperator.identity()
+                        : graph::toRootNodeId;
+                    searchSimilarityFunction = quantizedSimilarityFunction(quantization, toQuantizedNodeId);
+                    if (config.quantizationRerank()) {
+                        rerankSimilarityFunction = exactSimilarityFunction(quantization);
+                    }
+                }
+            } else if (config.isQuantized()) {
+                try (var ignored2 = ProgressTimer.start(this::logQuantizationTime)) {
+                    this.progressTracker.beginSubTask();
+                    if (graph.nodeCount() >= 2) {
+                        searchSimilarityFunction = quantizedSimilarityFunction(
+                            trainQuantization(),
+                            LongUnaryOperator.identity()
+                        );
+                        if (config.quantizationRerank()) {
+                            rerankSimilarityFunction = this.similarityFunction;
+                        }
+                    }
+                    this.progressTracker.endSubTask();
+                }
+            }
             try (var ignored2 = ProgressTimer.start(this::logInitTime)) {
                 this.progressTracker.beginSubTask();
-                neighbors = this.initializeRandomNeighbors();
+                neighbors = this.seedGraph == null
+                    ? this.initializeRandomNeighbors(searchSimilarityFunction, rerankSimilarityFunction != null)
+                    : this.initializeSeededNeighbors(this.seedGraph);
                 this.progressTracker.endSubTask();
             }
             if (neighbors == null) {
                 return new EmptyResult();
             }
 
-            var maxIterations = this.config.maxIterations();
-            var maxUpdates = (long) Math.ceil(this.config.sampleRate() * this.config.topK() * graph.nodeCount());
+            // a seed without any changes is already converged
+            var maxIterations = this.activeNodes == 0 ? 0 : this.config.maxIterations();
+            var maxUpdates = (long) Math.ceil(this.config.sampleRate() * this.config.topK() * this.activeNodes);
             var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
 
             long updateCount;
             int iteration = 0;
-            boolean didConverge = false;
+            boolean didConverge = this.activeNodes == 0;
 
             this.progressTracker.beginSubTask();
             for (; iteration < maxIterations; iteration++) {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> this.logIterationTime(currentIteration + 1, took))) {
-                    updateCount = iteration(neighbors);
+                    updateCount = iteration(neighbors, searchSimilarityFunction);
                 }
                 if (updateCount <= updateThreshold) {
                     iteration++;
@@ -179,6 +261,9 @@ public class Knn extends Algorithm<Knn.Result> {
                     break;
                 }
             }
+            if (rerankSimilarityFunction != null) {
+                rerankWithExactSimilarities(neighbors, rerankSimilarityFunction);
+            }
             if (config.similarityCutoff() > 0) {
                 var similarityCutoff = config.similarityCutoff();
                 var neighborFilterTasks = PartitionUtils.rangePartition(
@@ -203,8 +288,132 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
-    private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors() {
-        var k = this.config.topK();
+    /**
+     * Returns the quantization if the node property has been product-quantized before,
+     * e.g. by {@code gds.alpha.graph.nodeProperties.quantize}, so that its codes are searched without training again.
+     */
+    private Optional<ProductQuantization> storedQuantization() {
+        if (config.nodeProperties().size() != 1) {
+            return Optional.empty();
+        }
+        var propertyName = config.nodeProperties().get(0).name();
+        var properties = graph.nodeProperties(propertyName);
+        if (properties == null) {
+            return Optional.empty();
+        }
+        var quantization = ProductQuantization.of(properties);
+        if (quantization.isPresent() && config.isQuantized()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` is already product-quantized, set `quantizationSubspaces` to 0 to search its codes.",
+                propertyName
+            ));
+        }
+        return quantization;
+    }
+
+    /**
+     * Trains a product quantization of the node property.
+     */
+    private ProductQuantization trainQuantization() {
+        var propertyName = config.nodeProperties().get(0).name();
+        var properties = Objects.requireNonNull(
+            graph.nodeProperties(propertyName),
+            () -> formatWithLocale("The property `%s` has not been loaded", propertyName)
+        );
+        ProductQuantization.validateValueType(propertyName, properties.valueType());
+        return ProductQuantization.train(
+            propertyName,
+            NullCheckingNodePropertyValues.create(properties, propertyName, graph),
+            graph.nodeCount(),
+            config.quantizationSubspaces(),
+            config.quantizationCentroids(),
+            config.concurrency(),
+            this.executorService,
+            terminationFlag,
+            this.splittableRandom.split(),
+            progressTracker
+        );
+    }
+
+    /**
+     * Compares candidates by their codes alone, the exact vectors are not read during the search.
+     */
+    private SimilarityFunction quantizedSimilarityFunction(
+        ProductQuantization quantization,
+        LongUnaryOperator toQuantizedNodeId
+    ) {
+        var propertyName = config.nodeProperties().get(0).name();
+        return new SimilarityFunction(SimilarityComputer.ofProductQuantization(
+            propertyName,
+            quantization,
+            toQuantizedNodeId,
+            quantizationMetric(propertyName, quantization.valueType())
+        ));
+    }
+
+    /**
+     * The exact similarities on the property a stored quantization has been trained on.
+     */
+    private SimilarityFunction exactSimilarityFunction(ProductQuantization quantization) {
+        var propertyName = config.nodeProperties().get(0).name();
+        var sourceProperty = quantization.sourceProperty();
+        var properties = graph.nodeProperties(sourceProperty);
+        if (properties == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Re-ranking the product-quantized property `%s` requires its original property `%s`, " +
+                "which has not been loaded. Set `quantizationRerank` to false to search the codes only.",
+                propertyName,
+                sourceProperty
+            ));
+        }
+        return new SimilarityFunction(SimilarityComputer.ofProperty(
+            graph,
+            sourceProperty,
+            properties,
+            quantizationMetric(propertyName, properties.valueType())
+        ));
+    }
+
+    private SimilarityMetric quantizationMetric(String propertyName, ValueType valueType) {
+        var metric = config.nodeProperties().get(0).metric();
+        if (metric == SimilarityMetric.DEFAULT) {
+            metric = SimilarityMetric.defaultMetricForType(valueType);
+        }
+        if (metric != SimilarityMetric.COSINE && metric != SimilarityMetric.EUCLIDEAN) {
+            throw SimilarityComputer.unsupportedSimilarityMetric(propertyName, valueType, metric);
+        }
+        return metric;
+    }
+
+    private void rerankWithExactSimilarities(
+        HugeObjectArray<NeighborList> neighbors,
+        SimilarityFunction exactSimilarityFunction
+    ) {
+        var topK = config.topK();
+        var rerankTasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            neighbors.size(),
+            partition -> (Runnable) () -> partition.consume(
+                nodeId -> neighbors
+                    .get(nodeId)
+                    .rerank(neighbor -> exactSimilarityFunction.computeSimilarity(nodeId, neighbor), topK)
+            ),
+            Optional.of(config.minBatchSize())
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(rerankTasks)
+            .terminationFlag(terminationFlag)
+            .executor(this.executorService)
+            .run();
+    }
+
+    private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors(
+        SimilarityFunction similarityFunction,
+        boolean rerank
+    ) {
+        // quantized similarities are re-ranked at the end, so we keep more candidates around
+        var k = rerank ? 2 * config.topK() : config.topK();
         // (int) is safe since it is at most k, which is an int
         var boundedK = (int) Math.min(graph.nodeCount() - 1, k);
 
@@ -224,7 +433,7 @@ public class Knn extends Algorithm<Knn.Result> {
                 return new GenerateRandomNeighbors(
                     initializeSampler(localRandom),
                     localRandom,
-                    this.similarityFunction,
+                    similarityFunction,
                     this.neighborFilterFactory.create(),
                     neighbors,
                     boundedK,
@@ -244,6 +453,51 @@ public class Knn extends Algorithm<Knn.Result> {
             .run();
 
         this.nodePairsConsidered += randomNeighborGenerators.stream().mapToLong(GenerateRandomNeighbors::neighborsFound).sum();
+        this.activeNodes = graph.nodeCount();
+
+        return neighbors;
+    }
+
+    private @Nullable HugeObjectArray<NeighborList> initializeSeededNeighbors(Graph seedGraph) {
+        var boundedK = config.boundedK(graph.nodeCount());
+
+        if (graph.nodeCount() < 2 || config.topK() == 0) {
+            return null;
+        }
+
+        var neighbors = HugeObjectArray.newArray(NeighborList.class, graph.nodeCount());
+
+        var seeders = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            partition -> {
+                var localRandom = splittableRandom.split();
+                return new SeedNeighbors(
+                    seedGraph.concurrentCopy(),
+                    this.changedNodes,
+                    initializeSampler(localRandom),
+                    localRandom,
+                    this.similarityFunction,
+                    this.neighborFilterFactory.create(),
+                    neighbors,
+                    boundedK,
+                    partition,
+                    progressTracker,
+                    neighborConsumers
+                );
+            },
+            Optional.of(config.minBatchSize())
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(seeders)
+            .terminationFlag(terminationFlag)
+            .executor(this.executorService)
+            .run();
+
+        this.nodePairsConsidered += seeders.stream().mapToLong(SeedNeighbors::neighborsFound).sum();
+        this.activeNodes = seeders.stream().mapToLong(SeedNeighbors::activeNodes).sum();
 
         return neighbors;
     }
@@ -266,7 +520,7 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(HugeObjectArray<NeighborList> neighbors, SimilarityFunction similarityFunction) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
@@ -314,7 +568,7 @@ public class Knn extends Algorithm<Knn.Result> {
             nodeCount,
             partition -> new JoinNeighbors(
                 this.splittableRandom.split(),
-                this.similarityFunction,
+                similarityFunction,
                 this.neighborFilterFactory.create(),
                 neighbors,
                 allOldNeighbors,
@@ -324,6 +578,7 @@ public class Knn extends Algorithm<Knn.Result> {
                 sampledK,
                 this.config.perturbationRate(),
                 this.config.randomJoins(),
+                this.seedGraph == null,
                 partition,
                 progressTracker
             ),
@@ -397,6 +652,7 @@ public class Knn extends Algorithm<Knn.Result> {
         private final HugeObjectArray<LongArrayList> allReverseNewNeighbors;
         private final int sampledK;
         private final int randomJoins;
+        private final boolean randomJoinsForAllNodes;
         private final ProgressTracker progressTracker;
         private final long nodeCount;
         private long updateCount;
@@ -416,6 +672,7 @@ public class Knn extends Algorithm<Knn.Result> {
             int sampledK,
             double perturbationRate,
             int randomJoins,
+            boolean randomJoinsForAllNodes,
             Partition partition,
             ProgressTracker progressTracker
         ) {
@@ -430,6 +687,7 @@ public class Knn extends Algorithm<Knn.Result> {
             this.allReverseNewNeighbors = allReverseNewNeighbors;
             this.sampledK = sampledK;
             this.randomJoins = randomJoins;
+            this.randomJoinsForAllNodes = randomJoinsForAllNodes;
             this.partition = partition;
             this.progressTracker = progressTracker;
             this.perturbationRate = perturbationRate;
@@ -459,7 +717,10 @@ public class Knn extends Algorithm<Knn.Result> {
                 }
 
                 // this isn't in the paper
-                randomJoins(nodeCount, nodeId);
+                // when seeded, only nodes that are still searching get random joins
+                if (randomJoinsForAllNodes || newNeighbors != null) {
+                    randomJoins(nodeCount, nodeId);
+                }
             }
             progressTracker.logProgress(partition.nodeCount());
         }
@@ -587,6 +848,10 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
+    private void logQuantizationTime(long ms) {
+        progressTracker.logInfo(formatWithLocale("Graph quantization took %d ms", ms));
+    }
+
     private void logInitTime(long ms) {
         progressTracker.logInfo(formatWithLocale("Graph init took %d ms", ms));
     }
@@ -28,6 +28,8 @@ import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
 
 import java.util.List;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -86,6 +88,48 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return 10;
     }
 
+    /**
+     * The number of subspaces used to product-quantize the node property, {@code 0} disables quantization.
+     * Each vector is compressed to one byte per subspace.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int quantizationSubspaces() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 2, max = 256)
+    default int quantizationCentroids() {
+        return 256;
+    }
+
+    /**
+     * Whether to keep twice as many candidates during a quantized search and re-rank them by their exact similarity.
+     * When searching a stored quantization, the exact vectors are read from the property it has been trained on,
+     * which is therefore only required when re-ranking.
+     */
+    @Value.Default
+    default boolean quantizationRerank() {
+        return true;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean isQuantized() {
+        return quantizationSubspaces() > 0;
+    }
+
+    @Value.Check
+    default void validateQuantization() {
+        if (isQuantized() && nodeProperties().size() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Product quantization requires exactly one node property, but got %d.",
+                nodeProperties().size()
+            ));
+        }
+    }
+
     @Configuration.Ignore
     default int sampledK(long nodeCount) {
         // (int) is safe because value is at most `topK`, which is an int
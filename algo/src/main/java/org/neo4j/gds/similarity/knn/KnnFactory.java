@@ -30,7 +30,9 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
@@ -69,7 +71,9 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
         return MemoryEstimations.setup(
             taskName(),
             (dim, concurrency) -> {
-                var boundedK = configuration.boundedK(dim.nodeCount());
+                var boundedK = configuration.isQuantized() && configuration.quantizationRerank()
+                    ? (int) Math.max(0, Math.min(2L * configuration.topK(), dim.nodeCount() - 1))
+                    : configuration.boundedK(dim.nodeCount());
                 var sampledK = configuration.sampledK(dim.nodeCount());
                 var tempListEstimation = HugeObjectArray.memoryEstimation(
                     MemoryEstimations.of("elements", MemoryRange.of(
@@ -77,7 +81,7 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                         sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
                     ))
                 );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
@@ -97,8 +101,18 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
                     )
-                    .add(MemoryEstimations.of("neighbour-consumers", MemoryRange.of(sizeOfInstance(NeighbourConsumers.class))))
-                    .build();
+                    .add(MemoryEstimations.of("neighbour-consumers", MemoryRange.of(sizeOfInstance(NeighbourConsumers.class))));
+                if (configuration.isQuantized()) {
+                    builder.add(
+                        "product-quantization",
+                        ProductQuantization.memoryEstimation(configuration.quantizationSubspaces())
+                    );
+                    builder.add(ProductQuantization.centroidDotProductsEstimation(
+                        configuration.quantizationSubspaces(),
+                        configuration.quantizationCentroids()
+                    ));
+                }
+                return builder.build();
             }
         );
     }
@@ -122,18 +136,24 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
     }
 
     public static Task knnTaskTree(Graph graph, KnnBaseConfig config) {
-        return Tasks.task(
-            KNN_BASE_TASK_NAME,
-            Tasks.leaf("Initialize random neighbors", graph.nodeCount()),
-            Tasks.iterativeDynamic(
-                "Iteration",
-                () -> List.of(
-                    Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
-                    Tasks.leaf("Join neighbors", graph.nodeCount())
-                ),
-                config.maxIterations()
-            )
-        );
+        return knnTaskTree(graph, config, "Initialize random neighbors");
+    }
+
+    static Task knnTaskTree(Graph graph, KnnBaseConfig config, String initializationTaskName) {
+        var tasks = new ArrayList<Task>();
+        if (config.isQuantized()) {
+            tasks.add(Tasks.leaf("Quantize node property", graph.nodeCount()));
+        }
+        tasks.add(Tasks.leaf(initializationTaskName, graph.nodeCount()));
+        tasks.add(Tasks.iterativeDynamic(
+            "Iteration",
+            () -> List.of(
+                Tasks.leaf("Split old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Reverse old and new neighbors", graph.nodeCount()),
+                Tasks.leaf("Join neighbors", graph.nodeCount())
+            ),
+            config.maxIterations()
+        ));
+        return Tasks.task(KNN_BASE_TASK_NAME, tasks);
     }
 }
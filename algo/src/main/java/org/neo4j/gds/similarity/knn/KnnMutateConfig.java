@@ -19,17 +19,110 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.MutatePropertyConfig;
 import org.neo4j.gds.config.MutateRelationshipConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
 public interface KnnMutateConfig extends KnnBaseConfig, MutatePropertyConfig, MutateRelationshipConfig {
 
+    /**
+     * A relationship type holding a previous KNN result, which seeds the neighbour lists.
+     * Only the neighbourhoods of changed nodes, of nodes without a full seed and of their neighbours are searched.
+     */
+    Optional<String> seedRelationshipType();
+
+    /**
+     * The similarity property of the seed relationships. If absent, the similarities of the seed are recomputed.
+     */
+    Optional<String> seedRelationshipProperty();
+
+    /**
+     * The nodes whose properties changed since the seed has been computed.
+     */
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.config.NodeIdsParser#parseNodeIds")
+    default List<Long> changedNodes() {
+        return List.of();
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean isIncremental() {
+        return seedRelationshipType().isPresent();
+    }
+
+    @Value.Check
+    default void validateIncrementalMode() {
+        if (!isIncremental() && (seedRelationshipProperty().isPresent() || !changedNodes().isEmpty())) {
+            throw new IllegalArgumentException(
+                "The parameters `seedRelationshipProperty` and `changedNodes` require a `seedRelationshipType`."
+            );
+        }
+        if (isIncremental() && isQuantized()) {
+            throw new IllegalArgumentException("Product quantization is not supported for incremental KNN.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    @Value.Default
+    default void validateSeed(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!isIncremental()) {
+            return;
+        }
+        var seedType = RelationshipType.of(seedRelationshipType().orElseThrow());
+        if (!graphStore.hasRelationshipType(seedType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Seed relationship type `%s` not found. Available types: %s",
+                seedType.name,
+                StringJoining.join(graphStore.relationshipTypes().stream().map(RelationshipType::name))
+            ));
+        }
+        seedRelationshipProperty().ifPresent(seedProperty -> {
+            if (!graphStore.hasRelationshipProperty(seedType, seedProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Seed relationship property `%s` not found in relationship type `%s`. Available properties: %s",
+                    seedProperty,
+                    seedType.name,
+                    StringJoining.join(graphStore.relationshipPropertyKeys(seedType))
+                ));
+            }
+        });
+
+        var missingNodes = changedNodes()
+            .stream()
+            .filter(nodeId -> graphStore.nodes().safeToMappedNodeId(nodeId) == IdMap.NOT_FOUND)
+            .map(Object::toString)
+            .collect(Collectors.toList());
+        if (!missingNodes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Changed nodes do not exist in the in-memory graph: %s",
+                StringJoining.join(missingNodes)
+            ));
+        }
+    }
+
     static KnnMutateConfig of(CypherMapWrapper config) {
         return new KnnMutateConfigImpl(config);
     }
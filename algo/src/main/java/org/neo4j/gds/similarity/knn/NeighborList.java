@@ -24,6 +24,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.similarity.SimilarityResult;
 
 import java.util.SplittableRandom;
+import java.util.function.LongToDoubleFunction;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -121,6 +122,33 @@ public class NeighborList {
         return element;
     }
 
+    boolean contains(long element) {
+        for (int i = 0; i < elementCount; i++) {
+            if (clearCheckedFlag(priorityElementPairs[i * 2 + 1]) == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Flags all current elements as checked, so that NN-Descent treats them as old neighbours.
+     */
+    void flagAllAsChecked() {
+        for (int i = 0; i < elementCount; i++) {
+            priorityElementPairs[i * 2 + 1] = setCheckedFlag(priorityElementPairs[i * 2 + 1]);
+        }
+    }
+
+    boolean hasUncheckedElements() {
+        for (int i = 0; i < elementCount; i++) {
+            if (!isChecked(priorityElementPairs[i * 2 + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Tries to add the given element with the given priority to this list.
      *
@@ -210,6 +238,35 @@ public class NeighborList {
         return INSERTED;
     }
 
+    /**
+     * Replaces the priorities of all elements, re-sorts them by descending priority
+     * and keeps at most {@code capacity} of them. The checked status of all elements is cleared.
+     */
+    void rerank(LongToDoubleFunction priorities, int capacity) {
+        for (int i = 0; i < elementCount; i++) {
+            long element = clearCheckedFlag(priorityElementPairs[2 * i + 1]);
+            priorityElementPairs[2 * i] = Double.doubleToRawLongBits(priorities.applyAsDouble(element));
+            priorityElementPairs[2 * i + 1] = element;
+        }
+
+        // insertion sort, as the lists only hold a few elements
+        for (int i = 1; i < elementCount; i++) {
+            long priorityBits = priorityElementPairs[2 * i];
+            long element = priorityElementPairs[2 * i + 1];
+            double priority = Double.longBitsToDouble(priorityBits);
+            int j = i - 1;
+            while (j >= 0 && Double.longBitsToDouble(priorityElementPairs[2 * j]) < priority) {
+                priorityElementPairs[2 * j + 2] = priorityElementPairs[2 * j];
+                priorityElementPairs[2 * j + 3] = priorityElementPairs[2 * j + 1];
+                j--;
+            }
+            priorityElementPairs[2 * j + 2] = priorityBits;
+            priorityElementPairs[2 * j + 3] = element;
+        }
+
+        elementCount = Math.min(elementCount, capacity);
+    }
+
     public Stream<SimilarityResult> similarityStream(long nodeId) {
         return IntStream.range(0, elementCount)
             .mapToObj(index -> {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.metrics.NullCheckingNodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Trains a product quantization of an array node property, to be stored in the graph store next to or in place of
+ * the original property. KNN searches the stored codes without training again.
+ */
+public class QuantizeNodeProperty extends Algorithm<ProductQuantization> {
+
+    private final GraphStore graphStore;
+    private final QuantizeNodePropertyConfig config;
+    private final ExecutorService executorService;
+
+    QuantizeNodeProperty(
+        GraphStore graphStore,
+        QuantizeNodePropertyConfig config,
+        ProgressTracker progressTracker,
+        ExecutorService executorService
+    ) {
+        super(progressTracker);
+        this.graphStore = graphStore;
+        this.config = config;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public ProductQuantization compute() {
+        progressTracker.beginSubTask();
+
+        var graph = graphStore.getGraph(config.nodeLabelIdentifiers(graphStore));
+        var propertyName = config.nodeProperty();
+        var quantization = ProductQuantization.train(
+            propertyName,
+            NullCheckingNodePropertyValues.create(graph.nodeProperties(propertyName), propertyName, graph),
+            graph.nodeCount(),
+            config.subspaces(),
+            config.centroids(),
+            config.concurrency(),
+            executorService,
+            terminationFlag,
+            config.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new),
+            progressTracker
+        );
+
+        progressTracker.endSubTask();
+        // the graph store indexes node properties by the root node ids
+        return quantization.withRootNodeIds(graph, graphStore.nodeCount());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.MutatePropertyConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@Configuration
+public interface QuantizeNodePropertyConfig extends AlgoBaseConfig, MutatePropertyConfig, RandomSeedConfig {
+
+    String nodeProperty();
+
+    /**
+     * The number of subspaces, each vector is compressed to one byte per subspace.
+     */
+    @Configuration.IntegerRange(min = 1)
+    int subspaces();
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 2, max = 256)
+    default int centroids() {
+        return 256;
+    }
+
+    static QuantizeNodePropertyConfig of(CypherMapWrapper configuration) {
+        return new QuantizeNodePropertyConfigImpl(configuration);
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateNodeProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.hasNodeProperty(selectedLabels, nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node property `%s` is not present for all requested labels. " +
+                "Requested labels: `%s`. Properties available on all requested labels: `%s`",
+                nodeProperty(),
+                StringJoining.join(selectedLabels.stream().map(NodeLabel::name)),
+                StringJoining.join(graphStore.nodePropertyKeys(selectedLabels))
+            ));
+        }
+        ProductQuantization.validateValueType(nodeProperty(), graphStore.nodeProperty(nodeProperty()).valueType());
+    }
+}
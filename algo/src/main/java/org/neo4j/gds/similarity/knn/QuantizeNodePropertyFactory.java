@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
+
+public class QuantizeNodePropertyFactory extends GraphStoreAlgorithmFactory<QuantizeNodeProperty, QuantizeNodePropertyConfig> {
+
+    @Override
+    public QuantizeNodeProperty build(
+        GraphStore graphStore,
+        QuantizeNodePropertyConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        return new QuantizeNodeProperty(graphStore, configuration, progressTracker, Pools.DEFAULT);
+    }
+
+    @Override
+    public String taskName() {
+        return "QuantizeNodeProperty";
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, QuantizeNodePropertyConfig config) {
+        return Tasks.leaf(taskName(), graphStore.getGraph(config.nodeLabelIdentifiers(graphStore)).nodeCount());
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(QuantizeNodePropertyConfig configuration) {
+        return MemoryEstimations.builder(QuantizeNodeProperty.class)
+            .add("product quantization", ProductQuantization.memoryEstimation(configuration.subspaces()))
+            .build();
+    }
+}
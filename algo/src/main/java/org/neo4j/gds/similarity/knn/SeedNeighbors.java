@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.SplittableRandom;
+
+/**
+ * Initial step of incremental KNN, which replaces {@link GenerateRandomNeighbors}.
+ * <p>
+ * The neighbour lists are seeded from the relationships of a previous KNN result.
+ * Relationships between two unchanged nodes are flagged as checked, so NN-Descent will not join them again.
+ * Relationships to or from changed nodes have outdated similarities, those are recomputed and stay unchecked.
+ * Lists that are not full, e.g. those of new nodes, are filled up with random unchecked neighbours.
+ * The following iterations only join unchecked neighbours, so they search around the changed nodes only.
+ */
+final class SeedNeighbors implements Runnable {
+    private final Graph seedGraph;
+    private final BitSet changedNodes;
+    private final KnnSampler sampler;
+    private final SplittableRandom random;
+    private final SimilarityFunction similarityFunction;
+    private final NeighborFilter neighborFilter;
+    private final HugeObjectArray<NeighborList> neighbors;
+    private final int boundedK;
+    private final ProgressTracker progressTracker;
+    private final Partition partition;
+    private final NeighbourConsumers neighbourConsumers;
+
+    private long neighborsFound;
+    private long activeNodes;
+
+    SeedNeighbors(
+        Graph seedGraph,
+        BitSet changedNodes,
+        KnnSampler sampler,
+        SplittableRandom random,
+        SimilarityFunction similarityFunction,
+        NeighborFilter neighborFilter,
+        HugeObjectArray<NeighborList> neighbors,
+        int boundedK,
+        Partition partition,
+        ProgressTracker progressTracker,
+        NeighbourConsumers neighbourConsumers
+    ) {
+        this.seedGraph = seedGraph;
+        this.changedNodes = changedNodes;
+        this.sampler = sampler;
+        this.random = random;
+        this.similarityFunction = similarityFunction;
+        this.neighborFilter = neighborFilter;
+        this.neighbors = neighbors;
+        this.boundedK = boundedK;
+        this.progressTracker = progressTracker;
+        this.partition = partition;
+        this.neighborsFound = 0;
+        this.activeNodes = 0;
+        this.neighbourConsumers = neighbourConsumers;
+    }
+
+    @Override
+    public void run() {
+        var rng = random;
+        var similarityFunction = this.similarityFunction;
+        var boundedK = this.boundedK;
+        var neighborFilter = this.neighborFilter;
+        var hasSeedSimilarities = seedGraph.hasRelationshipProperty();
+        var outdatedNeighbors = new LongArrayList();
+
+        partition.consume(nodeId -> {
+            var neighbors = new NeighborList(boundedK, neighbourConsumers.get(nodeId));
+            var nodeChanged = changedNodes.get(nodeId);
+            outdatedNeighbors.clear();
+
+            seedGraph.forEachRelationship(nodeId, Double.NaN, (source, target, seedSimilarity) -> {
+                if (source == target || neighborFilter.excludeNodePair(source, target)) {
+                    return true;
+                }
+                if (nodeChanged || changedNodes.get(target)) {
+                    outdatedNeighbors.add(target);
+                } else {
+                    var similarity = hasSeedSimilarities
+                        ? seedSimilarity
+                        : similarityFunction.computeSimilarity(source, target);
+                    neighbors.add(target, similarity, rng, 0.0);
+                }
+                return true;
+            });
+            neighbors.flagAllAsChecked();
+
+            for (var outdated : outdatedNeighbors) {
+                neighbors.add(outdated.value, similarityFunction.computeSimilarity(nodeId, outdated.value), rng, 0.0);
+            }
+
+            if (neighbors.size() < boundedK) {
+                long[] chosen = sampler.sample(
+                    nodeId,
+                    neighborFilter.lowerBoundOfPotentialNeighbours(nodeId) - neighbors.size(),
+                    boundedK - neighbors.size(),
+                    l -> neighborFilter.excludeNodePair(nodeId, l) || neighbors.contains(l)
+                );
+                for (long candidate : chosen) {
+                    neighbors.add(candidate, similarityFunction.computeSimilarity(nodeId, candidate), rng, 0.0);
+                }
+            }
+
+            this.neighbors.set(nodeId, neighbors);
+            neighborsFound += neighbors.size();
+            if (neighbors.hasUncheckedElements()) {
+                activeNodes++;
+            }
+        });
+        progressTracker.logProgress(partition.nodeCount());
+    }
+
+    long neighborsFound() {
+        return neighborsFound;
+    }
+
+    /**
+     * The number of nodes with unchecked neighbours, which will be joined in the first iteration.
+     */
+    long activeNodes() {
+        return activeNodes;
+    }
+}
@@ -19,24 +19,27 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.SimilarityKernels;
 
 /**
  * We compute cosine similarity (normalised dot product) and turn it into a similarity metric by moving and
  * clamping -1..1 into 0..1 using linear transformation.
+ *
+ * The arrays are processed by the {@link org.neo4j.gds.core.utils.SimilarityKernel} selected at runtime,
+ * which is vectorized if the Vector API is available.
  */
 public final class Cosine {
     private Cosine() {}
 
     public static double floatMetric(float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = SimilarityKernels.kernel().cosine(left, right, len);
         return (cosine+1)/ 2;
     }
 
     public static double doubleMetric(double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = SimilarityKernels.kernel().cosine(left, right, len);
         return (cosine+1)/ 2;
     }
 }
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
+import org.neo4j.gds.core.utils.SimilarityKernels;
+
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
  * https://en.wikipedia.org/wiki/Euclidean_distance
@@ -34,21 +36,13 @@ public final class Euclidean {
 
     public static double floatMetric(float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
+        var result = SimilarityKernels.kernel().sumSquareDelta(left, right, len);
         return 1.0 / (1.0 + result);
     }
 
     public static double doubleMetric(double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
+        var result = SimilarityKernels.kernel().sumSquareDelta(left, right, len);
         return 1.0 / (1.0 + result);
     }
 }
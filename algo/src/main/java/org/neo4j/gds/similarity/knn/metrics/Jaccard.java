@@ -19,13 +19,13 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.SimilarityKernels;
 
 public final class Jaccard {
     private Jaccard() {}
 
     public static double metric(long[] left, long[] right) {
-        long intersection = Intersections.intersection3(left, right);
+        long intersection = SimilarityKernels.kernel().intersection(left, right);
         long union = left.length + right.length - intersection;
         return union == 0 ? 0 : intersection / (double) union;
     }
@@ -19,11 +19,11 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.SimilarityKernels;
 
 public class Overlap {
     public static double metric(long[] left, long[] right) {
-        long intersection = Intersections.intersection3(left, right);
+        long intersection = SimilarityKernels.kernel().intersection(left, right);
         long denominator = Math.min(left.length, right.length);
         return denominator == 0 ? 0 : intersection / (double) denominator;
     }
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.FilteredNodePropertyValues;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A product-quantized copy of an array node property.
+ *
+ * Every vector is split into {@code subspaces} contiguous slices and each slice is replaced by the index of its
+ * nearest centroid in a per-subspace codebook, which is trained with k-means on a sample of the vectors.
+ * A vector is stored as one byte per subspace, e.g. 32 bytes instead of 1 KiB for 256 floats in 32 subspaces.
+ *
+ * Similarities are computed between two encoded vectors from per-subspace tables of centroid dot products,
+ * so a comparison reads two codes and never an exact vector.
+ * This symmetric distance is deliberate: KNN compares every node against candidates and vice versa, so an
+ * asymmetric distance from exact query vectors would read the exact vector of every node, which the codes
+ * are meant to replace, and would score a pair differently depending on which node asks. The error it adds
+ * on the query side is covered by re-ranking the candidates with their exact similarity.
+ * Read as node property values, the vectors decode to their approximate reconstruction. This lets the codes be
+ * stored in a graph store in place of the original property, which KNN then picks up without training again.
+ */
+public final class ProductQuantization implements FloatArrayNodePropertyValues {
+
+    static final int MAX_CENTROIDS = 256;
+    private static final int TRAINING_SAMPLES_PER_CENTROID = 32;
+    private static final int TRAINING_ITERATIONS = 10;
+
+    private final String sourceProperty;
+    private final long nodeCount;
+    private final int dimension;
+    private final int subspaces;
+    // subspace s covers the dimensions [offsets[s], offsets[s + 1])
+    private final int[] offsets;
+    // codebooks[s] stores the centroids of subspace s back to back
+    private final float[][] codebooks;
+    private final double[][] centroidSquaredNorms;
+    // codes[nodeId * subspaces + s] is the unsigned centroid index of the node in subspace s
+    private final HugeByteArray codes;
+
+    /**
+     * The codebooks are left out, they are independent of the node count and at most 256 vectors of the
+     * property dimension.
+     */
+    public static MemoryEstimation memoryEstimation(int subspaces) {
+        return MemoryEstimations.builder(ProductQuantization.class)
+            .perNode("codes", nodeCount -> HugeByteArray.memoryEstimation(nodeCount * subspaces))
+            .build();
+    }
+
+    /**
+     * The tables of {@link #centroidDotProducts()}, which are built for every similarity computation over the codes.
+     */
+    public static MemoryEstimation centroidDotProductsEstimation(int subspaces, int centroids) {
+        return MemoryEstimations.of(
+            "centroid dot products",
+            MemoryRange.of(sizeOfObjectArray(subspaces) + subspaces * sizeOfFloatArray((long) centroids * centroids))
+        );
+    }
+
+    /**
+     * Returns the quantization behind node property values, which are wrapped when read from a node filtered graph.
+     * In that case the codes are indexed by the root node ids.
+     */
+    public static Optional<ProductQuantization> of(NodePropertyValues properties) {
+        if (properties instanceof ProductQuantization) {
+            return Optional.of((ProductQuantization) properties);
+        }
+        if (properties instanceof FilteredNodePropertyValues.FilteredToOriginalNodePropertyValues) {
+            return of(((FilteredNodePropertyValues.FilteredToOriginalNodePropertyValues) properties).rootProperties());
+        }
+        return Optional.empty();
+    }
+
+    public static ProductQuantization train(
+        String propertyName,
+        NodePropertyValues properties,
+        long nodeCount,
+        int subspaces,
+        int centroids,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag,
+        SplittableRandom random,
+        ProgressTracker progressTracker
+    ) {
+        validateValueType(propertyName, properties.valueType());
+        if (centroids < 2 || centroids > MAX_CENTROIDS) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of centroids must be between 2 and %d, but got %d.",
+                MAX_CENTROIDS,
+                centroids
+            ));
+        }
+        if (nodeCount == 0) {
+            return new ProductQuantization(
+                propertyName,
+                0,
+                0,
+                new int[]{0},
+                new float[0][],
+                HugeByteArray.newArray(0)
+            );
+        }
+
+        int dimension = dimension(propertyName, properties, nodeCount);
+        if (subspaces < 1 || subspaces > dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of subspaces must be between 1 and the dimension %d of property `%s`, but got %d.",
+                dimension,
+                propertyName,
+                subspaces
+            ));
+        }
+
+        var offsets = new int[subspaces + 1];
+        for (int subspace = 0; subspace <= subspaces; subspace++) {
+            offsets[subspace] = (int) ((long) subspace * dimension / subspaces);
+        }
+
+        var sample = trainingSample(propertyName, properties, nodeCount, dimension, centroids, random);
+        int effectiveCentroids = Math.min(centroids, sample.length);
+
+        var codebooks = new float[subspaces][];
+        var trainingTasks = new ArrayList<Runnable>(subspaces);
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int from = offsets[subspace];
+            int to = offsets[subspace + 1];
+            int currentSubspace = subspace;
+            var localRandom = random.split();
+            trainingTasks.add(() -> codebooks[currentSubspace] = kMeans(
+                sample,
+                from,
+                to - from,
+                effectiveCentroids,
+                localRandom
+            ));
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(trainingTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        var codes = HugeByteArray.newArray(nodeCount * subspaces);
+        var quantization = new ProductQuantization(propertyName, nodeCount, dimension, offsets, codebooks, codes);
+
+        var encodingTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var buffer = new double[dimension];
+                partition.consume(nodeId -> {
+                    var vector = vector(propertyName, properties, nodeId, dimension, buffer);
+                    quantization.encode(nodeId, vector);
+                });
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(encodingTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        return quantization;
+    }
+
+    public static void validateValueType(String propertyName, ValueType valueType) {
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Product quantization requires a property of type [%s] or [%s], but `%s` is of type [%s].",
+                ValueType.FLOAT_ARRAY,
+                ValueType.DOUBLE_ARRAY,
+                propertyName,
+                valueType
+            ));
+        }
+    }
+
+    private ProductQuantization(
+        String sourceProperty,
+        long nodeCount,
+        int dimension,
+        int[] offsets,
+        float[][] codebooks,
+        HugeByteArray codes
+    ) {
+        this.sourceProperty = sourceProperty;
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.subspaces = offsets.length - 1;
+        this.offsets = offsets;
+        this.codebooks = codebooks;
+        this.codes = codes;
+        this.centroidSquaredNorms = new double[subspaces][];
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int width = offsets[subspace + 1] - offsets[subspace];
+            var codebook = codebooks[subspace];
+            var norms = new double[codebook.length / width];
+            for (int centroid = 0; centroid < norms.length; centroid++) {
+                for (int i = centroid * width; i < (centroid + 1) * width; i++) {
+                    norms[centroid] += (double) codebook[i] * codebook[i];
+                }
+            }
+            this.centroidSquaredNorms[subspace] = norms;
+        }
+    }
+
+    /**
+     * The property the quantization has been trained on, which holds the exact vectors.
+     */
+    public String sourceProperty() {
+        return sourceProperty;
+    }
+
+    public int subspaces() {
+        return subspaces;
+    }
+
+    /**
+     * Moves the codes of the nodes of a node filtered graph to their root node ids, so they can be stored
+     * alongside the other properties of the graph store. Nodes outside the filter decode to the first centroids.
+     */
+    public ProductQuantization withRootNodeIds(Graph graph, long rootNodeCount) {
+        if (graph.asNodeFilteredGraph().isEmpty()) {
+            return this;
+        }
+        var rootCodes = HugeByteArray.newArray(rootNodeCount * subspaces);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long base = nodeId * subspaces;
+            long rootBase = graph.toRootNodeId(nodeId) * subspaces;
+            for (int subspace = 0; subspace < subspaces; subspace++) {
+                rootCodes.set(rootBase + subspace, codes.get(base + subspace));
+            }
+        }
+        return new ProductQuantization(sourceProperty, rootNodeCount, dimension, offsets, codebooks, rootCodes);
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return Optional.of(dimension);
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        var vector = new float[dimension];
+        long base = nodeId * subspaces;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int from = offsets[subspace];
+            int width = offsets[subspace + 1] - from;
+            int centroid = Byte.toUnsignedInt(codes.get(base + subspace));
+            System.arraycopy(codebooks[subspace], centroid * width, vector, from, width);
+        }
+        return vector;
+    }
+
+    /**
+     * Dot products between all pairs of centroids of each subspace, {@code [subspace][first * centroids + second]}.
+     * Together with the squared centroid norms they score two encoded nodes without decoding either of them.
+     */
+    float[][] centroidDotProducts() {
+        var dotProducts = new float[subspaces][];
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int width = offsets[subspace + 1] - offsets[subspace];
+            var codebook = codebooks[subspace];
+            int centroids = codebook.length / width;
+            var table = new float[centroids * centroids];
+            for (int first = 0; first < centroids; first++) {
+                for (int second = first; second < centroids; second++) {
+                    double dotProduct = 0D;
+                    for (int i = 0; i < width; i++) {
+                        dotProduct += (double) codebook[first * width + i] * codebook[second * width + i];
+                    }
+                    table[first * centroids + second] = (float) dotProduct;
+                    table[second * centroids + first] = (float) dotProduct;
+                }
+            }
+            dotProducts[subspace] = table;
+        }
+        return dotProducts;
+    }
+
+    /**
+     * Cosine similarity between the quantized vectors of two nodes, scaled as in {@link Cosine}.
+     */
+    double cosine(long firstNodeId, long secondNodeId, float[][] centroidDotProducts) {
+        double dotProduct = 0D;
+        double firstLength = 0D;
+        double secondLength = 0D;
+        long firstBase = firstNodeId * subspaces;
+        long secondBase = secondNodeId * subspaces;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            var norms = centroidSquaredNorms[subspace];
+            int first = Byte.toUnsignedInt(codes.get(firstBase + subspace));
+            int second = Byte.toUnsignedInt(codes.get(secondBase + subspace));
+            dotProduct += centroidDotProducts[subspace][first * norms.length + second];
+            firstLength += norms[first];
+            secondLength += norms[second];
+        }
+        return (dotProduct / Math.sqrt(firstLength * secondLength) + 1) / 2;
+    }
+
+    /**
+     * Euclidean similarity between the quantized vectors of two nodes, scaled as in {@link Euclidean}.
+     */
+    double euclidean(long firstNodeId, long secondNodeId, float[][] centroidDotProducts) {
+        double squaredDistance = 0D;
+        long firstBase = firstNodeId * subspaces;
+        long secondBase = secondNodeId * subspaces;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            var norms = centroidSquaredNorms[subspace];
+            int first = Byte.toUnsignedInt(codes.get(firstBase + subspace));
+            int second = Byte.toUnsignedInt(codes.get(secondBase + subspace));
+            squaredDistance += norms[first] + norms[second]
+                               - 2D * centroidDotProducts[subspace][first * norms.length + second];
+        }
+        return 1.0 / (1.0 + Math.max(0D, squaredDistance));
+    }
+
+    private void encode(long nodeId, double[] vector) {
+        long base = nodeId * subspaces;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int from = offsets[subspace];
+            int width = offsets[subspace + 1] - from;
+            var codebook = codebooks[subspace];
+            int centroid = nearestCentroid(vector, from, width, codebook, codebook.length / width);
+            codes.set(base + subspace, (byte) centroid);
+        }
+    }
+
+    private static double[][] trainingSample(
+        String propertyName,
+        NodePropertyValues properties,
+        long nodeCount,
+        int dimension,
+        int centroids,
+        SplittableRandom random
+    ) {
+        int sampleSize = (int) Math.min(nodeCount, (long) centroids * TRAINING_SAMPLES_PER_CENTROID);
+        var sample = new double[sampleSize][];
+        for (int i = 0; i < sampleSize; i++) {
+            long nodeId = sampleSize == nodeCount ? i : random.nextLong(nodeCount);
+            sample[i] = vector(propertyName, properties, nodeId, dimension, new double[dimension]);
+        }
+        return sample;
+    }
+
+    /**
+     * The dimension of the first vector, nodes without a value are skipped.
+     */
+    private static int dimension(String propertyName, NodePropertyValues properties, long nodeCount) {
+        boolean isFloatArray = properties.valueType() == ValueType.FLOAT_ARRAY;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (isFloatArray) {
+                var vector = properties.floatArrayValue(nodeId);
+                if (vector != null) {
+                    return vector.length;
+                }
+            } else {
+                var vector = properties.doubleArrayValue(nodeId);
+                if (vector != null) {
+                    return vector.length;
+                }
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Product quantization requires the property `%s` to have a value for at least one node.",
+            propertyName
+        ));
+    }
+
+    private static double[] vector(
+        String propertyName,
+        NodePropertyValues properties,
+        long nodeId,
+        int dimension,
+        double[] buffer
+    ) {
+        int length;
+        if (properties.valueType() == ValueType.FLOAT_ARRAY) {
+            var vector = properties.floatArrayValue(nodeId);
+            if (vector == null) {
+                throw missingVector(propertyName, nodeId);
+            }
+            length = vector.length;
+            for (int i = 0; i < Math.min(length, dimension); i++) {
+                buffer[i] = vector[i];
+            }
+        } else {
+            var vector = properties.doubleArrayValue(nodeId);
+            if (vector == null) {
+                throw missingVector(propertyName, nodeId);
+            }
+            length = vector.length;
+            System.arraycopy(vector, 0, buffer, 0, Math.min(length, dimension));
+        }
+        if (length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Product quantization requires all vectors of property `%s` to have dimension %d, but got %d.",
+                propertyName,
+                dimension,
+                length
+            ));
+        }
+        return buffer;
+    }
+
+    private static IllegalArgumentException missingVector(String propertyName, long nodeId) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Product quantization requires all nodes to have a value for property `%s`, but node %d has none.",
+            propertyName,
+            nodeId
+        ));
+    }
+
+    /**
+     * Lloyd's algorithm on one subspace of the sample, starting from distinct sample vectors.
+     * Centroids of clusters that run empty keep their previous position.
+     */
+    private static float[] kMeans(double[][] sample, int from, int width, int centroids, SplittableRandom random) {
+        var codebook = new float[centroids * width];
+
+        var order = new int[sample.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int centroid = 0; centroid < centroids; centroid++) {
+            int swap = centroid + random.nextInt(order.length - centroid);
+            int picked = order[swap];
+            order[swap] = order[centroid];
+            order[centroid] = picked;
+            for (int i = 0; i < width; i++) {
+                codebook[centroid * width + i] = (float) sample[picked][from + i];
+            }
+        }
+
+        var sums = new double[centroids * width];
+        var sizes = new int[centroids];
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            Arrays.fill(sums, 0D);
+            Arrays.fill(sizes, 0);
+            for (double[] vector : sample) {
+                int centroid = nearestCentroid(vector, from, width, codebook, centroids);
+                sizes[centroid]++;
+                for (int i = 0; i < width; i++) {
+                    sums[centroid * width + i] += vector[from + i];
+                }
+            }
+            for (int centroid = 0; centroid < centroids; centroid++) {
+                if (sizes[centroid] > 0) {
+                    for (int i = 0; i < width; i++) {
+                        codebook[centroid * width + i] = (float) (sums[centroid * width + i] / sizes[centroid]);
+                    }
+                }
+            }
+        }
+        return codebook;
+    }
+
+    private static int nearestCentroid(double[] vector, int from, int width, float[] codebook, int centroids) {
+        int nearest = 0;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int centroid = 0; centroid < centroids; centroid++) {
+            double distance = 0D;
+            int centroidOffset = centroid * width - from;
+            for (int i = from; i < from + width && distance < nearestDistance; i++) {
+                double delta = vector[i] - codebook[centroidOffset + i];
+                distance += delta * delta;
+            }
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = centroid;
+            }
+        }
+        return nearest;
+    }
+}
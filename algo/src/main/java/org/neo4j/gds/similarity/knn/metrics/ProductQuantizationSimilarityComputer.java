@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Compares the product-quantized vectors of two nodes, only their codes and the centroid tables are read.
+ * Both nodes are compared by their codes, which keeps the similarity symmetric, see {@link ProductQuantization}.
+ */
+final class ProductQuantizationSimilarityComputer implements SimilarityComputer {
+
+    interface Metric {
+        double compute(
+            ProductQuantization quantization,
+            long firstNodeId,
+            long secondNodeId,
+            float[][] centroidDotProducts
+        );
+    }
+
+    private final ProductQuantization quantization;
+    private final LongUnaryOperator toQuantizedNodeId;
+    private final Metric metric;
+    private final float[][] centroidDotProducts;
+
+    ProductQuantizationSimilarityComputer(
+        ProductQuantization quantization,
+        LongUnaryOperator toQuantizedNodeId,
+        Metric metric
+    ) {
+        this.quantization = quantization;
+        this.toQuantizedNodeId = toQuantizedNodeId;
+        this.metric = metric;
+        this.centroidDotProducts = quantization.centroidDotProducts();
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        return metric.compute(
+            quantization,
+            toQuantizedNodeId.applyAsLong(firstNodeId),
+            toQuantizedNodeId.applyAsLong(secondNodeId),
+            centroidDotProducts
+        );
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+}
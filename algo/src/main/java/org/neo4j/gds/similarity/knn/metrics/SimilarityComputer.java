@@ -28,6 +28,7 @@ import org.neo4j.gds.similarity.knn.metrics.LongArrayPropertySimilarityComputer.
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.LongUnaryOperator;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -105,6 +106,36 @@ public interface SimilarityComputer {
         }
     }
 
+    /**
+     * Similarities between the quantized vectors of two nodes.
+     * Only {@link SimilarityMetric#COSINE} and {@link SimilarityMetric#EUCLIDEAN} decompose over subspaces.
+     *
+     * @param toQuantizedNodeId maps the node ids of the compared graph to the node ids of the quantization
+     */
+    static SimilarityComputer ofProductQuantization(
+        String name,
+        ProductQuantization quantization,
+        LongUnaryOperator toQuantizedNodeId,
+        SimilarityMetric similarityMetric
+    ) {
+        switch (similarityMetric) {
+            case COSINE:
+                return new ProductQuantizationSimilarityComputer(
+                    quantization,
+                    toQuantizedNodeId,
+                    ProductQuantization::cosine
+                );
+            case EUCLIDEAN:
+                return new ProductQuantizationSimilarityComputer(
+                    quantization,
+                    toQuantizedNodeId,
+                    ProductQuantization::euclidean
+                );
+            default:
+                throw unsupportedSimilarityMetric(name, quantization.valueType(), similarityMetric);
+        }
+    }
+
     static SimilarityComputer ofDoubleProperty(NodePropertyValues nodePropertyValues) {
         return new DoublePropertySimilarityComputer(nodePropertyValues);
     }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Candidate pairs for {@link NodeSimilarity} from MinHash signatures of the neighbour vectors, grouped by banding.
+ * Every band hashes {@code rows} MinHash values of a node into a bucket, and the nodes sharing a bucket in any band
+ * become candidates of each other. Two nodes with a Jaccard similarity of {@code s} collide with a probability of
+ * {@code 1 - (1 - s^rows)^bands}.
+ * <p>
+ * A band is bucketed by sorting the nodes by their band hash, so no hash table over all nodes is needed.
+ * Within buckets larger than {@code 2 * maxBucketNeighbors + 1}, a node only becomes candidate of the
+ * {@code maxBucketNeighbors} nodes before and after it, which keeps the candidates symmetric but bounded.
+ */
+public final class MinHashCandidates {
+
+    // the minimal number of bucket neighbours a node is paired with, see `maxBucketNeighbors`
+    static final int MIN_BUCKET_NEIGHBORS = 64;
+
+    private final HugeObjectArray<long[]> candidates;
+    private final long candidatePairCount;
+
+    public static MemoryEstimation memoryEstimation(NodeSimilarityBaseConfig config) {
+        long maxCandidatesPerNode = (long) config.minHashBands() * 2 * maxBucketNeighbors(config);
+        return MemoryEstimations.builder(MinHashCandidates.class)
+            .perNode("band hashes", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount))
+            .rangePerNode(
+                "candidates",
+                nodeCount -> MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(nodeCount, 0),
+                    HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray(maxCandidatesPerNode))
+                )
+            )
+            .build();
+    }
+
+    static int maxBucketNeighbors(NodeSimilarityBaseConfig config) {
+        return Math.max(MIN_BUCKET_NEIGHBORS, 2 * Math.abs(config.normalizedK()));
+    }
+
+    static MinHashCandidates generate(
+        HugeObjectArray<long[]> vectors,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        int bands,
+        int rows,
+        int maxBucketNeighbors,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        long nodeCount = vectors.size();
+        var nodes = (BitSet) sourceNodes.clone();
+        nodes.union(targetNodes);
+        long bucketedNodeCount = nodes.cardinality();
+        if (bucketedNodeCount < 2) {
+            progressTracker.logProgress(bands);
+            return new MinHashCandidates(HugeObjectArray.newArray(long[].class, nodeCount), 0);
+        }
+
+        var hashSeeds = new SplittableRandom(randomSeed).longs((long) bands * rows).toArray();
+        // the band hash takes the upper bits and the node id the lower bits of a bucket entry
+        int nodeIdBits = Long.SIZE - Long.numberOfLeadingZeros(nodeCount);
+        long nodeIdMask = (1L << nodeIdBits) - 1;
+
+        var candidateLists = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+        var bucketEntries = HugeLongArray.newArray(nodeCount);
+
+        for (int band = 0; band < bands; band++) {
+            int firstRow = band * rows;
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> bucketEntries.set(
+                nodeId,
+                nodes.get(nodeId)
+                    ? (bandHash(vectors.get(nodeId), hashSeeds, firstRow, rows) & ~nodeIdMask) | nodeId
+                    // sorts behind all bucketed nodes, as their node id bits are never all set
+                    : Long.MAX_VALUE
+            ));
+            HugeMergeSort.sort(bucketEntries, concurrency);
+
+            var bucketTasks = PartitionUtils.rangePartition(
+                concurrency,
+                bucketedNodeCount,
+                partition -> (Runnable) () -> addBucketNeighbors(
+                    bucketEntries,
+                    bucketedNodeCount,
+                    partition.startNode(),
+                    partition.startNode() + partition.nodeCount(),
+                    nodeIdMask,
+                    maxBucketNeighbors,
+                    sourceNodes,
+                    targetNodes,
+                    candidateLists
+                ),
+                Optional.empty()
+            );
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(bucketTasks)
+                .terminationFlag(terminationFlag)
+                .executor(executorService)
+                .run();
+
+            progressTracker.logProgress();
+        }
+
+        var candidates = HugeObjectArray.newArray(long[].class, nodeCount);
+        var candidatePairCount = new LongAdder();
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            var candidateList = candidateLists.get(nodeId);
+            if (candidateList == null) {
+                return;
+            }
+            candidateLists.set(nodeId, null);
+            var nodeCandidates = distinct(candidateList);
+            candidates.set(nodeId, nodeCandidates);
+            candidatePairCount.add(nodeCandidates.length);
+        });
+
+        return new MinHashCandidates(candidates, candidatePairCount.sum());
+    }
+
+    private MinHashCandidates(HugeObjectArray<long[]> candidates, long candidatePairCount) {
+        this.candidates = candidates;
+        this.candidatePairCount = candidatePairCount;
+    }
+
+    /**
+     * The sorted candidates of a source node, which are target nodes and never the node itself.
+     */
+    long[] get(long nodeId) {
+        var nodeCandidates = candidates.get(nodeId);
+        return nodeCandidates == null ? new long[0] : nodeCandidates;
+    }
+
+    /**
+     * The number of candidates over all source nodes, which counts a pair twice if both of its nodes are sources.
+     */
+    long candidatePairCount() {
+        return candidatePairCount;
+    }
+
+    private static long bandHash(long[] vector, long[] hashSeeds, int firstRow, int rows) {
+        long hash = firstRow;
+        for (int row = firstRow; row < firstRow + rows; row++) {
+            long seed = hashSeeds[row];
+            long minHash = Long.MAX_VALUE;
+            for (long target : vector) {
+                minHash = Math.min(minHash, BitMixer.mix64(target ^ seed));
+            }
+            hash = BitMixer.mix64(hash * 31 + minHash);
+        }
+        return hash;
+    }
+
+    private static void addBucketNeighbors(
+        HugeLongArray bucketEntries,
+        long bucketedNodeCount,
+        long start,
+        long end,
+        long nodeIdMask,
+        int maxBucketNeighbors,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        HugeObjectArray<LongArrayList> candidateLists
+    ) {
+        // the bucket reaching into this partition is handled by the partition in which it starts
+        long bucketStart = start;
+        while (bucketStart > 0 && bucketStart < end
+               && sameBucket(bucketEntries, bucketStart - 1, bucketStart, nodeIdMask)) {
+            bucketStart++;
+        }
+
+        while (bucketStart < end) {
+            long bucketEnd = bucketStart + 1;
+            while (bucketEnd < bucketedNodeCount && sameBucket(bucketEntries, bucketStart, bucketEnd, nodeIdMask)) {
+                bucketEnd++;
+            }
+
+            // every node is in exactly one bucket per band, so its candidate list is only written by this task
+            for (long position = bucketStart; bucketEnd - bucketStart > 1 && position < bucketEnd; position++) {
+                long nodeId = bucketEntries.get(position) & nodeIdMask;
+                if (!sourceNodes.get(nodeId)) {
+                    continue;
+                }
+                var candidateList = candidateLists.get(nodeId);
+                if (candidateList == null) {
+                    candidateList = new LongArrayList();
+                    candidateLists.set(nodeId, candidateList);
+                }
+                long neighborsStart = Math.max(bucketStart, position - maxBucketNeighbors);
+                long neighborsEnd = Math.min(bucketEnd, position + maxBucketNeighbors + 1);
+                for (long neighborPosition = neighborsStart; neighborPosition < neighborsEnd; neighborPosition++) {
+                    long neighbor = bucketEntries.get(neighborPosition) & nodeIdMask;
+                    if (neighborPosition != position && targetNodes.get(neighbor)) {
+                        candidateList.add(neighbor);
+                    }
+                }
+            }
+
+            bucketStart = bucketEnd;
+        }
+    }
+
+    private static boolean sameBucket(HugeLongArray bucketEntries, long position1, long position2, long nodeIdMask) {
+        return (bucketEntries.get(position1) & ~nodeIdMask) == (bucketEntries.get(position2) & ~nodeIdMask);
+    }
+
+    private static long[] distinct(LongArrayList candidateList) {
+        var buffer = candidateList.buffer;
+        int size = candidateList.size();
+        Arrays.sort(buffer, 0, size);
+        int distinctCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinctCount == 0 || buffer[distinctCount - 1] != buffer[i]) {
+                buffer[distinctCount++] = buffer[i];
+            }
+        }
+        return Arrays.copyOf(buffer, distinctCount);
+    }
+}
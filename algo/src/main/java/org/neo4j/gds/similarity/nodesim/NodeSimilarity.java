@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
@@ -28,6 +29,7 @@ import org.neo4j.gds.core.utils.SetBitsIterable;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.BatchingProgressLogger;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
 import org.neo4j.gds.similarity.SimilarityGraphBuilder;
 import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
@@ -37,10 +39,14 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private final Graph graph;
@@ -57,6 +63,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private final MetricSimilarityComputer similarityComputer;
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
+    private @Nullable MinHashCandidates candidates;
 
     private final boolean weighted;
 
@@ -224,6 +231,113 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             return null;
         });
         progressTracker.endSubTask();
+
+        if (config.useMinHashCandidates()) {
+            generateCandidates();
+        }
+    }
+
+    private void generateCandidates() {
+        progressTracker.beginSubTask();
+        long randomSeed = config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        candidates = MinHashCandidates.generate(
+            vectors,
+            sourceNodes,
+            targetNodes,
+            config.minHashBands(),
+            config.minHashRows(),
+            MinHashCandidates.maxBucketNeighbors(config),
+            randomSeed,
+            concurrency,
+            executorService,
+            terminationFlag,
+            progressTracker
+        );
+        progressTracker.logInfo(formatWithLocale(
+            "Generated %d candidates for %d source nodes",
+            candidates.candidatePairCount(),
+            sourceNodes.cardinality()
+        ));
+        if (config.minHashRecallSampleSize() > 0) {
+            logCandidateRecall(randomSeed);
+        }
+        progressTracker.endSubTask();
+    }
+
+    /**
+     * Estimates which share of the exact top-K neighbours, or of all similar neighbours without topK,
+     * is found among the candidates of a sample of source nodes.
+     */
+    private void logCandidateRecall(long randomSeed) {
+        var random = new SplittableRandom(randomSeed);
+        var sample = new long[(int) Math.min(config.minHashRecallSampleSize(), sourceNodes.cardinality())];
+        var seen = new long[1];
+        // reservoir sampling over the source nodes
+        sourceNodesStream().forEach(node -> {
+            long index = seen[0]++;
+            if (index < sample.length) {
+                sample[(int) index] = node;
+            } else {
+                long replacedIndex = random.nextLong(index + 1);
+                if (replacedIndex < sample.length) {
+                    sample[(int) replacedIndex] = node;
+                }
+            }
+        });
+
+        var foundNeighbors = new LongAdder();
+        var exactNeighbors = new LongAdder();
+        ParallelUtil.parallelStreamConsume(
+            LongStream.of(sample),
+            concurrency,
+            terminationFlag,
+            stream -> stream.forEach(node1 -> {
+                if (!config.hasTopK()) {
+                    exactNeighbors.add(targetNodesStream()
+                        .filter(node2 -> node1 != node2 && !Double.isNaN(sampleSimilarity(node1, node2)))
+                        .count());
+                    foundNeighbors.add(LongStream.of(candidates.get(node1))
+                        .filter(node2 -> !Double.isNaN(sampleSimilarity(node1, node2)))
+                        .count());
+                    return;
+                }
+                var exact = BoundedLongPriorityQueue.max(config.normalizedK());
+                // the reference neighbours are computed from all nodes, not from the candidates
+                targetNodesStream()
+                    .filter(node2 -> node1 != node2)
+                    .forEach(node2 -> {
+                        double similarity = sampleSimilarity(node1, node2);
+                        if (!Double.isNaN(similarity)) {
+                            exact.offer(node2, similarity);
+                        }
+                    });
+                if (exact.size() == 0) {
+                    return;
+                }
+                // ties with the least similar exact neighbour count as found
+                double minExactSimilarity = exact.priorities().min().orElseThrow();
+                long found = LongStream.of(candidates.get(node1))
+                    .filter(node2 -> sampleSimilarity(node1, node2) >= minExactSimilarity)
+                    .count();
+                foundNeighbors.add(Math.min(found, exact.size()));
+                exactNeighbors.add(exact.size());
+            })
+        );
+
+        double recall = exactNeighbors.sum() == 0 ? 1.0 : foundNeighbors.sum() / (double) exactNeighbors.sum();
+        progressTracker.logInfo(formatWithLocale(
+            "Candidate recall on %d sampled source nodes: %.4f",
+            sample.length,
+            recall
+        ));
+    }
+
+    private double sampleSimilarity(long node1, long node2) {
+        return weighted
+            ? similarityComputer.computeWeightedSimilarity(
+                vectors.get(node1), vectors.get(node2), weights.get(node1), weights.get(node2)
+            )
+            : similarityComputer.computeSimilarity(vectors.get(node1), vectors.get(node2));
     }
 
     private Stream<SimilarityResult> computeSimilarityResultStream() {
@@ -269,7 +383,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
                 if (sourceNodeFilter.equals(NodeFilter.noOp)) {
-                    targetNodesStream(node1 + 1)
+                    comparedNodesStream(node1, true)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -283,8 +397,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         });
                 } else {
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    comparedNodesStream(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -319,8 +432,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    comparedNodesStream(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -348,7 +460,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                 long[] vector1 = vectors.get(node1);
 
                 if (sourceNodeFilter.equals(NodeFilter.noOp)) {
-                    targetNodesStream(node1 + 1)
+                    comparedNodesStream(node1, true)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -361,8 +473,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         });
                 } else {
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    comparedNodesStream(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -408,6 +519,21 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return targetNodesStream(0);
     }
 
+    /**
+     * The nodes that node1 is compared with, which are its candidates if MinHash candidates are used.
+     *
+     * @param higherIdsOnly whether to only return nodes with a higher id than node1, for computing symmetric pairs once
+     */
+    private LongStream comparedNodesStream(long node1, boolean higherIdsOnly) {
+        if (candidates == null) {
+            return higherIdsOnly
+                ? targetNodesStream(node1 + 1)
+                : targetNodesStream().filter(node2 -> node1 != node2);
+        }
+        var nodeCandidates = LongStream.of(candidates.get(node1));
+        return higherIdsOnly ? nodeCandidates.filter(node2 -> node2 > node1) : nodeCandidates;
+    }
+
     private double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         double similarity = similarityComputer.computeWeightedSimilarity(vector1, vector2, weights1, weights2);
         progressTracker.logProgress();
@@ -431,7 +557,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private long calculateWorkload() {
         //for each source node, examine all their target nodes
         //if no filter then sourceNodes == targetNodes
-        long workload = sourceNodes.cardinality() * targetNodes.cardinality();
+        long workload = candidates == null
+            ? sourceNodes.cardinality() * targetNodes.cardinality()
+            : candidates.candidatePairCount();
 
         //when on concurrency of 1 on not-filtered similarity,  we only compare nodeId with greater indexed nodes
         // so work is halved. This does not hold for filtered similarity, since the targetNodes might be lesser indexed.
@@ -444,7 +572,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long node1) {
         long[] vector1 = vectors.get(node1);
-        return targetNodesStream(node1 + 1)
+        return comparedNodesStream(node1, true)
             .mapToObj(node2 -> {
                 double similarity = weighted
                     ? computeWeightedSimilarity(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -22,11 +22,12 @@ package org.neo4j.gds.similarity.nodesim;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig, RandomSeedConfig {
 
     String TOP_K_KEY = "topK";
     int TOP_K_DEFAULT = 10;
@@ -93,6 +94,37 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    /**
+     * The number of MinHash bands, nodes are only compared if their signatures agree in at least one band.
+     * A value of 0 compares all node pairs.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 2;
+    }
+
+    /**
+     * The number of source nodes whose candidates are compared against all target nodes to estimate the recall.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashRecallSampleSize() {
+        return 10;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean useMinHashCandidates() {
+        return minHashBands() > 0;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -159,6 +191,13 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 "The value of upperDegreeCutoff cannot be smaller than degreeCutoff"
             ));
         }
+        if (useMinHashCandidates() && (normalizedK() < 0 || normalizedN() < 0)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "MinHash candidates only contain similar node pairs and cannot be combined with %s or %s",
+                BOTTOM_K_KEY,
+                BOTTOM_N_KEY
+            ));
+        }
     }
 
 }
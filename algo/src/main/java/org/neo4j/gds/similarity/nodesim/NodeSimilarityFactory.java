@@ -107,11 +107,22 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     TopNList.memoryEstimation(dimensions.nodeCount(), topN))
             );
         }
+        if (config.useMinHashCandidates()) {
+            builder.add("minhash candidates", MinHashCandidates.memoryEstimation(config));
+        }
         return builder.build();
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.useMinHashCandidates()) {
+            return Tasks.task(
+                taskName(),
+                Tasks.leaf("prepare", graph.relationshipCount()),
+                Tasks.leaf("generate candidates", config.minHashBands()),
+                Tasks.leaf("compare node pairs")
+            );
+        }
         return Tasks.task(
             taskName(),
             Tasks.leaf("prepare", graph.relationshipCount()),
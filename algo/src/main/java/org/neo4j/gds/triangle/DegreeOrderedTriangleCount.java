@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exact triangle counting based on the forward algorithm.
+ *
+ * Every relationship is oriented from the endpoint with the lower degree
+ * towards the endpoint with the higher degree, ties are broken by node id.
+ * Each triangle is then found exactly once, from its lowest ranked node,
+ * and no oriented neighbourhood is larger than O(sqrt(m)), which keeps
+ * hubs with millions of relationships cheap instead of having to skip them.
+ *
+ * Oriented neighbourhoods are intersected adaptively: lists of similar size
+ * are merged, lists of skewed size are intersected with galloping search
+ * and neighbourhoods of at least {@link #BITSET_THRESHOLD} nodes are marked
+ * in a bitset so that every candidate is checked in constant time.
+ *
+ * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
+ */
+final class DegreeOrderedTriangleCount {
+
+    static final int BITSET_THRESHOLD = 1024;
+    static final int GALLOPING_RATIO = 32;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final HugeAtomicLongArray triangleCounts;
+
+    private DistinctAdjacency adjacency;
+
+    DegreeOrderedTriangleCount(
+        Graph graph,
+        HugeAtomicLongArray triangleCounts,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.triangleCounts = triangleCounts;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+    }
+
+    long compute() {
+        adjacency = DistinctAdjacency.degreeOrdered(graph, concurrency, executorService, terminationFlag);
+
+        var queue = new AtomicLong();
+        var globalTriangleCounter = new LongAdder();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new CountTask(queue, globalTriangleCounter));
+        ParallelUtil.run(tasks, executorService);
+
+        return globalTriangleCounter.longValue();
+    }
+
+    private final class CountTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final LongAdder globalTriangleCounter;
+        // lazily allocated, only hubs are marked
+        private BitSet marks;
+        private long triangles;
+
+        CountTask(AtomicLong queue, LongAdder globalTriangleCounter) {
+            this.queue = queue;
+            this.globalTriangleCounter = globalTriangleCounter;
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long nodeId;
+            while ((nodeId = queue.getAndIncrement()) < nodeCount && terminationFlag.running()) {
+                countTriangles(nodeId);
+                progressTracker.logProgress();
+            }
+            globalTriangleCounter.add(triangles);
+        }
+
+        private void countTriangles(long nodeA) {
+            long startA = adjacency.startOffset(nodeA);
+            long endA = adjacency.endOffset(nodeA);
+            if (endA - startA < 2) {
+                return;
+            }
+
+            if (endA - startA >= BITSET_THRESHOLD) {
+                countWithBitset(nodeA, startA, endA);
+                return;
+            }
+
+            for (long i = startA; i < endA; i++) {
+                long nodeB = adjacency.target(i);
+                long startB = adjacency.startOffset(nodeB);
+                long endB = adjacency.endOffset(nodeB);
+                long sizeA = endA - startA;
+                long sizeB = endB - startB;
+                if (sizeB == 0) {
+                    continue;
+                }
+                if (sizeA * GALLOPING_RATIO < sizeB) {
+                    gallop(nodeA, nodeB, startA, endA, startB, endB);
+                } else if (sizeB * GALLOPING_RATIO < sizeA) {
+                    gallop(nodeA, nodeB, startB, endB, startA, endA);
+                } else {
+                    merge(nodeA, nodeB, startA, endA, startB, endB);
+                }
+            }
+        }
+
+        private void countWithBitset(long nodeA, long startA, long endA) {
+            if (marks == null) {
+                marks = new BitSet(graph.nodeCount());
+            }
+            for (long i = startA; i < endA; i++) {
+                marks.set(adjacency.target(i));
+            }
+            for (long i = startA; i < endA; i++) {
+                long nodeB = adjacency.target(i);
+                long endB = adjacency.endOffset(nodeB);
+                for (long j = adjacency.startOffset(nodeB); j < endB; j++) {
+                    long nodeC = adjacency.target(j);
+                    if (marks.get(nodeC)) {
+                        emit(nodeA, nodeB, nodeC);
+                    }
+                }
+            }
+            for (long i = startA; i < endA; i++) {
+                marks.clear(adjacency.target(i));
+            }
+        }
+
+        private void merge(long nodeA, long nodeB, long startA, long endA, long startB, long endB) {
+            long i = startA;
+            long j = startB;
+            while (i < endA && j < endB) {
+                long candidateA = adjacency.target(i);
+                long candidateB = adjacency.target(j);
+                if (candidateA < candidateB) {
+                    i++;
+                } else if (candidateA > candidateB) {
+                    j++;
+                } else {
+                    emit(nodeA, nodeB, candidateA);
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        // looks up every element of the short list in the long list using exponential search
+        private void gallop(long nodeA, long nodeB, long startShort, long endShort, long startLong, long endLong) {
+            long position = startLong;
+            for (long i = startShort; i < endShort && position < endLong; i++) {
+                long candidate = adjacency.target(i);
+                position = adjacency.lowerBound(candidate, position, endLong);
+                if (position < endLong && adjacency.target(position) == candidate) {
+                    emit(nodeA, nodeB, candidate);
+                    position++;
+                }
+            }
+        }
+
+        private void emit(long nodeA, long nodeB, long nodeC) {
+            triangleCounts.getAndAdd(nodeA, 1);
+            triangleCounts.getAndAdd(nodeB, 1);
+            triangleCounts.getAndAdd(nodeC, 1);
+            triangles++;
+        }
+    }
+}
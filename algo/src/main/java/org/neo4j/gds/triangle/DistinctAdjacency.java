@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Adjacency in CSR layout where every list is sorted by node id and
+ * free of self-loops and parallel relationships.
+ */
+final class DistinctAdjacency {
+
+    // offsets of node `i` are [offsets[i], offsets[i + 1])
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+
+    /**
+     * Both orientations keep at most one target per stored relationship,
+     * since the graph is required to be undirected and thus already stores both directions.
+     */
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DistinctAdjacency.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension(
+                "targets",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .build();
+    }
+
+    /**
+     * Keeps every relationship once, oriented from the endpoint with the lower
+     * degree towards the endpoint with the higher degree, ties are broken by node id.
+     */
+    static DistinctAdjacency degreeOrdered(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        return build(graph, true, concurrency, executorService, terminationFlag);
+    }
+
+    static DistinctAdjacency undirected(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        return build(graph, false, concurrency, executorService, terminationFlag);
+    }
+
+    private static DistinctAdjacency build(
+        Graph graph,
+        boolean degreeOrdered,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+
+        // first pass: degrees, second pass: targets
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(PartitionUtils.degreePartition(
+                graph,
+                concurrency,
+                partition -> new BuildTask(graph, partition, degreeOrdered, offsets, null),
+                Optional.empty()
+            ))
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long degree = offsets.get(nodeId);
+            offsets.set(nodeId, offset);
+            offset += degree;
+        }
+        offsets.set(nodeCount, offset);
+        var targets = HugeLongArray.newArray(offset);
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(PartitionUtils.degreePartition(
+                graph,
+                concurrency,
+                partition -> new BuildTask(graph, partition, degreeOrdered, offsets, targets),
+                Optional.empty()
+            ))
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        return new DistinctAdjacency(offsets, targets);
+    }
+
+    private DistinctAdjacency(HugeLongArray offsets, HugeLongArray targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    long startOffset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long endOffset(long nodeId) {
+        return offsets.get(nodeId + 1);
+    }
+
+    long degree(long nodeId) {
+        return endOffset(nodeId) - startOffset(nodeId);
+    }
+
+    long target(long offset) {
+        return targets.get(offset);
+    }
+
+    /**
+     * @return the first offset in [from, to) whose target is not smaller than the given node, or {@code to}
+     */
+    long lowerBound(long nodeId, long from, long to) {
+        // exponential search for the range, followed by a binary search within it
+        long step = 1;
+        long low = from;
+        long high = from;
+        while (high < to && targets.get(high) < nodeId) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, to);
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (targets.get(mid) < nodeId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    boolean contains(long source, long target) {
+        long end = endOffset(source);
+        long position = lowerBound(target, startOffset(source), end);
+        return position < end && targets.get(position) == target;
+    }
+
+    private static final class BuildTask implements Runnable {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+        private final boolean degreeOrdered;
+        private final HugeLongArray offsets;
+        // null during the first pass
+        private final HugeLongArray targets;
+        private final LongArrayList neighbours;
+
+        BuildTask(
+            Graph graph,
+            DegreePartition partition,
+            boolean degreeOrdered,
+            HugeLongArray offsets,
+            HugeLongArray targets
+        ) {
+            this.graph = graph.concurrentCopy();
+            this.partition = partition;
+            this.degreeOrdered = degreeOrdered;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.neighbours = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                int distinctDegree = collectNeighbours(nodeId);
+                if (targets == null) {
+                    offsets.set(nodeId, distinctDegree);
+                } else {
+                    long offset = offsets.get(nodeId);
+                    for (int i = 0; i < distinctDegree; i++) {
+                        targets.set(offset + i, neighbours.buffer[i]);
+                    }
+                }
+            });
+        }
+
+        private int collectNeighbours(long nodeId) {
+            neighbours.elementsCount = 0;
+            int degree = graph.degree(nodeId);
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (target != source && (!degreeOrdered || precedes(source, degree, target))) {
+                    neighbours.add(target);
+                }
+                return true;
+            });
+
+            long[] buffer = neighbours.buffer;
+            int size = neighbours.size();
+            Arrays.sort(buffer, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                    buffer[distinct++] = buffer[i];
+                }
+            }
+            return distinct;
+        }
+
+        private boolean precedes(long source, int sourceDegree, long target) {
+            int targetDegree = graph.degree(target);
+            return sourceDegree < targetDegree || (sourceDegree == targetDegree && source < target);
+        }
+    }
+}
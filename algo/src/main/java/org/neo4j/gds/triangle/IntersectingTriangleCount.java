@@ -49,6 +49,11 @@ import java.util.concurrent.atomic.LongAdder;
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
  * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
  * http://www.math.cmu.edu/~ctsourak/tsourICDM08.pdf
+ *
+ * Unless a {@code maxDegree} is configured, counting is delegated to
+ * {@link DegreeOrderedTriangleCount}, which handles high degree nodes
+ * without excluding them. A {@code samplingRatio} below 1 estimates the
+ * counts with {@link WedgeSamplingTriangleCount} instead.
  */
 @SuppressWarnings("FieldCanBeLocal")
 public final class IntersectingTriangleCount extends Algorithm<TriangleCountResult> {
@@ -112,22 +117,48 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     @Override
     public TriangleCountResult compute() {
         progressTracker.beginSubTask();
-        queue.set(0);
-        globalTriangleCounter.reset();
-        // create tasks
-        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
-            config.concurrency(),
-            () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
-        );
-        // run
-        ParallelUtil.run(tasks, executorService);
+        double globalTrianglesMarginOfError = 0D;
+        if (config.approximate()) {
+            var wedgeSampling = new WedgeSamplingTriangleCount(
+                graph,
+                triangleCounts,
+                config.samplingRatio(),
+                config.concurrency(),
+                executorService,
+                progressTracker,
+                terminationFlag
+            );
+            globalTriangleCount = wedgeSampling.compute();
+            globalTrianglesMarginOfError = wedgeSampling.marginOfError();
+        } else if (config.maxDegree() == Long.MAX_VALUE) {
+            // no node is excluded, count exactly on the degree-ordered orientation
+            globalTriangleCount = new DegreeOrderedTriangleCount(
+                graph,
+                triangleCounts,
+                config.concurrency(),
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).compute();
+        } else {
+            queue.set(0);
+            globalTriangleCounter.reset();
+            // create tasks
+            final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
+                config.concurrency(),
+                () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
+            );
+            // run
+            ParallelUtil.run(tasks, executorService);
 
-        globalTriangleCount = globalTriangleCounter.longValue();
+            globalTriangleCount = globalTriangleCounter.longValue();
+        }
 
         progressTracker.endSubTask();
         return TriangleCountResult.of(
             triangleCounts,
-            globalTriangleCount
+            globalTriangleCount,
+            globalTrianglesMarginOfError
         );
     }
 
@@ -26,9 +26,11 @@ import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
 
 public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseConfig> extends GraphAlgorithmFactory<IntersectingTriangleCount, CONFIG> {
 
@@ -55,10 +57,23 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+
+        if (configuration.approximate()) {
+            builder.add("undirected adjacency", DistinctAdjacency.memoryEstimation());
+        } else if (configuration.maxDegree() == Long.MAX_VALUE) {
+            builder
+                .add("degree-ordered adjacency", DistinctAdjacency.memoryEstimation())
+                // only allocated by threads that meet a node with a very high degree
+                .rangePerGraphDimension("marks", (dimensions, concurrency) -> MemoryRange.of(
+                    0L,
+                    concurrency * MemoryUsage.sizeOfBitset(dimensions.nodeCount())
+                ));
+        }
+
+        return builder.build();
     }
 
     @Override
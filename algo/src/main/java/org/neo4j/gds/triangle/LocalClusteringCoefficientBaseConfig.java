@@ -55,6 +55,18 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Co
         return "triangleCountProperty";
     }
 
+    /**
+     * Fraction of the wedges of every node that is sampled to estimate its coefficient,
+     * only used when the triangle counts are computed.
+     * At most 18,445 wedges are sampled per node, which estimates the share of closed wedges
+     * of a node within 0.01 with 95% probability.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
     static @Nullable String validateProperty(String input) {
         return StringIdentifierValidations.validateNoWhiteCharacter(input, "triangleCountProperty");
     }
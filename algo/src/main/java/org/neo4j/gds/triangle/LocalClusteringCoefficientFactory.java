@@ -67,7 +67,10 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
     }
 
     static TriangleCountStatsConfig createTriangleCountConfig(LocalClusteringCoefficientBaseConfig configuration) {
-        return ImmutableTriangleCountStatsConfig.builder().concurrency(configuration.concurrency()).build();
+        return ImmutableTriangleCountStatsConfig.builder()
+            .concurrency(configuration.concurrency())
+            .samplingRatio(configuration.samplingRatio())
+            .build();
     }
 
     @Override
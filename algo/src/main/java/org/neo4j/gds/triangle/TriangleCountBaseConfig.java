@@ -51,6 +51,31 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    /**
+     * Fraction of the wedges of every node that is sampled to estimate its triangles.
+     * A value of 1 computes exact triangle counts.
+     * At most 18,445 wedges are sampled per node, which estimates the share of closed wedges
+     * of a node within 0.01 with 95% probability.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean approximate() {
+        return samplingRatio() < 1.0;
+    }
+
+    @Value.Check
+    default void validateSamplingRatio() {
+        if (approximate() && maxDegree() < Long.MAX_VALUE) {
+            throw new IllegalArgumentException("The 'samplingRatio' parameter cannot be combined with 'maxDegree'.");
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateTargetRelIsUndirected(
         GraphStore graphStore,
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -31,14 +32,29 @@ public interface TriangleCountResult {
 
     long globalTriangles();
 
+    // half-width of the 95% confidence interval around `globalTriangles`, zero for exact counts
+    @Value.Default
+    default double globalTrianglesMarginOfError() {
+        return 0D;
+    }
+
     static TriangleCountResult of(
         HugeAtomicLongArray triangles,
         long globalTriangles
+    ) {
+        return of(triangles, globalTriangles, 0D);
+    }
+
+    static TriangleCountResult of(
+        HugeAtomicLongArray triangles,
+        long globalTriangles,
+        double globalTrianglesMarginOfError
     ) {
         return ImmutableTriangleCountResult
             .builder()
             .localTriangles(triangles)
             .globalTriangles(globalTriangles)
+            .globalTrianglesMarginOfError(globalTrianglesMarginOfError)
             .build();
     }
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Estimates triangle counts by wedge sampling.
+ *
+ * A wedge is a pair of distinct neighbours of a node, it is closed if the two
+ * neighbours are connected. For every node, a {@code samplingRatio} fraction of
+ * its wedges is drawn uniformly with replacement and the number of triangles is
+ * estimated as the fraction of closed samples times the number of wedges.
+ * Nodes with so few wedges that the sample would cover all of them are counted exactly.
+ *
+ * The number of samples per node is capped at {@link #MAX_SAMPLES_PER_NODE}, which by
+ * Hoeffding's inequality estimates the closed fraction of a node within
+ * {@link #CLOSED_FRACTION_ERROR} with {@link #CONFIDENCE} probability. Without the cap
+ * the samples would grow quadratically with the degree, and sampling a high-degree
+ * node would be more expensive than counting its triangles exactly.
+ *
+ * The per-node estimates are unbiased and independent, so the global estimate is
+ * their sum divided by three. The margin of error of its 95% confidence interval
+ * uses the variance of the Agresti-Coull estimate of every closed fraction, which
+ * stays positive if all or none of the samples of a node are closed.
+ *
+ * Seshadhri, Pinar, Kolda: Wedge sampling for computing clustering coefficients and triangle counts on large graphs
+ */
+final class WedgeSamplingTriangleCount {
+
+    private static final double Z_95 = 1.96;
+
+    static final double CLOSED_FRACTION_ERROR = 0.01;
+    static final double CONFIDENCE = 0.95;
+    static final long MAX_SAMPLES_PER_NODE = (long) Math.ceil(
+        Math.log(2 / (1 - CONFIDENCE)) / (2 * CLOSED_FRACTION_ERROR * CLOSED_FRACTION_ERROR)
+    );
+
+    private final Graph graph;
+    private final HugeAtomicLongArray triangleCounts;
+    private final double samplingRatio;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private DistinctAdjacency adjacency;
+    private double marginOfError;
+
+    WedgeSamplingTriangleCount(
+        Graph graph,
+        HugeAtomicLongArray triangleCounts,
+        double samplingRatio,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.triangleCounts = triangleCounts;
+        this.samplingRatio = samplingRatio;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+    }
+
+    /**
+     * @return the estimated number of triangles in the graph
+     */
+    long compute() {
+        adjacency = DistinctAdjacency.undirected(graph, concurrency, executorService, terminationFlag);
+
+        var queue = new AtomicLong();
+        var triangleSum = new DoubleAdder();
+        var varianceSum = new DoubleAdder();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new SamplingTask(queue, triangleSum, varianceSum));
+        ParallelUtil.run(tasks, executorService);
+
+        // every triangle is estimated from each of its three nodes
+        marginOfError = Z_95 * Math.sqrt(varianceSum.sum()) / 3;
+        return Math.round(triangleSum.sum() / 3);
+    }
+
+    double marginOfError() {
+        return marginOfError;
+    }
+
+    static long sampleCount(double wedges, double samplingRatio) {
+        return Math.min((long) Math.ceil(samplingRatio * wedges), MAX_SAMPLES_PER_NODE);
+    }
+
+    private final class SamplingTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final DoubleAdder triangleSum;
+        private final DoubleAdder varianceSum;
+        private double triangles;
+        private double variance;
+
+        SamplingTask(AtomicLong queue, DoubleAdder triangleSum, DoubleAdder varianceSum) {
+            this.queue = queue;
+            this.triangleSum = triangleSum;
+            this.varianceSum = varianceSum;
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long nodeId;
+            while ((nodeId = queue.getAndIncrement()) < nodeCount && terminationFlag.running()) {
+                estimateTriangles(nodeId);
+                progressTracker.logProgress();
+            }
+            triangleSum.add(triangles);
+            varianceSum.add(variance);
+        }
+
+        private void estimateTriangles(long nodeId) {
+            long start = adjacency.startOffset(nodeId);
+            long degree = adjacency.degree(nodeId);
+            double wedges = degree * (degree - 1) / 2.0;
+            if (wedges == 0) {
+                return;
+            }
+
+            long samples = sampleCount(wedges, samplingRatio);
+            double estimate;
+            if (samples >= wedges) {
+                estimate = countClosedWedges(start, start + degree);
+            } else {
+                // seeded by node id, so that estimates do not depend on the concurrency
+                var random = new SplittableRandom(nodeId);
+                long closed = 0;
+                for (long i = 0; i < samples; i++) {
+                    long first = random.nextLong(degree);
+                    long second = random.nextLong(degree - 1);
+                    if (second >= first) {
+                        second++;
+                    }
+                    if (isClosed(adjacency.target(start + first), adjacency.target(start + second))) {
+                        closed++;
+                    }
+                }
+                double closedFraction = (double) closed / samples;
+                estimate = wedges * closedFraction;
+                // add two closed and two open wedges, approximately Z_95² / 2 each
+                double adjustedSamples = samples + 4;
+                double adjustedFraction = (closed + 2) / adjustedSamples;
+                variance += wedges * wedges * adjustedFraction * (1 - adjustedFraction) / adjustedSamples;
+            }
+
+            triangleCounts.set(nodeId, Math.round(estimate));
+            triangles += estimate;
+        }
+
+        private long countClosedWedges(long start, long end) {
+            long closed = 0;
+            for (long i = start; i < end; i++) {
+                for (long j = i + 1; j < end; j++) {
+                    if (isClosed(adjacency.target(i), adjacency.target(j))) {
+                        closed++;
+                    }
+                }
+            }
+            return closed;
+        }
+
+        private boolean isClosed(long first, long second) {
+            // search the shorter of both lists
+            return adjacency.degree(first) <= adjacency.degree(second)
+                ? adjacency.contains(first, second)
+                : adjacency.contains(second, first);
+        }
+    }
+}
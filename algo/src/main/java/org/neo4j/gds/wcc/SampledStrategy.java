@@ -28,6 +28,7 @@ import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -42,20 +43,29 @@ import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
 
+/**
+ * Afforest [1] on top of {@link HugeAtomicDisjointSetStruct}.
+ * <p>
+ * In each of the configured neighbor rounds, every node is linked to one more of
+ * its neighbors, followed by a compress pass that points every node directly at
+ * its root. The largest component is then approximated from a node sample and
+ * the remaining relationships are only linked for nodes outside of it.
+ * <p>
+ * [1] Michael Sutton, Tal Ben-Nun, and Amnon Barak. "Optimizing Parallel
+ * Graph Connectivity Computation via Subgraph Sampling" Symposium on
+ * Parallel and Distributed Processing, IPDPS 2018.
+ */
 final class SampledStrategy {
 
-    /**
-     * The number of relationships of each node to sample during subgraph sampling.
-     */
-    private static final int NEIGHBOR_ROUNDS = 2;
     /**
      * The number of samples from the DSS to find the largest component.
      */
     private static final int SAMPLING_SIZE = 1024;
 
     private final Graph graph;
-    private final DisjointSetStruct disjointSetStruct;
+    private final HugeAtomicDisjointSetStruct disjointSetStruct;
     private final int concurrency;
+    private final int neighborRounds;
 
     private final Optional<Double> threshold;
 
@@ -66,8 +76,9 @@ final class SampledStrategy {
     @Builder.Constructor
     SampledStrategy(
         Graph graph,
-        DisjointSetStruct disjointSetStruct,
+        HugeAtomicDisjointSetStruct disjointSetStruct,
         int concurrency,
+        int neighborRounds,
         Optional<Double> threshold,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
@@ -76,6 +87,7 @@ final class SampledStrategy {
         this.graph = graph;
         this.disjointSetStruct = disjointSetStruct;
         this.concurrency = concurrency;
+        this.neighborRounds = neighborRounds;
         this.threshold = threshold;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
@@ -90,28 +102,33 @@ final class SampledStrategy {
             Optional.empty()
         );
 
-        sampleSubgraph(disjointSetStruct, partitions);
+        for (int round = 0; round < neighborRounds; round++) {
+            sampleSubgraph(disjointSetStruct, partitions, round);
+            compress(disjointSetStruct, partitions);
+        }
         long largestComponent = findLargestComponent(disjointSetStruct);
         linkRemaining(disjointSetStruct, partitions, largestComponent);
     }
 
     /**
      * Processes a sparse samples subgraph first for approximating components.
-     * Samples by processing a fixed number of neighbors for each node.
+     * Samples by linking the neighbor at position {@code round} of each node.
      */
-    private void sampleSubgraph(DisjointSetStruct components, List<Partition> partitions) {
+    private void sampleSubgraph(DisjointSetStruct components, List<Partition> partitions, int round) {
         var tasks = partitions
             .stream()
             .map(partition -> this.threshold.isPresent()
                 ? new SamplingWithThresholdTask(
                 graph,
                 threshold.get(),
+                round,
                 partition,
                 disjointSetStruct,
                 progressTracker,
                 terminationFlag
             ) : new SamplingTask(
                 graph,
+                round,
                 partition,
                 components,
                 progressTracker,
@@ -122,6 +139,19 @@ final class SampledStrategy {
         ParallelUtil.run(tasks, executorService);
     }
 
+    /**
+     * Flattens the trees built by the previous round, so that the next round
+     * and the largest component lookup only need a single step per node.
+     */
+    private void compress(HugeAtomicDisjointSetStruct components, List<Partition> partitions) {
+        var tasks = partitions
+            .stream()
+            .map(partition -> (Runnable) () -> partition.consume(components::compress))
+            .collect(Collectors.toList());
+
+        ParallelUtil.run(tasks, executorService);
+    }
+
     /**
      * Approximates the largest component by sampling a fixed number of nodes.
      */
@@ -161,6 +191,7 @@ final class SampledStrategy {
                 ? new LinkWithThresholdTask(
                 graph,
                 threshold.get(),
+                neighborRounds,
                 partition,
                 largestComponent,
                 components,
@@ -168,6 +199,7 @@ final class SampledStrategy {
                 terminationFlag
             ) : new SampledStrategy.LinkTask(
                 graph,
+                neighborRounds,
                 partition,
                 largestComponent,
                 components,
@@ -182,7 +214,9 @@ final class SampledStrategy {
 
         final Graph graph;
         final DisjointSetStruct components;
-        long limit;
+        // the number of neighbors to skip before linking one
+        final int round;
+        long skip;
 
         private final Partition partition;
         private final ProgressTracker progressTracker;
@@ -190,12 +224,14 @@ final class SampledStrategy {
 
         SamplingTask(
             Graph graph,
+            int round,
             Partition partition,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
         ) {
             this.graph = graph.concurrentCopy();
+            this.round = round;
             this.partition = partition;
             this.components = components;
             this.progressTracker = progressTracker;
@@ -208,12 +244,15 @@ final class SampledStrategy {
             var endNode = startNode + partition.nodeCount();
 
             for (long node = startNode; node < endNode; node++) {
-                reset();
-                sample(node);
+                var degree = graph.degree(node);
+                if (degree > round) {
+                    reset();
+                    sample(node);
+                    progressTracker.logProgress(1);
+                }
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     terminationFlag.assertRunning();
                 }
-                progressTracker.logProgress(Math.min(NEIGHBOR_ROUNDS, graph.degree(node)));
             }
         }
 
@@ -223,13 +262,16 @@ final class SampledStrategy {
 
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId) {
-            components.union(sourceNodeId, targetNodeId);
-            limit--;
-            return limit != 0;
+            if (skip == round) {
+                components.union(sourceNodeId, targetNodeId);
+                return false;
+            }
+            skip++;
+            return true;
         }
 
         void reset() {
-            limit = NEIGHBOR_ROUNDS;
+            skip = 0;
         }
     }
 
@@ -240,12 +282,13 @@ final class SampledStrategy {
         SamplingWithThresholdTask(
             Graph graph,
             double threshold,
+            int round,
             Partition partition,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
         ) {
-            super(graph, partition, components, progressTracker, terminationFlag);
+            super(graph, round, partition, components, progressTracker, terminationFlag);
             this.threshold = threshold;
         }
 
@@ -257,10 +300,9 @@ final class SampledStrategy {
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId, double property) {
             if (property > this.threshold) {
-                components.union(sourceNodeId, targetNodeId);
-                limit--;
+                return super.accept(sourceNodeId, targetNodeId);
             }
-            return limit != 0;
+            return true;
         }
     }
 
@@ -268,6 +310,8 @@ final class SampledStrategy {
 
         final Graph graph;
         final DisjointSetStruct components;
+        // the number of neighbors that were already linked during sampling
+        final int neighborRounds;
         long skip;
 
         private final RelationshipConsumer inverseConsumer;
@@ -278,6 +322,7 @@ final class SampledStrategy {
 
         LinkTask(
             Graph graph,
+            int neighborRounds,
             Partition partition,
             long skipComponent,
             DisjointSetStruct components,
@@ -285,6 +330,7 @@ final class SampledStrategy {
             TerminationFlag terminationFlag
         ) {
             this.graph = graph.concurrentCopy();
+            this.neighborRounds = neighborRounds;
             this.skipComponent = skipComponent;
             this.partition = partition;
             this.components = components;
@@ -312,11 +358,11 @@ final class SampledStrategy {
                     continue;
                 }
                 var degree = graph.degree(node);
-                if (degree > NEIGHBOR_ROUNDS) {
+                if (degree > neighborRounds) {
                     reset();
                     link(node);
 
-                    progressTracker.logProgress(degree - NEIGHBOR_ROUNDS);
+                    progressTracker.logProgress(degree - neighborRounds);
                     if (node % RUN_CHECK_NODE_COUNT == 0) {
                         terminationFlag.assertRunning();
                     }
@@ -337,7 +383,7 @@ final class SampledStrategy {
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId) {
             skip++;
-            if (skip > NEIGHBOR_ROUNDS) {
+            if (skip > neighborRounds) {
                 components.union(sourceNodeId, targetNodeId);
             }
             return true;
@@ -356,13 +402,14 @@ final class SampledStrategy {
         LinkWithThresholdTask(
             Graph graph,
             double threshold,
+            int neighborRounds,
             Partition partition,
             long skipComponent,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
         ) {
-            super(graph, partition, skipComponent, components, progressTracker, terminationFlag);
+            super(graph, neighborRounds, partition, skipComponent, components, progressTracker, terminationFlag);
             this.threshold = threshold;
 
             if (graph.characteristics().isInverseIndexed()) {
@@ -391,7 +438,7 @@ final class SampledStrategy {
         public boolean accept(long sourceNodeId, long targetNodeId, double property) {
             if (property > threshold) {
                 skip++;
-                if (skip > NEIGHBOR_ROUNDS) {
+                if (skip > neighborRounds) {
                     components.union(sourceNodeId, targetNodeId);
                 }
             }
@@ -45,8 +45,9 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  * <p>
  * The idea is to identify the largest component using a sampled subgraph.
  * Relationships of nodes that are already contained in the largest component are
- * not iterated. The compression step described in [1], is contained in
- * {@link DisjointSetStruct#setIdOf}.
+ * not iterated. The number of sampled neighbors per node is configured with
+ * {@link WccBaseConfig#neighborRounds()}, setting it to zero disables sampling.
+ * See {@link SampledStrategy} for details.
  * <p>
  * [1] Michael Sutton, Tal Ben-Nun, and Amnon Barak. "Optimizing Parallel
  * Graph Connectivity Computation via Subgraph Sampling" Symposium on
@@ -110,12 +111,14 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, config.concurrency());
 
-        if (graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed()) {
+        boolean canSample = graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+        if (canSample && config.neighborRounds() > 0) {
             new SampledStrategyBuilder()
                 .graph(graph)
                 .disjointSetStruct(disjointSetStruct)
                 .threshold(threshold())
                 .concurrency(config.concurrency())
+                .neighborRounds(config.neighborRounds())
                 .terminationFlag(terminationFlag)
                 .progressTracker(progressTracker)
                 .executorService(executorService)
@@ -39,6 +39,16 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return !Double.isNaN(threshold()) && threshold() > 0;
     }
 
+    /**
+     * The number of neighbors per node that are linked before the largest component is skipped.
+     * Zero links all relationships without sampling.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int neighborRounds() {
+        return 2;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty().isEmpty()) {
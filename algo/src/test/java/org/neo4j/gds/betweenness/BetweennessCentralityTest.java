@@ -40,6 +40,8 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
@@ -172,6 +174,53 @@ class BetweennessCentralityTest {
         assertEquals(0.0, actualResult.get((int) graph.toMappedNodeId("e")));
     }
 
+    static Stream<Arguments> adaptiveSamplingArguments() {
+        return crossArguments(
+            () -> Stream.of(1, 4).map(Arguments::of),
+            () -> Stream.of(
+                Arguments.of(fromGdl(CONNECTED_CYCLES, "connected_cycles"), Map.of("a", 13.0, "b", 4.0, "c", 4.0, "d", 13.0, "e", 4.0, "f", 4.0)),
+                Arguments.of(fromGdl(DIAMOND, UNDIRECTED, "undirected_diamond"), Map.of("a1", 0.0, "a2", 0.0, "b", 9.5, "c", 3.0, "d", 3.0, "e", 5.5, "f", 0.0))
+            )
+        );
+    }
+
+    @ParameterizedTest(name = "graph={1}, concurrency={0}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#adaptiveSamplingArguments")
+    void adaptiveSampling(int concurrency, TestGraph graph, Map<String, Double> expectedResult) {
+        var epsilon = 0.05;
+        var algorithm = new BetweennessCentrality(
+            graph,
+            new AdaptiveSampling(epsilon, 0.1, Optional.of(42L)),
+            false,
+            Pools.DEFAULT,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        );
+        var actualResult = algorithm.compute();
+
+        assertThat(algorithm.samplingError()).isPresent();
+        var error = algorithm.samplingError().getAsDouble();
+        assertThat(error).isLessThanOrEqualTo(epsilon);
+
+        // the error refers to scores normalized by the number of pairs of nodes
+        var nodeCount = graph.nodeCount();
+        var pairs = nodeCount * (nodeCount - 1) / (graph.schema().isUndirected() ? 2.0 : 1.0);
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertThat(actualResult.get(graph.toMappedNodeId(variable)))
+                .as(variable)
+                .isCloseTo(expectedCentrality, within(error * pairs))
+        );
+    }
+
+    @Test
+    void shouldNotAllowSamplingSizeAndSamplingEpsilon() {
+        assertThatThrownBy(() -> BetweennessCentralityStreamConfigImpl.builder()
+            .samplingSize(2L)
+            .samplingEpsilon(0.1)
+            .build()
+        ).hasMessageContaining("'samplingSize' and 'samplingEpsilon' cannot be used together");
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
             Arguments.of(1, 6_000_376L, 6_000_376L),
@@ -216,6 +265,29 @@ class BetweennessCentralityTest {
             );
     }
 
+    @Test
+    void testShouldLogProgressAdaptiveSampling() {
+        var config = BetweennessCentralityStreamConfigImpl.builder().samplingEpsilon(0.2).samplingSeed(42L).build();
+        var factory = new BetweennessCentralityFactory<>();
+        var log = Neo4jProxy.testLog();
+        var testGraph = fromGdl(DIAMOND, "diamond");
+        var progressTracker = new TestProgressTracker(
+            factory.progressTask(testGraph, config),
+            log,
+            4,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        factory.build(testGraph, config, progressTracker).compute();
+
+        // the volume is the maximum number of samples, it is completed even if sampling stops early
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .extracting(replaceTimings())
+            .contains("BetweennessCentrality 100%")
+            .last()
+            .isEqualTo("BetweennessCentrality :: Finished");
+    }
+
     @Test
     void testShouldLogProgressNoSampling() {
         var config = BetweennessCentralityStreamConfigImpl.builder().build();
@@ -357,12 +357,14 @@ class LeidenTest {
                 "Leiden :: Iteration :: Aggregation 1 of 3 87%",
                 "Leiden :: Iteration :: Aggregation 1 of 3 100%",
                 "Leiden :: Iteration :: Aggregation 1 of 3 :: Finished",
+                "Leiden :: Iteration :: Iteration 1 took `some time`",
                 "Leiden :: Iteration :: Local Move 2 of 3 :: Start",
                 "Leiden :: Iteration :: Local Move 2 of 3 100%",
                 "Leiden :: Iteration :: Local Move 2 of 3 :: Finished",
                 "Leiden :: Iteration :: Modularity Computation 2 of 3 :: Start",
                 "Leiden :: Iteration :: Modularity Computation 2 of 3 100%",
                 "Leiden :: Iteration :: Modularity Computation 2 of 3 :: Finished",
+                "Leiden :: Iteration :: Iteration 2 took `some time`",
                 "Leiden :: Iteration :: Finished",
                 "Leiden :: Finished"
             );
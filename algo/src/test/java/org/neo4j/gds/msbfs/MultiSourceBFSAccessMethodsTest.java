@@ -30,6 +30,9 @@ import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipCursor;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.graphbuilder.DefaultBuilder;
@@ -395,6 +398,54 @@ final class MultiSourceBFSAccessMethodsTest extends BaseTest {
         }
     }
 
+    @Test
+    void testDirectionOptimizingTraversal() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sourceCount = 200;
+        var sources = new long[sourceCount];
+        Arrays.setAll(sources, i -> i * 7L);
+
+        // `Graph` enables bottom-up steps, a plain `RelationshipIterator` always traverses top-down
+        var directionOptimizing = depths(graph, graph, sources);
+        var topDown = depths(graph, new TopDownRelationshipIterator(graph), sources);
+
+        for (int i = 0; i < sourceCount; i++) {
+            assertArrayEquals(topDown[i], directionOptimizing[i]);
+        }
+    }
+
+    private static int[][] depths(Graph graph, RelationshipIterator relationships, long[] sources) {
+        var sourceIndex = new int[(int) graph.nodeCount()];
+        for (int i = 0; i < sources.length; i++) {
+            sourceIndex[(int) sources[i]] = i;
+        }
+        int[][] depths = new int[sources.length][(int) graph.nodeCount()];
+        MultiSourceBFSAccessMethods msbfs = MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+            graph.nodeCount(),
+            relationships,
+            (nodeId, depth, sourceNodeIds) -> {
+                synchronized (depths) {
+                    while (sourceNodeIds.hasNext()) {
+                        var nodeDepths = depths[sourceIndex[(int) sourceNodeIds.nextLong()]];
+                        assertEquals(0, nodeDepths[(int) nodeId]);
+                        nodeDepths[(int) nodeId] = depth;
+                    }
+                }
+            },
+            sources.clone()
+        );
+        msbfs.run(ConcurrencyConfig.DEFAULT_CONCURRENCY, Pools.DEFAULT);
+        return depths;
+    }
+
     private void withGraph(String cypher, Consumer<? super Graph> block) {
         runQuery(cypher);
         block.accept(new StoreLoaderBuilder()
@@ -472,4 +523,52 @@ final class MultiSourceBFSAccessMethodsTest extends BaseTest {
             return longs.toString();
         }
     }
+
+    private static final class TopDownRelationshipIterator implements RelationshipIterator {
+
+        private final Graph graph;
+
+        private TopDownRelationshipIterator(Graph graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+            graph.forEachRelationship(nodeId, consumer);
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+            graph.forEachRelationship(nodeId, fallbackValue, consumer);
+        }
+
+        @Override
+        public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+            graph.forEachInverseRelationship(nodeId, consumer);
+        }
+
+        @Override
+        public void forEachInverseRelationship(
+            long nodeId,
+            double fallbackValue,
+            RelationshipWithPropertyConsumer consumer
+        ) {
+            graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+        }
+
+        @Override
+        public boolean exists(long sourceNodeId, long targetNodeId) {
+            return graph.exists(sourceNodeId, targetNodeId);
+        }
+
+        @Override
+        public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
+            return graph.streamRelationships(nodeId, fallbackValue);
+        }
+
+        @Override
+        public RelationshipIterator concurrentCopy() {
+            return new TopDownRelationshipIterator(graph.concurrentCopy());
+        }
+    }
 }
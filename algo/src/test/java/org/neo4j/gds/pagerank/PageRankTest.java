@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.assertj.core.data.Offset;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,9 +32,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
@@ -676,6 +679,94 @@ class PageRankTest {
         );
     }
 
+    @Nested
+    @GdlExtension
+    class WarmStart {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Node)" +
+            ", (b:Node)" +
+            ", (c:Node)" +
+            ", (d:Node)" +
+            ", (e:Node)" +
+            ", (f:Node)" +
+            ", (g:Node)" +
+            ", (b)-[:OLD]->(c)" +
+            ", (c)-[:OLD]->(b)" +
+            ", (d)-[:OLD]->(a)" +
+            ", (d)-[:OLD]->(b)" +
+            ", (e)-[:OLD]->(b)" +
+            ", (e)-[:OLD]->(d)" +
+            ", (e)-[:OLD]->(f)" +
+            ", (f)-[:OLD]->(b)" +
+            ", (f)-[:OLD]->(e)" +
+            ", (g)-[:OLD]->(b)" +
+            ", (g)-[:OLD]->(e)" +
+            ", (g)-[:NEW]->(f)";
+
+        @Inject
+        private GraphStore graphStore;
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"PAGE_RANK", "ARTICLE_RANK"})
+        void shouldConvergeImmediatelyFromPreviousResult(Mode mode) {
+            var oldGraph = graphStore.getGraph(RelationshipType.of("OLD"));
+            var previous = runOnPregel(oldGraph, config(null, 1000, 0), mode);
+            graphStore.addNodeProperty(graphStore.nodeLabels(), "previous", previous.scores().asNodeProperties());
+
+            var warmStarted = runOnPregel(graphStore.getGraph(RelationshipType.of("OLD")), config("previous", 1000, 1E-7), mode);
+
+            // the initial superstep sends the seeded scores, the second one finds all residuals below the tolerance
+            assertThat(warmStarted.iterations()).isLessThanOrEqualTo(2);
+            assertThat(warmStarted.didConverge()).isTrue();
+            for (long nodeId = 0; nodeId < oldGraph.nodeCount(); nodeId++) {
+                assertThat(warmStarted.scores().get(nodeId)).isCloseTo(previous.scores().get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"PAGE_RANK", "ARTICLE_RANK"})
+        void shouldPropagateResidualsOfChangedGraph(Mode mode) {
+            var previous = runOnPregel(graphStore.getGraph(RelationshipType.of("OLD")), config(null, 1000, 0), mode);
+            graphStore.addNodeProperty(graphStore.nodeLabels(), "previous", previous.scores().asNodeProperties());
+
+            var changedGraph = graphStore.getGraph(RelationshipType.of("OLD"), RelationshipType.of("NEW"));
+            var coldStarted = runOnPregel(changedGraph, config(null, 1000, 1E-7), mode);
+            var warmStarted = runOnPregel(changedGraph, config("previous", 1000, 1E-7), mode);
+
+            assertThat(warmStarted.didConverge()).isTrue();
+            assertThat(warmStarted.iterations()).isLessThan(coldStarted.iterations());
+            for (long nodeId = 0; nodeId < changedGraph.nodeCount(); nodeId++) {
+                assertThat(warmStarted.scores().get(nodeId)).isCloseTo(coldStarted.scores().get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @Test
+        void shouldSeedEigenvector() {
+            var oldGraph = graphStore.getGraph(RelationshipType.of("OLD"));
+            var previous = runOnPregel(oldGraph, config(null, 1000, 1E-9), Mode.EIGENVECTOR);
+            graphStore.addNodeProperty(graphStore.nodeLabels(), "previous", previous.scores().asNodeProperties());
+
+            var warmStarted = runOnPregel(oldGraph, config("previous", 1000, 1E-9), Mode.EIGENVECTOR);
+
+            assertThat(warmStarted.iterations()).isLessThan(previous.iterations());
+            for (long nodeId = 0; nodeId < oldGraph.nodeCount(); nodeId++) {
+                assertThat(warmStarted.scores().get(nodeId)).isCloseTo(previous.scores().get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        private PageRankConfig config(@Nullable String seedProperty, int maxIterations, double tolerance) {
+            return ImmutablePageRankStreamConfig.builder()
+                .maxIterations(maxIterations)
+                .tolerance(tolerance)
+                .seedProperty(seedProperty)
+                .concurrency(1)
+                .build();
+        }
+    }
+
     PageRankResult runOnPregel(Graph graph, PageRankConfig config) {
         return runOnPregel(graph, config, Mode.PAGE_RANK);
     }
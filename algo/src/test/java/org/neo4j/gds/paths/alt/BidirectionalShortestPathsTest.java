@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.alt;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class BidirectionalShortestPathsTest {
+
+    @GdlGraph(orientation = Orientation.NATURAL, indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(d)" +
+        ", (c)-[:TYPE {cost: 8}]->(d)" +
+        ", (c)-[:TYPE {cost: 10}]->(e)" +
+        ", (d)-[:TYPE {cost: 2}]->(e)";
+
+    @GdlGraph(orientation = Orientation.NATURAL, graphNamePrefix = "notInverse")
+    private static final String NOT_INVERSE_CYPHER = "(a)-[:TYPE]->(b)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Inject
+    private Graph notInverseGraph;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldFindShortestPath() {
+        var shortestPaths = BidirectionalShortestPaths.create(graph, Optional.empty());
+
+        var path = shortestPaths.query(mapped("a"), mapped("e"));
+
+        assertThat(path.nodeIds()).containsExactly(mapped("a"), mapped("b"), mapped("d"), mapped("e"));
+        assertThat(path.costs()).containsExactly(0.0, 4.0, 9.0, 11.0);
+        assertThat(path.totalCost()).isEqualTo(11.0);
+    }
+
+    @Test
+    void shouldFindShortestPathWithLandmarks() {
+        var landmarks = LandmarkDistances.compute(graph, 2, 42L, 4, Pools.DEFAULT);
+        var shortestPaths = BidirectionalShortestPaths.create(graph, Optional.of(landmarks));
+
+        var path = shortestPaths.query(mapped("a"), mapped("e"));
+
+        assertThat(path.nodeIds()).containsExactly(mapped("a"), mapped("b"), mapped("d"), mapped("e"));
+        assertThat(path.costs()).containsExactly(0.0, 4.0, 9.0, 11.0);
+    }
+
+    @Test
+    void shouldReturnEmptyPathForUnreachableTarget() {
+        var shortestPaths = BidirectionalShortestPaths.create(graph, Optional.empty());
+
+        assertThat(shortestPaths.query(mapped("e"), mapped("a"))).isEqualTo(PathResult.EMPTY);
+        assertThat(shortestPaths.query(mapped("a"), mapped("f"))).isEqualTo(PathResult.EMPTY);
+    }
+
+    @Test
+    void shouldReturnSingleNodePathForSameSourceAndTarget() {
+        var shortestPaths = BidirectionalShortestPaths.create(graph, Optional.empty());
+
+        var path = shortestPaths.query(mapped("c"), mapped("c"));
+
+        assertThat(path.nodeIds()).containsExactly(mapped("c"));
+        assertThat(path.costs()).containsExactly(0.0);
+    }
+
+    @Test
+    void shouldComputeManyToMany() {
+        var shortestPaths = BidirectionalShortestPaths.create(graph, Optional.empty());
+
+        var paths = shortestPaths
+            .manyToMany(
+                new long[]{mapped("a"), mapped("b")},
+                new long[]{mapped("d"), mapped("e"), mapped("a")},
+                4,
+                Pools.DEFAULT
+            )
+            .pathSet();
+
+        // b cannot reach a
+        assertThat(paths).hasSize(5);
+        assertThat(paths.stream().collect(Collectors.toMap(PathResult::index, PathResult::totalCost)))
+            .containsEntry(0L, 9.0)
+            .containsEntry(1L, 11.0)
+            .containsEntry(2L, 0.0)
+            .containsEntry(3L, 5.0)
+            .containsEntry(4L, 7.0);
+    }
+
+    @Test
+    void shouldFailOnDirectedGraphWithoutInverseIndex() {
+        assertThatThrownBy(() -> BidirectionalShortestPaths.create(notInverseGraph, Optional.empty()))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("inverse indexed");
+
+        assertThatThrownBy(() -> LandmarkDistances.compute(notInverseGraph, 2, 42L, 1, Pools.DEFAULT))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    @Test
+    void shouldCacheLandmarksPerGraphStore() {
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("user", "graph"), graphStore);
+        var computations = new AtomicInteger();
+        Function<Graph, LandmarkDistances> computation = landmarkGraph -> {
+            computations.incrementAndGet();
+            return LandmarkDistances.compute(landmarkGraph, 2, 42L, 1, Pools.DEFAULT);
+        };
+        var labels = List.of(NodeLabel.of("Node"));
+        var types = List.of(RelationshipType.of("TYPE"));
+
+        var first = LandmarkCache.getOrCompute(graphStore, labels, types, Optional.of("cost"), 2, computation);
+        var second = LandmarkCache.getOrCompute(graphStore, labels, types, Optional.of("cost"), 2, computation);
+
+        assertThat(second).isSameAs(first);
+        assertThat(computations).hasValue(1);
+
+        LandmarkCache.getOrCompute(graphStore, labels, types, Optional.empty(), 2, computation);
+        LandmarkCache.getOrCompute(graphStore, labels, types, Optional.of("cost"), 3, computation);
+        assertThat(computations).hasValue(3);
+
+        graphStore.addNodeProperty(Set.of(NodeLabel.of("Node")), "foo", new DoubleNullPropertyMap(42.0));
+        var third = LandmarkCache.getOrCompute(graphStore, labels, types, Optional.of("cost"), 2, computation);
+        assertThat(third).isNotSameAs(first);
+        assertThat(computations).hasValue(4);
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return Stream.of(
+            Arguments.of(Direction.DIRECTED, 0),
+            Arguments.of(Direction.DIRECTED, 4),
+            Arguments.of(Direction.UNDIRECTED, 0),
+            Arguments.of(Direction.UNDIRECTED, 4)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldGiveSameResultsAsDijkstra(Direction direction, int landmarkCount) {
+        int nodeCount = 1_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        Optional<LandmarkDistances> landmarks = landmarkCount > 0
+            ? Optional.of(LandmarkDistances.compute(randomGraph, landmarkCount, 42L, 4, Pools.DEFAULT))
+            : Optional.empty();
+        var shortestPaths = BidirectionalShortestPaths.create(randomGraph, landmarks);
+
+        for (long sourceNode = 0; sourceNode < nodeCount; sourceNode += 97) {
+            var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+                .sourceNode(sourceNode)
+                .build();
+
+            var expected = new double[nodeCount];
+            Arrays.fill(expected, Double.NaN);
+            Dijkstra
+                .singleSource(randomGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> expected[(int) path.targetNode()] = path.totalCost());
+
+            for (long targetNode = 0; targetNode < nodeCount; targetNode++) {
+                var path = shortestPaths.query(sourceNode, targetNode);
+                if (Double.isNaN(expected[(int) targetNode])) {
+                    assertThat(path).isEqualTo(PathResult.EMPTY);
+                } else {
+                    assertThat(path.totalCost()).isCloseTo(expected[(int) targetNode], Offset.offset(1e-9));
+                    assertThat(path.nodeIds()[0]).isEqualTo(sourceNode);
+                    assertThat(path.nodeIds()[path.nodeIds().length - 1]).isEqualTo(targetNode);
+                }
+            }
+        }
+    }
+
+    private long mapped(String variable) {
+        return graph.toMappedNodeId(idFunction.of(variable));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ContractionHierarchyTest {
+
+    @GdlGraph(orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(d)" +
+        ", (c)-[:TYPE {cost: 8}]->(d)" +
+        ", (c)-[:TYPE {cost: 10}]->(e)" +
+        ", (d)-[:TYPE {cost: 2}]->(e)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldFindShortestPath() {
+        var hierarchy = build(graph);
+
+        var path = hierarchy.query(mapped("a"), mapped("e"));
+
+        assertThat(path.nodeIds()).containsExactly(mapped("a"), mapped("b"), mapped("d"), mapped("e"));
+        assertThat(path.costs()).containsExactly(0.0, 4.0, 9.0, 11.0);
+        assertThat(path.totalCost()).isEqualTo(11.0);
+    }
+
+    @Test
+    void shouldReturnEmptyPathForUnreachableTarget() {
+        var hierarchy = build(graph);
+
+        assertThat(hierarchy.query(mapped("e"), mapped("a"))).isEqualTo(PathResult.EMPTY);
+        assertThat(hierarchy.query(mapped("a"), mapped("f"))).isEqualTo(PathResult.EMPTY);
+    }
+
+    @Test
+    void shouldReturnSingleNodePathForSameSourceAndTarget() {
+        var hierarchy = build(graph);
+
+        var path = hierarchy.query(mapped("c"), mapped("c"));
+
+        assertThat(path.nodeIds()).containsExactly(mapped("c"));
+        assertThat(path.costs()).containsExactly(0.0);
+    }
+
+    @Test
+    void shouldFallBackToDijkstraWhenGraphStoreWasModified() {
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("user", "graph"), graphStore);
+        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("e"))
+            .relationshipWeightProperty("cost")
+            .build();
+        var nodeLabels = config.nodeLabelIdentifiers(graphStore);
+        var relationshipTypes = config.internalRelationshipTypes(graphStore);
+        var weightProperty = config.relationshipWeightProperty();
+
+        var builds = new AtomicInteger();
+        Function<Graph, ContractionHierarchy> builder = graph -> {
+            builds.incrementAndGet();
+            return build(graph);
+        };
+        var hierarchy = ContractionHierarchyCatalog.getOrBuild(
+            graphStore,
+            nodeLabels,
+            relationshipTypes,
+            weightProperty,
+            builder
+        );
+        assertThat(ContractionHierarchyCatalog.getOrBuild(
+            graphStore,
+            nodeLabels,
+            relationshipTypes,
+            weightProperty,
+            builder
+        )).isSameAs(hierarchy);
+        assertThat(builds).hasValue(1);
+
+        var cached = ContractionHierarchyCatalog.get(graphStore, nodeLabels, relationshipTypes, weightProperty);
+        assertThat(cached).containsSame(hierarchy);
+        var fromHierarchy = new ContractionHierarchyShortestPath(graph, cached, config, ProgressTracker.NULL_TRACKER);
+        assertThat(fromHierarchy.usesHierarchy()).isTrue();
+        assertThat(fromHierarchy.compute().findFirst()).hasValueSatisfying(path -> assertThat(path.totalCost()).isEqualTo(11.0));
+
+        graphStore.addNodeProperty(Set.of(NodeLabel.of("Node")), "foo", new DoubleNullPropertyMap(42.0));
+
+        var stale = ContractionHierarchyCatalog.get(graphStore, nodeLabels, relationshipTypes, weightProperty);
+        assertThat(stale).isEmpty();
+        var fromDijkstra = new ContractionHierarchyShortestPath(graph, stale, config, ProgressTracker.NULL_TRACKER);
+        assertThat(fromDijkstra.usesHierarchy()).isFalse();
+        assertThat(fromDijkstra.compute().findFirst()).hasValueSatisfying(path -> assertThat(path.totalCost()).isEqualTo(11.0));
+    }
+
+    @Test
+    void shouldNotKeepHierarchiesOfGraphsOutsideOfTheCatalog() {
+        var builds = new AtomicInteger();
+        Function<Graph, ContractionHierarchy> builder = graph -> {
+            builds.incrementAndGet();
+            return build(graph);
+        };
+        var nodeLabels = graphStore.nodeLabels();
+        var relationshipTypes = graphStore.relationshipTypes();
+
+        ContractionHierarchyCatalog.getOrBuild(graphStore, nodeLabels, relationshipTypes, Optional.of("cost"), builder);
+        ContractionHierarchyCatalog.getOrBuild(graphStore, nodeLabels, relationshipTypes, Optional.of("cost"), builder);
+
+        assertThat(builds).hasValue(2);
+        assertThat(ContractionHierarchyCatalog.get(graphStore, nodeLabels, relationshipTypes, Optional.of("cost")))
+            .isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void shouldGiveSameResultsAsDijkstra(Direction direction) {
+        int nodeCount = 500;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var hierarchy = build(randomGraph);
+        assertThat(hierarchy.nodeCount()).isEqualTo(nodeCount);
+
+        for (long sourceNode = 0; sourceNode < nodeCount; sourceNode += 47) {
+            var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+                .sourceNode(sourceNode)
+                .build();
+
+            var expected = new double[nodeCount];
+            Arrays.fill(expected, Double.NaN);
+            Dijkstra
+                .singleSource(randomGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> expected[(int) path.targetNode()] = path.totalCost());
+
+            for (long targetNode = 0; targetNode < nodeCount; targetNode++) {
+                var path = hierarchy.query(sourceNode, targetNode);
+                if (Double.isNaN(expected[(int) targetNode])) {
+                    assertThat(path).isEqualTo(PathResult.EMPTY);
+                } else {
+                    assertThat(path.totalCost()).isCloseTo(expected[(int) targetNode], Offset.offset(1e-9));
+                    assertThat(path.nodeIds()[0]).isEqualTo(sourceNode);
+                    assertThat(path.nodeIds()[path.nodeIds().length - 1]).isEqualTo(targetNode);
+                    assertValidPath(randomGraph, path);
+                }
+            }
+        }
+    }
+
+    // every step of an unpacked path must be a relationship of the original graph
+    private static void assertValidPath(Graph graph, PathResult path) {
+        var nodeIds = path.nodeIds();
+        var costs = path.costs();
+        for (int i = 1; i < nodeIds.length; i++) {
+            var targetNode = nodeIds[i];
+            var expectedWeight = costs[i] - costs[i - 1];
+            var found = new boolean[1];
+            graph.forEachRelationship(nodeIds[i - 1], 1.0, (source, target, weight) -> {
+                if (target == targetNode && Math.abs(weight - expectedWeight) < 1e-9) {
+                    found[0] = true;
+                }
+                return !found[0];
+            });
+            assertThat(found[0]).isTrue();
+        }
+    }
+
+    private static ContractionHierarchy build(Graph graph) {
+        return ContractionHierarchy.build(graph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE);
+    }
+
+    private long mapped(String variable) {
+        return graph.toMappedNodeId(idFunction.of(variable));
+    }
+}
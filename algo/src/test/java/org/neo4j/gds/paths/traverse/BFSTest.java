@@ -23,6 +23,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -33,6 +37,8 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.paths.traverse.ExitPredicate.Result;
 
+import java.util.ArrayDeque;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -204,4 +210,70 @@ class BFSTest {
                 "BFS :: Finished"
             );
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldTraverseUndirectedGraphBottomUp(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        assertBfsOrder(graph, concurrency);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldTraverseInverseIndexedGraphBottomUp(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .inverseIndex(true)
+            .seed(42L)
+            .build()
+            .generate();
+
+        assertBfsOrder(graph, concurrency);
+    }
+
+    private static void assertBfsOrder(Graph graph, int concurrency) {
+        LongStream.of(0, 42, 1337).forEach(source -> {
+            long[] nodes = BFS.create(
+                graph,
+                source,
+                (s, t, w) -> Result.FOLLOW,
+                Aggregator.NO_AGGREGATION,
+                concurrency,
+                ProgressTracker.NULL_TRACKER,
+                BFS.ALL_DEPTHS_ALLOWED
+            ).compute().toArray();
+
+            assertThat(nodes).isEqualTo(sequentialBfs(graph, source));
+        });
+    }
+
+    private static long[] sequentialBfs(Graph graph, long source) {
+        var visited = new boolean[(int) graph.nodeCount()];
+        var queue = new ArrayDeque<Long>();
+        var order = LongStream.builder();
+        visited[(int) source] = true;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            long nodeId = queue.poll();
+            order.add(nodeId);
+            graph.forEachRelationship(nodeId, (s, t) -> {
+                if (!visited[(int) t]) {
+                    visited[(int) t] = true;
+                    queue.add(t);
+                }
+                return true;
+            });
+        }
+        return order.build().toArray();
+    }
 }
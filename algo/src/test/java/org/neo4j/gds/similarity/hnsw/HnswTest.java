@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class HnswTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { vector: [1.0, 0.0] })" +
+        ", (b { vector: [0.9, 0.1] })" +
+        ", (c { vector: [0.0, 1.0] })" +
+        ", (d { vector: [0.1, 0.9] })" +
+        ", (e { vector: [-1.0, 0.0] })" +
+        ", (f { vector: [-0.9, -0.1] })";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldFindNearestNeighbours() {
+        var index = build(graph, Map.of("nodeProperty", "vector", "concurrency", 1, "randomSeed", 42L));
+
+        assertThat(index.nodeCount()).isEqualTo(6);
+        assertThat(index.nearestNeighbours(idFunction.of("a"), 1, 10).elements())
+            .containsExactly(idFunction.of("b"));
+        assertThat(index.nearestNeighbours(idFunction.of("e"), 1, 10).elements())
+            .containsExactly(idFunction.of("f"));
+        assertThat(index.nearestNeighbours(new double[]{0.0, 2.0}, 2, 10).elements())
+            .containsExactly(idFunction.of("c"), idFunction.of("d"));
+    }
+
+    @Test
+    void shouldExcludeTheQueryNode() {
+        var index = build(graph, Map.of("nodeProperty", "vector"));
+
+        var neighbours = index.nearestNeighbours(idFunction.of("a"), 10, 10);
+
+        assertThat(neighbours.elements()).hasSize(5).doesNotContain(idFunction.of("a"));
+        var similarities = neighbours.priorities().toArray();
+        for (int i = 1; i < similarities.length; i++) {
+            assertThat(similarities[i]).isLessThanOrEqualTo(similarities[i - 1]);
+        }
+    }
+
+    @Test
+    void shouldFailForNodesOutsideOfTheIndex() {
+        var index = build(graph, Map.of("nodeProperty", "vector"));
+
+        assertThatThrownBy(() -> index.nearestNeighbours(1337L, 1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Node 1337 is not part of the index on property `vector`.");
+    }
+
+    @Test
+    void shouldRejectUnsupportedSimilarityMetrics() {
+        assertThatThrownBy(() -> HnswBuildConfig.of(CypherMapWrapper.create(Map.of(
+            "nodeProperty", "vector",
+            "similarityMetric", "JACCARD"
+        ))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Similarity metric `JACCARD` is not supported.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldHaveHighRecall(int concurrency) {
+        int nodeCount = 1_000;
+        int dimension = 16;
+        int topK = 10;
+
+        var random = new SplittableRandom(42);
+        var centers = new double[10][dimension];
+        for (double[] center : centers) {
+            Arrays.setAll(center, i -> random.nextDouble(-1, 1));
+        }
+        var vectors = new double[nodeCount][dimension];
+        for (double[] vector : vectors) {
+            var center = centers[random.nextInt(centers.length)];
+            // rounded so that the GDL representation is exact
+            Arrays.setAll(vector, i -> Math.round((center[i] + 0.2 * random.nextDouble(-1, 1)) * 1e4) / 1e4);
+        }
+        var gdl = IntStream.range(0, nodeCount)
+            .mapToObj(nodeId -> formatWithLocale(
+                "(n%d { vector: [%s] })",
+                nodeId,
+                Arrays.stream(vectors[nodeId])
+                    .mapToObj(value -> formatWithLocale("%.4f", value))
+                    .collect(Collectors.joining(", "))
+            ))
+            .collect(Collectors.joining(", "));
+        var gdlFactory = GdlFactory.of(gdl);
+        var randomGraph = gdlFactory.build().getUnion();
+        var nodeIds = IntStream.range(0, nodeCount)
+            .mapToLong(nodeId -> randomGraph.toMappedNodeId(gdlFactory.nodeId("n" + nodeId)))
+            .toArray();
+
+        var index = build(randomGraph, Map.of("nodeProperty", "vector", "concurrency", concurrency));
+
+        long hits = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            var vector = vectors[node];
+            int queryNode = node;
+            var exact = IntStream.range(0, nodeCount)
+                .filter(other -> other != queryNode)
+                .boxed()
+                .sorted((left, right) -> Double.compare(
+                    Cosine.doubleMetric(vector, vectors[right]),
+                    Cosine.doubleMetric(vector, vectors[left])
+                ))
+                .limit(topK)
+                .map(other -> randomGraph.toOriginalNodeId(nodeIds[other]))
+                .collect(Collectors.toSet());
+            hits += index
+                .nearestNeighbours(randomGraph.toOriginalNodeId(nodeIds[node]), topK, 64)
+                .elements()
+                .filter(exact::contains)
+                .count();
+        }
+
+        assertThat((double) hits / (nodeCount * topK)).isGreaterThan(0.95);
+    }
+
+    private static HnswIndex build(Graph graph, Map<String, Object> config) {
+        var hnswConfig = HnswBuildConfig.of(CypherMapWrapper.create(config));
+        return new Hnsw(graph, hnswConfig, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+    }
+}
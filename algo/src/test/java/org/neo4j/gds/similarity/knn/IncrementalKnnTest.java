@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class IncrementalKnnTest {
+
+    // the SEED relationships are the top-1 result from when `d` had a `knn` value of 1.5
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { knn: 1.0 })" +
+        ", (b { knn: 2.0 })" +
+        ", (c { knn: 5.0 })" +
+        ", (d { knn: 9.0 })" +
+        ", (e { knn: 10.0 })" +
+        ", (a)-[:SEED { score: 0.6666666666666666 }]->(d)" +
+        ", (b)-[:SEED { score: 0.6666666666666666 }]->(d)" +
+        ", (c)-[:SEED { score: 0.25 }]->(b)" +
+        ", (d)-[:SEED { score: 0.6666666666666666 }]->(a)" +
+        ", (e)-[:SEED { score: 0.2 }]->(c)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldUpdateNeighborsOfChangedNodes() {
+        var config = config(Map.of(
+            "seedRelationshipType", "SEED",
+            "seedRelationshipProperty", "score",
+            "changedNodes", List.of(originalId("d"))
+        ));
+
+        var result = new IncrementalKnnFactory<KnnMutateConfig>()
+            .build(graphStore, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(neighbors(result)).containsExactlyInAnyOrderEntriesOf(Map.of(
+            idFunction.of("a"), List.of(idFunction.of("b")),
+            idFunction.of("b"), List.of(idFunction.of("a")),
+            idFunction.of("c"), List.of(idFunction.of("b")),
+            idFunction.of("d"), List.of(idFunction.of("e")),
+            idFunction.of("e"), List.of(idFunction.of("d"))
+        ));
+    }
+
+    @Test
+    void shouldRecomputeSeedSimilaritiesWithoutSeedProperty() {
+        var config = config(Map.of(
+            "seedRelationshipType", "SEED",
+            "changedNodes", List.of(originalId("d"))
+        ));
+
+        var result = new IncrementalKnnFactory<KnnMutateConfig>()
+            .build(graphStore, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(result.neighborsOf(idFunction.of("d"))).containsExactly(idFunction.of("e"));
+        assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("b"));
+    }
+
+    @Test
+    void shouldNotIterateWithoutChanges() {
+        var config = config(Map.of(
+            "seedRelationshipType", "SEED",
+            "seedRelationshipProperty", "score"
+        ));
+
+        var result = new IncrementalKnnFactory<KnnMutateConfig>()
+            .build(graphStore, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(result.ranIterations()).isEqualTo(0);
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.nodePairsConsidered()).isEqualTo(0);
+        assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("d"));
+        assertThat(result.neighborsOf(idFunction.of("e"))).containsExactly(idFunction.of("c"));
+    }
+
+    @Test
+    void shouldFailWithoutSeedRelationshipType() {
+        assertThatThrownBy(() -> config(Map.of("changedNodes", List.of(0L))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("require a `seedRelationshipType`");
+    }
+
+    @Test
+    void shouldFailOnMissingSeedRelationshipType() {
+        var config = config(Map.of("seedRelationshipType", "PREVIOUS"));
+
+        assertThatThrownBy(() -> config.validateSeed(
+            graphStore,
+            graphStore.nodeLabels(),
+            graphStore.relationshipTypes()
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Seed relationship type `PREVIOUS` not found. Available types: ['SEED']");
+    }
+
+    private static KnnMutateConfig config(Map<String, Object> incrementalParameters) {
+        var parameters = new HashMap<>(incrementalParameters);
+        parameters.put("nodeProperties", List.of("knn"));
+        parameters.put("topK", 1);
+        parameters.put("concurrency", 1);
+        parameters.put("randomSeed", 42L);
+        parameters.put("mutateRelationshipType", "SIMILAR");
+        parameters.put("mutateProperty", "score");
+        return KnnMutateConfig.of(CypherMapWrapper.create(parameters));
+    }
+
+    private long originalId(String variable) {
+        return graphStore.nodes().toOriginalNodeId(idFunction.of(variable));
+    }
+
+    private static Map<Long, List<Long>> neighbors(Knn.Result result) {
+        return LongStream
+            .range(0, result.size())
+            .boxed()
+            .collect(Collectors.toMap(
+                nodeId -> nodeId,
+                nodeId -> result.neighborsOf(nodeId).boxed().collect(Collectors.toList())
+            ));
+    }
+}
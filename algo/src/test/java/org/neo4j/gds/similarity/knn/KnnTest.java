@@ -28,12 +28,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.NullPropertyMap;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -48,6 +52,8 @@ import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 
@@ -59,6 +65,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -450,6 +457,7 @@ class KnnTest {
             1,
             perturbationRate,
             0,
+            true,
             // simplifying the test by only running over a single node
             Partition.of(0, 1),
             ProgressTracker.NULL_TRACKER
@@ -484,6 +492,179 @@ class KnnTest {
         assertThat(result.neighborsOf(1)).containsExactly(0L);
     }
 
+    @Test
+    void shouldRunWithProductQuantization() {
+        var graph = GdlFactory.of(
+            "  (a {vector: [1.0, 0.0, 0.5, 0.1]})" +
+            ", (b {vector: [0.9, 0.1, 0.4, 0.1]})" +
+            ", (c {vector: [0.0, 1.0, 0.1, 0.5]})" +
+            ", (d {vector: [0.1, 0.9, 0.1, 0.4]})" +
+            ", (e {vector: [-1.0, 0.0, -0.5, 0.0]})" +
+            ", (f {vector: [-0.9, -0.1, -0.4, 0.0]})"
+        ).build().getUnion();
+
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("vector")))
+            .topK(1)
+            .quantizationSubspaces(2)
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+        var knnContext = ImmutableKnnContext.builder().build();
+
+        var result = Knn.createWithDefaults(graph, knnConfig, knnContext).compute();
+
+        assertThat(result.neighborsOf(0)).containsExactly(1L);
+        assertThat(result.neighborsOf(2)).containsExactly(3L);
+        assertThat(result.neighborsOf(4)).containsExactly(5L);
+        // re-ranking replaces the quantized similarities with exact ones
+        var properties = graph.nodeProperties("vector");
+        assertThat(result.streamSimilarityResult()).allSatisfy(similarityResult -> assertThat(similarityResult.similarity)
+            .isCloseTo(
+                Cosine.doubleMetric(
+                    properties.doubleArrayValue(similarityResult.node1),
+                    properties.doubleArrayValue(similarityResult.node2)
+                ),
+                withPrecision(1e-9)
+            )
+        );
+    }
+
+    @Test
+    void shouldSearchStoredQuantizationWithoutOriginalProperty() {
+        var graphStore = GdlFactory.of(
+            "  (a {vector: [1.0, 0.0, 0.5, 0.1]})" +
+            ", (b {vector: [0.9, 0.1, 0.4, 0.1]})" +
+            ", (c {vector: [0.0, 1.0, 0.1, 0.5]})" +
+            ", (d {vector: [0.1, 0.9, 0.1, 0.4]})" +
+            ", (e {vector: [-1.0, 0.0, -0.5, 0.0]})" +
+            ", (f {vector: [-0.9, -0.1, -0.4, 0.0]})"
+        ).build();
+        storeQuantization(graphStore);
+        graphStore.removeNodeProperty("vector");
+        var graph = graphStore.getUnion();
+
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("codes")))
+            .topK(1)
+            .quantizationRerank(false)
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+
+        var result = Knn.createWithDefaults(graph, knnConfig, ImmutableKnnContext.builder().build()).compute();
+
+        assertThat(result.neighborsOf(0)).containsExactly(1L);
+        assertThat(result.neighborsOf(2)).containsExactly(3L);
+        assertThat(result.neighborsOf(4)).containsExactly(5L);
+        var codes = graph.nodeProperties("codes");
+        assertThat(result.streamSimilarityResult()).allSatisfy(similarityResult -> assertThat(similarityResult.similarity)
+            .isCloseTo(
+                Cosine.floatMetric(
+                    codes.floatArrayValue(similarityResult.node1),
+                    codes.floatArrayValue(similarityResult.node2)
+                ),
+                withPrecision(1e-6)
+            )
+        );
+    }
+
+    @Test
+    void shouldSearchStoredQuantizationOnNodeFilteredGraph() {
+        var graphStore = GdlFactory.of(
+            "  (a:A {vector: [1.0, 0.0, 0.5, 0.1]})" +
+            ", (e:B {vector: [-1.0, 0.0, -0.5, 0.0]})" +
+            ", (b:A {vector: [0.9, 0.1, 0.4, 0.1]})" +
+            ", (f:B {vector: [-0.9, -0.1, -0.4, 0.0]})" +
+            ", (c:A {vector: [0.0, 1.0, 0.1, 0.5]})" +
+            ", (d:A {vector: [0.1, 0.9, 0.1, 0.4]})"
+        ).build();
+        storeQuantization(graphStore);
+        var graph = graphStore.getGraph(NodeLabel.of("A"));
+
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("codes")))
+            .topK(1)
+            .randomSeed(42L)
+            .concurrency(1)
+            .build();
+
+        var result = Knn.createWithDefaults(graph, knnConfig, ImmutableKnnContext.builder().build()).compute();
+
+        // the codes are indexed by root node ids, which differ from the ids of the filtered graph
+        assertThat(LongStream.range(0, graph.nodeCount()).mapToObj(nodeId -> List.of(
+            graph.toOriginalNodeId(nodeId),
+            graph.toOriginalNodeId(result.neighborsOf(nodeId).findFirst().orElseThrow())
+        ))).containsExactlyInAnyOrder(List.of(0L, 2L), List.of(2L, 0L), List.of(4L, 5L), List.of(5L, 4L));
+    }
+
+    @Test
+    void shouldRequireOriginalPropertyToRerankStoredQuantization() {
+        var graphStore = GdlFactory.of(
+            "  (a {vector: [1.0, 0.0]})" +
+            ", (b {vector: [0.9, 0.1]})" +
+            ", (c {vector: [0.0, 1.0]})"
+        ).build();
+        storeQuantization(graphStore);
+        graphStore.removeNodeProperty("vector");
+
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("codes")))
+            .topK(1)
+            .build();
+        var knn = Knn.createWithDefaults(graphStore.getUnion(), knnConfig, ImmutableKnnContext.builder().build());
+
+        assertThatThrownBy(knn::compute)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Re-ranking the product-quantized property `codes` requires its original property `vector`, " +
+                "which has not been loaded. Set `quantizationRerank` to false to search the codes only."
+            );
+    }
+
+    private static void storeQuantization(GraphStore graphStore) {
+        var quantization = ProductQuantization.train(
+            "vector",
+            graphStore.nodeProperty("vector").values(),
+            graphStore.nodeCount(),
+            2,
+            256,
+            1,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            new SplittableRandom(42),
+            ProgressTracker.NULL_TRACKER
+        );
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "codes", quantization);
+    }
+
+    @Test
+    void shouldRejectProductQuantizationOfMultipleProperties() {
+        var configBuilder = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("knn"), new KnnNodePropertySpec("prop")))
+            .quantizationSubspaces(2);
+
+        assertThatThrownBy(configBuilder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Product quantization requires exactly one node property, but got 2.");
+    }
+
+    @Test
+    void shouldRejectProductQuantizationOfScalarProperties() {
+        var knnConfig = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+            .quantizationSubspaces(1)
+            .build();
+        var knn = Knn.createWithDefaults(graph, knnConfig, ImmutableKnnContext.builder().build());
+
+        assertThatThrownBy(knn::compute)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Product quantization requires a property of type [FLOAT_ARRAY] or [DOUBLE_ARRAY], " +
+                "but `knn` is of type [DOUBLE]."
+            );
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutableKnnBaseConfig.builder()
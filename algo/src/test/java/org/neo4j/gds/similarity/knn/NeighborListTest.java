@@ -66,6 +66,24 @@ class NeighborListTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    void shouldRerankAndTruncate() {
+        var queue = new NeighborList(4, NeighbourConsumer.devNull);
+        var splittableRandom = new SplittableRandom(42);
+
+        queue.add(1, 4.0, splittableRandom, 0.0);
+        queue.add(2, 3.0, splittableRandom, 0.0);
+        queue.add(3, 2.0, splittableRandom, 0.0);
+        queue.add(4, 1.0, splittableRandom, 0.0);
+        queue.getAndFlagAsChecked(0);
+
+        queue.rerank(element -> element * 10.0, 3);
+
+        assertThat(queue.elements()).containsExactly(4L, 3L, 2L);
+        assertThat(queue.similarityStream(0).mapToDouble(result -> result.similarity))
+            .containsExactly(40.0, 30.0, 20.0);
+    }
+
     @Test
     void insertEverything() {
         var nodeCount = 42;
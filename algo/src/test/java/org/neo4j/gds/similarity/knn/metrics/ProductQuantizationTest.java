@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ProductQuantizationTest {
+
+    @Test
+    void shouldReconstructVectorsWhenThereAreNoMoreVectorsThanCentroids() {
+        var vectors = randomVectors(100, 8, new SplittableRandom(42));
+
+        var quantization = train(vectors, 4, 256);
+
+        assertThat(quantization.dimension()).contains(8);
+        assertThat(quantization.subspaces()).isEqualTo(4);
+        for (int nodeId = 0; nodeId < vectors.length; nodeId++) {
+            var decoded = quantization.doubleArrayValue(nodeId);
+            for (int i = 0; i < 8; i++) {
+                assertThat(decoded[i]).isCloseTo(vectors[nodeId][i], within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void shouldComputeSimilaritiesOfCodesAsOfDecodedVectors() {
+        var vectors = randomVectors(1_000, 10, new SplittableRandom(42));
+
+        var quantization = train(vectors, 3, 16);
+        var centroidDotProducts = quantization.centroidDotProducts();
+
+        for (int first = 0; first < 20; first++) {
+            var firstDecoded = quantization.doubleArrayValue(first);
+            for (int second = 0; second < vectors.length; second += 37) {
+                var secondDecoded = quantization.doubleArrayValue(second);
+                assertThat(quantization.cosine(first, second, centroidDotProducts))
+                    .isCloseTo(Cosine.doubleMetric(firstDecoded, secondDecoded), within(1e-6));
+                assertThat(quantization.euclidean(first, second, centroidDotProducts))
+                    .isCloseTo(Euclidean.doubleMetric(firstDecoded, secondDecoded), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void shouldRememberTheSourceProperty() {
+        var quantization = train(randomVectors(10, 4, new SplittableRandom(42)), 2, 4);
+
+        assertThat(quantization.sourceProperty()).isEqualTo("vector");
+        assertThat(ProductQuantization.of(quantization)).containsSame(quantization);
+        assertThat(ProductQuantization.of(new DoubleArrayTestPropertyValues(nodeId -> new double[4]))).isEmpty();
+    }
+
+    @Test
+    void shouldFailOnVectorsOfDifferentDimensions() {
+        var properties = new DoubleArrayTestPropertyValues(nodeId -> nodeId == 3 ? new double[3] : new double[4]);
+
+        assertThatThrownBy(() -> ProductQuantization.train(
+            "vector",
+            properties,
+            10,
+            2,
+            4,
+            1,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            new SplittableRandom(42),
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Product quantization requires all vectors of property `vector` to have dimension 4, but got 3."
+            );
+    }
+
+    @Test
+    void shouldFailOnNodesWithoutAValue() {
+        var properties = new DoubleArrayTestPropertyValues(nodeId -> nodeId == 0 ? null : new double[4]);
+
+        assertThatThrownBy(() -> ProductQuantization.train(
+            "vector",
+            properties,
+            10,
+            2,
+            4,
+            1,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            new SplittableRandom(42),
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Product quantization requires all nodes to have a value for property `vector`, but node 0 has none."
+            );
+    }
+
+    @Test
+    void shouldFailOnMoreSubspacesThanDimensions() {
+        var vectors = randomVectors(10, 4, new SplittableRandom(42));
+
+        assertThatThrownBy(() -> train(vectors, 5, 4))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "The number of subspaces must be between 1 and the dimension 4 of property `vector`, but got 5."
+            );
+    }
+
+    private static ProductQuantization train(double[][] vectors, int subspaces, int centroids) {
+        return ProductQuantization.train(
+            "vector",
+            new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            vectors.length,
+            subspaces,
+            centroids,
+            4,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            new SplittableRandom(42),
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
+    private static double[][] randomVectors(int count, int dimension, SplittableRandom random) {
+        var vectors = new double[count][dimension];
+        for (double[] vector : vectors) {
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = random.nextDouble(-1, 1);
+            }
+        }
+        return vectors;
+    }
+}
@@ -384,6 +384,54 @@ final class NodeSimilarityTest {
         assertEquals(orientation == REVERSE ? EXPECTED_INCOMING_TOP_K_1 : EXPECTED_OUTGOING_TOP_K_1, result);
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeTopKWithMinHashCandidates(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        // with single-row bands, a pair with a similarity of 1/3 misses all 50 bands with a probability of (2/3)^50
+        NodeSimilarity nodeSimilarity = NodeSimilarity.create(
+            graph,
+            configBuilder()
+                .topK(1)
+                .minHashBands(50)
+                .minHashRows(1)
+                .randomSeed(42L)
+                .concurrency(concurrency)
+                .build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        assertEquals(orientation == REVERSE ? EXPECTED_INCOMING_TOP_K_1 : EXPECTED_OUTGOING_TOP_K_1, result);
+    }
+
+    @Test
+    void shouldNotCompareNodesWithoutCommonMinHashBand() {
+        // b and c have no common neighbour, so their signatures never agree
+        NodeSimilarity nodeSimilarity = NodeSimilarity.create(
+            naturalGraph,
+            configBuilder().minHashBands(50).minHashRows(1).randomSeed(42L).concurrency(1).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        var expected = new HashSet<>(EXPECTED_OUTGOING);
+        expected.remove(resultString(1, 2, 0.0));
+        expected.remove(resultString(2, 1, 0.0));
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeNegativeTopKForSupportedDirections(Orientation orientation, int concurrency) {
@@ -945,6 +993,81 @@ final class NodeSimilarityTest {
         assertThat(result).containsExactlyInAnyOrder(expectedOutput);
     }
 
+    @Test
+    void shouldLogMinHashCandidateRecall() {
+        var graph = naturalGraph;
+        var config = ImmutableNodeSimilarityStreamConfig
+            .builder()
+            .topK(1)
+            .minHashBands(50)
+            .minHashRows(1)
+            .randomSeed(42L)
+            .build();
+        var progressTask = new NodeSimilarityFactory<>().progressTask(graph, config);
+        TestLog log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(
+            progressTask,
+            log,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        NodeSimilarity.create(
+            graph,
+            config,
+            Pools.DEFAULT,
+            progressTracker
+        ).compute().streamResult().count();
+
+        assertThat(log.getMessages(INFO))
+            .extracting(removingThreadId())
+            .contains(
+                "NodeSimilarity :: generate candidates :: Start",
+                "NodeSimilarity :: generate candidates :: Generated 10 candidates for 4 source nodes",
+                "NodeSimilarity :: generate candidates :: Candidate recall on 4 sampled source nodes: 1.0000",
+                "NodeSimilarity :: generate candidates :: Finished"
+            );
+    }
+
+    @Test
+    void shouldLogCandidateRecallBelowOneIfCandidatesMissNeighbours() {
+        var graph = naturalGraph;
+        // with a single band of many rows only nodes with identical neighbours become candidates
+        var config = ImmutableNodeSimilarityStreamConfig
+            .builder()
+            .topK(1)
+            .minHashBands(1)
+            .minHashRows(32)
+            .randomSeed(42L)
+            .build();
+        var progressTask = new NodeSimilarityFactory<>().progressTask(graph, config);
+        TestLog log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(
+            progressTask,
+            log,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        NodeSimilarity.create(
+            graph,
+            config,
+            Pools.DEFAULT,
+            progressTracker
+        ).compute().streamResult().count();
+
+        // a and d find each other, b and c miss their most similar neighbour
+        assertThat(log.getMessages(INFO))
+            .extracting(removingThreadId())
+            .contains("NodeSimilarity :: generate candidates :: Candidate recall on 4 sampled source nodes: 0.5000");
+    }
+
+    @Test
+    void shouldThrowForMinHashCandidatesWithBottomK() {
+        assertThatThrownBy(configBuilder().minHashBands(10).bottomK(3)::build)
+            .hasMessageContaining("MinHash candidates only contain similar node pairs");
+    }
+
     @Test
     void shouldThrowIfUpperIsSmaller() {
         assertThatThrownBy(configBuilder().upperDegreeCutoff(3).degreeCutoff(4)::build)
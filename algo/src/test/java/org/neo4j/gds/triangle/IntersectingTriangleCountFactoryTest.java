@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -27,6 +28,8 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -36,7 +39,7 @@ class IntersectingTriangleCountFactoryTest {
     @ParameterizedTest
     void memoryEstimation(long nodeCount) {
         MemoryEstimation estimation =
-            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(null);
+            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(createConfig().build());
 
         GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
@@ -45,16 +48,16 @@ class IntersectingTriangleCountFactoryTest {
 
 
         long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
-        long expected = 64 + hugeAtomicLongArray;
+        long expected = 64 + hugeAtomicLongArray + degreeOrderedAdjacency(nodeCount, 0L);
         assertEquals(expected, actual.min);
-        assertEquals(expected, actual.max);
+        assertEquals(expected + MemoryUsage.sizeOfBitset(nodeCount), actual.max);
     }
 
     @CsvSource({"1000000000, 8001220736", "100000000000, 800122070336"})
     @ParameterizedTest
     void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray) {
         MemoryEstimation estimation =
-            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(null);
+            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(createConfig().build());
 
         GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
@@ -62,8 +65,77 @@ class IntersectingTriangleCountFactoryTest {
         MemoryRange actual = estimate.memoryUsage();
 
         long hugeAtomicLongArray = 32 + sizeOfHugeArray;
+        long expected = 64 + hugeAtomicLongArray + degreeOrderedAdjacency(nodeCount, 0L);
+        assertEquals(expected, actual.min);
+        assertEquals(expected + MemoryUsage.sizeOfBitset(nodeCount), actual.max);
+    }
+
+    @Test
+    void memoryEstimationIncludesOrientedRelationships() {
+        long nodeCount = 100L;
+        long relationshipCount = 10_000L;
+        MemoryEstimation estimation =
+            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(createConfig().build());
+
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(relationshipCount)
+            .build();
+
+        MemoryRange actual = estimation.estimate(dimensions, 1).memoryUsage();
+
+        long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
+        long expected = 64 + hugeAtomicLongArray + degreeOrderedAdjacency(nodeCount, relationshipCount);
+        assertEquals(expected, actual.min);
+    }
+
+    @Test
+    void memoryEstimationWithMaxDegree() {
+        long nodeCount = 100L;
+        MemoryEstimation estimation =
+            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(createConfig().maxDegree(10).build());
+
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(10_000L)
+            .build();
+
+        MemoryRange actual = estimation.estimate(dimensions, 1).memoryUsage();
+
+        long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
         long expected = 64 + hugeAtomicLongArray;
         assertEquals(expected, actual.min);
         assertEquals(expected, actual.max);
     }
+
+    @Test
+    void memoryEstimationWithSamplingRatio() {
+        long nodeCount = 100L;
+        long relationshipCount = 10_000L;
+        MemoryEstimation estimation =
+            new IntersectingTriangleCountFactory<TriangleCountStreamConfig>().memoryEstimation(createConfig().samplingRatio(0.5).build());
+
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(relationshipCount)
+            .build();
+
+        MemoryRange actual = estimation.estimate(dimensions, 1).memoryUsage();
+
+        long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
+        // the undirected adjacency has the same layout as the degree-ordered one
+        long expected = 64 + hugeAtomicLongArray + degreeOrderedAdjacency(nodeCount, relationshipCount);
+        assertEquals(expected, actual.min);
+        assertEquals(expected, actual.max);
+    }
+
+    static long degreeOrderedAdjacency(long nodeCount, long relationshipCount) {
+        return MemoryUsage.sizeOfInstance(DistinctAdjacency.class)
+               + HugeLongArray.memoryEstimation(nodeCount + 1)
+               + HugeLongArray.memoryEstimation(relationshipCount);
+    }
+
+    private static ImmutableTriangleCountStreamConfig.Builder createConfig() {
+        return ImmutableTriangleCountStreamConfig.builder();
+    }
 }
@@ -29,9 +29,12 @@ import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
 
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -525,6 +528,122 @@ class IntersectingTriangleCountTest {
             .returns(0L, t -> t.get(testGraph.toMappedNodeId("y")));
     }
 
+    @Test
+    void hubIsNotExcludedWithoutMaxDegree() {
+        int ringSize = 2000;
+        StringBuilder gdl = new StringBuilder("CREATE (hub)");
+        for (int i = 0; i < ringSize; ++i) {
+            gdl.append(formatWithLocale(", (n%d)-[:T]->(n%d), (hub)-[:T]->(n%d)", i, (i + 1) % ringSize, i));
+        }
+        var testGraph = TestSupport.fromGdl(gdl.toString(), UNDIRECTED);
+
+        var config = ImmutableTriangleCountBaseConfig.builder().concurrency(4).build();
+        var result = compute(testGraph.graph(), config);
+
+        long hub = testGraph.toMappedNodeId("hub");
+        assertEquals(ringSize, result.globalTriangles());
+        for (int i = 0; i < result.localTriangles().size(); ++i) {
+            assertEquals(i == hub ? ringSize : 2, result.localTriangles().get(i));
+        }
+    }
+
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void degreeOrderedCountMatchesIntersection(int concurrency) {
+        var random = new Random(42);
+        int nodeCount = 200;
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < nodeCount; ++i) {
+            gdl.append(formatWithLocale("(n%d), ", i));
+        }
+        for (int i = 0; i < 2000; ++i) {
+            // every third relationship starts at n0, which turns it into a hub
+            int source = i % 3 == 0 ? 0 : random.nextInt(nodeCount);
+            gdl.append(formatWithLocale("(n%d)-[:T]->(n%d), ", source, random.nextInt(nodeCount)));
+        }
+        var graph = fromGdl(gdl.substring(0, gdl.length() - 2));
+
+        var degreeOrdered = compute(
+            graph,
+            ImmutableTriangleCountBaseConfig.builder().concurrency(concurrency).build()
+        );
+        // any maxDegree selects the intersection based counting
+        var intersecting = compute(
+            graph,
+            ImmutableTriangleCountBaseConfig.builder().concurrency(concurrency).maxDegree(Long.MAX_VALUE - 1).build()
+        );
+
+        assertEquals(intersecting.globalTriangles(), degreeOrdered.globalTriangles());
+        for (int i = 0; i < nodeCount; ++i) {
+            assertEquals(intersecting.localTriangles().get(i), degreeOrdered.localTriangles().get(i));
+        }
+    }
+
+    @Test
+    void approximateCountOnCliques() {
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int clique = 0; clique < 10; ++clique) {
+            for (int i = 0; i < 6; ++i) {
+                for (int j = i + 1; j < 6; ++j) {
+                    gdl.append(formatWithLocale("(c%d_%d)-[:T]->(c%d_%d), ", clique, i, clique, j));
+                }
+            }
+        }
+        var graph = fromGdl(gdl.substring(0, gdl.length() - 2));
+
+        var config = ImmutableTriangleCountBaseConfig.builder().samplingRatio(0.2).build();
+        var result = compute(graph, config);
+
+        // every sampled wedge of a clique is closed, so the estimate is exact
+        assertEquals(200, result.globalTriangles());
+        // but the few samples per node cannot rule out open wedges
+        assertThat(result.globalTrianglesMarginOfError()).isPositive();
+        for (int i = 0; i < result.localTriangles().size(); ++i) {
+            assertEquals(10, result.localTriangles().get(i));
+        }
+    }
+
+    @Test
+    void approximateCountHasMarginOfError() {
+        var random = new Random(42);
+        int nodeCount = 100;
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < nodeCount; ++i) {
+            gdl.append(formatWithLocale("(n%d), ", i));
+        }
+        for (int i = 0; i < 1000; ++i) {
+            gdl.append(formatWithLocale("(n%d)-[:T]->(n%d), ", random.nextInt(nodeCount), random.nextInt(nodeCount)));
+        }
+        var graph = fromGdl(gdl.substring(0, gdl.length() - 2));
+
+        var exact = compute(graph, ImmutableTriangleCountBaseConfig.builder().build());
+        var approximate = compute(graph, ImmutableTriangleCountBaseConfig.builder().samplingRatio(0.5).build());
+
+        assertEquals(0D, exact.globalTrianglesMarginOfError());
+        assertThat(approximate.globalTrianglesMarginOfError()).isPositive();
+        assertThat(approximate.globalTriangles())
+            .isCloseTo(exact.globalTriangles(), within((long) Math.ceil(2 * approximate.globalTrianglesMarginOfError())));
+    }
+
+    @Test
+    void wedgeSamplesPerNodeAreCapped() {
+        assertEquals(5, WedgeSamplingTriangleCount.sampleCount(10, 0.5));
+        // a node with a degree of one million has about 5 * 10^11 wedges
+        double wedges = 1_000_000D * 999_999D / 2;
+        assertEquals(
+            WedgeSamplingTriangleCount.MAX_SAMPLES_PER_NODE,
+            WedgeSamplingTriangleCount.sampleCount(wedges, 0.1)
+        );
+        assertEquals(18_445, WedgeSamplingTriangleCount.MAX_SAMPLES_PER_NODE);
+    }
+
+    @Test
+    void samplingRatioCannotBeCombinedWithMaxDegree() {
+        assertThatThrownBy(() -> ImmutableTriangleCountBaseConfig.builder().samplingRatio(0.5).maxDegree(10).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("samplingRatio");
+    }
+
     private TriangleCountResult compute(Graph graph) {
         TriangleCountStatsConfig config = ImmutableTriangleCountStatsConfig.builder().build();
         return compute(graph, config);
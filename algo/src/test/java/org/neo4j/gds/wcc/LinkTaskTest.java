@@ -62,6 +62,7 @@ class LinkTaskTest {
 
         var task = new SampledStrategy.LinkTask(
             graph,
+            2,
             partition,
             idFunction.of("a"),
             components,
@@ -79,8 +80,8 @@ class LinkTaskTest {
                 // (a)-->(b) => skipped due to skipComponent = a
                 // (a)-->(c) => skipped due to skipComponent = a
                 // (a)-->(d) => skipped due to skipComponent = a
-                // (d)-->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (d)-->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (d)-->(b) => skipped due to neighborRounds = 2
+                // (d)-->(c) => skipped due to neighborRounds = 2
                 // (d)-->(e) => union
                 List.of(idFunction.of("a")),
                 List.of(idFunction.of("b")),
@@ -97,6 +98,7 @@ class LinkTaskTest {
 
         var task = new SampledStrategy.LinkTask(
             graph,
+            2,
             partition,
             -1,
             components,
@@ -111,11 +113,11 @@ class LinkTaskTest {
         CommunityHelper.assertCommunities(
             actualCommunities,
             List.of(
-                // (a)-->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (a)-->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (a)-->(b) => skipped due to neighborRounds = 2
+                // (a)-->(c) => skipped due to neighborRounds = 2
                 // (a)-->(d) => union
-                // (d)-->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (d)-->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (d)-->(b) => skipped due to neighborRounds = 2
+                // (d)-->(c) => skipped due to neighborRounds = 2
                 // (d)-->(e) => union
                 List.of(idFunction.of("a"), idFunction.of("d"), idFunction.of("e")),
                 List.of(idFunction.of("b")),
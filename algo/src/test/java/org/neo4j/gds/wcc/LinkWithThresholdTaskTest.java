@@ -63,6 +63,7 @@ class LinkWithThresholdTaskTest {
         var task = new SampledStrategy.LinkWithThresholdTask(
             graph,
             0.5,
+            2,
             partition,
             idFunction.of("a"),
             components,
@@ -80,8 +81,8 @@ class LinkWithThresholdTaskTest {
                 // (a)-[:REL { p: 1.0 } ]->(b) => skipped due to skipComponent = a
                 // (a)-[:REL { p: 1.0 } ]->(c) => skipped due to skipComponent = a
                 // (a)-[:REL { p: 1.0 } ]->(d) => skipped due to skipComponent = a
-                // (d)-[:REL { p: 1.0 } ]->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (d)-[:REL { p: 1.0 } ]->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (d)-[:REL { p: 1.0 } ]->(b) => skipped due to neighborRounds = 2
+                // (d)-[:REL { p: 1.0 } ]->(c) => skipped due to neighborRounds = 2
                 // (d)-[:REL { p: 0.5 } ]->(e) => skipped due to threshold = 0.5
                 // (d)-[:REL { p: 1.0 } ]->(f) => union
                 List.of(idFunction.of("a")),
@@ -101,6 +102,7 @@ class LinkWithThresholdTaskTest {
         var task = new SampledStrategy.LinkWithThresholdTask(
             graph,
             0.5,
+            2,
             partition,
             -1,
             components,
@@ -115,11 +117,11 @@ class LinkWithThresholdTaskTest {
         CommunityHelper.assertCommunities(
             actualCommunities,
             List.of(
-                // (a)-[:REL { p: 1.0 } ]->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (a)-[:REL { p: 1.0 } ]->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (a)-[:REL { p: 1.0 } ]->(b) => skipped due to neighborRounds = 2
+                // (a)-[:REL { p: 1.0 } ]->(c) => skipped due to neighborRounds = 2
                 // (a)-[:REL { p: 1.0 } ]->(d) => union
-                // (d)-[:REL { p: 1.0 } ]->(b) => skipped due to NEIGHBOR_ROUNDS = 2
-                // (d)-[:REL { p: 1.0 } ]->(c) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (d)-[:REL { p: 1.0 } ]->(b) => skipped due to neighborRounds = 2
+                // (d)-[:REL { p: 1.0 } ]->(c) => skipped due to neighborRounds = 2
                 // (d)-[:REL { p: 0.5 } ]->(e) => skipped due to threshold = 0.5
                 // (d)-[:REL { p: 1.0 } ]->(f) => union
                 List.of(idFunction.of("a"), idFunction.of("d"), idFunction.of("f")),
@@ -57,15 +57,17 @@ class SamplingTaskTest {
         var components = new HugeAtomicDisjointSetStruct(graph.nodeCount(), 2);
         var partition = Partition.of(0, graph.nodeCount());
 
-        var task = new SampledStrategy.SamplingTask(
-            graph,
-            partition,
-            components,
-            ProgressTracker.NULL_TRACKER,
-            TerminationFlag.RUNNING_TRUE
-        );
-
-        task.run();
+        // links one more neighbor per round, for two rounds
+        for (int round = 0; round < 2; round++) {
+            new SampledStrategy.SamplingTask(
+                graph,
+                round,
+                partition,
+                components,
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).run();
+        }
 
         var actualCommunities = new ArrayList<Long>();
         graph.forEachNode(node -> actualCommunities.add(components.setIdOf(node)));
@@ -74,7 +76,7 @@ class SamplingTaskTest {
             List.of(
                 // (a)-->(b) => union
                 // (a)-->(c) => union
-                // (a)-->(d) => skipped due to NEIGHBOR_ROUNDS = 2
+                // (a)-->(d) => skipped due to neighborRounds = 2
                 // (d)-->(e) => union
                 List.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("c")),
                 List.of(idFunction.of("d"), idFunction.of("e"))
@@ -57,16 +57,18 @@ class SamplingWithThresholdTaskTest {
         var components = new HugeAtomicDisjointSetStruct(graph.nodeCount(), 2);
         var partition = Partition.of(0, graph.nodeCount());
 
-        var task = new SampledStrategy.SamplingWithThresholdTask(
-            graph,
-            0.5,
-            partition,
-            components,
-            ProgressTracker.NULL_TRACKER,
-            TerminationFlag.RUNNING_TRUE
-        );
-
-        task.run();
+        // links one more neighbor per round, for two rounds
+        for (int round = 0; round < 2; round++) {
+            new SampledStrategy.SamplingWithThresholdTask(
+                graph,
+                0.5,
+                round,
+                partition,
+                components,
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).run();
+        }
 
         var actualCommunities = new ArrayList<Long>();
         graph.forEachNode(node -> actualCommunities.add(components.setIdOf(node)));
@@ -29,6 +29,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.CommunityHelper;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
@@ -117,6 +118,24 @@ class WccTest {
         });
     }
 
+    @ParameterizedTest(name = "neighborRounds = {0}")
+    @ValueSource(ints = {0, 1, 2, 5, 20})
+    void shouldComputeComponentsForAnyNumberOfNeighborRounds(int neighborRounds) {
+        var graph = createTestGraph(Orientation.UNDIRECTED);
+
+        DisjointSetStruct result = run(
+            graph,
+            ImmutableWccStreamConfig.builder().neighborRounds(neighborRounds).concurrency(4).build()
+        );
+
+        assertEquals(SETS_COUNT, getSetCount(result));
+        graph.forEachNode(nodeId -> {
+            long firstOfSet = nodeId - nodeId % SET_SIZE;
+            assertEquals(result.setIdOf(firstOfSet), result.setIdOf(nodeId));
+            return true;
+        });
+    }
+
     static Stream<Arguments> orientationAndGraphs() {
         var monoGraph = " (a {componentId: 0})-->(b {componentId: 0})<--(c {componentId: 0})" +
                         ",(d {componentId: 1})-->(e {componentId: 1})<--(f {componentId: 1})" +
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel strongly connected components based on trimming and the coloring method.
+ *
+ * Each round first trims all nodes that have no remaining incoming or no remaining outgoing
+ * relationships, as those form singleton components. The remaining nodes then propagate the
+ * maximum reachable node id along their outgoing relationships until a fixpoint is reached.
+ * Every node that kept its own id as color is the root of a component, which consists of all
+ * nodes of the same color that reach the root, found by a backward traversal.
+ *
+ * The backward traversal requires the inverse index, unless the graph is undirected.
+ *
+ * See: Orzan, "On Distributed Verification and Verified Distribution", 2004
+ *      and Hong et al., "On Fast Parallel Detection of Strongly Connected Components (SCC) in Small-World Graphs", 2013
+ */
+final class ParallelScc {
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final boolean undirected;
+
+    private final HugeLongArray components;
+    private final HugeAtomicBitSet assigned;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicLongArray inDegrees;
+    private final HugeAtomicLongArray outDegrees;
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+
+    private final List<Worker> workers;
+
+    ParallelScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.undirected = graph.characteristics().isUndirected();
+
+        long nodeCount = graph.nodeCount();
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.outDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.frontier = HugeAtomicBitSet.create(nodeCount);
+        this.nextFrontier = HugeAtomicBitSet.create(nodeCount);
+
+        this.workers = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new Worker(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+    }
+
+    HugeLongArray compute() {
+        long remaining = graph.nodeCount();
+        while (remaining > 0) {
+            terminationFlag.assertRunning();
+
+            remaining -= trim();
+            if (remaining == 0) {
+                break;
+            }
+
+            color();
+            remaining -= collectComponents();
+        }
+        return components;
+    }
+
+    /**
+     * Assigns singleton components to all nodes that have no unassigned predecessor or no unassigned successor.
+     * Trimming a node updates the degrees of its neighbours, so chains of such nodes are removed in a single pass.
+     */
+    private long trim() {
+        inDegrees.setAll(0);
+        run(Worker::countDegrees);
+        return run(Worker::trim);
+    }
+
+    /**
+     * Propagates the maximum node id along the outgoing relationships of unassigned nodes until no color changes.
+     * Only nodes which changed their color in the previous pass need to propagate again.
+     */
+    private void color() {
+        frontier.clear();
+        run(Worker::resetColors);
+        while (!frontier.isEmpty()) {
+            terminationFlag.assertRunning();
+            nextFrontier.clear();
+            run(Worker::propagateColors);
+
+            var swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+        }
+    }
+
+    /**
+     * Assigns each color root and all nodes of the same color that can reach it to a component.
+     */
+    private long collectComponents() {
+        return run(Worker::collectComponent);
+    }
+
+    private long run(Consumer<Worker> phase) {
+        var tasks = workers.stream()
+            .map(worker -> (Runnable) () -> phase.accept(worker))
+            .collect(Collectors.toList());
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+
+        long assignedNodes = 0;
+        for (Worker worker : workers) {
+            assignedNodes += worker.assignedNodes;
+            worker.assignedNodes = 0;
+        }
+        progressTracker.logProgress(assignedNodes);
+        return assignedNodes;
+    }
+
+    private boolean raiseColor(long nodeId, long color) {
+        long current = colors.get(nodeId);
+        while (current < color) {
+            long witness = colors.compareAndExchange(nodeId, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private final class Worker {
+        private final Graph graph;
+        private final Partition partition;
+        private final LongArrayDeque stack;
+
+        private final RelationshipConsumer degreeCounter;
+        private final RelationshipConsumer successorTrimmer;
+        private final RelationshipConsumer predecessorTrimmer;
+        private final RelationshipConsumer colorPropagator;
+        private final RelationshipConsumer componentCollector;
+
+        private long outDegree;
+        private long color;
+        private long assignedNodes;
+
+        Worker(Graph graph, Partition partition) {
+            this.graph = graph;
+            this.partition = partition;
+            this.stack = new LongArrayDeque();
+
+            this.degreeCounter = (source, target) -> {
+                if (source != target && !assigned.get(target)) {
+                    outDegree++;
+                    inDegrees.getAndAdd(target, 1);
+                }
+                return true;
+            };
+            this.successorTrimmer = (source, target) -> {
+                if (source != target && !assigned.get(target) && inDegrees.getAndAdd(target, -1) == 1) {
+                    stack.addLast(target);
+                }
+                return true;
+            };
+            this.predecessorTrimmer = (source, target) -> {
+                if (source != target && !assigned.get(target) && outDegrees.getAndAdd(target, -1) == 1) {
+                    stack.addLast(target);
+                }
+                return true;
+            };
+            this.colorPropagator = (source, target) -> {
+                if (!assigned.get(target) && raiseColor(target, color)) {
+                    nextFrontier.set(target);
+                }
+                return true;
+            };
+            this.componentCollector = (source, target) -> {
+                if (!assigned.get(target) && colors.get(target) == color) {
+                    assign(target, color);
+                    stack.addLast(target);
+                }
+                return true;
+            };
+        }
+
+        void countDegrees() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (assigned.get(nodeId)) {
+                    continue;
+                }
+                outDegree = 0;
+                graph.forEachRelationship(nodeId, degreeCounter);
+                outDegrees.set(nodeId, outDegree);
+            }
+        }
+
+        void trim() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (assigned.get(nodeId) || (inDegrees.get(nodeId) > 0 && outDegrees.get(nodeId) > 0)) {
+                    continue;
+                }
+                stack.addLast(nodeId);
+                while (!stack.isEmpty()) {
+                    long trimmedNode = stack.removeLast();
+                    // a node can become trimmable through its in- and its out-degree
+                    if (assigned.getAndSet(trimmedNode)) {
+                        continue;
+                    }
+                    components.set(trimmedNode, trimmedNode);
+                    assignedNodes++;
+                    graph.forEachRelationship(trimmedNode, successorTrimmer);
+                    forEachPredecessor(trimmedNode, predecessorTrimmer);
+                }
+            }
+        }
+
+        void resetColors() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (!assigned.get(nodeId)) {
+                    colors.set(nodeId, nodeId);
+                    frontier.set(nodeId);
+                }
+            }
+        }
+
+        void propagateColors() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                if (frontier.get(nodeId)) {
+                    color = colors.get(nodeId);
+                    graph.forEachRelationship(nodeId, colorPropagator);
+                }
+            }
+        }
+
+        void collectComponent() {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                // only the root of a color keeps its own id, all other nodes of that color are found from here
+                if (assigned.get(nodeId) || colors.get(nodeId) != nodeId) {
+                    continue;
+                }
+                color = nodeId;
+                assign(nodeId, color);
+                stack.addLast(nodeId);
+                while (!stack.isEmpty()) {
+                    forEachPredecessor(stack.removeLast(), componentCollector);
+                }
+            }
+        }
+
+        private void assign(long nodeId, long componentId) {
+            assigned.set(nodeId);
+            components.set(nodeId, componentId);
+            assignedNodes++;
+        }
+
+        private void forEachPredecessor(long nodeId, RelationshipConsumer consumer) {
+            if (undirected) {
+                graph.forEachRelationship(nodeId, consumer);
+            } else {
+                graph.forEachInverseRelationship(nodeId, consumer);
+            }
+        }
+    }
+}
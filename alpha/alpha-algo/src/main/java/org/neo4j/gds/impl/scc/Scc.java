@@ -22,14 +22,20 @@ package org.neo4j.gds.impl.scc;
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
  * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ *
+ * If more than one thread is available and incoming relationships can be traversed,
+ * that is the graph is undirected or has an inverse index, the components are computed by {@link ParallelScc}.
  */
 public class Scc extends Algorithm<HugeLongArray> {
     public static final int NOT_VALID = -1;
@@ -37,6 +43,8 @@ public class Scc extends Algorithm<HugeLongArray> {
                                                  "where all nodes in the same set form a connected component.";
     private Graph graph;
     private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executor;
     private HugeLongArray index;
     private BitSet visited;
     private HugeLongArray connectedComponents;
@@ -47,10 +55,24 @@ public class Scc extends Algorithm<HugeLongArray> {
     public Scc(
         Graph graph,
         ProgressTracker progressTracker
+    ) {
+        this(graph, 1, Pools.DEFAULT, progressTracker);
+    }
+
+    public Scc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executor = executor;
+        if (runsInParallel()) {
+            return;
+        }
         this.index = HugeLongArray.newArray(nodeCount);
         this.stack = new PagedLongStack(nodeCount);
         this.boundaries = new PagedLongStack(nodeCount);
@@ -64,6 +86,11 @@ public class Scc extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask();
+        if (runsInParallel()) {
+            var components = new ParallelScc(graph, concurrency, executor, progressTracker, terminationFlag).compute();
+            progressTracker.endSubTask();
+            return components;
+        }
         index.fill(-1);
         connectedComponents.fill(NOT_VALID);
         todo.clear();
@@ -74,6 +101,11 @@ public class Scc extends Algorithm<HugeLongArray> {
         return connectedComponents;
     }
 
+    private boolean runsInParallel() {
+        var characteristics = graph.characteristics();
+        return concurrency > 1 && (characteristics.isUndirected() || characteristics.isInverseIndexed());
+    }
+
     private boolean compute(long nodeId) {
         if (!terminationFlag.running()) {
             return false;
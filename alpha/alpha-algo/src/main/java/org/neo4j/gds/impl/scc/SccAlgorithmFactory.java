@@ -21,6 +21,7 @@ package org.neo4j.gds.impl.scc;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -31,6 +32,8 @@ public class SccAlgorithmFactory<CONFIG extends SccBaseConfig> extends GraphAlgo
     public Scc build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return new Scc(
             graph,
+            configuration.concurrency(),
+            Pools.DEFAULT,
             progressTracker
         );
     }
@@ -20,10 +20,16 @@
 package org.neo4j.gds.impl.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -70,9 +76,15 @@ class SccTest {
         ", (h)-[:TYPE {cost: 3}]->(i)" +
         ", (i)-[:TYPE {cost: 3}]->(g)";
 
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    private static final String INVERSE_DB_CYPHER = DB_CYPHER;
+
     @Inject
     private Graph graph;
 
+    @Inject
+    private Graph inverseGraph;
+
     @Inject
     private IdFunction idFunction;
 
@@ -111,6 +123,41 @@ class SccTest {
         assertCC(components);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void testParallelScc(int concurrency) {
+        Scc algo = new Scc(inverseGraph, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+        HugeLongArray components = algo.compute();
+        assertCC(components);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void parallelSccMatchesSequentialScc(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.YES)
+            .inverseIndex(true)
+            .seed(42)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new Scc(randomGraph, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        // component ids may differ, but both must induce the same partition
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, __ -> actualComponent)).isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, __ -> expectedComponent)).isEqualTo(expectedComponent);
+        }
+    }
+
     private void assertCC(HugeLongArray connectedComponents) {
         assertBelongSameSet(connectedComponents,
             idFunction.of("a"),
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding paths of the different {@link AdjacencyList} implementations.
+ * Each benchmark visits every node of the graph once, using a single reused cursor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AdjacencyCursorBenchmark {
+
+    private AdjacencyList adjacencyList;
+    private long nodeCount;
+    private AdjacencyCursor cursor;
+
+    @Setup
+    public void setup(GraphState state) {
+        this.adjacencyList = state.graph.relationshipTopology().adjacencyList();
+        this.nodeCount = state.graph.nodeCount();
+        this.cursor = adjacencyList.rawAdjacencyCursor();
+    }
+
+    @Benchmark
+    public long nextVLong() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = reset(node);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Mimics the intersection pattern of triangle counting: skip all targets that are smaller than the node itself.
+     */
+    @Benchmark
+    public long skipUntil() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = reset(node);
+            long target = cursor.skipUntil(node);
+            while (target != AdjacencyCursor.NOT_FOUND) {
+                sum += target;
+                target = cursor.skipUntil(target);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Mimics the sampling pattern of random walks: jump to the middle of each adjacency list.
+     */
+    @Benchmark
+    public long advanceBy() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = reset(node);
+            sum += cursor.advanceBy(cursor.size() / 2);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void forEachRelationship(GraphState state, Blackhole blackhole) {
+        var graph = state.graph;
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, (source, target) -> {
+                blackhole.consume(target);
+                return true;
+            });
+        }
+    }
+
+    private AdjacencyCursor reset(long node) {
+        var cursor = adjacencyList.adjacencyCursor(this.cursor, node);
+        // nodes without relationships return the shared empty cursor, which must not replace our reusable one
+        if (cursor != AdjacencyCursor.empty()) {
+            this.cursor = cursor;
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.Supplier;
+
+/**
+ * The adjacency list implementations that can be selected during graph construction.
+ * Since the implementation is chosen through feature toggles, the toggles are
+ * only flipped while the graph is being built and restored afterwards.
+ */
+public enum AdjacencyListKind {
+    COMPRESSED,
+    PACKED,
+    UNCOMPRESSED,
+    MAPPED;
+
+    public <T> T build(Supplier<T> graphSupplier) {
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(this == PACKED);
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+        var mappedBefore = GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.toggle(this == MAPPED);
+        try {
+            return graphSupplier.get();
+        } finally {
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.toggle(mappedBefore);
+        }
+    }
+}
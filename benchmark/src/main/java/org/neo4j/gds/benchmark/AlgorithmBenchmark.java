@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.LouvainAlgorithmFactory;
+import org.neo4j.gds.louvain.LouvainStreamConfig;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.PageRankStreamConfig;
+import org.neo4j.gds.wcc.WccAlgorithmFactory;
+import org.neo4j.gds.wcc.WccStreamConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runs of the topology-heavy algorithms on synthetic graphs.
+ * Progress tracking is disabled, so only the algorithm itself is measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class UndirectedGraphState extends GraphState {
+
+        @Param({"4"})
+        public int concurrency;
+
+        @Override
+        Direction direction() {
+            return Direction.UNDIRECTED;
+        }
+    }
+
+    @Benchmark
+    public void pageRank(UndirectedGraphState state, Blackhole blackhole) {
+        var config = PageRankStreamConfig.of(CypherMapWrapper.create(Map.of(
+            "concurrency", state.concurrency,
+            "maxIterations", 20
+        )));
+        var pageRank = new PageRankAlgorithmFactory<>().build(state.graph, config, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(pageRank.compute());
+    }
+
+    @Benchmark
+    public void wcc(UndirectedGraphState state, Blackhole blackhole) {
+        var config = WccStreamConfig.of(CypherMapWrapper.create(Map.of("concurrency", state.concurrency)));
+        var wcc = new WccAlgorithmFactory<>().build(state.graph, config, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(wcc.compute());
+    }
+
+    @Benchmark
+    public void louvain(UndirectedGraphState state, Blackhole blackhole) {
+        var config = LouvainStreamConfig.of(CypherMapWrapper.create(Map.of("concurrency", state.concurrency)));
+        var louvain = new LouvainAlgorithmFactory<>().build(state.graph, config, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(louvain.compute());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state holding a synthetic graph.
+ * The graph is generated once per trial, so generation time is not part of any measurement.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    static final long SEED = 42L;
+
+    @Param({"POWER_LAW", "UNIFORM", "GRID"})
+    public SyntheticGraph shape;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED", "MAPPED"})
+    public AdjacencyListKind adjacencyList;
+
+    public HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = adjacencyList.build(() -> shape.generate(nodeCount, averageDegree, direction(), SEED));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.graph = null;
+    }
+
+    Direction direction() {
+        return Direction.DIRECTED;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Simulates the id mapping of a Cypher aggregation: every thread adds the source
+ * and target ids of its relationships, so most of the added ids are duplicates.
+ * The original ids are spread over a large id space, as with high-limit stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IdMapBuilderBenchmark {
+
+    public enum BuilderKind {
+        LOCKED,
+        CONCURRENT
+    }
+
+    @Param({"1000000"})
+    public int nodeCount;
+
+    @Param({"10"})
+    public int averageDegree;
+
+    @Param({"4", "16", "32"})
+    public int concurrency;
+
+    @Param({"LOCKED", "CONCURRENT"})
+    public BuilderKind builderKind;
+
+    private long[][] originalIdsPerThread;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(GraphState.SEED);
+        long idSpace = 1L << 40;
+        long[] originalIds = random.longs(nodeCount, 0, idSpace).toArray();
+
+        long additionsPerThread = (long) nodeCount * averageDegree * 2 / concurrency;
+        this.originalIdsPerThread = IntStream.range(0, concurrency)
+            .mapToObj(thread -> random.split()
+                .ints(additionsPerThread, 0, nodeCount)
+                .mapToLong(idx -> originalIds[idx])
+                .toArray())
+            .toArray(long[][]::new);
+
+        this.executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.executor.shutdown();
+    }
+
+    @Benchmark
+    public ShardedLongLongMap addNodes() {
+        switch (builderKind) {
+            case LOCKED: {
+                var builder = ShardedLongLongMap.builder(concurrency);
+                run(builder::addNode);
+                return builder.build();
+            }
+            case CONCURRENT: {
+                var builder = ShardedLongLongMap.concurrentBuilder(concurrency);
+                run(builder::addNode);
+                return builder.build();
+            }
+            default:
+                throw new IllegalArgumentException("Unexpected builder kind: " + builderKind);
+        }
+    }
+
+    private void run(LongUnaryOperator addNode) {
+        List<Runnable> tasks = IntStream.range(0, concurrency)
+            .mapToObj(thread -> (Runnable) () -> {
+                for (long originalId : originalIdsPerThread[thread]) {
+                    addNode.applyAsLong(originalId);
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, executor);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.KnnFactory;
+import org.neo4j.gds.similarity.knn.KnnStreamConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KNN only looks at node properties, so the graph topology is kept minimal
+ * and the benchmark is parameterized by the embedding dimension instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KnnBenchmark {
+
+    private static final String EMBEDDING_PROPERTY = "embedding";
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"64", "256"})
+    public int embeddingDimension;
+
+    @Param({"10"})
+    public int topK;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding(EMBEDDING_PROPERTY, embeddingDimension, -1f, 1f))
+            .seed(GraphState.SEED)
+            .build()
+            .generate();
+    }
+
+    @Benchmark
+    public void knn(Blackhole blackhole) {
+        var config = KnnStreamConfig.of(CypherMapWrapper.create(Map.of(
+            "nodeProperties", List.of(EMBEDDING_PROPERTY),
+            "topK", topK,
+            "concurrency", concurrency
+        )));
+        var knn = new KnnFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(knn.compute());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.impl.scc.Scc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential SCC, which runs for {@code concurrency = 1},
+ * against the parallel trimming and coloring implementation on inverse indexed graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SccBenchmark {
+
+    @Param({"POWER_LAW", "UNIFORM"})
+    public RelationshipDistribution distribution;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    // a low average degree leaves many trivial components, a high one a single giant component
+    @Param({"2", "10"})
+    public long averageDegree;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .inverseIndex(true)
+            .seed(GraphState.SEED)
+            .build()
+            .generate();
+    }
+
+    @Benchmark
+    public void scc(Blackhole blackhole) {
+        var scc = new Scc(graph, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(scc.compute());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.core.utils.SimilarityKernel;
+import org.neo4j.gds.core.utils.SimilarityKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar similarity kernel with the kernel selected at runtime,
+ * which is the vectorized one if the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ * The {@code jmh} task adds the module when running on JDK 17.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SimilarityKernelBenchmark {
+
+    private static final int VECTORS = 1024;
+
+    @Param({"64", "128", "256", "1024"})
+    public int dimension;
+
+    @Param({"SCALAR", "SELECTED"})
+    public String kernelKind;
+
+    private SimilarityKernel kernel;
+    private float[][] floats;
+    private double[][] doubles;
+    private long[][] longs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.kernel = "SCALAR".equals(kernelKind) ? SimilarityKernels.scalar() : SimilarityKernels.kernel();
+
+        var random = new SplittableRandom(42);
+        this.floats = new float[VECTORS][dimension];
+        this.doubles = new double[VECTORS][];
+        this.longs = new long[VECTORS][];
+        for (int i = 0; i < VECTORS; i++) {
+            for (int j = 0; j < dimension; j++) {
+                floats[i][j] = (float) random.nextDouble(-1, 1);
+            }
+            doubles[i] = random.doubles(dimension, -1, 1).toArray();
+            longs[i] = random.longs(dimension, 0, 10L * dimension).sorted().toArray();
+        }
+    }
+
+    @Benchmark
+    public double floatCosine() {
+        int i = nextIndex();
+        return kernel.cosine(floats[i], floats[(i + 1) % VECTORS], dimension);
+    }
+
+    @Benchmark
+    public double doubleCosine() {
+        int i = nextIndex();
+        return kernel.cosine(doubles[i], doubles[(i + 1) % VECTORS], dimension);
+    }
+
+    @Benchmark
+    public double floatSumSquareDelta() {
+        int i = nextIndex();
+        return kernel.sumSquareDelta(floats[i], floats[(i + 1) % VECTORS], dimension);
+    }
+
+    @Benchmark
+    public double doublePearson() {
+        int i = nextIndex();
+        return kernel.pearson(doubles[i], doubles[(i + 1) % VECTORS], dimension);
+    }
+
+    @Benchmark
+    public long intersection() {
+        int i = nextIndex();
+        return kernel.intersection(longs[i], longs[(i + 1) % VECTORS]);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % VECTORS;
+        return next;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+
+/**
+ * Reproducible synthetic graphs used as benchmark input.
+ * Generating a graph twice with the same parameters yields identical topologies.
+ */
+public enum SyntheticGraph {
+    /**
+     * Target ids follow a power-law distribution, which yields a few high in-degree hubs.
+     */
+    POWER_LAW {
+        @Override
+        public HugeGraph generate(long nodeCount, long averageDegree, Direction direction, long seed) {
+            return random(RelationshipDistribution.POWER_LAW, nodeCount, averageDegree, direction, seed);
+        }
+    },
+    /**
+     * Every node has the same out-degree and targets are drawn uniformly.
+     */
+    UNIFORM {
+        @Override
+        public HugeGraph generate(long nodeCount, long averageDegree, Direction direction, long seed) {
+            return random(RelationshipDistribution.UNIFORM, nodeCount, averageDegree, direction, seed);
+        }
+    },
+    /**
+     * A square lattice in which every node is connected to its right and lower neighbour.
+     * The average degree is implied by the grid shape and the seed is not needed.
+     */
+    GRID {
+        @Override
+        public HugeGraph generate(long nodeCount, long averageDegree, Direction direction, long seed) {
+            long width = Math.max(1, (long) Math.ceil(Math.sqrt(nodeCount)));
+
+            var nodesBuilder = GraphFactory.initNodesBuilder()
+                .maxOriginalId(nodeCount)
+                .build();
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                nodesBuilder.addNode(nodeId);
+            }
+            var idMap = nodesBuilder.build().idMap();
+
+            var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+                .nodes(idMap)
+                .relationshipType(RelationshipType.of("REL"))
+                .orientation(direction.toOrientation())
+                .build();
+
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long right = nodeId + 1;
+                long below = nodeId + width;
+                if (right % width != 0 && right < nodeCount) {
+                    relationshipsBuilder.add(nodeId, right);
+                }
+                if (below < nodeCount) {
+                    relationshipsBuilder.add(nodeId, below);
+                }
+            }
+
+            return GraphFactory.create(idMap, relationshipsBuilder.build());
+        }
+    };
+
+    public abstract HugeGraph generate(long nodeCount, long averageDegree, Direction direction, long seed);
+
+    private static HugeGraph random(
+        RelationshipDistribution distribution,
+        long nodeCount,
+        long averageDegree,
+        Direction direction,
+        long seed
+    ) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .direction(direction)
+            .seed(seed)
+            .build()
+            .generate();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.wcc.WccAlgorithmFactory;
+import org.neo4j.gds.wcc.WccStreamConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sampled WCC strategy for different numbers of neighbor rounds
+ * against linking every relationship, which is what {@code neighborRounds = 0} does.
+ * Power-law graphs are used, since their giant component is what sampling skips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class WccBenchmark {
+
+    private static final String WEIGHT_PROPERTY = "weight";
+
+    @Param({"POWER_LAW", "UNIFORM"})
+    public RelationshipDistribution distribution;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"0", "1", "2", "4"})
+    public int neighborRounds;
+
+    // zero runs unweighted WCC, weights are drawn uniformly from [0, 1)
+    @Param({"0", "0.5"})
+    public double threshold;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble(WEIGHT_PROPERTY, 0, 1))
+            .direction(Direction.UNDIRECTED)
+            .seed(GraphState.SEED)
+            .build()
+            .generate();
+    }
+
+    @Benchmark
+    public void wcc(Blackhole blackhole) {
+        var configMap = new HashMap<String, Object>();
+        configMap.put("concurrency", concurrency);
+        configMap.put("neighborRounds", neighborRounds);
+        if (threshold > 0) {
+            configMap.put("threshold", threshold);
+            configMap.put("relationshipWeightProperty", WEIGHT_PROPERTY);
+        }
+        var config = WccStreamConfig.of(CypherMapWrapper.create(configMap));
+        var wcc = new WccAlgorithmFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER);
+        blackhole.consume(wcc.compute());
+    }
+}
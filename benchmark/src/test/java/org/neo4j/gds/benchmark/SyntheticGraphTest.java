@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.schema.Direction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class SyntheticGraphTest {
+
+    @ParameterizedTest
+    @EnumSource(SyntheticGraph.class)
+    void shouldBeReproducible(SyntheticGraph shape) {
+        var first = shape.generate(100, 5, Direction.DIRECTED, 42L);
+        var second = shape.generate(100, 5, Direction.DIRECTED, 42L);
+
+        assertThat(first.nodeCount()).isEqualTo(100);
+        assertGraphEquals(first, second);
+    }
+
+    @Test
+    void shouldGenerateGrid() {
+        var grid = SyntheticGraph.GRID.generate(6, 0, Direction.DIRECTED, 0L);
+
+        // width is ceil(sqrt(6)) = 3, so the last row is complete
+        var expected = fromGdl(
+            "(a)-->(b)-->(c), (d)-->(e)-->(f), (a)-->(d), (b)-->(e), (c)-->(f)"
+        );
+
+        assertGraphEquals(expected, grid);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyListKind.class)
+    void shouldBuildWithEveryAdjacencyListKind(AdjacencyListKind kind) {
+        var graph = kind.build(() -> SyntheticGraph.GRID.generate(9, 0, Direction.UNDIRECTED, 0L));
+
+        // 12 grid edges in both directions
+        assertThat(graph.relationshipCount()).isEqualTo(24);
+    }
+}
@@ -201,4 +201,101 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * A cursor over data that does not live in Java arrays, e.g. off-heap memory.
+     * <p>
+     * Every call to {@link #next()} copies the current slice of at most {@link org.neo4j.gds.mem.HugeArrays#PAGE_SIZE}
+     * values into a reusable buffer by calling {@link #load(long, int, int)}.
+     * Writes to the buffer are passed to {@link #store(long, int, int)} before the cursor
+     * moves on to the next slice, is reset to a new range, or is closed.
+     */
+    public abstract static class BufferedCursor<Array> extends HugeCursor<Array> {
+
+        private Array buffer;
+        private long capacity;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private long end;
+        private boolean loaded;
+
+        /**
+         * @param buffer an array with room for {@code min(capacity, PAGE_SIZE)} values
+         */
+        protected BufferedCursor(long capacity, Array buffer) {
+            super();
+            this.capacity = capacity;
+            this.buffer = buffer;
+            this.array = buffer;
+        }
+
+        /**
+         * Copy {@code length} values, starting at the global index {@code base + offset},
+         * into {@link #array}, starting at {@code offset}.
+         */
+        protected abstract void load(long base, int offset, int length);
+
+        /**
+         * Write {@code length} values of {@link #array}, starting at {@code offset},
+         * back to the global index {@code base + offset}.
+         */
+        protected abstract void store(long base, int offset, int length);
+
+        private void flush() {
+            if (loaded) {
+                loaded = false;
+                store(base, offset, limit - offset);
+            }
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        public void setRange(long start, long end) {
+            flush();
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public boolean next() {
+            flush();
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            if (current != fromPage) {
+                base += PAGE_SIZE;
+                offset = 0;
+                limit = current == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+            }
+            array = buffer;
+            load(base, offset, limit - offset);
+            loaded = true;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            flush();
+            array = null;
+            buffer = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            capacity = 0L;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+    }
 }
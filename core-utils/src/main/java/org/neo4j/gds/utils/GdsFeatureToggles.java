@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
 
@@ -35,7 +36,10 @@ public enum GdsFeatureToggles {
     USE_SHARDED_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
+    USE_MAPPED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_VECTORIZED_SIMILARITY(true),
+    USE_OFF_HEAP_ARRAYS(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     THROW_WHEN_USING_PROGRESS_TRACKER_WITHOUT_TASKS(false);
 
@@ -101,6 +105,16 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // Directory in which memory-mapped adjacency lists create their (temporary) backing files.
+    // Defaults to the JVM temp directory, which should be changed to a fast local disk for large graphs.
+    private static final String MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "mappedAdjacencyListDirectory"),
+        System.getProperty("java.io.tmpdir")
+    );
+    public static final AtomicReference<String> MAPPED_ADJACENCY_LIST_DIRECTORY = new AtomicReference<>(
+        MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG
+    );
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.neo4j.gds.core.utils.SimilarityKernel;
+
+/**
+ * Computes the similarity kernels using the Vector API.
+ * <p>
+ * Float and double arrays are processed lane-wise with one accumulator per sum,
+ * the lanes are reduced once at the end and the remaining tail is handled by a scalar loop.
+ * Float vectors are accumulated in single precision, so results may differ from the scalar kernel
+ * in the last few bits.
+ * <p>
+ * Sorted long arrays of similar length are intersected by a branch-free merge.
+ * If one array is much longer, the values of the shorter one are searched in it,
+ * skipping smaller values one vector at a time.
+ */
+final class VectorizedSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    static boolean isSupported() {
+        // Without at least two double lanes there is nothing to gain over the scalar loops.
+        return DOUBLES.length() >= 2;
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int len) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(len); i < bound; i += DOUBLES.length()) {
+            var l = DoubleVector.fromArray(DOUBLES, left, i);
+            var r = DoubleVector.fromArray(DOUBLES, right, i);
+            dotProducts = dotProducts.add(l.mul(r));
+            leftSquares = leftSquares.add(l.mul(l));
+            rightSquares = rightSquares.add(r.mul(r));
+        }
+
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = leftSquares.reduceLanes(VectorOperators.ADD);
+        double yLength = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            dotProduct += left[i] * right[i];
+            xLength += left[i] * left[i];
+            yLength += right[i] * right[i];
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public double cosine(float[] left, float[] right, int len) {
+        var dotProducts = FloatVector.zero(FLOATS);
+        var leftSquares = FloatVector.zero(FLOATS);
+        var rightSquares = FloatVector.zero(FLOATS);
+
+        int i = 0;
+        for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+            var l = FloatVector.fromArray(FLOATS, left, i);
+            var r = FloatVector.fromArray(FLOATS, right, i);
+            dotProducts = dotProducts.add(l.mul(r));
+            leftSquares = leftSquares.add(l.mul(l));
+            rightSquares = rightSquares.add(r.mul(r));
+        }
+
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float xLength = leftSquares.reduceLanes(VectorOperators.ADD);
+        float yLength = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            dotProduct += left[i] * right[i];
+            xLength += left[i] * left[i];
+            yLength += right[i] * right[i];
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    @Override
+    public double sumSquareDelta(double[] left, double[] right, int len) {
+        var squares = DoubleVector.zero(DOUBLES);
+
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(len); i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLES, left, i).sub(DoubleVector.fromArray(DOUBLES, right, i));
+            squares = squares.add(delta.mul(delta));
+        }
+
+        double result = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double sumSquareDelta(float[] left, float[] right, int len) {
+        var squares = FloatVector.zero(FLOATS);
+
+        int i = 0;
+        for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+            var delta = FloatVector.fromArray(FLOATS, left, i).sub(FloatVector.fromArray(FLOATS, right, i));
+            squares = squares.add(delta.mul(delta));
+        }
+
+        double result = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int len) {
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+
+        int bound = DOUBLES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            leftSums = leftSums.add(DoubleVector.fromArray(DOUBLES, left, i));
+            rightSums = rightSums.add(DoubleVector.fromArray(DOUBLES, right, i));
+        }
+        double sumLeft = leftSums.reduceLanes(VectorOperators.ADD);
+        double sumRight = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        double meanLeft = sumLeft / len;
+        double meanRight = sumRight / len;
+
+        var products = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += DOUBLES.length()) {
+            var leftDelta = DoubleVector.fromArray(DOUBLES, left, i).sub(meanLeft);
+            var rightDelta = DoubleVector.fromArray(DOUBLES, right, i).sub(meanRight);
+            products = products.add(leftDelta.mul(rightDelta));
+            leftSquares = leftSquares.add(leftDelta.mul(leftDelta));
+            rightSquares = rightSquares.add(rightDelta.mul(rightDelta));
+        }
+        double sumOfProducts = products.reduceLanes(VectorOperators.ADD);
+        double sumOfLeftSquares = leftSquares.reduceLanes(VectorOperators.ADD);
+        double sumOfRightSquares = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double pearson(float[] left, float[] right, int len) {
+        var leftSums = FloatVector.zero(FLOATS);
+        var rightSums = FloatVector.zero(FLOATS);
+
+        int bound = FLOATS.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            leftSums = leftSums.add(FloatVector.fromArray(FLOATS, left, i));
+            rightSums = rightSums.add(FloatVector.fromArray(FLOATS, right, i));
+        }
+        double sumLeft = leftSums.reduceLanes(VectorOperators.ADD);
+        double sumRight = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        float meanLeft = (float) (sumLeft / len);
+        float meanRight = (float) (sumRight / len);
+
+        var products = FloatVector.zero(FLOATS);
+        var leftSquares = FloatVector.zero(FLOATS);
+        var rightSquares = FloatVector.zero(FLOATS);
+        for (i = 0; i < bound; i += FLOATS.length()) {
+            var leftDelta = FloatVector.fromArray(FLOATS, left, i).sub(meanLeft);
+            var rightDelta = FloatVector.fromArray(FLOATS, right, i).sub(meanRight);
+            products = products.add(leftDelta.mul(rightDelta));
+            leftSquares = leftSquares.add(leftDelta.mul(leftDelta));
+            rightSquares = rightSquares.add(rightDelta.mul(rightDelta));
+        }
+        double sumOfProducts = products.reduceLanes(VectorOperators.ADD);
+        double sumOfLeftSquares = leftSquares.reduceLanes(VectorOperators.ADD);
+        double sumOfRightSquares = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public long intersection(long[] sortedLeft, long[] sortedRight) {
+        var shorter = sortedLeft.length <= sortedRight.length ? sortedLeft : sortedRight;
+        var longer = shorter == sortedLeft ? sortedRight : sortedLeft;
+
+        // Skipping only pays off if there are long runs of values that are not in the shorter array.
+        if ((long) shorter.length * LONGS.length() > longer.length) {
+            return mergeIntersection(shorter, longer);
+        }
+
+        long intersection = 0;
+        int longerOffset = 0;
+        for (long value : shorter) {
+            longerOffset = skipSmaller(longer, longerOffset, value);
+            if (longerOffset == longer.length) {
+                break;
+            }
+            if (longer[longerOffset] == value) {
+                intersection++;
+                longerOffset++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Merges two arrays of similar length without branching on the comparison,
+     * which the CPU could not predict for interleaved values.
+     */
+    private static long mergeIntersection(long[] sortedLeft, long[] sortedRight) {
+        int leftLength = sortedLeft.length;
+        int rightLength = sortedRight.length;
+        int leftOffset = 0;
+        int rightOffset = 0;
+        long intersection = 0;
+
+        while (leftOffset < leftLength && rightOffset < rightLength) {
+            long leftValue = sortedLeft[leftOffset];
+            long rightValue = sortedRight[rightOffset];
+            intersection += leftValue == rightValue ? 1 : 0;
+            leftOffset += leftValue <= rightValue ? 1 : 0;
+            rightOffset += leftValue >= rightValue ? 1 : 0;
+        }
+
+        return intersection;
+    }
+
+    /**
+     * @return the first index at or after {@code offset} whose value is not smaller than {@code bound}
+     */
+    private static int skipSmaller(long[] sorted, int offset, long bound) {
+        int length = sorted.length;
+        for (int vectorBound = length - LONGS.length(); offset <= vectorBound; offset += LONGS.length()) {
+            int smaller = LongVector.fromArray(LONGS, sorted, offset).lt(bound).trueCount();
+            // the array is sorted, so all smaller values are at the start of the vector
+            if (smaller < LONGS.length()) {
+                return offset + smaller;
+            }
+        }
+        while (offset < length && sorted[offset] < bound) {
+            offset++;
+        }
+        return offset;
+    }
+}
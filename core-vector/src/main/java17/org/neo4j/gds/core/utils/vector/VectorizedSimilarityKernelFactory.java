@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.core.utils.SimilarityKernel;
+import org.neo4j.gds.core.utils.SimilarityKernelFactory;
+
+@ServiceProvider
+public final class VectorizedSimilarityKernelFactory implements SimilarityKernelFactory {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    @Override
+    public boolean canLoad() {
+        // The incubator module is only resolved if the JVM has been started with `--add-modules jdk.incubator.vector`.
+        // The module check must happen before any of the Vector API classes are loaded.
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() && VectorizedSimilarityKernel.isSupported();
+    }
+
+    @Override
+    public SimilarityKernel load() {
+        return new VectorizedSimilarityKernel();
+    }
+
+    @Override
+    public String description() {
+        return "Vectorized similarity kernel (" + VECTOR_MODULE + ")";
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.core.utils.SimilarityKernel;
+import org.neo4j.gds.core.utils.SimilarityKernelFactory;
+import org.neo4j.gds.core.utils.SimilarityKernels;
+
+import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.SeededRandom.newRandom;
+
+class VectorizedSimilarityKernelTest {
+
+    private final VectorizedSimilarityKernel kernel = new VectorizedSimilarityKernel();
+    private final SimilarityKernel scalar = SimilarityKernels.scalar();
+
+    static IntStream lengths() {
+        // covers arrays shorter than a vector and arrays with a scalar tail
+        return IntStream.of(1, 3, 7, 8, 16, 17, 63, 128, 301);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void shouldComputeDoubleKernelsLikeScalarKernel(int length) {
+        var random = newRandom();
+        var left = random.random().doubles(length, -10, 10).toArray();
+        var right = random.random().doubles(length, -10, 10).toArray();
+
+        assertThat(kernel.cosine(left, right, length)).isCloseTo(scalar.cosine(left, right, length), within(1e-9));
+        assertThat(kernel.sumSquareDelta(left, right, length))
+            .isCloseTo(scalar.sumSquareDelta(left, right, length), within(1e-9));
+        if (length > 1) {
+            assertThat(kernel.pearson(left, right, length))
+                .isCloseTo(scalar.pearson(left, right, length), within(1e-9));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void shouldComputeFloatKernelsLikeScalarKernel(int length) {
+        var random = newRandom();
+        var left = floats(random.random(), length);
+        var right = floats(random.random(), length);
+
+        assertThat(kernel.cosine(left, right, length)).isCloseTo(scalar.cosine(left, right, length), within(1e-5));
+        assertThat(kernel.sumSquareDelta(left, right, length))
+            .isCloseTo(scalar.sumSquareDelta(left, right, length), within(1e-3));
+        if (length > 1) {
+            assertThat(kernel.pearson(left, right, length))
+                .isCloseTo(scalar.pearson(left, right, length), within(1e-5));
+        }
+    }
+
+    @Test
+    void shouldOnlyUseTheGivenLength() {
+        var left = new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        var right = new double[]{1, 2, 3, 4, 5, 6, 7, 8, -9, -10};
+
+        assertThat(kernel.cosine(left, right, 8)).isCloseTo(1.0, within(1e-12));
+        assertThat(kernel.sumSquareDelta(left, right, 8)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldReturnNaNForConstantVectors() {
+        var left = new double[]{3, 3, 3, 3, 3, 3, 3, 3, 3};
+        var right = new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+        assertThat(kernel.pearson(left, right, left.length)).isNaN();
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void shouldIntersectLikeScalarKernel(int length) {
+        var random = newRandom();
+        for (int run = 0; run < 20; run++) {
+            // small bounds produce duplicates, large bounds produce long runs without matches
+            int bound = run % 2 == 0 ? length : 10 * length;
+            var left = random.random().longs(length, 0, bound).sorted().toArray();
+            // half of the runs are skewed, which makes the kernel skip through the longer array
+            int rightLength = run % 4 < 2 ? random.random().nextInt(1, 2 * length + 1) : 20 * length;
+            var right = random.random().longs(rightLength, 0, bound).sorted().toArray();
+
+            assertThat(kernel.intersection(left, right))
+                .as("seed = %d", random.seed())
+                .isEqualTo(scalar.intersection(left, right))
+                .isEqualTo(kernel.intersection(right, left));
+        }
+    }
+
+    @Test
+    void shouldIntersectEmptyArrays() {
+        assertThat(kernel.intersection(new long[0], new long[]{1, 2, 3})).isZero();
+        assertThat(kernel.intersection(new long[]{1, 2, 3}, new long[0])).isZero();
+    }
+
+    @Test
+    void shouldBeDiscoverable() {
+        assertThat(ServiceLoader.load(SimilarityKernelFactory.class))
+            .hasAtLeastOneElementOfType(VectorizedSimilarityKernelFactory.class);
+    }
+
+    private static float[] floats(Random random, int length) {
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = (float) random.nextDouble(-10, 10);
+        }
+        return values;
+    }
+}
@@ -51,6 +51,13 @@ public interface GraphStore {
 
     ZonedDateTime modificationTime();
 
+    /**
+     * The number of modifications since the graph store has been created.
+     * Unlike the {@link #modificationTime()}, the count changes with every modification,
+     * so data that is derived from the graph store can use it to detect that it is outdated.
+     */
+    long modificationCount();
+
     Capabilities capabilities();
 
     // Graph Properties
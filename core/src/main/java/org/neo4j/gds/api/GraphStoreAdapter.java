@@ -69,6 +69,11 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         return graphStore.modificationTime();
     }
 
+    @Override
+    public long modificationCount() {
+        return graphStore.modificationCount();
+    }
+
 
     @Override
     public Set<String> graphPropertyKeys() {
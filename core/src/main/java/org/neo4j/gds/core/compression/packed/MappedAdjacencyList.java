@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+
+/**
+ * A packed adjacency list whose pages live in a memory-mapped file.
+ * Reading is identical to {@link PackedAdjacencyList}, only the location of the pages differs.
+ */
+public final class MappedAdjacencyList extends PackedAdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation() {
+        // The pages are not part of the heap, only degrees and offsets are.
+        return MemoryEstimations
+            .builder(MappedAdjacencyList.class)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final MappedPages mappedPages;
+
+    MappedAdjacencyList(long[] pages, MappedPages mappedPages, HugeIntArray degrees, HugeLongArray offsets) {
+        super(pages, degrees, offsets, new MappedPagesCleaner(pages, mappedPages));
+        this.mappedPages = mappedPages;
+    }
+
+    /**
+     * Number of bytes allocated in the backing file.
+     */
+    public long mappedBytes() {
+        return mappedPages.mappedBytes();
+    }
+
+    /**
+     * Loads all allocated pages into the OS page cache and logs the number of loaded bytes as progress.
+     */
+    public void warmUp(ProgressTracker progressTracker) {
+        mappedPages.warmUp(progressTracker);
+    }
+
+    private static final class MappedPagesCleaner implements Runnable {
+        private final long[] pages;
+        private final MappedPages mappedPages;
+
+        MappedPagesCleaner(long[] pages, MappedPages mappedPages) {
+            this.pages = pages;
+            this.mappedPages = mappedPages;
+        }
+
+        @Override
+        public void run() {
+            // invalidate the addresses first, so that cursors fail instead of reading unmapped memory
+            Arrays.fill(pages, 0L);
+            mappedPages.release();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * Builds packed adjacency lists whose pages are stored in memory-mapped files in the given directory.
+ * Relationship properties remain on the heap.
+ */
+public final class MappedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<Address, MappedAdjacencyList, long[], UncompressedAdjacencyList> {
+
+    private final Path directory;
+
+    public static MappedAdjacencyListBuilderFactory of(Path directory) {
+        return new MappedAdjacencyListBuilderFactory(directory);
+    }
+
+    private MappedAdjacencyListBuilderFactory(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public MappedAdjacencyListBuilder newAdjacencyListBuilder() {
+        return new MappedAdjacencyListBuilder(directory);
+    }
+
+    @Override
+    public UncompressedAdjacencyListBuilder newAdjacencyPropertiesBuilder() {
+        return new UncompressedAdjacencyListBuilder();
+    }
+}
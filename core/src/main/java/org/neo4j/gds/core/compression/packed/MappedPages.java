@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Hands out page-sized chunks of memory that are backed by a memory-mapped file instead of the heap
+ * or native memory. The operating system decides which pages are resident, which allows adjacency lists
+ * to be larger than the available RAM.
+ * <p>
+ * The file is mapped in large segments to keep the number of mappings low. Pages never span two segments.
+ * The mappings are kept alive as long as this instance is reachable; releasing it drops the references
+ * and the JVM unmaps the segments once they are garbage collected.
+ * The backing file is deleted when the channel is closed, i.e. after the adjacency list has been built.
+ */
+final class MappedPages {
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    private static final int OS_PAGE_SIZE = 4096;
+
+    private final Path file;
+    private final List<Segment> segments;
+
+    private FileChannel channel;
+    private long fileSize;
+    private long usedBytes;
+
+    private Segment currentSegment;
+
+    // read pages are folded into this field so that the JIT cannot drop the reads
+    @SuppressFBWarnings("URF_UNREAD_FIELD")
+    private byte warmUpChecksum;
+
+    static MappedPages create(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            var file = Files.createTempFile(directory, "gds-adjacency-", ".pages");
+            var channel = FileChannel.open(
+                file,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE
+            );
+            return new MappedPages(file, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                formatWithLocale("Could not create memory-mapped adjacency list in `%s`", directory),
+                e
+            );
+        }
+    }
+
+    private MappedPages(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+        this.segments = new ArrayList<>();
+        this.fileSize = 0L;
+        this.usedBytes = 0L;
+    }
+
+    /**
+     * Returns the address of a new zeroed region of {@code length} bytes.
+     */
+    synchronized Address allocate(int length) {
+        if (currentSegment == null || currentSegment.usedBytes + length > currentSegment.capacity) {
+            mapSegment(Math.max(SEGMENT_SIZE, length));
+        }
+        long address = currentSegment.address + currentSegment.usedBytes;
+        currentSegment.usedBytes += length;
+        usedBytes += length;
+        return Address.createAddress(address, length);
+    }
+
+    /**
+     * Closes the backing file. Existing mappings remain valid, but no new pages can be allocated.
+     */
+    synchronized void seal() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not close `%s`", file), e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * @return the number of bytes handed out by {@link #allocate(int)}, not the size of the mapped segments
+     */
+    synchronized long mappedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Touches the allocated part of all mapped segments, so that subsequent cursor access does not trigger page faults.
+     * The unused tail of a segment is never touched, so it does not occupy memory.
+     * Progress is logged in bytes.
+     */
+    void warmUp(ProgressTracker progressTracker) {
+        List<Segment> segments;
+        synchronized (this) {
+            segments = List.copyOf(this.segments);
+        }
+        byte checksum = 0;
+        for (var segment : segments) {
+            int end = (int) segment.usedBytes;
+            for (int offset = 0; offset < end; offset += OS_PAGE_SIZE) {
+                checksum ^= segment.buffer.get(offset);
+            }
+            progressTracker.logProgress(end);
+        }
+        warmUpChecksum = checksum;
+    }
+
+    /**
+     * Drops all mappings. The memory must not be accessed afterwards.
+     */
+    synchronized void release() {
+        seal();
+        segments.clear();
+        currentSegment = null;
+    }
+
+    private void mapSegment(long size) {
+        if (channel == null) {
+            throw new IllegalStateException("The memory-mapped adjacency list has already been built.");
+        }
+        try {
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, fileSize, size);
+            var segment = new Segment(buffer, UnsafeUtil.getDirectByteBufferAddress(buffer), size);
+            segments.add(segment);
+            fileSize += size;
+            currentSegment = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not map %d bytes of `%s`", size, file), e);
+        }
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final long address;
+        private final long capacity;
+        private long usedBytes;
+
+        Segment(MappedByteBuffer buffer, long address, long capacity) {
+            this.buffer = buffer;
+            this.address = address;
+            this.capacity = capacity;
+            this.usedBytes = 0L;
+        }
+    }
+}
@@ -39,10 +39,17 @@ public class PackedAdjacencyList implements AdjacencyList {
     private final Cleaner.Cleanable cleanable;
 
     PackedAdjacencyList(long[] pages, int[] allocationSizes, HugeIntArray degrees, HugeLongArray offsets) {
+        this(pages, degrees, offsets, new AdjacencyListCleaner(pages, allocationSizes));
+    }
+
+    /**
+     * @param pageCleaner releases the memory behind {@code pages}; must not reference this list
+     */
+    PackedAdjacencyList(long[] pages, HugeIntArray degrees, HugeLongArray offsets, Runnable pageCleaner) {
         this.pages = pages;
         this.degrees = degrees;
         this.offsets = offsets;
-        this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pages, allocationSizes));
+        this.cleanable = CLEANER.register(this, pageCleaner);
     }
 
     @Override
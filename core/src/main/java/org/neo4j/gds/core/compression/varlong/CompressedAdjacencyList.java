@@ -108,6 +108,18 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
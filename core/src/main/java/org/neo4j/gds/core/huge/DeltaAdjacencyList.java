@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+/**
+ * An adjacency list that overlays a base adjacency list with replacement target lists for individual nodes.
+ * <p>
+ * Every overridden node has its complete, sorted target list stored in the overlay,
+ * so cursors either read from the base list or from the override, never from both.
+ * Instances are immutable; applying further changes creates a new overlay on top of the same base,
+ * which keeps graphs that were created from an earlier overlay consistent.
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final DeltaOverrides overrides;
+
+    public DeltaAdjacencyList(AdjacencyList base, DeltaOverrides overrides) {
+        this.base = base;
+        this.overrides = overrides;
+    }
+
+    public AdjacencyList base() {
+        return base;
+    }
+
+    /**
+     * The replacement target lists by node id.
+     */
+    public DeltaOverrides overrides() {
+        return overrides;
+    }
+
+    @Override
+    public int degree(long node) {
+        var targets = overrides.get(node);
+        return targets != null ? targets.length : base.degree(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var cursor = new Cursor(null);
+        return adjacencyCursor(cursor, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor) {
+            var cursor = (Cursor) reuse;
+            var targets = overrides.get(node);
+            if (targets != null) {
+                cursor.initOverride(targets);
+            } else {
+                cursor.initBase(base.adjacencyCursor(cursor.reusableBaseCursor, node, fallbackValue));
+            }
+            return cursor;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(base.rawAdjacencyCursor());
+    }
+
+    static final class Cursor implements AdjacencyCursor {
+
+        // the cursor that is currently iterated in base mode, might be the shared empty cursor
+        private AdjacencyCursor baseCursor;
+        // the last non-empty base cursor, kept around to be reused for the next node
+        private @Nullable AdjacencyCursor reusableBaseCursor;
+        // the override targets, `null` while iterating the base adjacency list
+        private long[] targets;
+        private int offset;
+
+        private Cursor(@Nullable AdjacencyCursor baseCursor) {
+            this.baseCursor = baseCursor != null ? baseCursor : AdjacencyCursor.empty();
+            this.reusableBaseCursor = baseCursor;
+        }
+
+        private void initBase(AdjacencyCursor baseCursor) {
+            this.baseCursor = baseCursor;
+            if (baseCursor != AdjacencyCursor.empty()) {
+                this.reusableBaseCursor = baseCursor;
+            }
+            this.targets = null;
+        }
+
+        private void initOverride(long[] targets) {
+            this.targets = targets;
+            this.offset = 0;
+        }
+
+        /**
+         * Initializes the underlying base cursor; the index is specific to the base adjacency list.
+         */
+        @Override
+        public void init(long index, int degree) {
+            assert reusableBaseCursor != null;
+            reusableBaseCursor.init(index, degree);
+            initBase(reusableBaseCursor);
+        }
+
+        @Override
+        public int size() {
+            return targets != null ? targets.length : baseCursor.size();
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return targets != null ? offset < targets.length : baseCursor.hasNextVLong();
+        }
+
+        @Override
+        public long nextVLong() {
+            return targets != null ? targets[offset++] : baseCursor.nextVLong();
+        }
+
+        @Override
+        public long peekVLong() {
+            return targets != null ? targets[offset] : baseCursor.peekVLong();
+        }
+
+        @Override
+        public int remaining() {
+            return targets != null ? targets.length - offset : baseCursor.remaining();
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            if (targets == null) {
+                return baseCursor.skipUntil(nodeId);
+            }
+            while (offset < targets.length) {
+                long target = targets[offset++];
+                if (target > nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            if (targets == null) {
+                return baseCursor.advance(nodeId);
+            }
+            while (offset < targets.length) {
+                long target = targets[offset++];
+                if (target >= nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            if (targets == null) {
+                return baseCursor.advanceBy(n);
+            }
+            assert n >= 0;
+
+            offset += n;
+            if (offset >= targets.length) {
+                offset = targets.length;
+                return NOT_FOUND;
+            }
+            return targets[offset++];
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(null);
+
+            if (targets != null) {
+                dest.targets = targets;
+                dest.offset = offset;
+            } else {
+                var reuse = dest.reusableBaseCursor != null && dest.reusableBaseCursor.getClass() == baseCursor.getClass()
+                    ? dest.reusableBaseCursor
+                    : null;
+                dest.initBase(baseCursor.shallowCopy(reuse));
+            }
+            return dest;
+        }
+    }
+}
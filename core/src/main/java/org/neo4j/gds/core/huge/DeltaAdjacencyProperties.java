@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * The relationship property counterpart of {@link DeltaAdjacencyList}.
+ * Overridden nodes store their complete property list, aligned with the override targets
+ * of the corresponding {@link DeltaAdjacencyList}.
+ */
+public final class DeltaAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final DeltaOverrides overrides;
+
+    public DeltaAdjacencyProperties(AdjacencyProperties base, DeltaOverrides overrides) {
+        this.base = base;
+        this.overrides = overrides;
+    }
+
+    public AdjacencyProperties base() {
+        return base;
+    }
+
+    /**
+     * The replacement property values, encoded as double bits, by node id.
+     */
+    public DeltaOverrides overrides() {
+        return overrides;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        return propertyCursor(new Cursor(null), node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor) {
+            var cursor = (Cursor) reuse;
+            var values = overrides.get(node);
+            if (values != null) {
+                cursor.initOverride(values);
+            } else {
+                cursor.initBase(base.propertyCursor(cursor.reusableBaseCursor, node, fallbackValue));
+            }
+            return cursor;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(base.rawPropertyCursor());
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        // the cursor that is currently iterated in base mode, might be the shared empty cursor
+        private PropertyCursor baseCursor;
+        // the last non-empty base cursor, kept around to be reused for the next node
+        private @Nullable PropertyCursor reusableBaseCursor;
+        // the override values, `null` while iterating the base properties
+        private long[] values;
+        private int offset;
+
+        private Cursor(@Nullable PropertyCursor baseCursor) {
+            this.baseCursor = baseCursor != null ? baseCursor : PropertyCursor.empty();
+            this.reusableBaseCursor = baseCursor;
+        }
+
+        private void initBase(PropertyCursor baseCursor) {
+            this.baseCursor = baseCursor;
+            if (baseCursor != PropertyCursor.empty()) {
+                this.reusableBaseCursor = baseCursor;
+            }
+            this.values = null;
+        }
+
+        private void initOverride(long[] values) {
+            this.values = values;
+            this.offset = 0;
+        }
+
+        /**
+         * Initializes the underlying base cursor; the index is specific to the base properties.
+         */
+        @Override
+        public void init(long index, int degree) {
+            assert reusableBaseCursor != null;
+            reusableBaseCursor.init(index, degree);
+            initBase(reusableBaseCursor);
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return values != null ? offset < values.length : baseCursor.hasNextLong();
+        }
+
+        @Override
+        public long nextLong() {
+            return values != null ? values[offset++] : baseCursor.nextLong();
+        }
+
+        @Override
+        public void close() {
+            if (reusableBaseCursor != null) {
+                reusableBaseCursor.close();
+            }
+            values = null;
+        }
+    }
+}
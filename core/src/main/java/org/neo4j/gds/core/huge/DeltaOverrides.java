@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The replacement lists by node id of {@link DeltaAdjacencyList} and {@link DeltaAdjacencyProperties}.
+ * <p>
+ * The lists are stored in a persistent radix trie over the node ids.
+ * Adding lists via a {@link Builder} copies only the trie nodes on the paths to the changed node ids,
+ * all other trie nodes are shared with the instance the builder has been created from.
+ * Applying a delta therefore costs time proportional to the number of changed nodes,
+ * independent of how many nodes have been overridden before.
+ */
+public final class DeltaOverrides {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    public static final DeltaOverrides EMPTY = new DeltaOverrides(new TrieNode(null), 0, 0);
+
+    private final TrieNode root;
+    // the lowest bit of the node id that is used to index into the root
+    private final int shift;
+    private final long size;
+
+    private DeltaOverrides(TrieNode root, int shift, long size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public @Nullable long[] get(long node) {
+        if (exceedsCapacity(node, shift)) {
+            return null;
+        }
+        var current = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            current = (TrieNode) current.children[index(node, level)];
+            if (current == null) {
+                return null;
+            }
+        }
+        return (long[]) current.children[index(node, 0)];
+    }
+
+    /**
+     * The overridden node ids in ascending order.
+     */
+    public long[] keys() {
+        var keys = new LongArrayList((int) size);
+        forEach(root, shift, 0, (node, values) -> keys.add(node));
+        return keys.toArray();
+    }
+
+    public Builder builder() {
+        return new Builder(root, shift, size);
+    }
+
+    /**
+     * Lists are never modified or removed once added, so a list that is not identical
+     * to the one in {@code previous} has been added after {@code previous} has been built.
+     * Trie nodes that are shared with {@code previous} are skipped without being visited.
+     *
+     * @return the lists added after {@code previous} or an empty optional if this instance
+     *     is not derived from {@code previous}
+     */
+    public Optional<DeltaOverrides> changedSince(DeltaOverrides previous) {
+        if (previous.shift > shift) {
+            return Optional.empty();
+        }
+        var changed = EMPTY.builder();
+        // levels above the root of `previous` only contain node ids that are not in `previous`
+        var current = root;
+        for (int level = shift; current != null && level > previous.shift; level -= BITS) {
+            for (int i = 1; i < WIDTH; i++) {
+                forEach((TrieNode) current.children[i], level - BITS, (long) i << level, changed::put);
+            }
+            current = (TrieNode) current.children[0];
+        }
+        if (!collectChanged(current, previous.root, previous.shift, 0, changed)) {
+            return Optional.empty();
+        }
+        return Optional.of(changed.build());
+    }
+
+    private static boolean collectChanged(
+        @Nullable TrieNode current,
+        @Nullable TrieNode previous,
+        int level,
+        long prefix,
+        Builder changed
+    ) {
+        if (current == previous) {
+            return true;
+        }
+        if (previous == null) {
+            forEach(current, level, prefix, changed::put);
+            return true;
+        }
+        if (current == null) {
+            // trie nodes are only created for added lists
+            return previous.isEmpty();
+        }
+        for (int i = 0; i < WIDTH; i++) {
+            var currentChild = current.children[i];
+            var previousChild = previous.children[i];
+            long childPrefix = prefix | ((long) i << level);
+            if (level == 0) {
+                if (currentChild == null && previousChild != null) {
+                    return false;
+                }
+                if (currentChild != previousChild) {
+                    changed.put(childPrefix, (long[]) currentChild);
+                }
+            } else if (!collectChanged(
+                (TrieNode) currentChild,
+                (TrieNode) previousChild,
+                level - BITS,
+                childPrefix,
+                changed
+            )) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void forEach(@Nullable TrieNode trieNode, int level, long prefix, Consumer consumer) {
+        if (trieNode == null) {
+            return;
+        }
+        for (int i = 0; i < WIDTH; i++) {
+            var child = trieNode.children[i];
+            if (child == null) {
+                continue;
+            }
+            long childPrefix = prefix | ((long) i << level);
+            if (level == 0) {
+                consumer.accept(childPrefix, (long[]) child);
+            } else {
+                forEach((TrieNode) child, level - BITS, childPrefix, consumer);
+            }
+        }
+    }
+
+    private static boolean exceedsCapacity(long node, int shift) {
+        int bits = shift + BITS;
+        return bits < Long.SIZE && (node >>> bits) != 0;
+    }
+
+    private static int index(long node, int level) {
+        return (int) (node >>> level) & MASK;
+    }
+
+    @FunctionalInterface
+    private interface Consumer {
+        void accept(long node, long[] values);
+    }
+
+    private static final class TrieNode {
+        // the builder that created this trie node, only that builder may modify it before it has been built
+        private final @Nullable Object owner;
+        // trie nodes on the inner levels, replacement lists on the lowest level
+        private final Object[] children;
+
+        private TrieNode(@Nullable Object owner) {
+            this(owner, new Object[WIDTH]);
+        }
+
+        private TrieNode(@Nullable Object owner, Object[] children) {
+            this.owner = owner;
+            this.children = children;
+        }
+
+        private boolean isEmpty() {
+            for (Object child : children) {
+                if (child != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Adds lists on top of existing overrides without modifying them.
+     * Trie nodes created by a builder are modified in place until {@link #build()} is called,
+     * so a node id path is copied at most once per builder.
+     */
+    public static final class Builder {
+        private Object owner;
+        private TrieNode root;
+        private int shift;
+        private long size;
+
+        private Builder(TrieNode root, int shift, long size) {
+            this.owner = new Object();
+            this.root = root;
+            this.shift = shift;
+            this.size = size;
+        }
+
+        public void put(long node, long[] values) {
+            assert node >= 0;
+            while (exceedsCapacity(node, shift)) {
+                var newRoot = new TrieNode(owner);
+                newRoot.children[0] = root;
+                root = newRoot;
+                shift += BITS;
+            }
+            root = editable(root);
+            var current = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int index = index(node, level);
+                var child = (TrieNode) current.children[index];
+                child = child == null ? new TrieNode(owner) : editable(child);
+                current.children[index] = child;
+                current = child;
+            }
+            int index = index(node, 0);
+            if (current.children[index] == null) {
+                size++;
+            }
+            current.children[index] = values;
+        }
+
+        public DeltaOverrides build() {
+            // the built trie nodes are shared from now on and must not be modified by further puts
+            owner = new Object();
+            return new DeltaOverrides(root, shift, size);
+        }
+
+        private TrieNode editable(TrieNode trieNode) {
+            return trieNode.owner == owner ? trieNode : new TrieNode(owner, trieNode.children.clone());
+        }
+    }
+}
@@ -157,6 +157,13 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
         protected long translateId(long nodeId) {
             return graph.toRootNodeId(nodeId);
         }
+
+        /**
+         * The unfiltered properties, indexed by root node id.
+         */
+        public NodePropertyValues rootProperties() {
+            return properties;
+        }
     }
 
     // This class is used when the ID space of the wrapped properties is smaller than the id space used to retrieved node properties.
@@ -23,6 +23,8 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.packed.MappedAdjacencyList;
+import org.neo4j.gds.core.compression.packed.MappedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.uncompressed.RawCompressor;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
@@ -35,6 +37,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
@@ -43,7 +46,7 @@ import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, uncompressed, packed or memory-mapped.
  */
 public interface AdjacencyListBehavior {
 
@@ -55,11 +58,13 @@ public interface AdjacencyListBehavior {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
-            ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-                ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        return GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? mapped(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+            : GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
+                ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+                    ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                    : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -107,22 +112,49 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    /**
+     * Pages of memory-mapped adjacency lists are stored on disk and
+     * backed by the page cache of the operating system instead of the heap.
+     * The directory for the backing files is configured through
+     * {@link GdsFeatureToggles#MAPPED_ADJACENCY_LIST_DIRECTORY}.
+     */
+    static AdjacencyCompressorFactory mapped(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return PackedCompressor.factory(
+            nodeCountSupplier,
+            MappedAdjacencyListBuilderFactory.of(Path.of(GdsFeatureToggles.MAPPED_ADJACENCY_LIST_DIRECTORY.get())),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        return GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? MappedAdjacencyList.adjacencyListEstimation()
+            : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+                ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+                : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        return GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? MappedAdjacencyList.adjacencyListEstimation()
+            : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+                ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+                : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyListsFromStarEstimation(boolean undirected) {
-        BiFunction<RelationshipType, Boolean, MemoryEstimation> estimationMethod = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList::adjacencyListEstimation
-            : CompressedAdjacencyList::adjacencyListEstimation;
+        BiFunction<RelationshipType, Boolean, MemoryEstimation> estimationMethod = GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? (relationshipType, isUndirected) -> MappedAdjacencyList.adjacencyListEstimation()
+            : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+                ? UncompressedAdjacencyList::adjacencyListEstimation
+                : CompressedAdjacencyList::adjacencyListEstimation;
 
         return MemoryEstimations.setup("Adjacency Lists", dimensions -> {
             var builder = MemoryEstimations.builder();
@@ -49,6 +49,7 @@ import org.neo4j.gds.api.schema.MutableGraphSchema;
 import org.neo4j.gds.api.schema.MutableNodeSchema;
 import org.neo4j.gds.api.schema.MutableRelationshipSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
 import org.neo4j.gds.core.huge.HugeGraphBuilder;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
@@ -65,6 +66,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -95,6 +99,8 @@ public final class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    private final AtomicLong modificationCount = new AtomicLong();
+
     @Builder.Factory
     public static CSRGraphStore of(
         DatabaseId databaseId,
@@ -159,6 +165,11 @@ public final class CSRGraphStore implements GraphStore {
         return modificationTime;
     }
 
+    @Override
+    public long modificationCount() {
+        return modificationCount.get();
+    }
+
     @Override
     public Capabilities capabilities() {
         return capabilities;
@@ -345,6 +356,14 @@ public final class CSRGraphStore implements GraphStore {
         return relationships.get(relationshipType).topology().elementCount();
     }
 
+    /**
+     * Returns the relationships of the given type as they are stored in this graph store,
+     * including the inverse index if one exists.
+     */
+    public Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return Optional.ofNullable(relationships.get(relationshipType));
+    }
+
     @Override
     public Set<RelationshipType> inverseIndexedRelationshipTypes() {
         return relationships
@@ -438,6 +457,80 @@ public final class CSRGraphStore implements GraphStore {
         }));
     }
 
+    /**
+     * Applies the given changes to the relationships of the given type.
+     * <p>
+     * Changed nodes are stored as overrides on top of the existing adjacency lists,
+     * graphs that have been created before remain unchanged.
+     * Use {@link #compactRelationships(RelationshipType)} to merge accumulated overrides into new adjacency lists.
+     */
+    public void applyRelationshipDelta(RelationshipType relationshipType, RelationshipDelta delta) {
+        updateGraphStore(graphStore -> {
+            var relationships = graphStore.existingRelationships(relationshipType);
+            graphStore.relationships.put(
+                relationshipType,
+                DeltaRelationships.apply(relationships, delta, graphStore.nodes.nodeCount())
+            );
+        });
+    }
+
+    /**
+     * Merges the overrides created by {@link #applyRelationshipDelta(RelationshipType, RelationshipDelta)}
+     * into new adjacency lists.
+     * <p>
+     * The graph store is not locked while the adjacency lists are being built,
+     * deltas applied in the meantime are carried over to the compacted relationships.
+     *
+     * @return true, iff the compacted relationships replaced the existing ones
+     */
+    public boolean compactRelationships(RelationshipType relationshipType) {
+        var snapshot = existingRelationships(relationshipType);
+        if (!DeltaRelationships.hasOverrides(snapshot)) {
+            return false;
+        }
+        var compacted = DeltaRelationships.compact(snapshot, nodes, concurrency, Pools.DEFAULT);
+        return replaceCompactedRelationships(relationshipType, snapshot, compacted);
+    }
+
+    /**
+     * Runs {@link #compactRelationships(RelationshipType)} on the given executor.
+     */
+    public CompletableFuture<Boolean> compactRelationshipsAsync(
+        RelationshipType relationshipType,
+        ExecutorService executorService
+    ) {
+        return CompletableFuture.supplyAsync(() -> compactRelationships(relationshipType), executorService);
+    }
+
+    private synchronized SingleTypeRelationships existingRelationships(RelationshipType relationshipType) {
+        var existing = relationships.get(relationshipType);
+        if (existing == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationships have been loaded for relationship type '%s'",
+                relationshipType.name
+            ));
+        }
+        return existing;
+    }
+
+    private synchronized boolean replaceCompactedRelationships(
+        RelationshipType relationshipType,
+        SingleTypeRelationships snapshot,
+        SingleTypeRelationships compacted
+    ) {
+        var current = relationships.get(relationshipType);
+        if (current == null) {
+            return false;
+        }
+        var rebased = DeltaRelationships.rebase(compacted, snapshot, current);
+        rebased.ifPresent(relationships -> {
+            this.relationships.put(relationshipType, relationships);
+            this.modificationTime = TimeUtil.now();
+            this.modificationCount.incrementAndGet();
+        });
+        return rebased.isPresent();
+    }
+
     @Override
     public CSRGraph getGraph(Collection<NodeLabel> nodeLabels) {
         return getGraph(nodeLabels, List.of(), Optional.empty());
@@ -544,6 +637,7 @@ public final class CSRGraphStore implements GraphStore {
     private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
         updateFunction.accept(this);
         this.modificationTime = TimeUtil.now();
+        this.modificationCount.incrementAndGet();
     }
 
     private CSRGraph createGraph(
@@ -0,0 +1,613 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.cursors.LongObjectCursor;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Properties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.core.huge.DeltaAdjacencyProperties;
+import org.neo4j.gds.core.huge.DeltaOverrides;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies {@link RelationshipDelta}s to {@link SingleTypeRelationships} without re-building the adjacency lists.
+ * <p>
+ * Changed nodes are stored as overrides on top of the existing adjacency lists and properties,
+ * see {@link DeltaAdjacencyList} and {@link DeltaAdjacencyProperties}.
+ * Once enough changes have accumulated, the overrides can be merged into new compressed
+ * adjacency lists via {@link #compact(SingleTypeRelationships, IdMap, int, ExecutorService)}.
+ */
+final class DeltaRelationships {
+
+    private DeltaRelationships() {}
+
+    static boolean hasOverrides(SingleTypeRelationships relationships) {
+        return relationships.topology().adjacencyList() instanceof DeltaAdjacencyList;
+    }
+
+    static SingleTypeRelationships apply(
+        SingleTypeRelationships relationships,
+        RelationshipDelta delta,
+        long nodeCount
+    ) {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var properties = relationships.properties()
+            .map(store -> List.copyOf(store.values()))
+            .orElse(List.of());
+
+        for (String propertyKey : delta.propertyKeys()) {
+            if (properties.stream().noneMatch(property -> property.key().equals(propertyKey))) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` does not have a property `%s`.",
+                    schemaEntry.identifier().name,
+                    propertyKey
+                ));
+            }
+        }
+
+        // position of each relationship property within the values of the delta, -1 if it uses the default value
+        var deltaIndices = properties
+            .stream()
+            .mapToInt(property -> delta.propertyKeys().indexOf(property.key()))
+            .toArray();
+        var defaultValues = properties
+            .stream()
+            .mapToDouble(property -> property.values().defaultPropertyValue())
+            .toArray();
+
+        boolean isUndirected = schemaEntry.isUndirected();
+        boolean isMultiGraph = relationships.topology().isMultiGraph();
+        var inverseTopology = relationships.inverseTopology();
+
+        var propertyKeys = properties.stream().map(RelationshipProperty::key).collect(Collectors.toList());
+        var changes = new Changes(propertyKeys);
+        var inverseChanges = new Changes(propertyKeys);
+
+        var detachedNodes = delta.detachedNodes();
+        for (int i = 0; i < detachedNodes.size(); i++) {
+            long node = detachedNodes.get(i);
+            validateNodeId(node, nodeCount);
+            changes.get(node).clear = true;
+            if (isUndirected) {
+                forEachTarget(relationships.topology(), node, neighbour -> changes.get(neighbour).remove(node));
+            } else if (inverseTopology.isPresent()) {
+                inverseChanges.get(node).clear = true;
+                forEachTarget(inverseTopology.get(), node, source -> changes.get(source).remove(node));
+                forEachTarget(relationships.topology(), node, target -> inverseChanges.get(target).remove(node));
+            } else {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Detaching nodes requires relationship type `%s` to be undirected or inverse indexed.",
+                    schemaEntry.identifier().name
+                ));
+            }
+        }
+
+        for (int i = 0; i < delta.removedRelationshipCount(); i++) {
+            long source = delta.removedSource(i);
+            long target = delta.removedTarget(i);
+            validateNodeId(source, nodeCount);
+            validateNodeId(target, nodeCount);
+            changes.get(source).remove(target);
+            if (isUndirected) {
+                changes.get(target).remove(source);
+            }
+            if (inverseTopology.isPresent()) {
+                inverseChanges.get(target).remove(source);
+            }
+        }
+
+        var values = new double[properties.size()];
+        for (int i = 0; i < delta.addedRelationshipCount(); i++) {
+            long source = delta.addedSource(i);
+            long target = delta.addedTarget(i);
+            validateNodeId(source, nodeCount);
+            validateNodeId(target, nodeCount);
+            for (int p = 0; p < values.length; p++) {
+                values[p] = deltaIndices[p] >= 0 ? delta.addedValue(i, deltaIndices[p]) : defaultValues[p];
+            }
+            changes.get(source).add(target, values);
+            // undirected self-loops are imported twice, unless they are aggregated into a single relationship
+            if (isUndirected && (source != target || isMultiGraph)) {
+                changes.get(target).add(source, values);
+            }
+            if (inverseTopology.isPresent()) {
+                inverseChanges.get(target).add(source, values);
+            }
+        }
+
+        var forward = changes.applyTo(relationships.topology(), relationships.properties());
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(relationships)
+            .topology(forward.topology)
+            .properties(forward.properties);
+
+        if (inverseTopology.isPresent()) {
+            var inverse = inverseChanges.applyTo(inverseTopology.get(), relationships.inverseProperties());
+            builder.inverseTopology(inverse.topology).inverseProperties(inverse.properties);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Writes the current state of the relationships, including all overrides, into new adjacency lists.
+     * The returned relationships have the same schema and multi-graph flag as the given ones.
+     */
+    static SingleTypeRelationships compact(
+        SingleTypeRelationships relationships,
+        IdMap idMap,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var properties = relationships.properties()
+            .map(store -> List.copyOf(store.values()))
+            .orElse(List.of());
+
+        var propertyConfigs = properties
+            .stream()
+            .map(property -> GraphFactory.PropertyConfig
+                .builder()
+                .propertyKey(property.key())
+                .aggregation(Aggregation.NONE)
+                .defaultValue(property.defaultValue())
+                .propertyState(property.propertyState())
+                .build())
+            .collect(Collectors.toList());
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(relationships.relationshipSchemaEntry().identifier())
+            .orientation(Orientation.NATURAL)
+            .propertyConfigs(propertyConfigs)
+            .aggregation(Aggregation.NONE)
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .build();
+
+        var adjacencyList = relationships.topology().adjacencyList();
+        var propertyLists = properties
+            .stream()
+            .map(property -> property.values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+        var defaultValues = properties
+            .stream()
+            .mapToDouble(property -> property.values().defaultPropertyValue())
+            .toArray();
+
+        ParallelUtil.readParallel(concurrency, idMap.nodeCount(), executorService, (start, end) -> {
+            AdjacencyCursor adjacencyCursor = null;
+            var propertyCursors = new PropertyCursor[propertyLists.length];
+            var values = new double[propertyLists.length];
+
+            for (long node = start; node < end; node++) {
+                // cursors of nodes without relationships are shared and must not be reused
+                if (adjacencyList.degree(node) == 0) {
+                    continue;
+                }
+                adjacencyCursor = adjacencyList.adjacencyCursor(adjacencyCursor, node);
+                for (int p = 0; p < propertyLists.length; p++) {
+                    propertyCursors[p] = propertyLists[p].propertyCursor(propertyCursors[p], node, defaultValues[p]);
+                }
+                while (adjacencyCursor.hasNextVLong()) {
+                    long target = adjacencyCursor.nextVLong();
+                    if (values.length == 0) {
+                        relationshipsBuilder.addFromInternal(node, target);
+                    } else {
+                        for (int p = 0; p < values.length; p++) {
+                            values[p] = Double.longBitsToDouble(propertyCursors[p].nextLong());
+                        }
+                        relationshipsBuilder.addFromInternal(node, target, values);
+                    }
+                }
+            }
+        });
+
+        var compacted = relationshipsBuilder.build();
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(relationships)
+            .topology(withMultiGraphFlag(compacted.topology(), relationships.topology()))
+            .properties(withPropertySchemas(compacted.properties(), relationships.properties()));
+
+        relationships.inverseTopology().ifPresent(inverseTopology -> builder
+            .inverseTopology(withMultiGraphFlag(compacted.inverseTopology().orElseThrow(), inverseTopology))
+            .inverseProperties(withPropertySchemas(compacted.inverseProperties(), relationships.inverseProperties())));
+
+        return builder.build();
+    }
+
+    /**
+     * Re-applies the overrides that were added to {@code current} while {@code snapshot} was being compacted
+     * on top of the compacted relationships.
+     *
+     * @return the rebased relationships or an empty optional if {@code current} is not derived from {@code snapshot}
+     */
+    static Optional<SingleTypeRelationships> rebase(
+        SingleTypeRelationships compacted,
+        SingleTypeRelationships snapshot,
+        SingleTypeRelationships current
+    ) {
+        if (current == snapshot) {
+            return Optional.of(compacted);
+        }
+
+        var topology = rebase(compacted.topology(), snapshot.topology(), current.topology());
+        var properties = rebase(compacted.properties(), snapshot.properties(), current.properties());
+        if (topology.isEmpty() || properties.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(current)
+            .topology(topology.get())
+            .properties(properties.get());
+
+        if (current.inverseTopology().isPresent()) {
+            if (compacted.inverseTopology().isEmpty() || snapshot.inverseTopology().isEmpty()) {
+                return Optional.empty();
+            }
+            var inverseTopology = rebase(
+                compacted.inverseTopology().get(),
+                snapshot.inverseTopology().get(),
+                current.inverseTopology().get()
+            );
+            var inverseProperties = rebase(
+                compacted.inverseProperties(),
+                snapshot.inverseProperties(),
+                current.inverseProperties()
+            );
+            if (inverseTopology.isEmpty() || inverseProperties.isEmpty()) {
+                return Optional.empty();
+            }
+            builder.inverseTopology(inverseTopology.get()).inverseProperties(inverseProperties.get());
+        }
+
+        return Optional.of(builder.build());
+    }
+
+    private static Optional<Topology> rebase(Topology compacted, Topology snapshot, Topology current) {
+        var snapshotList = snapshot.adjacencyList();
+        var currentList = current.adjacencyList();
+        if (baseList(snapshotList) != baseList(currentList)) {
+            return Optional.empty();
+        }
+
+        var maybeOverrides = listOverrides(currentList).changedSince(listOverrides(snapshotList));
+        if (maybeOverrides.isEmpty()) {
+            return Optional.empty();
+        }
+        var overrides = maybeOverrides.get();
+        var adjacencyList = overrides.isEmpty()
+            ? compacted.adjacencyList()
+            : new DeltaAdjacencyList(compacted.adjacencyList(), overrides);
+
+        return Optional.of(ImmutableTopology.of(adjacencyList, current.elementCount(), current.isMultiGraph()));
+    }
+
+    private static Optional<Optional<RelationshipPropertyStore>> rebase(
+        Optional<RelationshipPropertyStore> compacted,
+        Optional<RelationshipPropertyStore> snapshot,
+        Optional<RelationshipPropertyStore> current
+    ) {
+        if (current.isEmpty()) {
+            return Optional.of(Optional.empty());
+        }
+        if (compacted.isEmpty() || snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var builder = RelationshipPropertyStore.builder();
+        for (RelationshipProperty currentProperty : current.get().values()) {
+            var key = currentProperty.key();
+            if (!compacted.get().containsKey(key) || !snapshot.get().containsKey(key)) {
+                return Optional.empty();
+            }
+            var snapshotList = snapshot.get().get(key).values().propertiesList();
+            var currentValues = currentProperty.values();
+            var currentList = currentValues.propertiesList();
+            if (baseProperties(snapshotList) != baseProperties(currentList)) {
+                return Optional.empty();
+            }
+
+            var compactedList = compacted.get().get(key).values().propertiesList();
+            var maybeOverrides = propertyOverrides(currentList).changedSince(propertyOverrides(snapshotList));
+            if (maybeOverrides.isEmpty()) {
+                return Optional.empty();
+            }
+            var overrides = maybeOverrides.get();
+            var propertiesList = overrides.isEmpty()
+                ? compactedList
+                : new DeltaAdjacencyProperties(compactedList, overrides);
+
+            builder.putRelationshipProperty(key, ImmutableRelationshipProperty.of(
+                ImmutableProperties.of(
+                    propertiesList,
+                    currentValues.elementCount(),
+                    currentValues.defaultPropertyValue()
+                ),
+                currentProperty.propertySchema()
+            ));
+        }
+
+        return Optional.of(Optional.of(builder.build()));
+    }
+
+    private static Topology withMultiGraphFlag(Topology compacted, Topology original) {
+        return ImmutableTopology.of(compacted.adjacencyList(), compacted.elementCount(), original.isMultiGraph());
+    }
+
+    private static Optional<RelationshipPropertyStore> withPropertySchemas(
+        Optional<RelationshipPropertyStore> compacted,
+        Optional<RelationshipPropertyStore> original
+    ) {
+        return compacted.map(compactedStore -> {
+            var builder = RelationshipPropertyStore.builder();
+            compactedStore.relationshipProperties().forEach((key, property) -> builder.putRelationshipProperty(
+                key,
+                ImmutableRelationshipProperty.of(property.values(), original.orElseThrow().get(key).propertySchema())
+            ));
+            return builder.build();
+        });
+    }
+
+    private static AdjacencyList baseList(AdjacencyList adjacencyList) {
+        return adjacencyList instanceof DeltaAdjacencyList
+            ? ((DeltaAdjacencyList) adjacencyList).base()
+            : adjacencyList;
+    }
+
+    private static DeltaOverrides listOverrides(AdjacencyList adjacencyList) {
+        return adjacencyList instanceof DeltaAdjacencyList
+            ? ((DeltaAdjacencyList) adjacencyList).overrides()
+            : DeltaOverrides.EMPTY;
+    }
+
+    private static AdjacencyProperties baseProperties(AdjacencyProperties properties) {
+        return properties instanceof DeltaAdjacencyProperties
+            ? ((DeltaAdjacencyProperties) properties).base()
+            : properties;
+    }
+
+    private static DeltaOverrides propertyOverrides(AdjacencyProperties properties) {
+        return properties instanceof DeltaAdjacencyProperties
+            ? ((DeltaAdjacencyProperties) properties).overrides()
+            : DeltaOverrides.EMPTY;
+    }
+
+    private static void forEachTarget(Topology topology, long node, LongConsumer consumer) {
+        var adjacencyList = topology.adjacencyList();
+        if (adjacencyList.degree(node) == 0) {
+            return;
+        }
+        var cursor = adjacencyList.adjacencyCursor(node);
+        while (cursor.hasNextVLong()) {
+            consumer.accept(cursor.nextVLong());
+        }
+    }
+
+    private static void validateNodeId(long nodeId, long nodeCount) {
+        if (nodeId < 0 || nodeId >= nodeCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node id %d is out of range, the graph contains %d nodes.",
+                nodeId,
+                nodeCount
+            ));
+        }
+    }
+
+    private static final class Layer {
+        private final Topology topology;
+        private final Optional<RelationshipPropertyStore> properties;
+
+        private Layer(Topology topology, Optional<RelationshipPropertyStore> properties) {
+            this.topology = topology;
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * The changes to the adjacency lists of a single direction, grouped by node.
+     */
+    private static final class Changes {
+        // the order of the property values of added relationships
+        private final List<String> propertyKeys;
+        private final int propertyCount;
+        private final LongObjectHashMap<NodeChanges> nodeChanges;
+
+        private Changes(List<String> propertyKeys) {
+            this.propertyKeys = propertyKeys;
+            this.propertyCount = propertyKeys.size();
+            this.nodeChanges = new LongObjectHashMap<>();
+        }
+
+        NodeChanges get(long node) {
+            var changes = nodeChanges.get(node);
+            if (changes == null) {
+                changes = new NodeChanges();
+                nodeChanges.put(node, changes);
+            }
+            return changes;
+        }
+
+        Layer applyTo(Topology topology, Optional<RelationshipPropertyStore> propertyStore) {
+            var adjacencyList = topology.adjacencyList();
+            // only the paths to the changed nodes are copied, the remaining overrides are shared
+            var targetOverrides = listOverrides(adjacencyList).builder();
+
+            var properties = propertyKeys
+                .stream()
+                .map(key -> propertyStore.orElseThrow().get(key))
+                .collect(Collectors.toList());
+            var propertyLists = new AdjacencyProperties[propertyCount];
+            var defaultValues = new double[propertyCount];
+            var valueOverrides = new DeltaOverrides.Builder[propertyCount];
+            for (int p = 0; p < propertyCount; p++) {
+                Properties values = properties.get(p).values();
+                propertyLists[p] = values.propertiesList();
+                defaultValues[p] = values.defaultPropertyValue();
+                valueOverrides[p] = propertyOverrides(propertyLists[p]).builder();
+            }
+
+            long elementCount = topology.elementCount();
+            var isMultiGraph = topology.isMultiGraph();
+
+            for (LongObjectCursor<NodeChanges> entry : nodeChanges) {
+                long node = entry.key;
+                var changes = entry.value;
+
+                var targets = new LongArrayList();
+                var values = new LongArrayList[propertyCount];
+                for (int p = 0; p < propertyCount; p++) {
+                    values[p] = new LongArrayList();
+                }
+
+                int degree = adjacencyList.degree(node);
+                if (degree > 0 && !changes.clear) {
+                    var adjacencyCursor = adjacencyList.adjacencyCursor(node);
+                    var propertyCursors = new PropertyCursor[propertyCount];
+                    for (int p = 0; p < propertyCount; p++) {
+                        propertyCursors[p] = propertyLists[p].propertyCursor(node, defaultValues[p]);
+                    }
+                    while (adjacencyCursor.hasNextVLong()) {
+                        long target = adjacencyCursor.nextVLong();
+                        boolean keep = !changes.removedTargets.contains(target)
+                                       && (isMultiGraph || !changes.lastAddedIndex.containsKey(target));
+                        for (int p = 0; p < propertyCount; p++) {
+                            long value = propertyCursors[p].nextLong();
+                            if (keep) {
+                                values[p].add(value);
+                            }
+                        }
+                        if (keep) {
+                            targets.add(target);
+                        }
+                    }
+                }
+
+                var addedTargets = changes.addedTargets;
+                for (int i = 0; i < addedTargets.size(); i++) {
+                    long target = addedTargets.get(i);
+                    // without parallel relationships the last added relationship to a target wins
+                    if (!isMultiGraph && changes.lastAddedIndex.get(target) != i) {
+                        continue;
+                    }
+                    targets.add(target);
+                    for (int p = 0; p < propertyCount; p++) {
+                        values[p].add(Double.doubleToLongBits(changes.addedValues.get(i * propertyCount + p)));
+                    }
+                }
+
+                var sortedTargets = targets.toArray();
+                var order = IndirectSort.mergesort(0, sortedTargets.length, new AscendingLongComparator(sortedTargets));
+                targetOverrides.put(node, reorder(sortedTargets, order));
+                for (int p = 0; p < propertyCount; p++) {
+                    valueOverrides[p].put(node, reorder(values[p].toArray(), order));
+                }
+
+                elementCount += sortedTargets.length - degree;
+            }
+
+            var newTopology = ImmutableTopology.of(
+                new DeltaAdjacencyList(baseList(adjacencyList), targetOverrides.build()),
+                elementCount,
+                isMultiGraph
+            );
+
+            if (propertyStore.isEmpty()) {
+                return new Layer(newTopology, Optional.empty());
+            }
+
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int p = 0; p < propertyCount; p++) {
+                var property = properties.get(p);
+                propertyStoreBuilder.putRelationshipProperty(property.key(), ImmutableRelationshipProperty.of(
+                    ImmutableProperties.of(
+                        new DeltaAdjacencyProperties(baseProperties(propertyLists[p]), valueOverrides[p].build()),
+                        elementCount,
+                        defaultValues[p]
+                    ),
+                    property.propertySchema()
+                ));
+            }
+            return new Layer(newTopology, Optional.of(propertyStoreBuilder.build()));
+        }
+
+        private static long[] reorder(long[] array, int[] order) {
+            var reordered = new long[array.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = array[order[i]];
+            }
+            return reordered;
+        }
+
+        private final class NodeChanges {
+            private boolean clear;
+            private final LongHashSet removedTargets = new LongHashSet();
+            // the position of the last relationship added to each target
+            private final LongIntHashMap lastAddedIndex = new LongIntHashMap();
+            private final LongArrayList addedTargets = new LongArrayList();
+            private final DoubleArrayList addedValues = new DoubleArrayList();
+
+            void remove(long target) {
+                removedTargets.add(target);
+            }
+
+            void add(long target, double[] values) {
+                lastAddedIndex.put(target, addedTargets.size());
+                addedTargets.add(target);
+                addedValues.add(values, 0, propertyCount);
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.annotation.ValueClass;
@@ -30,6 +31,7 @@ import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.logging.Log;
 
+import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
@@ -250,6 +252,69 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns the vector index, unless the graph has been modified since the index was built.
+     * Such a stale index is dropped, as it may refer to node properties that have been replaced or removed.
+     */
+    public static Optional<VectorIndex> getVectorIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName
+    ) {
+        return getUserCatalog(username).getVectorIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName);
+    }
+
+    public static void setVectorIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName,
+        VectorIndex vectorIndex,
+        ZonedDateTime graphModificationTime
+    ) {
+        getUserCatalog(username).setVectorIndex(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            indexName,
+            vectorIndex,
+            graphModificationTime
+        );
+    }
+
+    /**
+     * Returns an artifact that has been computed from the given catalog graph, such as a search index,
+     * unless the graph store has been modified since. Such a stale artifact is dropped.
+     */
+    public static <T> Optional<T> getArtifact(GraphStore graphStore, String artifactKey, Class<T> artifactType) {
+        return userCatalogs
+            .values()
+            .stream()
+            .flatMap(userCatalog -> userCatalog.getArtifact(graphStore, artifactKey).stream())
+            .findFirst()
+            .filter(artifactType::isInstance)
+            .map(artifactType::cast);
+    }
+
+    /**
+     * Stores an artifact next to the given catalog graph, replacing the artifact with the same key.
+     * Artifacts are dropped together with their graph. Nothing is stored if the graph store
+     * is not in the catalog or has been modified since the artifact was computed,
+     * that is, if its {@link GraphStore#modificationCount()} differs from the given one.
+     *
+     * @return whether the artifact has been stored
+     */
+    public static boolean setArtifact(
+        GraphStore graphStore,
+        String artifactKey,
+        Object artifact,
+        long graphModificationCount
+    ) {
+        return userCatalogs
+            .values()
+            .stream()
+            .anyMatch(userCatalog -> userCatalog.setArtifact(graphStore, artifactKey, artifact, graphModificationCount));
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
     }
@@ -311,6 +376,42 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, VectorIndexWithModificationTime>> vectorIndexesByName =
+            new ConcurrentHashMap<>();
+
+        /**
+         * A vector index together with the modification time of the graph store it has been built on.
+         */
+        @ValueClass
+        interface VectorIndexWithModificationTime {
+
+            VectorIndex vectorIndex();
+
+            ZonedDateTime graphModificationTime();
+
+            static VectorIndexWithModificationTime of(VectorIndex vectorIndex, ZonedDateTime graphModificationTime) {
+                return ImmutableVectorIndexWithModificationTime.of(vectorIndex, graphModificationTime);
+            }
+        }
+
+        private final Map<UserCatalogKey, Map<String, ArtifactWithModificationCount>> artifactsByName =
+            new ConcurrentHashMap<>();
+
+        /**
+         * An artifact together with the modification count of the graph store it has been computed from.
+         */
+        @ValueClass
+        interface ArtifactWithModificationCount {
+
+            Object artifact();
+
+            long graphModificationCount();
+
+            static ArtifactWithModificationCount of(Object artifact, long graphModificationCount) {
+                return ImmutableArtifactWithModificationCount.of(artifact, graphModificationCount);
+            }
+        }
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -329,6 +430,9 @@ public final class GraphStoreCatalog {
                 ));
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            // indexes and artifacts of an overwritten graph refer to the old graph store
+            vectorIndexesByName.remove(userCatalogKey);
+            artifactsByName.remove(userCatalogKey);
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -349,6 +453,103 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setVectorIndex(
+            UserCatalogKey userCatalogKey,
+            String indexName,
+            VectorIndex vectorIndex,
+            ZonedDateTime graphModificationTime
+        ) {
+            if (indexName == null || vectorIndex == null || graphModificationTime == null) {
+                throw new IllegalArgumentException(
+                    "Index name, vector index and graph modification time must be not null"
+                );
+            }
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set vector index because graph %s does not exist",
+                    userCatalogKey.graphName()
+                ));
+            }
+            if (!graphModificationTime.equals(graphStoreWithConfig.graphStore().modificationTime())) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Cannot set vector index %s because graph %s has been modified while the index was built",
+                    indexName,
+                    userCatalogKey.graphName()
+                ));
+            }
+            vectorIndexesByName
+                .computeIfAbsent(userCatalogKey, __ -> new ConcurrentHashMap<>())
+                .put(indexName, VectorIndexWithModificationTime.of(vectorIndex, graphModificationTime));
+        }
+
+        private Optional<VectorIndex> getVectorIndex(UserCatalogKey userCatalogKey, String indexName) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var vectorIndexes = vectorIndexesByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null || vectorIndexes == null) {
+                return Optional.empty();
+            }
+            var vectorIndex = vectorIndexes.get(indexName);
+            if (vectorIndex == null) {
+                return Optional.empty();
+            }
+            if (!vectorIndex.graphModificationTime().equals(graphStoreWithConfig.graphStore().modificationTime())) {
+                vectorIndexes.remove(indexName, vectorIndex);
+                return Optional.empty();
+            }
+            return Optional.of(vectorIndex.vectorIndex());
+        }
+
+        private boolean setArtifact(
+            GraphStore graphStore,
+            String artifactKey,
+            Object artifact,
+            long graphModificationCount
+        ) {
+            if (artifactKey == null || artifact == null) {
+                throw new IllegalArgumentException("Both artifact key and artifact must be not null");
+            }
+            var stored = new MutableBoolean();
+            keyOf(graphStore).ifPresent(userCatalogKey ->
+                // computing on the graph entry keeps the graph from being removed or replaced while storing
+                graphsByName.computeIfPresent(userCatalogKey, (key, graphStoreWithConfig) -> {
+                    if (graphStoreWithConfig.graphStore() == graphStore &&
+                        graphStore.modificationCount() == graphModificationCount) {
+                        artifactsByName
+                            .computeIfAbsent(key, __ -> new ConcurrentHashMap<>())
+                            .put(artifactKey, ArtifactWithModificationCount.of(artifact, graphModificationCount));
+                        stored.setTrue();
+                    }
+                    return graphStoreWithConfig;
+                })
+            );
+            return stored.booleanValue();
+        }
+
+        private Optional<Object> getArtifact(GraphStore graphStore, String artifactKey) {
+            return keyOf(graphStore).flatMap(userCatalogKey -> {
+                var artifacts = artifactsByName.get(userCatalogKey);
+                var artifact = artifacts == null ? null : artifacts.get(artifactKey);
+                if (artifact == null) {
+                    return Optional.empty();
+                }
+                if (artifact.graphModificationCount() != graphStore.modificationCount()) {
+                    artifacts.remove(artifactKey, artifact);
+                    return Optional.empty();
+                }
+                return Optional.of(artifact.artifact());
+            });
+        }
+
+        private Optional<UserCatalogKey> keyOf(GraphStore graphStore) {
+            return graphsByName
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().graphStore() == graphStore)
+                .map(Map.Entry::getKey)
+                .findFirst();
+        }
+
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -391,7 +592,10 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    vectorIndexesByName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    // after removing the graph, so that no artifact can be stored for it in between
+                    artifactsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
@@ -399,6 +603,8 @@ public final class GraphStoreCatalog {
 
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            vectorIndexesByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            artifactsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
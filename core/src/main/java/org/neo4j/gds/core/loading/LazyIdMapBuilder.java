@@ -35,12 +35,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class LazyIdMapBuilder implements PartialIdMap {
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
-    private final ShardedLongLongMap.Builder intermediateIdMapBuilder;
+    private final ShardedLongLongMap.ConcurrentBuilder intermediateIdMapBuilder;
 
     private final NodesBuilder nodesBuilder;
 
     public LazyIdMapBuilder(int concurrency, boolean hasLabelInformation, boolean hasProperties, PropertyState propertyState) {
-        this.intermediateIdMapBuilder = ShardedLongLongMap.builder(concurrency);
+        this.intermediateIdMapBuilder = ShardedLongLongMap.concurrentBuilder(concurrency);
         this.nodesBuilder = GraphFactory.initNodesBuilder()
             .concurrency(concurrency)
             .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
@@ -28,10 +28,12 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.CSRGraphStoreFactory;
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.Topology;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphDimensionsStoreReader;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.compression.packed.MappedAdjacencyList;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
@@ -45,9 +47,12 @@ import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskTreeProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -280,10 +285,16 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
                 Tasks.leaf("Property Index Scan", properties.indexedProperties().size() * dimensions.nodeCount())
             );
 
+        // Memory-mapped adjacency lists are loaded into the page cache after the scan,
+        // the volume of that task is the number of mapped bytes and only known at that point.
+        var relationshipsTask = GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()
+            ? Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount), Tasks.leaf("Page Cache Warmup"))
+            : Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount));
+
         var task = Tasks.task(
             "Loading",
             Tasks.task("Nodes", nodeTasks),
-            Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount))
+            relationshipsTask
         );
 
         if (graphProjectConfig.logProgress()) {
@@ -355,12 +366,33 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
         try {
             progressTracker.beginSubTask();
-            return scanningRelationshipsImporter.call();
+            var relationships = scanningRelationshipsImporter.call();
+            if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+                warmUpMappedAdjacencyLists(relationships);
+            }
+            return relationships;
         } finally {
             progressTracker.endSubTask();
         }
     }
 
+    private void warmUpMappedAdjacencyLists(RelationshipImportResult relationships) {
+        var mappedAdjacencyLists = relationships
+            .importResults()
+            .values()
+            .stream()
+            .flatMap(result -> Stream.concat(Stream.of(result.topology()), result.inverseTopology().stream()))
+            .map(Topology::adjacencyList)
+            .filter(MappedAdjacencyList.class::isInstance)
+            .map(MappedAdjacencyList.class::cast)
+            .collect(Collectors.toList());
+
+        progressTracker.beginSubTask("Page Cache Warmup");
+        progressTracker.setVolume(mappedAdjacencyLists.stream().mapToLong(MappedAdjacencyList::mappedBytes).sum());
+        mappedAdjacencyLists.forEach(adjacencyList -> adjacencyList.warmUp(progressTracker));
+        progressTracker.endSubTask("Page Cache Warmup");
+    }
+
     @Override
     protected ProgressTracker progressTracker() {
         return progressTracker;
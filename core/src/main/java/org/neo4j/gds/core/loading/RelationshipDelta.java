@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of changes to the relationships of a single type in a {@link CSRGraphStore}.
+ * <p>
+ * All node ids are mapped (internal) node ids. Removals and detached nodes are applied
+ * to the current state of the relationships before any of the added relationships,
+ * so a batch can replace a relationship by removing and re-adding it.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class RelationshipDelta {
+
+    private final List<String> propertyKeys;
+
+    private final LongArrayList addedSources;
+    private final LongArrayList addedTargets;
+    // property values of all added relationships, `propertyKeys.size()` values per relationship
+    private final DoubleArrayList addedValues;
+
+    private final LongArrayList removedSources;
+    private final LongArrayList removedTargets;
+
+    private final LongArrayList detachedNodes;
+
+    /**
+     * @param propertyKeys the relationship properties for which added relationships carry values,
+     *                     properties of the relationship type not listed here use their default value
+     */
+    public static RelationshipDelta of(String... propertyKeys) {
+        return new RelationshipDelta(List.of(propertyKeys));
+    }
+
+    private RelationshipDelta(List<String> propertyKeys) {
+        this.propertyKeys = propertyKeys;
+        this.addedSources = new LongArrayList();
+        this.addedTargets = new LongArrayList();
+        this.addedValues = new DoubleArrayList();
+        this.removedSources = new LongArrayList();
+        this.removedTargets = new LongArrayList();
+        this.detachedNodes = new LongArrayList();
+    }
+
+    public RelationshipDelta addRelationship(long sourceNodeId, long targetNodeId, double... propertyValues) {
+        if (propertyValues.length != propertyKeys.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d property values for properties %s, but got %s.",
+                propertyKeys.size(),
+                propertyKeys,
+                Arrays.toString(propertyValues)
+            ));
+        }
+        addedSources.add(sourceNodeId);
+        addedTargets.add(targetNodeId);
+        addedValues.add(propertyValues, 0, propertyValues.length);
+        return this;
+    }
+
+    /**
+     * Removes all relationships from the source to the target node, including parallel relationships.
+     */
+    public RelationshipDelta removeRelationship(long sourceNodeId, long targetNodeId) {
+        removedSources.add(sourceNodeId);
+        removedTargets.add(targetNodeId);
+        return this;
+    }
+
+    /**
+     * Removes all incoming and outgoing relationships of the given node.
+     * The node itself remains part of the graph.
+     * Requires the relationship type to be undirected or to have an inverse index.
+     */
+    public RelationshipDelta detachNode(long nodeId) {
+        detachedNodes.add(nodeId);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return addedSources.isEmpty() && removedSources.isEmpty() && detachedNodes.isEmpty();
+    }
+
+    List<String> propertyKeys() {
+        return propertyKeys;
+    }
+
+    int addedRelationshipCount() {
+        return addedSources.size();
+    }
+
+    long addedSource(int index) {
+        return addedSources.get(index);
+    }
+
+    long addedTarget(int index) {
+        return addedTargets.get(index);
+    }
+
+    double addedValue(int index, int propertyIndex) {
+        return addedValues.get(index * propertyKeys.size() + propertyIndex);
+    }
+
+    int removedRelationshipCount() {
+        return removedSources.size();
+    }
+
+    long removedSource(int index) {
+        return removedSources.get(index);
+    }
+
+    long removedTarget(int index) {
+        return removedTargets.get(index);
+    }
+
+    LongArrayList detachedNodes() {
+        return detachedNodes;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+
+/**
+ * An approximate nearest neighbour index over an array node property of a graph in the {@link GraphStoreCatalog}.
+ * The index is dropped together with its graph.
+ *
+ * All node ids are original node ids, as the index may be built on a filtered graph.
+ * Results are ordered by descending similarity.
+ */
+public interface VectorIndex {
+
+    String nodeProperty();
+
+    long nodeCount();
+
+    boolean contains(long originalNodeId);
+
+    /**
+     * Returns up to {@code k} nodes most similar to the given node, excluding the node itself.
+     * Larger values of {@code ef} trade query time for recall.
+     */
+    BoundedLongPriorityQueue nearestNeighbours(long originalNodeId, int k, int ef);
+
+    /**
+     * Returns up to {@code k} nodes most similar to the given vector.
+     */
+    BoundedLongPriorityQueue nearestNeighbours(double[] vector, int k, int ef);
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.construction;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * Builds the graph of communities used by the multi-level community detection algorithms,
+ * i.e. every community becomes a node and all relationships between two communities are
+ * summed up into a single weighted relationship.
+ * <p>
+ * In contrast to going through {@link RelationshipsBuilder}, the relationships are not buffered
+ * and compressed. Nodes are bucketed by their community with a counting sort and every task
+ * aggregates whole communities into a local dense accumulator, writing the sorted and already
+ * aggregated adjacency list straight into {@link UncompressedAdjacencyList} pages.
+ * Undirected graphs are aggregated from both sides, which produces both directions of each
+ * relationship without importing them twice.
+ */
+public final class AggregatedGraphBuilder {
+
+    public static final String PROPERTY_KEY = "property";
+
+    private final Graph graph;
+    private final LongUnaryOperator communities;
+    private final long maxCommunityId;
+    private final RelationshipType relationshipType;
+    private final Direction direction;
+    private final boolean includeSelfLoops;
+    private final double weightFactor;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    /**
+     * @param communities    the community of each node in {@code graph}, at most {@code maxCommunityId}
+     * @param weightFactor   factor applied to every aggregated relationship weight
+     */
+    public AggregatedGraphBuilder(
+        Graph graph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        RelationshipType relationshipType,
+        Direction direction,
+        boolean includeSelfLoops,
+        double weightFactor,
+        ExecutorService executorService,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.communities = communities;
+        this.maxCommunityId = maxCommunityId;
+        this.relationshipType = relationshipType;
+        this.direction = direction;
+        this.includeSelfLoops = includeSelfLoops;
+        this.weightFactor = weightFactor;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    public HugeGraph build() {
+        long nodeCount = graph.nodeCount();
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(maxCommunityId)
+            .concurrency(concurrency)
+            .build();
+
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            terminationFlag,
+            nodeId -> nodesBuilder.addNode(communities.applyAsLong(nodeId))
+        );
+
+        IdMap idMap = nodesBuilder.build().idMap();
+        long communityCount = idMap.nodeCount();
+
+        terminationFlag.assertRunning();
+
+        var mappedCommunities = HugeLongArray.newArray(nodeCount);
+        // holds the end of each community bucket after counting and its start after scattering the nodes
+        var communityOffsets = HugeAtomicLongArray.of(
+            communityCount + 1,
+            ParalleLongPageCreator.passThrough(concurrency)
+        );
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            long community = idMap.toMappedNodeId(communities.applyAsLong(nodeId));
+            mappedCommunities.set(nodeId, community);
+            communityOffsets.getAndAdd(community, 1);
+        });
+
+        long nodeSum = 0;
+        for (long community = 0; community < communityCount; community++) {
+            nodeSum += communityOffsets.get(community);
+            communityOffsets.set(community, nodeSum);
+        }
+        communityOffsets.set(communityCount, nodeCount);
+
+        var nodesByCommunity = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            long position = communityOffsets.getAndAdd(mappedCommunities.get(nodeId), -1) - 1;
+            nodesByCommunity.set(position, nodeId);
+        });
+
+        terminationFlag.assertRunning();
+
+        var degrees = HugeIntArray.newArray(communityCount);
+        var offsets = HugeLongArray.newArray(communityCount);
+
+        var tasks = PartitionUtils.customDegreePartitionWithBatchSize(
+            graph,
+            concurrency,
+            index -> graph.degree(nodesByCommunity.get(index)),
+            partition -> new AggregationTask(
+                partition,
+                graph.concurrentCopy(),
+                mappedCommunities,
+                nodesByCommunity,
+                communityOffsets,
+                degrees,
+                offsets
+            ),
+            Optional.empty(),
+            Optional.of(graph.relationshipCount())
+        );
+
+        ParallelUtil.run(tasks, executorService);
+
+        terminationFlag.assertRunning();
+
+        int pageCount = tasks.stream().mapToInt(task -> task.targetPages.size()).sum();
+        var targetPages = new long[pageCount][];
+        var weightPages = new long[pageCount][];
+        long relationshipCount = 0;
+        int pageBase = 0;
+        for (var task : tasks) {
+            task.shiftOffsets(pageBase);
+            for (int page = 0; page < task.targetPages.size(); page++) {
+                targetPages[pageBase + page] = task.targetPages.get(page);
+                weightPages[pageBase + page] = task.weightPages.get(page);
+            }
+            pageBase += task.targetPages.size();
+            relationshipCount += task.relationshipCount;
+        }
+
+        var topology = ImmutableTopology.builder()
+            .isMultiGraph(false)
+            .adjacencyList(new UncompressedAdjacencyList(targetPages, degrees, offsets))
+            .elementCount(relationshipCount)
+            .build();
+
+        var propertySchema = RelationshipPropertySchema.of(PROPERTY_KEY, ValueType.DOUBLE, Aggregation.SUM);
+        var propertyValues = ImmutableProperties.builder()
+            .propertiesList(new UncompressedAdjacencyList(weightPages, degrees, offsets))
+            .defaultPropertyValue(DefaultValue.DOUBLE_DEFAULT_FALLBACK)
+            .elementCount(relationshipCount)
+            .build();
+        var properties = RelationshipPropertyStore.builder()
+            .putRelationshipProperty(
+                PROPERTY_KEY,
+                ImmutableRelationshipProperty.builder()
+                    .values(propertyValues)
+                    .propertySchema(propertySchema)
+                    .build()
+            )
+            .build();
+
+        var relationships = SingleTypeRelationships.builder()
+            .topology(topology)
+            .properties(properties)
+            .relationshipSchemaEntry(
+                new MutableRelationshipSchemaEntry(relationshipType, direction).addProperty(PROPERTY_KEY, propertySchema)
+            )
+            .build();
+
+        return GraphFactory.create(idMap, relationships);
+    }
+
+    private final class AggregationTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final DegreePartition partition;
+        private final RelationshipIterator relationshipIterator;
+        private final HugeLongArray mappedCommunities;
+        private final HugeLongArray nodesByCommunity;
+        private final HugeAtomicLongArray communityOffsets;
+        private final HugeIntArray degrees;
+        private final HugeLongArray offsets;
+
+        private final List<long[]> targetPages;
+        private final List<long[]> weightPages;
+        private long firstCommunity;
+        private long endCommunity;
+        private long relationshipCount;
+
+        private long[] currentTargetPage;
+        private long[] currentWeightPage;
+        private int currentPageIndex;
+        private int currentPageOffset;
+
+        // dense accumulator over the target communities of the current community
+        private HugeDoubleArray weights;
+        private BitSet seenCommunities;
+        private LongArrayList targetCommunities;
+        private long currentCommunity;
+
+        AggregationTask(
+            DegreePartition partition,
+            RelationshipIterator relationshipIterator,
+            HugeLongArray mappedCommunities,
+            HugeLongArray nodesByCommunity,
+            HugeAtomicLongArray communityOffsets,
+            HugeIntArray degrees,
+            HugeLongArray offsets
+        ) {
+            this.partition = partition;
+            this.relationshipIterator = relationshipIterator;
+            this.mappedCommunities = mappedCommunities;
+            this.nodesByCommunity = nodesByCommunity;
+            this.communityOffsets = communityOffsets;
+            this.degrees = degrees;
+            this.offsets = offsets;
+            this.targetPages = new ArrayList<>();
+            this.weightPages = new ArrayList<>();
+        }
+
+        @Override
+        public void run() {
+            long startIndex = partition.startNode();
+            long endIndex = startIndex + partition.nodeCount();
+            if (partition.nodeCount() == 0) {
+                return;
+            }
+
+            // A task owns all communities that start within its partition,
+            // communities crossing the end of the partition are finished by this task.
+            firstCommunity = mappedCommunities.get(nodesByCommunity.get(startIndex));
+            if (communityOffsets.get(firstCommunity) < startIndex) {
+                firstCommunity++;
+            }
+            endCommunity = firstCommunity;
+            long communityCount = degrees.size();
+            while (endCommunity < communityCount && communityOffsets.get(endCommunity) < endIndex) {
+                endCommunity++;
+            }
+            if (firstCommunity == endCommunity) {
+                return;
+            }
+
+            this.weights = HugeDoubleArray.newArray(communityCount);
+            this.seenCommunities = new BitSet(communityCount);
+            this.targetCommunities = new LongArrayList();
+
+            for (long community = firstCommunity; community < endCommunity; community++) {
+                aggregate(community);
+            }
+
+            if (currentTargetPage != null && currentPageOffset < currentTargetPage.length) {
+                targetPages.set(currentPageIndex, Arrays.copyOf(currentTargetPage, currentPageOffset));
+                weightPages.set(currentPageIndex, Arrays.copyOf(currentWeightPage, currentPageOffset));
+            }
+
+            // release the accumulator before the next level is computed
+            this.weights = null;
+            this.seenCommunities = null;
+            this.targetCommunities = null;
+        }
+
+        private void aggregate(long community) {
+            this.currentCommunity = community;
+
+            long start = communityOffsets.get(community);
+            long end = communityOffsets.get(community + 1);
+            for (long index = start; index < end; index++) {
+                relationshipIterator.forEachRelationship(nodesByCommunity.get(index), 1.0, this);
+            }
+
+            int degree = targetCommunities.size();
+            degrees.set(community, degree);
+            if (degree > 0) {
+                long[] targets = targetCommunities.buffer;
+                Arrays.sort(targets, 0, degree);
+
+                long address = allocate(degree);
+                offsets.set(community, address);
+                long[] targetPage = targetPages.get(pageIndex(address, BumpAllocator.PAGE_SHIFT));
+                long[] weightPage = weightPages.get(pageIndex(address, BumpAllocator.PAGE_SHIFT));
+                int pageOffset = indexInPage(address, BumpAllocator.PAGE_MASK);
+
+                for (int i = 0; i < degree; i++) {
+                    long target = targets[i];
+                    targetPage[pageOffset + i] = target;
+                    weightPage[pageOffset + i] = Double.doubleToRawLongBits(weightFactor * weights.get(target));
+                    weights.set(target, 0D);
+                    seenCommunities.clear(target);
+                }
+                targetCommunities.elementsCount = 0;
+                relationshipCount += degree;
+            }
+
+            progressTracker.logProgress(end - start);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            long targetCommunity = mappedCommunities.get(targetNodeId);
+            if (includeSelfLoops || targetCommunity != currentCommunity) {
+                if (!seenCommunities.get(targetCommunity)) {
+                    seenCommunities.set(targetCommunity);
+                    targetCommunities.add(targetCommunity);
+                }
+                weights.addTo(targetCommunity, property);
+            }
+            return true;
+        }
+
+        /**
+         * Reserves space for a list of the given length, which never crosses a page boundary.
+         * Lists larger than a page are placed on their own page of exactly that size.
+         *
+         * @return the task local address of the list
+         */
+        private long allocate(int length) {
+            if (length > BumpAllocator.PAGE_SIZE) {
+                targetPages.add(new long[length]);
+                weightPages.add(new long[length]);
+                return (long) (targetPages.size() - 1) << BumpAllocator.PAGE_SHIFT;
+            }
+            if (currentTargetPage == null || currentPageOffset + length > BumpAllocator.PAGE_SIZE) {
+                currentTargetPage = new long[BumpAllocator.PAGE_SIZE];
+                currentWeightPage = new long[BumpAllocator.PAGE_SIZE];
+                currentPageIndex = targetPages.size();
+                currentPageOffset = 0;
+                targetPages.add(currentTargetPage);
+                weightPages.add(currentWeightPage);
+            }
+            long address = ((long) currentPageIndex << BumpAllocator.PAGE_SHIFT) + currentPageOffset;
+            currentPageOffset += length;
+            return address;
+        }
+
+        void shiftOffsets(int pageBase) {
+            long shift = (long) pageBase << BumpAllocator.PAGE_SHIFT;
+            for (long community = firstCommunity; community < endCommunity; community++) {
+                if (degrees.get(community) > 0) {
+                    offsets.addTo(community, shift);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+/**
+ * Plain loops over the arrays, which are used when no vectorized kernel is available.
+ */
+final class ScalarSimilarityKernel implements SimilarityKernel {
+
+    @Override
+    public double cosine(double[] left, double[] right, int len) {
+        return Intersections.cosine(left, right, len);
+    }
+
+    @Override
+    public double cosine(float[] left, float[] right, int len) {
+        return Intersections.cosine(left, right, len);
+    }
+
+    @Override
+    public double sumSquareDelta(double[] left, double[] right, int len) {
+        return Intersections.sumSquareDelta(left, right, len);
+    }
+
+    @Override
+    public double sumSquareDelta(float[] left, float[] right, int len) {
+        // accumulate in double precision, large vectors would otherwise lose too much precision
+        double result = 0D;
+        for (int i = 0; i < len; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int len) {
+        double sumLeft = 0D;
+        double sumRight = 0D;
+        for (int i = 0; i < len; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        double meanLeft = sumLeft / len;
+        double meanRight = sumRight / len;
+
+        double sumOfProducts = 0D;
+        double sumOfLeftSquares = 0D;
+        double sumOfRightSquares = 0D;
+        for (int i = 0; i < len; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public double pearson(float[] left, float[] right, int len) {
+        double sumLeft = 0D;
+        double sumRight = 0D;
+        for (int i = 0; i < len; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+        }
+        double meanLeft = sumLeft / len;
+        double meanRight = sumRight / len;
+
+        double sumOfProducts = 0D;
+        double sumOfLeftSquares = 0D;
+        double sumOfRightSquares = 0D;
+        for (int i = 0; i < len; i++) {
+            double leftDelta = left[i] - meanLeft;
+            double rightDelta = right[i] - meanRight;
+
+            sumOfProducts += leftDelta * rightDelta;
+            sumOfLeftSquares += leftDelta * leftDelta;
+            sumOfRightSquares += rightDelta * rightDelta;
+        }
+
+        return sumOfProducts / Math.sqrt(sumOfLeftSquares * sumOfRightSquares);
+    }
+
+    @Override
+    public long intersection(long[] sortedLeft, long[] sortedRight) {
+        return Intersections.intersection3(sortedLeft, sortedRight);
+    }
+}
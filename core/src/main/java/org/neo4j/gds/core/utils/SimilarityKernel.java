@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+/**
+ * The array operations that similarity metrics are built from.
+ * <p>
+ * Only the first {@code len} entries of the float and double arrays are used.
+ * The long arrays must be sorted; duplicates are counted as in a multiset intersection.
+ *
+ * @see SimilarityKernels
+ */
+public interface SimilarityKernel {
+
+    double cosine(double[] left, double[] right, int len);
+
+    double cosine(float[] left, float[] right, int len);
+
+    double sumSquareDelta(double[] left, double[] right, int len);
+
+    double sumSquareDelta(float[] left, float[] right, int len);
+
+    /**
+     * @return Pearson's r, which is NaN if one of the vectors is constant
+     */
+    double pearson(double[] left, double[] right, int len);
+
+    /**
+     * @return Pearson's r, which is NaN if one of the vectors is constant
+     */
+    double pearson(float[] left, float[] right, int len);
+
+    long intersection(long[] sortedLeft, long[] sortedRight);
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ServiceLoader;
+
+/**
+ * Selects the {@link SimilarityKernel} used by the similarity metrics.
+ * <p>
+ * The first loadable {@link SimilarityKernelFactory} is used, unless disabled via
+ * {@link GdsFeatureToggles#USE_VECTORIZED_SIMILARITY}.
+ * If none is available, the scalar {@link ScalarSimilarityKernel} is used.
+ */
+public final class SimilarityKernels {
+
+    private static final SimilarityKernel SCALAR = new ScalarSimilarityKernel();
+
+    private static final SimilarityKernel KERNEL = GdsFeatureToggles.USE_VECTORIZED_SIMILARITY.isEnabled()
+        ? loadKernel()
+        : SCALAR;
+
+    private SimilarityKernels() {}
+
+    /**
+     * The kernel that has been selected when this class was initialized.
+     */
+    public static SimilarityKernel kernel() {
+        return KERNEL;
+    }
+
+    public static SimilarityKernel scalar() {
+        return SCALAR;
+    }
+
+    private static SimilarityKernel loadKernel() {
+        try {
+            var factories = ServiceLoader.load(
+                SimilarityKernelFactory.class,
+                SimilarityKernelFactory.class.getClassLoader()
+            );
+            for (SimilarityKernelFactory factory : factories) {
+                if (factory.canLoad()) {
+                    return factory.load();
+                }
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // optional kernels must never prevent us from computing similarities
+        }
+        return SCALAR;
+    }
+}
@@ -23,6 +23,8 @@ import org.eclipse.collections.api.block.function.primitive.LongToByteFunction;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -36,6 +38,7 @@ import static org.neo4j.gds.mem.HugeArrays.pageIndex;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfByteArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
  * A long-indexable version of a primitive byte array ({@code byte[]}) that can contain more than 2 bn. elements.
@@ -216,6 +219,9 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
      * Creates a new array of the given size.
      */
     public static HugeByteArray newArray(long size) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return OffHeapHugeByteArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeByteArray.of(size);
         }
@@ -228,6 +234,9 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
 
     public static long memoryEstimation(long size) {
         assert size >= 0;
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return offHeapMemoryEstimation(size);
+        }
 
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return sizeOfInstance(SingleHugeByteArray.class) + sizeOfByteArray((int) size);
@@ -244,6 +253,23 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
         return sizeOfInstance + memoryUsed + sizeOfByteArray(lastPageSize);
     }
 
+    /**
+     * Creates a new array of the given size whose values are stored off-heap.
+     * <p>
+     * The memory is freed by {@link #release()} or, at the latest, when the array becomes unreachable.
+     * The array and its cursors must not be used after calling {@link #release()}.
+     */
+    public static HugeByteArray newOffHeapArray(long size) {
+        return OffHeapHugeByteArray.of(size);
+    }
+
+    public static long offHeapMemoryEstimation(long size) {
+        assert size >= 0;
+        return sizeOfInstance(OffHeapHugeByteArray.class)
+            + sizeOfInstance(OffHeapMemory.class)
+            + (size << OffHeapHugeByteArray.ELEMENT_SHIFT);
+    }
+
     /* test-only */
     static HugeByteArray newPagedArray(long size) {
         return PagedHugeByteArray.of(size);
@@ -353,6 +379,8 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeByteArray) {
+                ((OffHeapHugeByteArray) dest).copyFrom(this, length);
             }
         }
 
@@ -527,6 +555,8 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], (byte) 0);
                 }
+            } else if (dest instanceof OffHeapHugeByteArray) {
+                ((OffHeapHugeByteArray) dest).copyFrom(this, length);
             }
         }
 
@@ -554,4 +584,177 @@ public abstract class HugeByteArray extends HugeArray<byte[], Byte, HugeByteArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeByteArray extends HugeByteArray {
+
+        private static final int ELEMENT_SHIFT = 0;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(byte[].class);
+
+        private static HugeByteArray of(long size) {
+            return new OffHeapHugeByteArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeByteArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(size << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public byte get(long index) {
+            return memory.getByte(index);
+        }
+
+        @Override
+        public byte getAndAdd(long index, byte delta) {
+            byte value = memory.getByte(index);
+            memory.putByte(index, (byte) (value + delta));
+            return value;
+        }
+
+        @Override
+        public void set(long index, byte value) {
+            memory.putByte(index, value);
+        }
+
+        @Override
+        public void or(long index, byte value) {
+            memory.putByte(index, (byte) (memory.getByte(index) | value));
+        }
+
+        @Override
+        public byte and(long index, byte value) {
+            byte result = (byte) (memory.getByte(index) & value);
+            memory.putByte(index, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, byte value) {
+            memory.putByte(index, (byte) (memory.getByte(index) + value));
+        }
+
+        @Override
+        public void setAll(LongToByteFunction gen) {
+            for (long i = 0; i < size; i++) {
+                memory.putByte(i, gen.valueOf(i));
+            }
+        }
+
+        @Override
+        public void fill(byte value) {
+            memory.setMemory(0L, size, value);
+        }
+
+        @Override
+        public void copyTo(HugeByteArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeByteArray) {
+                OffHeapHugeByteArray dst = (OffHeapHugeByteArray) dest;
+                memory.copyTo(dst.memory, length << ELEMENT_SHIFT);
+                dst.memory.setMemory(
+                    length << ELEMENT_SHIFT,
+                    (dst.size - length) << ELEMENT_SHIFT,
+                    (byte) 0
+                );
+            } else {
+                try (HugeCursor<byte[]> cursor = dest.initCursor(dest.newCursor())) {
+                    while (cursor.next()) {
+                        long start = cursor.base + cursor.offset;
+                        int toCopy = (int) Math.max(0L, Math.min(length - start, cursor.limit - cursor.offset));
+                        memory.copyToArray(
+                            start << ELEMENT_SHIFT,
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (long) toCopy << ELEMENT_SHIFT
+                        );
+                        Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, (byte) 0);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Copies the first {@code length} values of an on-heap {@code source} into this array
+         * and clears the remaining values.
+         */
+        void copyFrom(HugeByteArray source, long length) {
+            if (length > 0) {
+                try (HugeCursor<byte[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                    while (cursor.next()) {
+                        memory.copyFromArray(
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (cursor.base + cursor.offset) << ELEMENT_SHIFT,
+                            (long) (cursor.limit - cursor.offset) << ELEMENT_SHIFT
+                        );
+                    }
+                }
+            }
+            memory.setMemory(length << ELEMENT_SHIFT, (size - length) << ELEMENT_SHIFT, (byte) 0);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(byte[] source, long sliceStart, long sliceEnd) {
+            if (sliceStart < 0L || sliceStart > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "start expected to be in [0 : %d] but got %d",
+                    size,
+                    sliceStart
+                ));
+            }
+            if (sliceEnd < sliceStart || sliceEnd > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "end expected to be in [%d : %d] but got %d",
+                    sliceStart,
+                    size,
+                    sliceEnd
+                ));
+            }
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            memory.copyFromArray(
+                source,
+                ARRAY_BASE_OFFSET,
+                sliceStart << ELEMENT_SHIFT,
+                (long) length << ELEMENT_SHIFT
+            );
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.bytes();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<byte[]> newCursor() {
+            int bufferSize = (int) Math.min(size, PAGE_SIZE);
+            return new OffHeapCursor<>(
+                memory,
+                size,
+                new byte[bufferSize],
+                new byte[bufferSize],
+                (left, right, index) -> left[index] != right[index],
+                ELEMENT_SHIFT,
+                ARRAY_BASE_OFFSET
+            );
+        }
+    }
 }
@@ -22,11 +22,14 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
@@ -37,6 +40,7 @@ import static org.neo4j.gds.mem.HugeArrays.pageIndex;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
  * A long-indexable version of a primitive double array ({@code double[]}) that can contain more than 2 bn. elements.
@@ -200,6 +204,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
      * Creates a new array of the given size.
      */
     public static HugeDoubleArray newArray(long size) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return OffHeapHugeDoubleArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeDoubleArray.of(size);
         }
@@ -208,6 +215,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
 
     public static long memoryEstimation(long size) {
         assert size >= 0;
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return offHeapMemoryEstimation(size);
+        }
 
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return sizeOfInstance(SingleHugeDoubleArray.class) + sizeOfDoubleArray((int) size);
@@ -228,6 +238,23 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return new HugeDoubleArray.SingleHugeDoubleArray(values.length, values);
     }
 
+    /**
+     * Creates a new array of the given size whose values are stored off-heap.
+     * <p>
+     * The memory is freed by {@link #release()} or, at the latest, when the array becomes unreachable.
+     * The array and its cursors must not be used after calling {@link #release()}.
+     */
+    public static HugeDoubleArray newOffHeapArray(long size) {
+        return OffHeapHugeDoubleArray.of(size);
+    }
+
+    public static long offHeapMemoryEstimation(long size) {
+        assert size >= 0;
+        return sizeOfInstance(OffHeapHugeDoubleArray.class)
+            + sizeOfInstance(OffHeapMemory.class)
+            + (size << OffHeapHugeDoubleArray.ELEMENT_SHIFT);
+    }
+
     /* test-only */
     static HugeDoubleArray newPagedArray(long size) {
         return PagedHugeDoubleArray.of(size);
@@ -313,6 +340,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeDoubleArray) {
+                ((OffHeapHugeDoubleArray) dest).copyFrom(this, length);
             }
         }
 
@@ -464,6 +493,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else if (dest instanceof OffHeapHugeDoubleArray) {
+                ((OffHeapHugeDoubleArray) dest).copyFrom(this, length);
             }
         }
 
@@ -496,4 +527,171 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static final int ELEMENT_SHIFT = 3;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(double[].class);
+
+        private static HugeDoubleArray of(long size) {
+            return new OffHeapHugeDoubleArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeDoubleArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(size << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public double get(long index) {
+            return Double.longBitsToDouble(memory.getLong(index << ELEMENT_SHIFT));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            memory.putLong(index << ELEMENT_SHIFT, Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            long offset = index << ELEMENT_SHIFT;
+            double current = Double.longBitsToDouble(memory.getLong(offset));
+            memory.putLong(offset, Double.doubleToRawLongBits(current + value));
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (long i = 0; i < size; i++) {
+                memory.putLong(i << ELEMENT_SHIFT, Double.doubleToRawLongBits(gen.applyAsDouble(i)));
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                memory.setMemory(0L, size << ELEMENT_SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                memory.putLong(i << ELEMENT_SHIFT, Double.doubleToRawLongBits(value));
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                OffHeapHugeDoubleArray dst = (OffHeapHugeDoubleArray) dest;
+                memory.copyTo(dst.memory, length << ELEMENT_SHIFT);
+                dst.memory.setMemory(
+                    length << ELEMENT_SHIFT,
+                    (dst.size - length) << ELEMENT_SHIFT,
+                    (byte) 0
+                );
+            } else {
+                try (HugeCursor<double[]> cursor = dest.initCursor(dest.newCursor())) {
+                    while (cursor.next()) {
+                        long start = cursor.base + cursor.offset;
+                        int toCopy = (int) Math.max(0L, Math.min(length - start, cursor.limit - cursor.offset));
+                        memory.copyToArray(
+                            start << ELEMENT_SHIFT,
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (long) toCopy << ELEMENT_SHIFT
+                        );
+                        Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0D);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Copies the first {@code length} values of an on-heap {@code source} into this array
+         * and clears the remaining values.
+         */
+        void copyFrom(HugeDoubleArray source, long length) {
+            if (length > 0) {
+                try (HugeCursor<double[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                    while (cursor.next()) {
+                        memory.copyFromArray(
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (cursor.base + cursor.offset) << ELEMENT_SHIFT,
+                            (long) (cursor.limit - cursor.offset) << ELEMENT_SHIFT
+                        );
+                    }
+                }
+            }
+            memory.setMemory(length << ELEMENT_SHIFT, (size - length) << ELEMENT_SHIFT, (byte) 0);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            if (sliceStart < 0L || sliceStart > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "start expected to be in [0 : %d] but got %d",
+                    size,
+                    sliceStart
+                ));
+            }
+            if (sliceEnd < sliceStart || sliceEnd > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "end expected to be in [%d : %d] but got %d",
+                    sliceStart,
+                    size,
+                    sliceEnd
+                ));
+            }
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            memory.copyFromArray(
+                source,
+                ARRAY_BASE_OFFSET,
+                sliceStart << ELEMENT_SHIFT,
+                (long) length << ELEMENT_SHIFT
+            );
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.bytes();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            int bufferSize = (int) Math.min(size, PAGE_SIZE);
+            return new OffHeapCursor<>(
+                memory,
+                size,
+                new double[bufferSize],
+                new double[bufferSize],
+                (left, right, index) -> Double.doubleToRawLongBits(left[index]) != Double.doubleToRawLongBits(right[index]),
+                ELEMENT_SHIFT,
+                ARRAY_BASE_OFFSET
+            );
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+    }
 }
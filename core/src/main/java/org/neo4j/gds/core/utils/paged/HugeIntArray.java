@@ -22,6 +22,8 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -36,6 +38,7 @@ import static org.neo4j.gds.mem.HugeArrays.pageIndex;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
  * A long-indexable version of a primitive int array ({@code int[]}) that can contain more than 2 bn. elements.
@@ -216,6 +219,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
      * Creates a new array of the given size.
      */
     public static HugeIntArray newArray(long size) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return OffHeapHugeIntArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeIntArray.of(size);
         }
@@ -228,6 +234,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
 
     public static long memoryEstimation(long size) {
         assert size >= 0;
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return offHeapMemoryEstimation(size);
+        }
 
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return sizeOfInstance(SingleHugeIntArray.class) + sizeOfIntArray((int) size);
@@ -244,6 +253,23 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return sizeOfInstance + memoryUsed + sizeOfIntArray(lastPageSize);
     }
 
+    /**
+     * Creates a new array of the given size whose values are stored off-heap.
+     * <p>
+     * The memory is freed by {@link #release()} or, at the latest, when the array becomes unreachable.
+     * The array and its cursors must not be used after calling {@link #release()}.
+     */
+    public static HugeIntArray newOffHeapArray(long size) {
+        return OffHeapHugeIntArray.of(size);
+    }
+
+    public static long offHeapMemoryEstimation(long size) {
+        assert size >= 0;
+        return sizeOfInstance(OffHeapHugeIntArray.class)
+            + sizeOfInstance(OffHeapMemory.class)
+            + (size << OffHeapHugeIntArray.ELEMENT_SHIFT);
+    }
+
     /* test-only */
     static HugeIntArray newPagedArray(long size) {
         return PagedHugeIntArray.of(size);
@@ -350,6 +376,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeIntArray) {
+                ((OffHeapHugeIntArray) dest).copyFrom(this, length);
             }
         }
 
@@ -522,6 +550,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0);
                 }
+            } else if (dest instanceof OffHeapHugeIntArray) {
+                ((OffHeapHugeIntArray) dest).copyFrom(this, length);
             }
         }
 
@@ -549,4 +579,187 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static final int ELEMENT_SHIFT = 2;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(int[].class);
+
+        private static HugeIntArray of(long size) {
+            return new OffHeapHugeIntArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeIntArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(size << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public int get(long index) {
+            return memory.getInt(index << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            long offset = index << ELEMENT_SHIFT;
+            int value = memory.getInt(offset);
+            memory.putInt(offset, value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            memory.putInt(index << ELEMENT_SHIFT, value);
+        }
+
+        @Override
+        public void or(long index, int value) {
+            long offset = index << ELEMENT_SHIFT;
+            memory.putInt(offset, memory.getInt(offset) | value);
+        }
+
+        @Override
+        public int and(long index, int value) {
+            long offset = index << ELEMENT_SHIFT;
+            int result = memory.getInt(offset) & value;
+            memory.putInt(offset, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            long offset = index << ELEMENT_SHIFT;
+            memory.putInt(offset, memory.getInt(offset) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (long i = 0; i < size; i++) {
+                memory.putInt(i << ELEMENT_SHIFT, gen.applyAsInt(i));
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            if (value == 0) {
+                memory.setMemory(0L, size << ELEMENT_SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                memory.putInt(i << ELEMENT_SHIFT, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeIntArray) {
+                OffHeapHugeIntArray dst = (OffHeapHugeIntArray) dest;
+                memory.copyTo(dst.memory, length << ELEMENT_SHIFT);
+                dst.memory.setMemory(
+                    length << ELEMENT_SHIFT,
+                    (dst.size - length) << ELEMENT_SHIFT,
+                    (byte) 0
+                );
+            } else {
+                try (HugeCursor<int[]> cursor = dest.initCursor(dest.newCursor())) {
+                    while (cursor.next()) {
+                        long start = cursor.base + cursor.offset;
+                        int toCopy = (int) Math.max(0L, Math.min(length - start, cursor.limit - cursor.offset));
+                        memory.copyToArray(
+                            start << ELEMENT_SHIFT,
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (long) toCopy << ELEMENT_SHIFT
+                        );
+                        Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Copies the first {@code length} values of an on-heap {@code source} into this array
+         * and clears the remaining values.
+         */
+        void copyFrom(HugeIntArray source, long length) {
+            if (length > 0) {
+                try (HugeCursor<int[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                    while (cursor.next()) {
+                        memory.copyFromArray(
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (cursor.base + cursor.offset) << ELEMENT_SHIFT,
+                            (long) (cursor.limit - cursor.offset) << ELEMENT_SHIFT
+                        );
+                    }
+                }
+            }
+            memory.setMemory(length << ELEMENT_SHIFT, (size - length) << ELEMENT_SHIFT, (byte) 0);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            if (sliceStart < 0L || sliceStart > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "start expected to be in [0 : %d] but got %d",
+                    size,
+                    sliceStart
+                ));
+            }
+            if (sliceEnd < sliceStart || sliceEnd > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "end expected to be in [%d : %d] but got %d",
+                    sliceStart,
+                    size,
+                    sliceEnd
+                ));
+            }
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            memory.copyFromArray(
+                source,
+                ARRAY_BASE_OFFSET,
+                sliceStart << ELEMENT_SHIFT,
+                (long) length << ELEMENT_SHIFT
+            );
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.bytes();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            int bufferSize = (int) Math.min(size, PAGE_SIZE);
+            return new OffHeapCursor<>(
+                memory,
+                size,
+                new int[bufferSize],
+                new int[bufferSize],
+                (left, right, index) -> left[index] != right[index],
+                ELEMENT_SHIFT,
+                ARRAY_BASE_OFFSET
+            );
+        }
+    }
 }
@@ -25,11 +25,14 @@ import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 
+import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
@@ -218,6 +221,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
      * Creates a new array of the given size.
      */
     public static HugeLongArray newArray(long size) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return OffHeapHugeLongArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeLongArray.of(size);
         }
@@ -226,6 +232,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
 
     public static long memoryEstimation(long size) {
         assert size >= 0;
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            return offHeapMemoryEstimation(size);
+        }
 
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return MemoryUsage.sizeOfInstance(SingleHugeLongArray.class) + MemoryUsage.sizeOfLongArray((int) size);
@@ -254,6 +263,23 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return new PagedHugeLongArray(size, array, PagedHugeLongArray.memoryUsed(array, capacity));
     }
 
+    /**
+     * Creates a new array of the given size whose values are stored off-heap.
+     * <p>
+     * The memory is freed by {@link #release()} or, at the latest, when the array becomes unreachable.
+     * The array and its cursors must not be used after calling {@link #release()}.
+     */
+    public static HugeLongArray newOffHeapArray(long size) {
+        return OffHeapHugeLongArray.of(size);
+    }
+
+    public static long offHeapMemoryEstimation(long size) {
+        assert size >= 0;
+        return MemoryUsage.sizeOfInstance(OffHeapHugeLongArray.class)
+            + MemoryUsage.sizeOfInstance(OffHeapMemory.class)
+            + (size << OffHeapHugeLongArray.ELEMENT_SHIFT);
+    }
+
     /* test-only */
     static HugeLongArray newPagedArray(long size) {
         return PagedHugeLongArray.of(size);
@@ -351,6 +377,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeLongArray) {
+                ((OffHeapHugeLongArray) dest).copyFrom(this, length);
             }
         }
 
@@ -527,6 +555,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else if (dest instanceof OffHeapHugeLongArray) {
+                ((OffHeapHugeLongArray) dest).copyFrom(this, length);
             }
         }
 
@@ -570,4 +600,199 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static final int ELEMENT_SHIFT = 3;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(long[].class);
+
+        private static HugeLongArray of(long size) {
+            return new OffHeapHugeLongArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+
+        private OffHeapHugeLongArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(size << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public long get(long index) {
+            return memory.getLong(index << ELEMENT_SHIFT);
+        }
+
+        @Override
+        public void set(long index, long value) {
+            memory.putLong(index << ELEMENT_SHIFT, value);
+        }
+
+        @Override
+        public void or(long index, long value) {
+            long offset = index << ELEMENT_SHIFT;
+            memory.putLong(offset, memory.getLong(offset) | value);
+        }
+
+        @Override
+        public long and(long index, long value) {
+            long offset = index << ELEMENT_SHIFT;
+            long result = memory.getLong(offset) & value;
+            memory.putLong(offset, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            long offset = index << ELEMENT_SHIFT;
+            memory.putLong(offset, memory.getLong(offset) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (long i = 0; i < size; i++) {
+                memory.putLong(i << ELEMENT_SHIFT, gen.applyAsLong(i));
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            if (value == 0L) {
+                memory.setMemory(0L, size << ELEMENT_SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                memory.putLong(i << ELEMENT_SHIFT, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest instanceof OffHeapHugeLongArray) {
+                OffHeapHugeLongArray dst = (OffHeapHugeLongArray) dest;
+                memory.copyTo(dst.memory, length << ELEMENT_SHIFT);
+                dst.memory.setMemory(
+                    length << ELEMENT_SHIFT,
+                    (dst.size - length) << ELEMENT_SHIFT,
+                    (byte) 0
+                );
+            } else {
+                try (HugeCursor<long[]> cursor = dest.initCursor(dest.newCursor())) {
+                    while (cursor.next()) {
+                        long start = cursor.base + cursor.offset;
+                        int toCopy = (int) Math.max(0L, Math.min(length - start, cursor.limit - cursor.offset));
+                        memory.copyToArray(
+                            start << ELEMENT_SHIFT,
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (long) toCopy << ELEMENT_SHIFT
+                        );
+                        Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0L);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Copies the first {@code length} values of an on-heap {@code source} into this array
+         * and clears the remaining values.
+         */
+        void copyFrom(HugeLongArray source, long length) {
+            if (length > 0) {
+                try (HugeCursor<long[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                    while (cursor.next()) {
+                        memory.copyFromArray(
+                            cursor.array,
+                            ARRAY_BASE_OFFSET + ((long) cursor.offset << ELEMENT_SHIFT),
+                            (cursor.base + cursor.offset) << ELEMENT_SHIFT,
+                            (long) (cursor.limit - cursor.offset) << ELEMENT_SHIFT
+                        );
+                    }
+                }
+            }
+            memory.setMemory(length << ELEMENT_SHIFT, (size - length) << ELEMENT_SHIFT, (byte) 0);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            if (sliceStart < 0L || sliceStart > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "start expected to be in [0 : %d] but got %d",
+                    size,
+                    sliceStart
+                ));
+            }
+            if (sliceEnd < sliceStart || sliceEnd > size) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "end expected to be in [%d : %d] but got %d",
+                    sliceStart,
+                    size,
+                    sliceEnd
+                ));
+            }
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            memory.copyFromArray(
+                source,
+                ARRAY_BASE_OFFSET,
+                sliceStart << ELEMENT_SHIFT,
+                (long) length << ELEMENT_SHIFT
+            );
+            return length;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.bytes();
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = get(mid);
+
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            int bufferSize = (int) Math.min(size, PAGE_SIZE);
+            return new OffHeapCursor<>(
+                memory,
+                size,
+                new long[bufferSize],
+                new long[bufferSize],
+                (left, right, index) -> left[index] != right[index],
+                ELEMENT_SHIFT,
+                ARRAY_BASE_OFFSET
+            );
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.collections.cursor.HugeCursor;
+
+/**
+ * Reads off-heap array data page by page into a reusable on-heap buffer.
+ * <p>
+ * Values written to the buffer are copied back when the cursor moves on or is closed.
+ * Only values that differ from what was loaded are written, so concurrent writes
+ * to other indices of the array are not overwritten with stale values.
+ */
+final class OffHeapCursor<Array> extends HugeCursor.BufferedCursor<Array> {
+
+    @FunctionalInterface
+    interface ChangeDetector<Array> {
+        boolean differs(Array left, Array right, int index);
+    }
+
+    private final OffHeapMemory memory;
+    private final Array snapshot;
+    private final ChangeDetector<Array> changeDetector;
+    private final int elementShift;
+    private final long arrayBaseOffset;
+
+    /**
+     * @param snapshot       an array of the same length as {@code buffer} that keeps the values as they were loaded
+     * @param changeDetector compares the bit patterns of the values at the same index of two arrays
+     * @param elementShift   {@code log2} of the element size in bytes
+     */
+    OffHeapCursor(
+        OffHeapMemory memory,
+        long size,
+        Array buffer,
+        Array snapshot,
+        ChangeDetector<Array> changeDetector,
+        int elementShift,
+        long arrayBaseOffset
+    ) {
+        super(size, buffer);
+        this.memory = memory;
+        this.snapshot = snapshot;
+        this.changeDetector = changeDetector;
+        this.elementShift = elementShift;
+        this.arrayBaseOffset = arrayBaseOffset;
+    }
+
+    @Override
+    protected void load(long base, int offset, int length) {
+        memory.copyToArray(
+            (base + offset) << elementShift,
+            array,
+            arrayBaseOffset + ((long) offset << elementShift),
+            (long) length << elementShift
+        );
+        System.arraycopy(array, offset, snapshot, offset, length);
+    }
+
+    @Override
+    protected void store(long base, int offset, int length) {
+        int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (!changeDetector.differs(array, snapshot, index)) {
+                index++;
+                continue;
+            }
+            int runStart = index;
+            while (index < end && changeDetector.differs(array, snapshot, index)) {
+                index++;
+            }
+            memory.copyFromArray(
+                array,
+                arrayBaseOffset + ((long) runStart << elementShift),
+                (base + runStart) << elementShift,
+                (long) (index - runStart) << elementShift
+            );
+        }
+    }
+}
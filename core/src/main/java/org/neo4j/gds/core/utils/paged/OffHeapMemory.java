@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A zeroed block of off-heap memory that backs one of the off-heap huge arrays.
+ * <p>
+ * The memory is freed by {@link #release()} or, at the latest,
+ * when this object becomes unreachable.
+ * All accesses go through this class, take offsets instead of raw addresses,
+ * are checked against the bounds of the block and keep this object reachable
+ * until the access has completed.
+ * <p>
+ * Releasing the memory shrinks the accessible bounds to zero, so that the
+ * bounds check also rejects accesses to released memory without reading
+ * a volatile field per access. The bounds are a plain field, accesses
+ * from threads other than the releasing one are only guaranteed to fail
+ * if the release happens-before them, just as for any other write.
+ */
+final class OffHeapMemory {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final long address;
+    private final long bytes;
+    private final Deallocator deallocator;
+    private final Cleaner.Cleanable cleanable;
+    // the number of accessible bytes, `bytes` until the memory is released and `0` afterwards
+    private long limit;
+
+    static OffHeapMemory allocate(long bytes) {
+        long address = UnsafeUtil.allocateMemory(Math.max(bytes, 1L), EmptyMemoryTracker.INSTANCE);
+        UnsafeUtil.setMemory(address, Math.max(bytes, 1L), (byte) 0);
+        return new OffHeapMemory(address, bytes);
+    }
+
+    private OffHeapMemory(long address, long bytes) {
+        this.address = address;
+        this.bytes = bytes;
+        this.limit = bytes;
+        this.deallocator = new Deallocator(address, Math.max(bytes, 1L));
+        this.cleanable = CLEANER.register(this, deallocator);
+    }
+
+    /**
+     * @return the address of the range of {@code length} bytes at {@code offset}
+     * @throws IndexOutOfBoundsException if the range is not within the bounds of this memory
+     * @throws IllegalStateException     if the memory has already been released
+     */
+    private long address(long offset, long length) {
+        if ((offset | length) < 0L || offset > limit - length) {
+            throw outOfBounds(offset, length);
+        }
+        return address + offset;
+    }
+
+    private RuntimeException outOfBounds(long offset, long length) {
+        if (limit == 0L && deallocator.isReleased()) {
+            return new IllegalStateException("The off-heap memory of this array has already been released.");
+        }
+        return new IndexOutOfBoundsException(formatWithLocale(
+            "Range [%d, %d + %d) out of bounds for length %d",
+            offset,
+            offset,
+            length,
+            limit
+        ));
+    }
+
+    byte getByte(long offset) {
+        try {
+            return UnsafeUtil.getByte(address(offset, 1L));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    void putByte(long offset, byte value) {
+        try {
+            UnsafeUtil.putByte(address(offset, 1L), value);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    int getInt(long offset) {
+        try {
+            return UnsafeUtil.getInt(address(offset, Integer.BYTES));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    void putInt(long offset, int value) {
+        try {
+            UnsafeUtil.putInt(address(offset, Integer.BYTES), value);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    long getLong(long offset) {
+        try {
+            return UnsafeUtil.getLong(address(offset, Long.BYTES));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    void putLong(long offset, long value) {
+        try {
+            UnsafeUtil.putLong(address(offset, Long.BYTES), value);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    void setMemory(long offset, long length, byte value) {
+        try {
+            UnsafeUtil.setMemory(address(offset, length), length, value);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Copies the first {@code length} bytes of this memory to the start of {@code target}.
+     */
+    void copyTo(OffHeapMemory target, long length) {
+        try {
+            UnsafeUtil.copyMemory(address(0L, length), target.address(0L, length), length);
+        } finally {
+            Reference.reachabilityFence(this);
+            Reference.reachabilityFence(target);
+        }
+    }
+
+    void copyToArray(long offset, Object array, long arrayOffset, long length) {
+        try {
+            UnsafeUtil.copyMemory(null, address(offset, length), array, arrayOffset, length);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    void copyFromArray(Object array, long arrayOffset, long offset, long length) {
+        try {
+            UnsafeUtil.copyMemory(array, arrayOffset, null, address(offset, length), length);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of bytes freed, {@code 0} if the memory has already been released
+     */
+    long release() {
+        limit = 0L;
+        if (deallocator.isReleased()) {
+            return 0L;
+        }
+        cleanable.clean();
+        return bytes;
+    }
+
+    private static final class Deallocator implements Runnable {
+        private final AtomicLong address;
+        private final long bytes;
+
+        Deallocator(long address, long bytes) {
+            this.address = new AtomicLong(address);
+            this.bytes = bytes;
+        }
+
+        boolean isReleased() {
+            return address.get() == 0L;
+        }
+
+        @Override
+        public void run() {
+            long address = this.address.getAndSet(0L);
+            if (address != 0L) {
+                UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+            }
+        }
+    }
+}
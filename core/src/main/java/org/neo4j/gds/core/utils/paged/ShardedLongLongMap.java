@@ -20,11 +20,13 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.eclipse.collections.api.block.procedure.primitive.LongLongProcedure;
 import org.eclipse.collections.api.map.primitive.LongLongMap;
 import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
 import org.eclipse.collections.impl.SpreadFunctions;
 import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
 import org.eclipse.collections.impl.factory.primitive.LongLongMaps;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.core.loading.IdMapAllocator;
 import org.neo4j.gds.mem.BitUtil;
@@ -32,7 +34,10 @@ import org.neo4j.gds.utils.CloseableThreadLocal;
 
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 
 public final class ShardedLongLongMap {
@@ -51,6 +56,10 @@ public final class ShardedLongLongMap {
         return new BatchedBuilder(concurrency);
     }
 
+    public static ConcurrentBuilder concurrentBuilder(int concurrency) {
+        return new ConcurrentBuilder(concurrency);
+    }
+
     private ShardedLongLongMap(
         HugeLongArray internalNodeMapping,
         LongLongMap[] originalNodeMappingShards,
@@ -112,16 +121,25 @@ public final class ShardedLongLongMap {
         S[] shards,
         int shardShift,
         int shardMask
+    ) {
+        return build(nodeCount, shards.length, idx -> shards[idx].intoMapping(), shardShift, shardMask);
+    }
+
+    private static ShardedLongLongMap build(
+        long nodeCount,
+        int numberOfShards,
+        IntFunction<LongLongMap> shardMappings,
+        int shardShift,
+        int shardMask
     ) {
         var internalNodeMapping = HugeLongArray.newArray(nodeCount);
-        var mapShards = new LongLongMap[shards.length];
-        var maxOriginalIds = new long[shards.length];
+        var mapShards = new LongLongMap[numberOfShards];
+        var maxOriginalIds = new long[numberOfShards];
 
         // ignoring concurrency limitation 🤷
         Arrays.parallelSetAll(mapShards, idx -> {
             var maxOriginalId = new MutableLong(0);
-            var shard = shards[idx];
-            var mapping = shard.intoMapping();
+            var mapping = shardMappings.apply(idx);
             mapping.forEachKeyValue((originalId, mappedId) -> {
                 if (originalId > maxOriginalId.longValue()) {
                     maxOriginalId.setValue(originalId);
@@ -147,14 +165,24 @@ public final class ShardedLongLongMap {
         int shardShift,
         int shardMask,
         long maxOriginalId
+    ) {
+        return build(nodeCount, shards.length, idx -> shards[idx].intoMapping(), shardShift, shardMask, maxOriginalId);
+    }
+
+    private static ShardedLongLongMap build(
+        long nodeCount,
+        int numberOfShards,
+        IntFunction<LongLongMap> shardMappings,
+        int shardShift,
+        int shardMask,
+        long maxOriginalId
     ) {
         var internalNodeMapping = HugeLongArray.newArray(nodeCount);
-        var mapShards = new LongLongMap[shards.length];
+        var mapShards = new LongLongMap[numberOfShards];
 
         // ignoring concurrency limitation 🤷
         Arrays.parallelSetAll(mapShards, idx -> {
-            var shard = shards[idx];
-            var mapping = shard.intoMapping();
+            var mapping = shardMappings.apply(idx);
             mapping.forEachKeyValue((originalId, mappedId) -> {
                 internalNodeMapping.set(mappedId, originalId);
             });
@@ -368,4 +396,202 @@ public final class ShardedLongLongMap {
         }
     }
 
+    /**
+     * A builder that does not lock the shards on insertion.
+     * <p>
+     * Every shard is an open-addressing hash table with linear probing.
+     * Threads claim a slot with a single compare-and-set on its state and publish
+     * the mapped id afterwards; threads that look for the same node in the meantime
+     * spin until the id is visible.
+     * <p>
+     * When a table exceeds its load factor, the thread that managed to link a table
+     * of twice the capacity moves all entries over, while the other threads continue
+     * inserting into whichever table their probe sequence leads them to.
+     * Free slots of the old table are marked as moved, which redirects inserts to the new table.
+     */
+    public static final class ConcurrentBuilder {
+
+        private final AtomicLong nodeCount;
+        private final Shard[] shards;
+        private final int shardShift;
+        private final int shardMask;
+
+        ConcurrentBuilder(int concurrency) {
+            this.nodeCount = new AtomicLong();
+            int numberOfShards = numberOfShards(concurrency);
+            this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
+            this.shardMask = numberOfShards - 1;
+            this.shards = IntStream.range(0, numberOfShards)
+                .mapToObj(__ -> new Shard())
+                .toArray(Shard[]::new);
+        }
+
+        /**
+         * Add a node to the mapping.
+         * @return {@code mappedId >= 0} if the node was added,
+         *      or {@code -(mappedId) - 1} if the node was already mapped.
+         */
+        public long addNode(long nodeId) {
+            var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
+            return shard.table.get().addNode(nodeId, this.nodeCount);
+        }
+
+        /**
+         * Must only be called after all threads finished adding nodes.
+         */
+        public ShardedLongLongMap build() {
+            return ShardedLongLongMap.build(
+                this.nodeCount.get(),
+                this.shards.length,
+                idx -> this.shards[idx].intoMapping(),
+                this.shardShift,
+                this.shardMask
+            );
+        }
+
+        /**
+         * Must only be called after all threads finished adding nodes.
+         */
+        public ShardedLongLongMap build(long maxOriginalId) {
+            return ShardedLongLongMap.build(
+                this.nodeCount.get(),
+                this.shards.length,
+                idx -> this.shards[idx].intoMapping(),
+                this.shardShift,
+                this.shardMask,
+                maxOriginalId
+            );
+        }
+
+        private static final class Shard {
+            private static final int INITIAL_CAPACITY = 1 << 10;
+
+            private final AtomicReference<Table> table;
+
+            private Shard() {
+                this.table = new AtomicReference<>();
+                this.table.set(new Table(INITIAL_CAPACITY, this.table));
+            }
+
+            LongLongMap intoMapping() {
+                var table = this.table.get();
+                while (table.next.get() != null) {
+                    table = table.next.get();
+                }
+                var mapping = new LongLongHashMap(table.size.intValue());
+                table.forEach(mapping::put);
+                return mapping;
+            }
+        }
+
+        private static final class Table {
+            // slot states, any value > 0 is a published mapped id + 1
+            private static final long FREE = 0L;
+            private static final long CLAIMED = -1L;
+            private static final long MOVED = -2L;
+
+            private static final double LOAD_FACTOR = 0.75;
+
+            private final long[] keys;
+            private final AtomicLongArray states;
+            private final int mask;
+            private final int resizeThreshold;
+            private final AtomicLong size;
+            private final AtomicReference<Table> current;
+            private final AtomicReference<Table> next;
+            private volatile boolean migrated;
+
+            Table(int capacity, AtomicReference<Table> current) {
+                this.keys = new long[capacity];
+                this.states = new AtomicLongArray(capacity);
+                this.mask = capacity - 1;
+                this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+                this.size = new AtomicLong();
+                this.current = current;
+                this.next = new AtomicReference<>();
+            }
+
+            long addNode(long nodeId, AtomicLong nextId) {
+                return insert(nodeId, IdMap.NOT_FOUND, nextId);
+            }
+
+            /**
+             * Inserts {@code nodeId} if absent, using {@code mappedId} or, if that is
+             * {@link IdMap#NOT_FOUND}, the next id from {@code nextId}.
+             */
+            private long insert(long nodeId, long mappedId, AtomicLong nextId) {
+                int slot = (int) SpreadFunctions.longSpreadTwo(nodeId) & this.mask;
+                for (int probes = 0; probes <= this.mask; probes++, slot = (slot + 1) & this.mask) {
+                    long state = this.states.get(slot);
+                    if (state == FREE) {
+                        if (this.states.compareAndSet(slot, FREE, CLAIMED)) {
+                            this.keys[slot] = nodeId;
+                            long id = mappedId == IdMap.NOT_FOUND ? nextId.getAndIncrement() : mappedId;
+                            this.states.set(slot, id + 1);
+                            if (this.size.incrementAndGet() == this.resizeThreshold) {
+                                grow();
+                            }
+                            return id;
+                        }
+                        state = this.states.get(slot);
+                    }
+                    while (state == CLAIMED) {
+                        Thread.onSpinWait();
+                        state = this.states.get(slot);
+                    }
+                    if (state == MOVED) {
+                        return nextTable().insert(nodeId, mappedId, nextId);
+                    }
+                    if (this.keys[slot] == nodeId) {
+                        long existingId = state - 1;
+                        return -existingId - 1;
+                    }
+                }
+                // every slot is taken, the table must have started growing
+                return nextTable().insert(nodeId, mappedId, nextId);
+            }
+
+            private Table nextTable() {
+                Table next;
+                while ((next = this.next.get()) == null) {
+                    Thread.onSpinWait();
+                }
+                return next;
+            }
+
+            private void grow() {
+                var next = new Table(this.keys.length << 1, this.current);
+                if (!this.next.compareAndSet(null, next)) {
+                    return;
+                }
+                for (int slot = 0; slot <= this.mask; slot++) {
+                    long state = this.states.get(slot);
+                    if (state == FREE && this.states.compareAndSet(slot, FREE, MOVED)) {
+                        continue;
+                    }
+                    while ((state = this.states.get(slot)) == CLAIMED) {
+                        Thread.onSpinWait();
+                    }
+                    next.insert(this.keys[slot], state - 1, null);
+                }
+                this.migrated = true;
+
+                // Let new inserts start at the oldest table that still has entries to move.
+                // Threads that are currently probing older tables get redirected by the moved slots.
+                Table table;
+                while ((table = this.current.get()).migrated) {
+                    this.current.compareAndSet(table, table.next.get());
+                }
+            }
+
+            void forEach(LongLongProcedure consumer) {
+                for (int slot = 0; slot <= this.mask; slot++) {
+                    long state = this.states.get(slot);
+                    if (state > 0) {
+                        consumer.value(this.keys[slot], state - 1);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -126,6 +126,22 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
         return id;
     }
 
+    /**
+     * Points the given id directly at the root of its set, so that later
+     * lookups of that id take a single step. Roots are left untouched.
+     */
+    public void compress(long id) {
+        long root = find(id);
+        if (root == id) {
+            return;
+        }
+        // a non-root never becomes a root again, so the root found above stays an ancestor
+        long parent = parent(id);
+        if (parent != root) {
+            this.parent.compareAndSet(id, parent, root);
+        }
+    }
+
     @Override
     public long setIdOf(final long nodeId) {
         long setId = find(nodeId);
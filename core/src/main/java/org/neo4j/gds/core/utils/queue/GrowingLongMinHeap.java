@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of (key, element) pairs that grows on demand.
+ *
+ * Unlike {@link HugeLongPriorityQueue}, the heap does not keep an index of
+ * its elements: it has no decrease-key operation and may contain the same
+ * element multiple times. In return, {@link #clear()} is constant time and
+ * the memory only depends on the number of inserted entries, which makes it
+ * suitable for many small searches on a large graph, where outdated entries
+ * are skipped when they reach the top.
+ */
+public final class GrowingLongMinHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] keys;
+    private long[] elements;
+    private int size;
+
+    public GrowingLongMinHeap() {
+        this.keys = new double[INITIAL_CAPACITY];
+        this.elements = new long[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public double topKey() {
+        return keys[0];
+    }
+
+    public long topElement() {
+        return elements[0];
+    }
+
+    public void add(double key, long element) {
+        if (size == keys.length) {
+            var newCapacity = Math.toIntExact((long) size << 1);
+            keys = Arrays.copyOf(keys, newCapacity);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            elements[index] = elements[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        elements[index] = element;
+    }
+
+    /**
+     * Removes the entry with the smallest key. Must not be called on an empty heap.
+     */
+    public void pop() {
+        size--;
+        if (size == 0) {
+            return;
+        }
+        var key = keys[size];
+        var element = elements[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[index] = keys[child];
+            elements[index] = elements[child];
+            index = child;
+        }
+        keys[index] = key;
+        elements[index] = element;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedAdjacencyListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadFromMappedPages() {
+        var data = LongStream.range(0, 2 * AdjacencyPacking.BLOCK_SIZE + 3).map(i -> i * 7).toArray();
+        var list = build(data);
+
+        var cursor = list.adjacencyCursor(0);
+        assertThat(cursor.size()).isEqualTo(data.length);
+        for (long expected : data) {
+            assertThat(cursor.nextVLong()).isEqualTo(expected);
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldDeleteBackingFileAfterBuild() {
+        var slice = ModifiableSlice.<Address>create();
+        var list = build(new long[]{1, 2, 3}, slice);
+
+        assertThat(list.mappedBytes())
+            .isEqualTo(slice.slice().bytes())
+            .isLessThan(MappedPages.SEGMENT_SIZE);
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldWarmUp() {
+        var list = build(new long[]{1, 2, 3});
+
+        list.warmUp(ProgressTracker.NULL_TRACKER);
+
+        assertThat(list.adjacencyCursor(0).nextVLong()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFailAfterFree() {
+        var list = build(new long[]{1, 2, 3});
+
+        list.free();
+
+        assertThatThrownBy(() -> list.adjacencyCursor(0, 42.1337))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("This page has already been freed.");
+    }
+
+    private MappedAdjacencyList build(long[] data) {
+        return build(data, ModifiableSlice.create());
+    }
+
+    private MappedAdjacencyList build(long[] data, ModifiableSlice<Address> slice) {
+        var builder = new MappedAdjacencyListBuilder(tempDir);
+        var degree = new MutableInt(0);
+        long offset;
+        try (var allocator = builder.newAllocator()) {
+            offset = AdjacencyPacker.compress(allocator, slice, data, data.length, Aggregation.NONE, degree);
+        }
+        return builder.build(HugeIntArray.of(degree.intValue()), HugeLongArray.of(offset));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaOverridesTest {
+
+    @Test
+    void shouldKeepPreviousOverridesUnchanged() {
+        var first = DeltaOverrides.EMPTY.builder();
+        var a = new long[]{1L};
+        first.put(3, a);
+        var previous = first.build();
+
+        var second = previous.builder();
+        var b = new long[]{2L};
+        var c = new long[]{3L};
+        second.put(3, b);
+        second.put(1L << 40, c);
+        var current = second.build();
+
+        assertThat(previous.get(3)).isSameAs(a);
+        assertThat(previous.get(1L << 40)).isNull();
+        assertThat(previous.size()).isEqualTo(1);
+
+        assertThat(current.get(3)).isSameAs(b);
+        assertThat(current.get(1L << 40)).isSameAs(c);
+        assertThat(current.get(4)).isNull();
+        assertThat(current.keys()).containsExactly(3, 1L << 40);
+    }
+
+    @Test
+    void shouldNotModifyBuiltOverridesOnFurtherPuts() {
+        var builder = DeltaOverrides.EMPTY.builder();
+        builder.put(0, new long[0]);
+        var built = builder.build();
+
+        builder.put(1, new long[0]);
+
+        assertThat(built.keys()).containsExactly(0);
+    }
+
+    @Test
+    void shouldFindOverridesAddedSinceSnapshot() {
+        var builder = DeltaOverrides.EMPTY.builder();
+        builder.put(7, new long[0]);
+        builder.put(42, new long[0]);
+        var snapshot = builder.build();
+
+        var currentBuilder = snapshot.builder();
+        var replaced = new long[]{1L};
+        var added = new long[]{2L};
+        currentBuilder.put(42, replaced);
+        currentBuilder.put(100_000, added);
+        var current = currentBuilder.build();
+
+        var changed = current.changedSince(snapshot).orElseThrow();
+        assertThat(changed.keys()).containsExactly(42, 100_000);
+        assertThat(changed.get(42)).isSameAs(replaced);
+        assertThat(changed.get(100_000)).isSameAs(added);
+
+        assertThat(snapshot.changedSince(snapshot).orElseThrow().isEmpty()).isTrue();
+        // the snapshot contains a node that has no override in the empty overrides
+        assertThat(DeltaOverrides.EMPTY.changedSince(snapshot)).isEmpty();
+    }
+}
@@ -19,10 +19,34 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.idmap.IdMapBuilderTest;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class ArrayIdMapBuilderTest extends IdMapBuilderTest {
 
+    @Test
+    void shouldBuildIdMapWithOffHeapArrays() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            int nodeCount = 2 * HugeArrays.PAGE_SIZE + 42;
+            long[] originalIds = LongStream.range(0, nodeCount).map(id -> 3 * id + 1).toArray();
+            var builder = builder(originalIds[nodeCount - 1] + 1, 1);
+
+            builder.allocate(nodeCount).insert(originalIds);
+            var idMap = builder.build(LabelInformationBuilders.allNodes(), originalIds[nodeCount - 1], 1);
+
+            assertThat(idMap.nodeCount()).isEqualTo(nodeCount);
+            for (long originalId : originalIds) {
+                assertThat(idMap.toOriginalNodeId(idMap.toMappedNodeId(originalId))).isEqualTo(originalId);
+            }
+        });
+    }
+
     @Override
     protected IdMapBuilder builder(long capacity, int concurrency) {
         return ArrayIdMapBuilder.of(capacity);
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class DeltaRelationshipsTest {
+
+    private static final String NODES = "(a:A), (b:A), (c:A), (d:A)";
+    private static final String GRAPH = NODES +
+                                        ", (a)-[:T {w: 1.0}]->(b)" +
+                                        ", (b)-[:T {w: 2.0}]->(c)" +
+                                        ", (c)-[:T {w: 3.0}]->(d)";
+
+    private static final RelationshipType T = RelationshipType.of("T");
+
+    @Test
+    void shouldApplyDeltaToDirectedRelationships() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+        var graphBefore = graphStore.getGraph(T, Optional.of("w"));
+
+        graphStore.applyRelationshipDelta(T, RelationshipDelta.of("w")
+            .removeRelationship(mappedId(graphStore, gdlFactory, "a"), mappedId(graphStore, gdlFactory, "b"))
+            .addRelationship(mappedId(graphStore, gdlFactory, "a"), mappedId(graphStore, gdlFactory, "c"), 4.0)
+            .addRelationship(mappedId(graphStore, gdlFactory, "d"), mappedId(graphStore, gdlFactory, "a"), 5.0));
+
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-[:T {w: 4.0}]->(c), (b)-[:T {w: 2.0}]->(c), (c)-[:T {w: 3.0}]->(d), (d)-[:T {w: 5.0}]->(a)"),
+            graphStore.getGraph(T, Optional.of("w"))
+        );
+        assertThat(graphStore.relationshipCount(T)).isEqualTo(4);
+
+        // graphs created before the delta has been applied are not affected
+        assertGraphEquals(fromGdl(GRAPH), graphBefore);
+    }
+
+    @Test
+    void shouldUseDefaultValueForMissingProperties() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+
+        graphStore.applyRelationshipDelta(T, RelationshipDelta.of()
+            .addRelationship(mappedId(graphStore, gdlFactory, "d"), mappedId(graphStore, gdlFactory, "a")));
+
+        var defaultValue = graphStore.relationshipPropertyValues(T, "w").values().defaultPropertyValue();
+        var graph = graphStore.getGraph(T, Optional.of("w"));
+        graph.forEachRelationship(mappedId(graphStore, gdlFactory, "d"), 42.0, (source, target, weight) -> {
+            assertThat(weight).isEqualTo(defaultValue);
+            return true;
+        });
+        assertThat(graph.degree(mappedId(graphStore, gdlFactory, "d"))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDetachNodeInUndirectedRelationships() {
+        var gdlFactory = gdlFactory(Orientation.UNDIRECTED, false);
+        var graphStore = gdlFactory.build();
+
+        graphStore.applyRelationshipDelta(T, RelationshipDelta.of().detachNode(mappedId(graphStore, gdlFactory, "b")));
+
+        assertGraphEquals(
+            fromGdl(NODES + ", (c)-[:T {w: 3.0}]->(d)", Orientation.UNDIRECTED),
+            graphStore.getGraph(T, Optional.of("w"))
+        );
+        assertThat(graphStore.relationshipCount(T)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMirrorChangesToInverseIndex() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, true);
+        var graphStore = gdlFactory.build();
+
+        graphStore.applyRelationshipDelta(T, RelationshipDelta.of("w")
+            .detachNode(mappedId(graphStore, gdlFactory, "b"))
+            .addRelationship(mappedId(graphStore, gdlFactory, "a"), mappedId(graphStore, gdlFactory, "d"), 4.0));
+
+        var graph = graphStore.getGraph(T, Optional.of("w"));
+        assertGraphEquals(fromGdl(NODES + ", (a)-[:T {w: 4.0}]->(d), (c)-[:T {w: 3.0}]->(d)"), graph);
+        assertThat(graph.degreeInverse(mappedId(graphStore, gdlFactory, "b"))).isEqualTo(0);
+        assertThat(graph.degreeInverse(mappedId(graphStore, gdlFactory, "c"))).isEqualTo(0);
+        assertThat(graph.degreeInverse(mappedId(graphStore, gdlFactory, "d"))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCompactRelationships() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, true);
+        var graphStore = gdlFactory.build();
+
+        assertThat(graphStore.compactRelationships(T)).isFalse();
+
+        graphStore.applyRelationshipDelta(T, RelationshipDelta.of("w")
+            .removeRelationship(mappedId(graphStore, gdlFactory, "b"), mappedId(graphStore, gdlFactory, "c"))
+            .addRelationship(mappedId(graphStore, gdlFactory, "d"), mappedId(graphStore, gdlFactory, "b"), 4.0));
+        var graphWithDelta = graphStore.getGraph(T, Optional.of("w"));
+        var schemaEntry = graphStore.relationships(T).orElseThrow().relationshipSchemaEntry();
+
+        assertThat(graphStore.compactRelationships(T)).isTrue();
+
+        var relationships = graphStore.relationships(T).orElseThrow();
+        assertThat(relationships.topology().adjacencyList()).isNotInstanceOf(DeltaAdjacencyList.class);
+        assertThat(relationships.inverseTopology().orElseThrow().adjacencyList()).isNotInstanceOf(DeltaAdjacencyList.class);
+        assertThat(relationships.relationshipSchemaEntry()).isEqualTo(schemaEntry);
+
+        var compactedGraph = graphStore.getGraph(T, Optional.of("w"));
+        assertGraphEquals(graphWithDelta, compactedGraph);
+        assertThat(compactedGraph.degreeInverse(mappedId(graphStore, gdlFactory, "b"))).isEqualTo(2);
+
+        assertThat(graphStore.compactRelationships(T)).isFalse();
+    }
+
+    @Test
+    void shouldRebaseDeltasAppliedDuringCompaction() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+        var a = mappedId(graphStore, gdlFactory, "a");
+        var d = mappedId(graphStore, gdlFactory, "d");
+
+        var original = graphStore.relationships(T).orElseThrow();
+        var snapshot = DeltaRelationships.apply(original, RelationshipDelta.of("w").removeRelationship(a, mappedId(graphStore, gdlFactory, "b")), 4);
+        var current = DeltaRelationships.apply(snapshot, RelationshipDelta.of("w").addRelationship(d, a, 5.0), 4);
+
+        var compacted = DeltaRelationships.compact(snapshot, graphStore.nodes(), 1, Pools.DEFAULT);
+        var rebased = DeltaRelationships.rebase(compacted, snapshot, current).orElseThrow();
+
+        var adjacencyList = (DeltaAdjacencyList) rebased.topology().adjacencyList();
+        assertThat(adjacencyList.base()).isSameAs(compacted.topology().adjacencyList());
+        assertThat(adjacencyList.overrides().keys()).containsExactly(d);
+        assertThat(adjacencyList.degree(a)).isEqualTo(0);
+        assertThat(adjacencyList.degree(d)).isEqualTo(1);
+        assertThat(rebased.topology().elementCount()).isEqualTo(current.topology().elementCount());
+
+        // relationships that are not derived from the snapshot cannot be rebased
+        assertThat(DeltaRelationships.rebase(compacted, snapshot, original)).isEmpty();
+    }
+
+    @Test
+    void shouldValidateDelta() {
+        var gdlFactory = gdlFactory(Orientation.NATURAL, false);
+        var graphStore = gdlFactory.build();
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(T, RelationshipDelta.of().detachNode(0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected or inverse indexed");
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(T, RelationshipDelta.of("foo").addRelationship(0, 1, 1.0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not have a property `foo`");
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(T, RelationshipDelta.of().addRelationship(0, 42)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("out of range");
+
+        assertThatThrownBy(() -> RelationshipDelta.of("w").addRelationship(0, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected 1 property values");
+    }
+
+    private static GdlFactory gdlFactory(Orientation orientation, boolean indexInverse) {
+        return GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(GRAPH)
+                .graphName("test")
+                .orientation(orientation)
+                .indexInverse(indexInverse)
+                .build()
+        ).build();
+    }
+
+    private static long mappedId(CSRGraphStore graphStore, GdlFactory gdlFactory, String variable) {
+        return graphStore.nodes().toMappedNodeId(gdlFactory.nodeId(variable));
+    }
+}
@@ -22,9 +22,11 @@ package org.neo4j.gds.core.loading;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
@@ -32,6 +34,7 @@ import org.neo4j.gds.gdl.GdlFactory;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -437,6 +440,46 @@ class GraphStoreCatalogTest {
         assertThat(listenerCalls.intValue()).isEqualTo(1);
     }
 
+    @Test
+    void shouldOnlyReturnArtifactsOfTheCurrentGraphStore() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var modificationCount = graphStore.modificationCount();
+
+        assertThat(GraphStoreCatalog.setArtifact(graphStore, "artifact", "value", modificationCount)).isTrue();
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", String.class)).contains("value");
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", Integer.class)).isEmpty();
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "other", String.class)).isEmpty();
+        assertThat(GraphStoreCatalog.getArtifact(otherGraphStore, "artifact", String.class)).isEmpty();
+
+        graphStore.addNodeProperty(Set.of(NodeLabel.ALL_NODES), "foo", new DoubleNullPropertyMap(42.0));
+
+        assertThat(graphStore.modificationCount()).isGreaterThan(modificationCount);
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", String.class)).isEmpty();
+        assertThat(GraphStoreCatalog.setArtifact(graphStore, "artifact", "value", modificationCount)).isFalse();
+    }
+
+    @Test
+    void shouldNotStoreArtifactsOfGraphsOutsideOfTheCatalog() {
+        assertThat(GraphStoreCatalog.setArtifact(graphStore, "artifact", "value", graphStore.modificationCount()))
+            .isFalse();
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", String.class)).isEmpty();
+    }
+
+    @Test
+    void shouldDropArtifactsTogetherWithTheirGraph() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setArtifact(graphStore, "artifact", "value", graphStore.modificationCount());
+
+        GraphStoreCatalog.overwrite(CONFIG, otherGraphStore);
+        GraphStoreCatalog.overwrite(CONFIG, graphStore);
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", String.class)).isEmpty();
+
+        GraphStoreCatalog.setArtifact(graphStore, "artifact", "value", graphStore.modificationCount());
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, graphStoreWithConfig -> {}, true);
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        assertThat(GraphStoreCatalog.getArtifact(graphStore, "artifact", String.class)).isEmpty();
+    }
+
     @Test
     void shouldThrowOnMissingGraph() {
         var dummyDatabaseId = DatabaseId.from("mydatabase");
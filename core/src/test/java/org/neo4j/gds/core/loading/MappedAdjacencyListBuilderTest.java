@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.file.Path;
+
+class MappedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String directoryBefore;
+
+    @BeforeEach
+    void setup() {
+        directoryBefore = GdsFeatureToggles.MAPPED_ADJACENCY_LIST_DIRECTORY.getAndSet(tempDir.toString());
+    }
+
+    @AfterEach
+    void teardown() {
+        GdsFeatureToggles.MAPPED_ADJACENCY_LIST_DIRECTORY.set(directoryBefore);
+    }
+
+    @Test
+    void test() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList);
+    }
+
+    @Test
+    void testWithProperties() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithProperties);
+    }
+
+    @Test
+    void testMapper() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testValueMapper);
+    }
+
+    @Test
+    void testMapperWithProperties() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testValueMapperWithProperties);
+    }
+
+    @Test
+    void testWithAggregations() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithAggregations);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.construction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class AggregatedGraphBuilderTest {
+
+    private static final String GRAPH =
+        "  (a), (b), (c), (d), (e)" +
+        ", (a)-[:R {w: 1.0}]->(b)" +
+        ", (a)-[:R {w: 2.0}]->(c)" +
+        ", (b)-[:R {w: 3.0}]->(c)" +
+        ", (c)-[:R {w: 4.0}]->(d)" +
+        ", (d)-[:R {w: 5.0}]->(e)" +
+        ", (e)-[:R {w: 6.0}]->(a)";
+
+    private static HugeLongArray communities(TestGraph graph) {
+        var communities = HugeLongArray.newArray(graph.nodeCount());
+        communities.set(graph.toMappedNodeId("a"), 42L);
+        communities.set(graph.toMappedNodeId("b"), 42L);
+        communities.set(graph.toMappedNodeId("c"), 7L);
+        communities.set(graph.toMappedNodeId("d"), 1337L);
+        communities.set(graph.toMappedNodeId("e"), 1337L);
+        return communities;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldAggregateDirectedGraph(int concurrency) {
+        var graph = fromGdl(GRAPH);
+
+        var aggregatedGraph = new AggregatedGraphBuilder(
+            graph,
+            communities(graph)::get,
+            1337L,
+            RelationshipType.of("AGG"),
+            Direction.DIRECTED,
+            false,
+            1.0,
+            Pools.DEFAULT,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).build();
+
+        assertThat(aggregatedGraph.nodeCount()).isEqualTo(3);
+        aggregatedGraph.forEachNode(nodeId -> {
+            assertThat(aggregatedGraph.toOriginalNodeId(nodeId)).isIn(7L, 42L, 1337L);
+            return true;
+        });
+
+        assertGraphEquals(
+            fromGdl(
+                "  (ab), (c), (de)" +
+                ", (ab)-[:AGG {w: 5.0}]->(c)" +
+                ", (c)-[:AGG {w: 4.0}]->(de)" +
+                ", (de)-[:AGG {w: 6.0}]->(ab)"
+            ),
+            aggregatedGraph
+        );
+    }
+
+    @Test
+    void shouldAggregateUndirectedGraphWithSelfLoops() {
+        var graph = fromGdl(GRAPH, Orientation.UNDIRECTED);
+
+        var aggregatedGraph = new AggregatedGraphBuilder(
+            graph,
+            communities(graph)::get,
+            1337L,
+            RelationshipType.of("AGG"),
+            Direction.UNDIRECTED,
+            true,
+            1.0,
+            Pools.DEFAULT,
+            4,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).build();
+
+        assertThat(aggregatedGraph.schema().isUndirected()).isTrue();
+        assertThat(aggregatedGraph.relationshipCount()).isEqualTo(8);
+
+        // relationships within a community are visited from both of their nodes
+        var relationships = new HashMap<String, Double>();
+        aggregatedGraph.forEachNode(nodeId -> {
+            aggregatedGraph.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
+                relationships.put(
+                    aggregatedGraph.toOriginalNodeId(source) + "-" + aggregatedGraph.toOriginalNodeId(target),
+                    weight
+                );
+                return true;
+            });
+            return true;
+        });
+
+        assertThat(relationships).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "42-42", 2.0,
+            "1337-1337", 10.0,
+            "42-7", 5.0,
+            "7-42", 5.0,
+            "7-1337", 4.0,
+            "1337-7", 4.0,
+            "1337-42", 6.0,
+            "42-1337", 6.0
+        ));
+    }
+}
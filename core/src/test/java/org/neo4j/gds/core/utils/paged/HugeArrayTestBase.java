@@ -23,8 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.function.ObjIntConsumer;
@@ -178,9 +181,41 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
     final void shouldFreeMemoryUsed() {
         int size = integer(10, 20);
         long expected = bufferSize(size);
-        testArray(size, array -> {
+        for (Huge array : List.of(singleArray(size), pagedArray(size))) {
             long freed = array.release();
             assertThat(freed, anyOf(is(expected), is(expected + 24)));
+        }
+    }
+
+    @Test
+    final void shouldFreeOffHeapMemoryOnce() {
+        int size = integer(10, 20);
+        offHeapArray(size).ifPresent(array -> {
+            long bytesPerElement = (bufferSize(64) - bufferSize(0)) / 64;
+            long expected = array.sizeOf();
+            assertEquals(size * bytesPerElement, expected);
+            assertEquals(expected, array.release());
+            assertEquals(0L, array.release());
+        });
+    }
+
+    @Test
+    final void shouldRejectAccessToReleasedOffHeapMemory() {
+        int size = integer(10, 20);
+        offHeapArray(size).ifPresent(array -> {
+            array.release();
+            assertThrows(IllegalStateException.class, () -> get(array, 0));
+        });
+    }
+
+    @Test
+    final void shouldRejectOutOfBoundsAccessToOffHeapMemory() {
+        int size = integer(10, 20);
+        offHeapArray(size).ifPresent(array -> {
+            assertThrows(IndexOutOfBoundsException.class, () -> array.boxedSet(size, box(42)));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.boxedSet(-1, box(42)));
+            assertThrows(IndexOutOfBoundsException.class, () -> get(array, size));
+            array.release();
         });
     }
 
@@ -227,7 +262,12 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
     @Test
     final void shouldHaveCursorForMultiplePages() {
         int size = integer(100_000, 200_000);
-        Huge array = pagedArray(size);
+        for (Huge array : multiPageArrays(size)) {
+            testCursorForMultiplePages(size, array);
+        }
+    }
+
+    private void testCursorForMultiplePages(int size, Huge array) {
         array.boxedFill(box(42));
         HugeCursor<Array> cursor = array.initCursor(array.newCursor());
 
@@ -289,9 +329,14 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
         testPartialMultiCursor(3 * PS, 3 * PS, 3 * PS);
     }
 
-    @SuppressWarnings("unchecked")
     private void testPartialMultiCursor(int size, int start, int end) {
-        Huge array = pagedArray(size);
+        for (Huge array : multiPageArrays(size)) {
+            testPartialMultiCursor(array, start, end);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void testPartialMultiCursor(Huge array, int start, int end) {
         array.boxedSetAll(i1 -> box(42 + (int) i1));
         HugeCursor<Array> cursor = array.newCursor();
         array.initCursor(cursor, start, end);
@@ -439,6 +484,7 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
             block.accept(pagedArray(size));
             block.accept(singleArray(size));
         }
+        offHeapArray(size).ifPresent(block);
     }
 
     private void testArray(int sizeMin, int sizeMax, ObjIntConsumer<Huge> block) {
@@ -454,12 +500,25 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
             size = integer(sizeMin, sizeMax);
             block.accept(singleArray(size), size);
         }
+        int offHeapSize = integer(sizeMin, sizeMax);
+        offHeapArray(offHeapSize).ifPresent(array -> block.accept(array, offHeapSize));
+    }
+
+    private List<Huge> multiPageArrays(int size) {
+        var arrays = new ArrayList<Huge>();
+        arrays.add(pagedArray(size));
+        offHeapArray(size).ifPresent(arrays::add);
+        return arrays;
     }
 
     abstract Huge singleArray(int size);
 
     abstract Huge pagedArray(int size);
 
+    Optional<Huge> offHeapArray(int size) {
+        return Optional.empty();
+    }
+
     abstract long bufferSize(int size);
 
     abstract Box box(int value);
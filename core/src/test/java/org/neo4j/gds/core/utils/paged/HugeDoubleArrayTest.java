@@ -22,6 +22,8 @@ package org.neo4j.gds.core.utils.paged;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.util.Optional;
+
 import static io.qala.datagen.RandomShortApi.integer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -49,6 +51,11 @@ final class HugeDoubleArrayTest extends HugeArrayTestBase<double[], Double, Huge
         return HugeDoubleArray.newPagedArray(size);
     }
 
+    @Override
+    Optional<HugeDoubleArray> offHeapArray(final int size) {
+        return Optional.of(HugeDoubleArray.newOffHeapArray(size));
+    }
+
     @Override
     long bufferSize(final int size) {
         return MemoryUsage.sizeOfDoubleArray(size);
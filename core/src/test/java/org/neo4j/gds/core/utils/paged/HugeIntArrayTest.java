@@ -22,6 +22,8 @@ package org.neo4j.gds.core.utils.paged;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.util.Optional;
+
 import static io.qala.datagen.RandomShortApi.integer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -93,6 +95,11 @@ final class HugeIntArrayTest extends HugeArrayTestBase<int[], Integer, HugeIntAr
         return HugeIntArray.newPagedArray(size);
     }
 
+    @Override
+    Optional<HugeIntArray> offHeapArray(final int size) {
+        return Optional.of(HugeIntArray.newOffHeapArray(size));
+    }
+
     @Override
     long bufferSize(final int size) {
         return MemoryUsage.sizeOfIntArray(size);
@@ -22,10 +22,14 @@ package org.neo4j.gds.core.utils.paged;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Optional;
 
 import static io.qala.datagen.RandomShortApi.integer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongArray> {
 
@@ -105,6 +109,82 @@ final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongAr
         assertEquals(-1, array.binarySearch(-10));
     }
 
+    @Test
+    void shouldBinarySearchInAnOffHeapArray() {
+        var array = HugeLongArray.newOffHeapArray(
+            HugeArrays.PAGE_SIZE * 3
+        );
+        for (int i = 0; i < HugeArrays.PAGE_SIZE * 3; i++) {
+            array.set(i, i);
+        }
+
+        assertEquals(20000, array.binarySearch(20000));
+        assertEquals(HugeArrays.PAGE_SIZE * 3 - 1, array.binarySearch(HugeArrays.PAGE_SIZE * 3 + 10));
+        assertEquals(-1, array.binarySearch(-10));
+        array.release();
+    }
+
+    @Test
+    void shouldComputeOffHeapMemoryEstimation() {
+        assertEquals(800, HugeLongArray.offHeapMemoryEstimation(100L) - HugeLongArray.offHeapMemoryEstimation(0L));
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> assertEquals(
+            HugeLongArray.offHeapMemoryEstimation(100_000_000_000L),
+            HugeLongArray.memoryEstimation(100_000_000_000L)
+        ));
+    }
+
+    @Test
+    void shouldAllocateOffHeapWhenEnabled() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            var array = HugeLongArray.newArray(100);
+            array.setAll(i -> i * 2);
+            var copy = array.copyOf(200);
+
+            assertEquals(800, array.release());
+            assertEquals(198, copy.get(99));
+            assertEquals(0, copy.get(100));
+            assertEquals(1600, copy.release());
+        });
+    }
+
+    @Test
+    void shouldWriteBackOffHeapCursorBuffers() {
+        int size = 2 * HugeArrays.PAGE_SIZE + 42;
+        var array = HugeLongArray.newOffHeapArray(size);
+        try (var cursor = array.initCursor(array.newCursor(), 10, size - 10)) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = cursor.base + i;
+                }
+            }
+        }
+
+        for (long i = 0; i < size; i++) {
+            assertEquals(i < 10 || i >= size - 10 ? 0L : i, array.get(i));
+        }
+
+        var cursor = array.initCursor(array.newCursor());
+        cursor.next();
+        cursor.array[1] = 42L;
+        cursor.close();
+        assertEquals(42L, array.get(1));
+        array.release();
+    }
+
+    @Test
+    void shouldNotOverwriteConcurrentWritesWithCursorBuffers() {
+        var array = HugeLongArray.newOffHeapArray(100);
+        try (var cursor = array.initCursor(array.newCursor())) {
+            assertTrue(cursor.next());
+            cursor.array[1] = 1L;
+            array.set(2, 2L);
+        }
+
+        assertEquals(1L, array.get(1));
+        assertEquals(2L, array.get(2));
+        array.release();
+    }
+
     @Override
     HugeLongArray singleArray(final int size) {
         return HugeLongArray.newSingleArray(size);
@@ -115,6 +195,11 @@ final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongAr
         return HugeLongArray.newPagedArray(size);
     }
 
+    @Override
+    Optional<HugeLongArray> offHeapArray(final int size) {
+        return Optional.of(HugeLongArray.newOffHeapArray(size));
+    }
+
     @Override
     long bufferSize(final int size) {
         return MemoryUsage.sizeOfLongArray(size);
@@ -34,6 +34,8 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -295,4 +297,79 @@ abstract class ShardedLongLongMapTest {
             }
         }
     }
+
+    static final class ConcurrentBuilderTest extends ShardedLongLongMapTest {
+
+        @Property
+        void testAddNodeWithDuplicates(@ForAll("ids") long[] originalIds) {
+            var builder = builder(1);
+            for (long originalId : originalIds) {
+                long mappedId = builder.addNode(originalId);
+                long duplicateMappedId = builder.addNode(originalId);
+                assertThat(duplicateMappedId).isEqualTo(-mappedId - 1);
+            }
+        }
+
+        @Test
+        void testAddingOverlappingNodesInParallel() {
+            int concurrency = 8;
+            int nodeCount = 200_000;
+            var builder = ShardedLongLongMap.concurrentBuilder(concurrency);
+            var mappedIds = HugeAtomicBitSet.create(nodeCount);
+
+            // every thread adds every node, including negative ones, in a different order
+            var tasks = IntStream.range(0, concurrency).mapToObj(task -> (Runnable) () -> {
+                var rng = new SplittableRandom(task);
+                long offset = rng.nextLong(nodeCount);
+                for (long i = 0; i < nodeCount; i++) {
+                    long originalId = ((i + offset) % nodeCount) * 31 - nodeCount;
+                    long mappedId = builder.addNode(originalId);
+                    if (mappedId >= 0) {
+                        assertThat(mappedIds.getAndSet(mappedId)).isFalse();
+                    }
+                }
+            }).collect(Collectors.toList());
+
+            ParallelUtil.run(tasks, Pools.DEFAULT);
+
+            var map = builder.build();
+
+            assertThat(map.size()).isEqualTo(nodeCount);
+            assertThat(mappedIds.cardinality()).isEqualTo(nodeCount);
+            for (long i = 0; i < nodeCount; i++) {
+                long originalId = i * 31 - nodeCount;
+                assertThat(map.toOriginalNodeId(map.toMappedNodeId(originalId))).isEqualTo(originalId);
+            }
+        }
+
+        @Override
+        TestBuilder builder(int concurrency) {
+            return new ConcurrentBuilder(concurrency);
+        }
+
+        private static final class ConcurrentBuilder implements TestBuilder {
+            private final ShardedLongLongMap.ConcurrentBuilder inner;
+
+            ConcurrentBuilder(int concurrency) {
+                this.inner = ShardedLongLongMap.concurrentBuilder(concurrency);
+            }
+
+            @Override
+            public long addNode(long nodeId) {
+                return inner.addNode(nodeId);
+            }
+
+            @Override
+            public void addNodes(long... nodeIds) {
+                for (long nodeId : nodeIds) {
+                    inner.addNode(nodeId);
+                }
+            }
+
+            @Override
+            public ShardedLongLongMap build() {
+                return inner.build();
+            }
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GrowingLongMinHeapTest {
+
+    @Test
+    void shouldPopInAscendingKeyOrder() {
+        var random = new Random(42);
+        var keys = new double[1_000];
+        var heap = new GrowingLongMinHeap();
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(100);
+            heap.add(keys[i], i);
+        }
+        assertThat(heap.size()).isEqualTo(keys.length);
+
+        Arrays.sort(keys);
+        for (double key : keys) {
+            assertThat(heap.topKey()).isEqualTo(key);
+            heap.pop();
+        }
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldAllowDuplicateElements() {
+        var heap = new GrowingLongMinHeap();
+        heap.add(3.0, 7);
+        heap.add(1.0, 7);
+        heap.add(2.0, 5);
+
+        assertThat(heap.topElement()).isEqualTo(7);
+        assertThat(heap.topKey()).isEqualTo(1.0);
+        heap.pop();
+        assertThat(heap.topElement()).isEqualTo(5);
+        heap.pop();
+        assertThat(heap.topElement()).isEqualTo(7);
+        assertThat(heap.topKey()).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldBeEmptyAfterClear() {
+        var heap = new GrowingLongMinHeap();
+        heap.add(1.0, 1);
+        heap.add(2.0, 2);
+        heap.clear();
+
+        assertThat(heap.isEmpty()).isTrue();
+        heap.add(5.0, 3);
+        assertThat(heap.topElement()).isEqualTo(3);
+    }
+}
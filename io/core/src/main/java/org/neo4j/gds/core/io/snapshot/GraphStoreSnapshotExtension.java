@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.ExtensionType;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.internal.LogService;
+
+/**
+ * Restores the graph catalog from {@link GraphStoreSnapshotSettings#snapshot_location_setting} on startup
+ * and writes it back on shutdown, depending on the configured snapshot settings.
+ */
+@ServiceProvider
+public final class GraphStoreSnapshotExtension extends ExtensionFactory<GraphStoreSnapshotExtension.Dependencies> {
+
+    public GraphStoreSnapshotExtension() {
+        super(ExtensionType.GLOBAL, "gds.snapshot");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var config = dependencies.config();
+        var location = config.get(GraphStoreSnapshotSettings.snapshot_location_setting);
+        if (location == null) {
+            return new LifecycleAdapter();
+        }
+
+        var log = Neo4jProxy.getUserLog(dependencies.logService(), GraphStoreSnapshotExtension.class);
+        var restoreOnStartup = config.get(GraphStoreSnapshotSettings.restore_on_startup_setting);
+        var writeOnShutdown = config.get(GraphStoreSnapshotSettings.snapshot_on_shutdown_setting);
+
+        return new LifecycleAdapter() {
+            @Override
+            public void start() {
+                if (restoreOnStartup) {
+                    GraphStoreSnapshots.restoreCatalog(location, ConcurrencyConfig.DEFAULT_CONCURRENCY, log);
+                }
+            }
+
+            @Override
+            public void stop() {
+                if (writeOnShutdown) {
+                    GraphStoreSnapshots.persistCatalog(location, log);
+                }
+            }
+        };
+    }
+
+    interface Dependencies {
+        Config config();
+
+        LogService logService();
+    }
+}
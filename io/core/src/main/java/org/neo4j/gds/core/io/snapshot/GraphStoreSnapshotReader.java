@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.Capabilities.WriteMode;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.Nodes;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restores a {@link org.neo4j.gds.api.GraphStore} from a snapshot file written by {@link GraphStoreSnapshotWriter}.
+ * <p>
+ * The file is memory-mapped and adjacency pages, degrees and offsets are copied directly
+ * into their in-memory representation; no relationship is decoded or re-compressed.
+ */
+public final class GraphStoreSnapshotReader {
+
+    private final SnapshotInput in;
+    private final int concurrency;
+
+    private GraphStoreSnapshotReader(SnapshotInput in, int concurrency) {
+        this.in = in;
+        this.concurrency = concurrency;
+    }
+
+    public static GraphStoreSnapshot read(Path file, int concurrency) {
+        try (var in = new SnapshotInput(file)) {
+            return new GraphStoreSnapshotReader(in, concurrency).readGraphStore(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GraphStoreSnapshot readGraphStore(Path file) throws IOException {
+        var magic = in.readLong();
+        if (magic != SnapshotFormat.MAGIC) {
+            throw new IllegalArgumentException(formatWithLocale("`%s` is not a graph store snapshot.", file));
+        }
+        var version = in.readInt();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported snapshot version %d in `%s`, expected version %d.",
+                version,
+                file,
+                SnapshotFormat.VERSION
+            ));
+        }
+
+        var databaseId = DatabaseId.from(in.readString());
+        var userName = in.readString();
+        var graphName = in.readString();
+        var writeMode = WriteMode.valueOf(in.readString());
+
+        var nodes = readNodes();
+        var relationshipImportResult = readRelationships();
+
+        var schema = MutableGraphSchema.of(
+            nodes.schema(),
+            relationshipImportResult.relationshipSchema(),
+            Map.of()
+        );
+
+        var graphStore = new GraphStoreBuilder()
+            .databaseId(databaseId)
+            .capabilities(ImmutableStaticCapabilities.of(writeMode))
+            .schema(schema)
+            .nodes(nodes)
+            .relationshipImportResult(relationshipImportResult)
+            .concurrency(concurrency)
+            .build();
+
+        return ImmutableGraphStoreSnapshot.of(userName, graphName, graphStore);
+    }
+
+    private Nodes readNodes() throws IOException {
+        var nodeCount = in.readLong();
+        var highestOriginalId = in.readLong();
+
+        var originalIds = HugeLongArray.newArray(nodeCount);
+        readLongs(originalIds);
+
+        var labelInformationBuilder = readLabels(nodeCount, originalIds);
+        var idMap = ArrayIdMapBuilderOps.build(
+            originalIds,
+            nodeCount,
+            labelInformationBuilder,
+            highestOriginalId,
+            concurrency
+        );
+
+        var nodeSchema = readNodeSchema();
+
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        var propertyCount = in.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertySchema = readPropertySchema();
+            var values = readNodePropertyValues(propertySchema.valueType(), nodeCount);
+            nodePropertyStoreBuilder.putIfAbsent(
+                propertySchema.key(),
+                ImmutableNodeProperty.of(values, propertySchema)
+            );
+        }
+
+        return ImmutableNodes.of(nodeSchema, idMap, nodePropertyStoreBuilder.build());
+    }
+
+    private LabelInformation.Builder readLabels(long nodeCount, HugeLongArray originalIds) throws IOException {
+        var labelCount = in.readInt();
+        if (labelCount == 0) {
+            return LabelInformationBuilders.allNodes();
+        }
+
+        var labels = new ArrayList<NodeLabel>(labelCount);
+        var bitSets = new ArrayList<long[]>(labelCount);
+        var wordCount = (nodeCount + Long.SIZE - 1) / Long.SIZE;
+        for (int i = 0; i < labelCount; i++) {
+            labels.add(NodeLabel.of(in.readString()));
+            var words = new long[Math.toIntExact(wordCount)];
+            in.readLongs(words, 0, words.length);
+            bitSets.add(words);
+        }
+
+        var builder = LabelInformationBuilders.multiLabelWithCapacityAndLabelInformation(
+            nodeCount,
+            labels,
+            List.of()
+        );
+        for (int i = 0; i < labelCount; i++) {
+            var label = labels.get(i);
+            var words = bitSets.get(i);
+            for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+                long word = words[wordIndex];
+                while (word != 0) {
+                    long nodeId = (long) wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                    builder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                    word &= word - 1;
+                }
+            }
+        }
+        return builder;
+    }
+
+    private MutableNodeSchema readNodeSchema() throws IOException {
+        var nodeSchema = MutableNodeSchema.empty();
+        var entryCount = in.readInt();
+        for (int i = 0; i < entryCount; i++) {
+            var label = NodeLabel.of(in.readString());
+            nodeSchema.addLabel(label);
+            var propertyCount = in.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema();
+                nodeSchema.addProperty(label, propertySchema.key(), propertySchema);
+            }
+        }
+        return nodeSchema;
+    }
+
+    private NodePropertyValues readNodePropertyValues(ValueType valueType, long nodeCount) throws IOException {
+        switch (valueType) {
+            case LONG: {
+                var values = HugeLongArray.newArray(nodeCount);
+                readLongs(values);
+                return values.asNodeProperties();
+            }
+            case DOUBLE: {
+                var values = HugeDoubleArray.newArray(nodeCount);
+                if (nodeCount > 0) {
+                    try (HugeCursor<double[]> cursor = values.initCursor(values.newCursor())) {
+                        while (cursor.next()) {
+                            in.readDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                        }
+                    }
+                }
+                return values.asNodeProperties();
+            }
+            case LONG_ARRAY: {
+                var values = HugeObjectArray.newArray(long[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readLongArray());
+                }
+                return values.asNodeProperties();
+            }
+            case DOUBLE_ARRAY: {
+                var values = HugeObjectArray.newArray(double[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readDoubleArray());
+                }
+                return values.asNodeProperties();
+            }
+            case FLOAT_ARRAY: {
+                var values = HugeObjectArray.newArray(float[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    values.set(nodeId, readFloatArray());
+                }
+                return values.asNodeProperties();
+            }
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Snapshots do not support node properties of type `%s`.",
+                    valueType
+                ));
+        }
+    }
+
+    private RelationshipImportResult readRelationships() throws IOException {
+        var relationshipsByType = new HashMap<RelationshipType, SingleTypeRelationships>();
+        var typeCount = in.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var relationshipType = RelationshipType.of(in.readString());
+            var direction = Direction.valueOf(in.readString());
+
+            var schemaEntry = new MutableRelationshipSchemaEntry(relationshipType, direction);
+            var propertyCount = in.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readRelationshipPropertySchema();
+                schemaEntry.addProperty(propertySchema.key(), propertySchema);
+            }
+
+            var builder = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(schemaEntry)
+                .topology(readTopology())
+                .properties(readRelationshipProperties(schemaEntry));
+
+            if (in.readBoolean()) {
+                builder
+                    .inverseTopology(readTopology())
+                    .inverseProperties(readRelationshipProperties(schemaEntry));
+            }
+
+            relationshipsByType.put(relationshipType, builder.build());
+        }
+        return RelationshipImportResult.of(relationshipsByType);
+    }
+
+    private Topology readTopology() throws IOException {
+        var elementCount = in.readLong();
+        var isMultiGraph = in.readBoolean();
+        return ImmutableTopology.of(readAdjacencyList(), elementCount, isMultiGraph);
+    }
+
+    private Optional<RelationshipPropertyStore> readRelationshipProperties(
+        MutableRelationshipSchemaEntry schemaEntry
+    ) throws IOException {
+        var propertyCount = in.readInt();
+        if (propertyCount == 0) {
+            return Optional.empty();
+        }
+        var properties = new LinkedHashMap<String, RelationshipProperty>();
+        for (int i = 0; i < propertyCount; i++) {
+            var key = in.readString();
+            var elementCount = in.readLong();
+            var defaultPropertyValue = in.readDouble();
+            var degrees = readDegrees();
+            var offsets = readOffsets();
+            var pages = readLongPages();
+            var values = ImmutableProperties.of(
+                new UncompressedAdjacencyList(pages, degrees, offsets),
+                elementCount,
+                defaultPropertyValue
+            );
+            properties.put(key, ImmutableRelationshipProperty.of(values, schemaEntry.properties().get(key)));
+        }
+        return Optional.of(RelationshipPropertyStore.builder().relationshipProperties(properties).build());
+    }
+
+    private AdjacencyList readAdjacencyList() throws IOException {
+        var kind = in.readByte();
+        var degrees = readDegrees();
+        var offsets = readOffsets();
+        switch (kind) {
+            case SnapshotFormat.COMPRESSED_ADJACENCY_LIST:
+                return new CompressedAdjacencyList(readBytePages(), degrees, offsets);
+            case SnapshotFormat.UNCOMPRESSED_ADJACENCY_LIST:
+                return new UncompressedAdjacencyList(readLongPages(), degrees, offsets);
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown adjacency list kind %d.", kind));
+        }
+    }
+
+    private HugeIntArray readDegrees() throws IOException {
+        var degrees = HugeIntArray.newArray(in.readLong());
+        if (degrees.size() > 0) {
+            try (HugeCursor<int[]> cursor = degrees.initCursor(degrees.newCursor())) {
+                while (cursor.next()) {
+                    in.readInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+        return degrees;
+    }
+
+    private HugeLongArray readOffsets() throws IOException {
+        var offsets = HugeLongArray.newArray(in.readLong());
+        readLongs(offsets);
+        return offsets;
+    }
+
+    private void readLongs(HugeLongArray values) throws IOException {
+        if (values.size() > 0) {
+            try (HugeCursor<long[]> cursor = values.initCursor(values.newCursor())) {
+                while (cursor.next()) {
+                    in.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+    }
+
+    private byte[][] readBytePages() throws IOException {
+        var pages = new byte[in.readInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            var length = in.readInt();
+            if (length != SnapshotFormat.NULL_LENGTH) {
+                pages[i] = new byte[length];
+                in.readBytes(pages[i], 0, length);
+            }
+        }
+        return pages;
+    }
+
+    private long[][] readLongPages() throws IOException {
+        var pages = new long[in.readInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = readLongArray();
+        }
+        return pages;
+    }
+
+    private PropertySchema readPropertySchema() throws IOException {
+        var key = in.readString();
+        var valueType = ValueType.valueOf(in.readString());
+        var defaultValue = readDefaultValue();
+        var state = PropertyState.valueOf(in.readString());
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private RelationshipPropertySchema readRelationshipPropertySchema() throws IOException {
+        var propertySchema = readPropertySchema();
+        var aggregation = Aggregation.valueOf(in.readString());
+        return RelationshipPropertySchema.of(
+            propertySchema.key(),
+            propertySchema.valueType(),
+            propertySchema.defaultValue(),
+            propertySchema.state(),
+            aggregation
+        );
+    }
+
+    private DefaultValue readDefaultValue() throws IOException {
+        var isUserDefined = in.readBoolean();
+        var tag = in.readByte();
+        Object value;
+        switch (tag) {
+            case SnapshotFormat.NULL_VALUE:
+                value = null;
+                break;
+            case SnapshotFormat.LONG_VALUE:
+                value = in.readLong();
+                break;
+            case SnapshotFormat.DOUBLE_VALUE:
+                value = in.readDouble();
+                break;
+            case SnapshotFormat.INT_VALUE:
+                value = in.readInt();
+                break;
+            case SnapshotFormat.FLOAT_VALUE:
+                value = in.readFloat();
+                break;
+            case SnapshotFormat.LONG_ARRAY_VALUE:
+                value = readLongArray();
+                break;
+            case SnapshotFormat.DOUBLE_ARRAY_VALUE:
+                value = readDoubleArray();
+                break;
+            case SnapshotFormat.FLOAT_ARRAY_VALUE:
+                value = readFloatArray();
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown default value tag %d.", tag));
+        }
+        return DefaultValue.of(value, isUserDefined);
+    }
+
+    private long[] readLongArray() throws IOException {
+        var length = in.readInt();
+        if (length == SnapshotFormat.NULL_LENGTH) {
+            return null;
+        }
+        var values = new long[length];
+        in.readLongs(values, 0, length);
+        return values;
+    }
+
+    private double[] readDoubleArray() throws IOException {
+        var length = in.readInt();
+        if (length == SnapshotFormat.NULL_LENGTH) {
+            return null;
+        }
+        var values = new double[length];
+        in.readDoubles(values, 0, length);
+        return values;
+    }
+
+    private float[] readFloatArray() throws IOException {
+        var length = in.readInt();
+        if (length == SnapshotFormat.NULL_LENGTH) {
+            return null;
+        }
+        var values = new float[length];
+        in.readFloats(values, 0, length);
+        return values;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public final class GraphStoreSnapshotSettings implements SettingsDeclaration {
+
+    @Description("Sets the location for binary snapshots of the graph catalog.")
+    public static final Setting<Path> snapshot_location_setting = newBuilder(
+        "gds.snapshot.location",
+        PATH,
+        null
+    ).build();
+
+    @Description("Write a snapshot of every graph in the graph catalog when the DBMS shuts down.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> snapshot_on_shutdown_setting = newBuilder(
+        "gds.snapshot.write_on_shutdown",
+        BOOL,
+        false
+    ).build();
+
+    @Description("Restore the graph catalog from the snapshot location when the DBMS starts.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> restore_on_startup_setting = newBuilder(
+        "gds.snapshot.restore_on_startup",
+        BOOL,
+        false
+    ).build();
+}
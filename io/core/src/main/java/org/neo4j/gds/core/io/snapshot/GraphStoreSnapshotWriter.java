@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into a binary snapshot file.
+ * <p>
+ * Adjacency lists and relationship properties are written page by page as they are held in memory,
+ * which allows {@link GraphStoreSnapshotReader} to restore them without re-building or re-compressing.
+ * The id map is stored as its mapped-to-original id array, from which the reader derives the
+ * reverse mapping with the same mapped ids.
+ */
+public final class GraphStoreSnapshotWriter {
+
+    private final SnapshotOutput out;
+
+    private GraphStoreSnapshotWriter(SnapshotOutput out) {
+        this.out = out;
+    }
+
+    public static void write(String userName, String graphName, GraphStore graphStore, Path file) {
+        validate(graphStore);
+        try (var out = new SnapshotOutput(file)) {
+            var writer = new GraphStoreSnapshotWriter(out);
+            writer.writeHeader(userName, graphName, graphStore);
+            writer.writeNodes(graphStore);
+            writer.writeRelationships((CSRGraphStore) graphStore);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void validate(GraphStore graphStore) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots are only supported for `%s`, but got `%s`.",
+                CSRGraphStore.class.getSimpleName(),
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Snapshots do not support graph properties.");
+        }
+    }
+
+    private void writeHeader(String userName, String graphName, GraphStore graphStore) throws IOException {
+        out.writeLong(SnapshotFormat.MAGIC);
+        out.writeInt(SnapshotFormat.VERSION);
+        out.writeString(graphStore.databaseId().databaseName());
+        out.writeString(userName);
+        out.writeString(graphName);
+        out.writeString(graphStore.capabilities().writeMode().name());
+    }
+
+    private void writeNodes(GraphStore graphStore) throws IOException {
+        var idMap = graphStore.nodes();
+        var nodeCount = idMap.nodeCount();
+
+        out.writeLong(nodeCount);
+        out.writeLong(idMap.highestOriginalId());
+
+        var chunk = new long[SnapshotFormat.CHUNK_SIZE];
+        for (long start = 0; start < nodeCount; start += chunk.length) {
+            int length = (int) Math.min(chunk.length, nodeCount - start);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = idMap.toOriginalNodeId(start + i);
+            }
+            out.writeLongs(chunk, 0, length);
+        }
+
+        writeLabels(idMap);
+        writeNodeSchema(graphStore);
+        writeNodeProperties(graphStore);
+    }
+
+    private void writeLabels(IdMap idMap) throws IOException {
+        var labels = idMap.availableNodeLabels();
+        if (labels.equals(Set.of(NodeLabel.ALL_NODES))) {
+            out.writeInt(0);
+            return;
+        }
+
+        out.writeInt(labels.size());
+        var nodeCount = idMap.nodeCount();
+        var chunk = new long[SnapshotFormat.CHUNK_SIZE];
+        for (var label : labels) {
+            out.writeString(label.name());
+            var wordCount = (nodeCount + Long.SIZE - 1) / Long.SIZE;
+            for (long startWord = 0; startWord < wordCount; startWord += chunk.length) {
+                int length = (int) Math.min(chunk.length, wordCount - startWord);
+                for (int i = 0; i < length; i++) {
+                    long word = 0L;
+                    long base = (startWord + i) * Long.SIZE;
+                    long end = Math.min(nodeCount, base + Long.SIZE);
+                    for (long nodeId = base; nodeId < end; nodeId++) {
+                        if (idMap.hasLabel(nodeId, label)) {
+                            word |= 1L << (nodeId - base);
+                        }
+                    }
+                    chunk[i] = word;
+                }
+                out.writeLongs(chunk, 0, length);
+            }
+        }
+    }
+
+    private void writeNodeSchema(GraphStore graphStore) throws IOException {
+        var entries = graphStore.schema().nodeSchema().entries();
+        out.writeInt(entries.size());
+        for (var entry : entries) {
+            out.writeString(entry.identifier().name());
+            out.writeInt(entry.properties().size());
+            for (var propertySchema : entry.properties().values()) {
+                writePropertySchema(propertySchema);
+            }
+        }
+    }
+
+    private void writeNodeProperties(GraphStore graphStore) throws IOException {
+        var nodeCount = graphStore.nodeCount();
+        var propertyKeys = graphStore.nodePropertyKeys();
+        out.writeInt(propertyKeys.size());
+        for (var propertyKey : propertyKeys) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            writePropertySchema(nodeProperty.propertySchema());
+            writeNodePropertyValues(nodeProperty.values(), nodeCount);
+        }
+    }
+
+    private void writeNodePropertyValues(NodePropertyValues values, long nodeCount) throws IOException {
+        switch (values.valueType()) {
+            case LONG: {
+                var chunk = new long[SnapshotFormat.CHUNK_SIZE];
+                for (long start = 0; start < nodeCount; start += chunk.length) {
+                    int length = (int) Math.min(chunk.length, nodeCount - start);
+                    for (int i = 0; i < length; i++) {
+                        chunk[i] = values.longValue(start + i);
+                    }
+                    out.writeLongs(chunk, 0, length);
+                }
+                break;
+            }
+            case DOUBLE: {
+                var chunk = new double[SnapshotFormat.CHUNK_SIZE];
+                for (long start = 0; start < nodeCount; start += chunk.length) {
+                    int length = (int) Math.min(chunk.length, nodeCount - start);
+                    for (int i = 0; i < length; i++) {
+                        chunk[i] = values.doubleValue(start + i);
+                    }
+                    out.writeDoubles(chunk, 0, length);
+                }
+                break;
+            }
+            case LONG_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeLongArray(values.longArrayValue(nodeId));
+                }
+                break;
+            case DOUBLE_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeDoubleArray(values.doubleArrayValue(nodeId));
+                }
+                break;
+            case FLOAT_ARRAY:
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writeFloatArray(values.floatArrayValue(nodeId));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Snapshots do not support node properties of type `%s`.",
+                    values.valueType()
+                ));
+        }
+    }
+
+    private void writeRelationships(CSRGraphStore graphStore) throws IOException {
+        var relationshipTypes = graphStore.relationshipTypes();
+        out.writeInt(relationshipTypes.size());
+        for (var relationshipType : relationshipTypes) {
+            var relationships = graphStore.relationships(relationshipType).orElseThrow();
+            writeSingleTypeRelationships(relationshipType, relationships);
+        }
+    }
+
+    private void writeSingleTypeRelationships(
+        RelationshipType relationshipType,
+        SingleTypeRelationships relationships
+    ) throws IOException {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        out.writeString(relationshipType.name());
+        out.writeString(schemaEntry.direction().name());
+
+        out.writeInt(schemaEntry.properties().size());
+        for (var propertySchema : schemaEntry.properties().values()) {
+            writeRelationshipPropertySchema(propertySchema);
+        }
+
+        writeTopology(relationships.topology());
+        writeRelationshipProperties(relationships.properties());
+
+        var inverseTopology = relationships.inverseTopology();
+        out.writeBoolean(inverseTopology.isPresent());
+        if (inverseTopology.isPresent()) {
+            writeTopology(inverseTopology.get());
+            writeRelationshipProperties(relationships.inverseProperties());
+        }
+    }
+
+    private void writeTopology(Topology topology) throws IOException {
+        out.writeLong(topology.elementCount());
+        out.writeBoolean(topology.isMultiGraph());
+        writeAdjacencyList(topology.adjacencyList());
+    }
+
+    private void writeRelationshipProperties(Optional<RelationshipPropertyStore> properties) throws IOException {
+        if (properties.isEmpty()) {
+            out.writeInt(0);
+            return;
+        }
+        var relationshipProperties = properties.get().relationshipProperties();
+        out.writeInt(relationshipProperties.size());
+        for (var relationshipProperty : relationshipProperties.values()) {
+            var values = relationshipProperty.values();
+            out.writeString(relationshipProperty.key());
+            out.writeLong(values.elementCount());
+            out.writeDouble(values.defaultPropertyValue());
+            writeAdjacencyProperties(values.propertiesList());
+        }
+    }
+
+    private void writeAdjacencyList(AdjacencyList adjacencyList) throws IOException {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            var compressed = (CompressedAdjacencyList) adjacencyList;
+            out.writeByte(SnapshotFormat.COMPRESSED_ADJACENCY_LIST);
+            writeDegreesAndOffsets(compressed.degrees(), compressed.offsets());
+            writeBytePages(compressed.pages());
+        } else if (adjacencyList instanceof UncompressedAdjacencyList) {
+            var uncompressed = (UncompressedAdjacencyList) adjacencyList;
+            out.writeByte(SnapshotFormat.UNCOMPRESSED_ADJACENCY_LIST);
+            writeDegreesAndOffsets(uncompressed.degrees(), uncompressed.offsets());
+            writeLongPages(uncompressed.pages());
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots do not support adjacency lists of type `%s`.",
+                adjacencyList.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private void writeAdjacencyProperties(AdjacencyProperties adjacencyProperties) throws IOException {
+        if (!(adjacencyProperties instanceof UncompressedAdjacencyList)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots do not support relationship properties of type `%s`.",
+                adjacencyProperties.getClass().getSimpleName()
+            ));
+        }
+        var uncompressed = (UncompressedAdjacencyList) adjacencyProperties;
+        writeDegreesAndOffsets(uncompressed.degrees(), uncompressed.offsets());
+        writeLongPages(uncompressed.pages());
+    }
+
+    private void writeDegreesAndOffsets(HugeIntArray degrees, HugeLongArray offsets) throws IOException {
+        out.writeLong(degrees.size());
+        if (degrees.size() > 0) {
+            try (HugeCursor<int[]> cursor = degrees.initCursor(degrees.newCursor())) {
+                while (cursor.next()) {
+                    out.writeInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+        out.writeLong(offsets.size());
+        if (offsets.size() > 0) {
+            try (HugeCursor<long[]> cursor = offsets.initCursor(offsets.newCursor())) {
+                while (cursor.next()) {
+                    out.writeLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+    }
+
+    private void writeBytePages(byte[][] pages) throws IOException {
+        out.writeInt(pages.length);
+        for (var page : pages) {
+            if (page == null) {
+                out.writeInt(SnapshotFormat.NULL_LENGTH);
+            } else {
+                out.writeInt(page.length);
+                out.writeBytes(page, 0, page.length);
+            }
+        }
+    }
+
+    private void writeLongPages(long[][] pages) throws IOException {
+        out.writeInt(pages.length);
+        for (var page : pages) {
+            writeLongArray(page);
+        }
+    }
+
+    private void writePropertySchema(PropertySchema propertySchema) throws IOException {
+        out.writeString(propertySchema.key());
+        out.writeString(propertySchema.valueType().name());
+        writeDefaultValue(propertySchema.defaultValue());
+        out.writeString(propertySchema.state().name());
+    }
+
+    private void writeRelationshipPropertySchema(RelationshipPropertySchema propertySchema) throws IOException {
+        writePropertySchema(propertySchema);
+        out.writeString(propertySchema.aggregation().name());
+    }
+
+    private void writeDefaultValue(DefaultValue defaultValue) throws IOException {
+        out.writeBoolean(defaultValue.isUserDefined());
+        var value = defaultValue.getObject();
+        if (value == null) {
+            out.writeByte(SnapshotFormat.NULL_VALUE);
+        } else if (value instanceof Long) {
+            out.writeByte(SnapshotFormat.LONG_VALUE);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(SnapshotFormat.DOUBLE_VALUE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(SnapshotFormat.INT_VALUE);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Float) {
+            out.writeByte(SnapshotFormat.FLOAT_VALUE);
+            out.writeFloat((Float) value);
+        } else if (value instanceof long[]) {
+            out.writeByte(SnapshotFormat.LONG_ARRAY_VALUE);
+            writeLongArray((long[]) value);
+        } else if (value instanceof double[]) {
+            out.writeByte(SnapshotFormat.DOUBLE_ARRAY_VALUE);
+            writeDoubleArray((double[]) value);
+        } else if (value instanceof float[]) {
+            out.writeByte(SnapshotFormat.FLOAT_ARRAY_VALUE);
+            writeFloatArray((float[]) value);
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots do not support default values of type `%s`.",
+                value.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private void writeLongArray(long[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(SnapshotFormat.NULL_LENGTH);
+        } else {
+            out.writeInt(values.length);
+            out.writeLongs(values, 0, values.length);
+        }
+    }
+
+    private void writeDoubleArray(double[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(SnapshotFormat.NULL_LENGTH);
+        } else {
+            out.writeInt(values.length);
+            out.writeDoubles(values, 0, values.length);
+        }
+    }
+
+    private void writeFloatArray(float[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(SnapshotFormat.NULL_LENGTH);
+        } else {
+            out.writeInt(values.length);
+            out.writeFloats(values, 0, values.length);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Persists the entries of the {@link GraphStoreCatalog} as binary snapshots and restores them.
+ * Every catalog entry is written to its own file within the snapshot directory.
+ */
+public final class GraphStoreSnapshots {
+
+    private GraphStoreSnapshots() {}
+
+    /**
+     * Writes a snapshot for every graph in the catalog into the given directory.
+     * Snapshots of graphs that are no longer in the catalog are removed.
+     * If writing the snapshot of a graph fails, its previous snapshot is kept.
+     *
+     * @return the number of written snapshots
+     */
+    public static int persistCatalog(Path directory, Log log) {
+        createDirectories(directory);
+
+        var catalogued = new HashSet<Path>();
+        int written = 0;
+        for (var entry : GraphStoreCatalog.getAllGraphStores().collect(Collectors.toList())) {
+            var graphName = entry.config().graphName();
+            catalogued.add(snapshotFile(entry.userName(), graphName, entry.graphStore(), directory));
+            try {
+                persist(entry.userName(), graphName, entry.graphStore(), directory);
+                written++;
+            } catch (RuntimeException e) {
+                log.warn(formatWithLocale(
+                    "Could not write snapshot for graph `%s`, keeping its previous snapshot: %s",
+                    graphName,
+                    e.getMessage()
+                ));
+            }
+        }
+
+        for (var snapshotFile : snapshotFiles(directory)) {
+            if (!catalogued.contains(snapshotFile)) {
+                deleteIfExists(snapshotFile);
+            }
+        }
+
+        log.info(formatWithLocale("Wrote %d graph snapshots to `%s`", written, directory));
+        return written;
+    }
+
+    /**
+     * Writes a snapshot of a single graph into the given directory.
+     * The file is written next to its final location and moved into place once complete,
+     * so that an interrupted write never replaces an existing snapshot.
+     *
+     * @return the path of the written snapshot file
+     */
+    public static Path persist(String userName, String graphName, GraphStore graphStore, Path directory) {
+        var snapshotFile = snapshotFile(userName, graphName, graphStore, directory);
+        var tempFile = directory.resolve(snapshotFile.getFileName() + ".tmp");
+        try {
+            GraphStoreSnapshotWriter.write(userName, graphName, graphStore, tempFile);
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteIfExists(tempFile);
+        }
+        return snapshotFile;
+    }
+
+    /**
+     * Restores all snapshots in the given directory into the catalog.
+     * Graphs that already exist in the catalog are left untouched.
+     *
+     * @return the number of restored graphs
+     */
+    public static int restoreCatalog(Path directory, int concurrency, Log log) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        int restored = 0;
+        for (var snapshotFile : snapshotFiles(directory)) {
+            try {
+                if (restore(snapshotFile, concurrency)) {
+                    restored++;
+                }
+            } catch (RuntimeException e) {
+                log.warn(formatWithLocale("Could not restore snapshot `%s`: %s", snapshotFile, e.getMessage()));
+            }
+        }
+
+        log.info(formatWithLocale("Restored %d graphs from snapshots in `%s`", restored, directory));
+        return restored;
+    }
+
+    /**
+     * Restores a single snapshot into the catalog.
+     * The catalog entry is registered with an empty projection configuration,
+     * since the original configuration is not part of the snapshot.
+     *
+     * @return {@code true} if the graph has been added, {@code false} if a graph with the same name already exists
+     */
+    public static boolean restore(Path snapshotFile, int concurrency) {
+        var snapshot = GraphStoreSnapshotReader.read(snapshotFile, concurrency);
+        var graphStore = snapshot.graphStore();
+        if (GraphStoreCatalog.exists(snapshot.userName(), graphStore.databaseId(), snapshot.graphName())) {
+            return false;
+        }
+        var config = GraphProjectFromStoreConfig.emptyWithName(snapshot.userName(), snapshot.graphName());
+        GraphStoreCatalog.set(config, graphStore);
+        return true;
+    }
+
+    private static Path snapshotFile(String userName, String graphName, GraphStore graphStore, Path directory) {
+        return directory.resolve(fileName(userName, graphStore.databaseId().databaseName(), graphName));
+    }
+
+    static String fileName(String userName, String databaseName, String graphName) {
+        return encode(databaseName) + "." + encode(userName) + "." + encode(graphName) + SnapshotFormat.FILE_EXTENSION;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace(".", "%2E").replace("*", "%2A");
+    }
+
+    private static List<Path> snapshotFiles(Path directory) {
+        try (var files = Files.list(directory)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> file.getFileName().toString().endsWith(SnapshotFormat.FILE_EXTENSION))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+/**
+ * Constants describing the layout of a graph store snapshot file.
+ * <p>
+ * A snapshot consists of a header (magic bytes, format version, database, user and graph name),
+ * followed by the node section (original ids, label bit sets, node schema and node property values)
+ * and the relationship section (per relationship type: schema, adjacency list pages, degrees, offsets
+ * and relationship property pages, optionally followed by the inverse index).
+ * All values are stored in little endian byte order.
+ */
+final class SnapshotFormat {
+
+    // "GDSSNAPS" in ASCII
+    static final long MAGIC = 0x5350414E53534447L;
+
+    static final int VERSION = 1;
+
+    static final String FILE_EXTENSION = ".gdss";
+
+    static final byte COMPRESSED_ADJACENCY_LIST = 0;
+    static final byte UNCOMPRESSED_ADJACENCY_LIST = 1;
+
+    static final byte NULL_VALUE = 0;
+    static final byte LONG_VALUE = 1;
+    static final byte DOUBLE_VALUE = 2;
+    static final byte INT_VALUE = 3;
+    static final byte FLOAT_VALUE = 4;
+    static final byte LONG_ARRAY_VALUE = 5;
+    static final byte DOUBLE_ARRAY_VALUE = 6;
+    static final byte FLOAT_ARRAY_VALUE = 7;
+
+    static final int NULL_LENGTH = -1;
+
+    static final int CHUNK_SIZE = 1 << 14;
+
+    private SnapshotFormat() {}
+}
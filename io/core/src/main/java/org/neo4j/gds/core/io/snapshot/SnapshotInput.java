@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary reader for snapshot files.
+ * The file is memory-mapped in segments of at most {@link #SEGMENT_SIZE} bytes
+ * and primitive arrays are copied in bulk from the mapped segment.
+ */
+final class SnapshotInput implements AutoCloseable {
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long fileSize;
+
+    private MappedByteBuffer segment;
+    private long segmentStart;
+
+    SnapshotInput(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.segmentStart = 0;
+        this.segment = map(0);
+    }
+
+    byte readByte() throws IOException {
+        ensureAvailable(Byte.BYTES);
+        return segment.get();
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    int readInt() throws IOException {
+        ensureAvailable(Integer.BYTES);
+        return segment.getInt();
+    }
+
+    long readLong() throws IOException {
+        ensureAvailable(Long.BYTES);
+        return segment.getLong();
+    }
+
+    float readFloat() throws IOException {
+        ensureAvailable(Float.BYTES);
+        return segment.getFloat();
+    }
+
+    double readDouble() throws IOException {
+        ensureAvailable(Double.BYTES);
+        return segment.getDouble();
+    }
+
+    String readString() throws IOException {
+        var bytes = new byte[readInt()];
+        readBytes(bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void readBytes(byte[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Byte.BYTES);
+            int chunk = Math.min(length, segment.remaining());
+            segment.get(values, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readInts(int[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Integer.BYTES);
+            int chunk = Math.min(length, segment.remaining() / Integer.BYTES);
+            segment.asIntBuffer().get(values, offset, chunk);
+            segment.position(segment.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readLongs(long[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Long.BYTES);
+            int chunk = Math.min(length, segment.remaining() / Long.BYTES);
+            segment.asLongBuffer().get(values, offset, chunk);
+            segment.position(segment.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readFloats(float[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Float.BYTES);
+            int chunk = Math.min(length, segment.remaining() / Float.BYTES);
+            segment.asFloatBuffer().get(values, offset, chunk);
+            segment.position(segment.position() + chunk * Float.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readDoubles(double[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureAvailable(Double.BYTES);
+            int chunk = Math.min(length, segment.remaining() / Double.BYTES);
+            segment.asDoubleBuffer().get(values, offset, chunk);
+            segment.position(segment.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+
+    private void ensureAvailable(int bytes) throws IOException {
+        if (segment.remaining() < bytes) {
+            long position = segmentStart + segment.position();
+            if (fileSize - position < bytes) {
+                throw new EOFException("Unexpected end of snapshot file after " + position + " bytes.");
+            }
+            segmentStart = position;
+            segment = map(position);
+        }
+    }
+
+    private MappedByteBuffer map(long position) throws IOException {
+        long length = Math.min(SEGMENT_SIZE, fileSize - position);
+        var mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+}
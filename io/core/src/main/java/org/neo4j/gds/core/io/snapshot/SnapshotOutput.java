@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered binary writer for snapshot files.
+ * Primitive arrays are copied in bulk through a direct buffer,
+ * so that pages of huge arrays and adjacency lists end up on disk as they are in memory.
+ */
+final class SnapshotOutput implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    SnapshotOutput(Path file) throws IOException {
+        this.channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    void writeByte(byte value) throws IOException {
+        ensureCapacity(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeFloat(float value) throws IOException {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeString(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    void writeBytes(byte[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Byte.BYTES);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(values, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeInts(int[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeLongs(long[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeFloats(float[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Float.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Float.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeDoubles(double[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
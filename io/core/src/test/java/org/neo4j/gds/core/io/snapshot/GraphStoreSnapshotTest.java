@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreSnapshotTest {
+
+    @GdlGraph(idOffset = 42, indexInverse = true)
+    static String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {long: 42L, doubleArray: [1.0, 2.0]})" +
+        ", (b:A:B {long: 43L, doubleArray: [3.0, 4.0]})" +
+        ", (c:B {double: 13.37D, floatArray: [1.0F]})" +
+        ", (d:C {longArray: [1L, 2L, 3L]})" +
+        ", (a)-[:R {weight: 1.0D, cost: 2.0D}]->(b)" +
+        ", (a)-[:R {weight: 3.0D, cost: 4.0D}]->(c)" +
+        ", (b)-[:R {weight: 5.0D, cost: 6.0D}]->(c)" +
+        ", (c)-[:S]->(d)" +
+        ", (d)-[:S]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldRoundTripGraphStore() {
+        var file = tempDir.resolve("graph" + SnapshotFormat.FILE_EXTENSION);
+        GraphStoreSnapshotWriter.write("alice", "g", graphStore, file);
+
+        var snapshot = GraphStoreSnapshotReader.read(file, 4);
+
+        assertThat(snapshot.userName()).isEqualTo("alice");
+        assertThat(snapshot.graphName()).isEqualTo("g");
+        assertRestored(snapshot.graphStore());
+    }
+
+    @Test
+    void shouldRoundTripUncompressedAdjacencyLists() {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() -> {
+            var uncompressedGraphStore = GdlFactory.of(DB_CYPHER).build();
+
+            var file = tempDir.resolve("uncompressed" + SnapshotFormat.FILE_EXTENSION);
+            GraphStoreSnapshotWriter.write("", "g", uncompressedGraphStore, file);
+
+            var restored = GraphStoreSnapshotReader.read(file, 4).graphStore();
+            assertGraphEquals(uncompressedGraphStore.getUnion(), restored.getUnion());
+        });
+    }
+
+    @Test
+    void shouldRoundTripWithOffHeapArrays() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            var offHeapGraphStore = GdlFactory.of(DB_CYPHER).build();
+
+            var file = tempDir.resolve("offHeap" + SnapshotFormat.FILE_EXTENSION);
+            GraphStoreSnapshotWriter.write("", "g", offHeapGraphStore, file);
+
+            var restored = GraphStoreSnapshotReader.read(file, 4).graphStore();
+            assertGraphEquals(offHeapGraphStore.getUnion(), restored.getUnion());
+            assertGraphEquals(graphStore.getUnion(), restored.getUnion());
+        });
+    }
+
+    @Test
+    void shouldPersistAndRestoreCatalog() {
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("alice", "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("bob", "g.2"), graphStore);
+
+        assertThat(GraphStoreSnapshots.persistCatalog(tempDir, NullLog.getInstance())).isEqualTo(2);
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        assertThat(GraphStoreSnapshots.restoreCatalog(tempDir, 4, NullLog.getInstance())).isEqualTo(2);
+
+        var databaseId = graphStore.databaseId();
+        assertRestored(GraphStoreCatalog.get("alice", databaseId, "g1").graphStore());
+        assertRestored(GraphStoreCatalog.get("bob", databaseId, "g.2").graphStore());
+
+        // graphs already present in the catalog are not replaced
+        assertThat(GraphStoreSnapshots.restoreCatalog(tempDir, 4, NullLog.getInstance())).isEqualTo(0);
+    }
+
+    @Test
+    void shouldRemoveSnapshotsOfDroppedGraphs() throws Exception {
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("alice", "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("alice", "g2"), graphStore);
+        GraphStoreSnapshots.persistCatalog(tempDir, NullLog.getInstance());
+
+        GraphStoreCatalog.remove(CatalogRequest.of("alice", graphStore.databaseId()), "g2", removed -> {}, true);
+        GraphStoreSnapshots.persistCatalog(tempDir, NullLog.getInstance());
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.map(file -> file.getFileName().toString())).containsExactly(
+                GraphStoreSnapshots.fileName("alice", graphStore.databaseId().databaseName(), "g1")
+            );
+        }
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotIfWritingFails() throws Exception {
+        var failingGraphStore = GdlFactory.of(DB_CYPHER).build();
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("alice", "g1"), failingGraphStore);
+        assertThat(GraphStoreSnapshots.persistCatalog(tempDir, NullLog.getInstance())).isEqualTo(1);
+
+        var snapshotFile = tempDir.resolve(
+            GraphStoreSnapshots.fileName("alice", failingGraphStore.databaseId().databaseName(), "g1")
+        );
+        var previousSnapshot = Files.readAllBytes(snapshotFile);
+
+        // graph properties are not supported by snapshots
+        failingGraphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 42);
+            }
+
+            @Override
+            public long valueCount() {
+                return 42;
+            }
+        });
+        assertThat(GraphStoreSnapshots.persistCatalog(tempDir, NullLog.getInstance())).isEqualTo(0);
+
+        assertThat(Files.readAllBytes(snapshotFile)).isEqualTo(previousSnapshot);
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNoSnapshots() throws Exception {
+        var file = Files.writeString(tempDir.resolve("foo" + SnapshotFormat.FILE_EXTENSION), "not a snapshot");
+
+        assertThatThrownBy(() -> GraphStoreSnapshotReader.read(file, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not a graph store snapshot");
+    }
+
+    private void assertRestored(GraphStore restored) {
+        assertThat(restored.databaseId()).isEqualTo(graphStore.databaseId());
+        assertThat(restored.schema()).isEqualTo(graphStore.schema());
+        assertThat(restored.nodeCount()).isEqualTo(graphStore.nodeCount());
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(restored.nodes().toOriginalNodeId(nodeId)).isEqualTo(graphStore.nodes().toOriginalNodeId(nodeId));
+            assertThat(restored.nodes().nodeLabels(nodeId)).containsExactlyInAnyOrderElementsOf(graphStore.nodes().nodeLabels(nodeId));
+        }
+        assertThat(restored.inverseIndexedRelationshipTypes()).isEqualTo(graphStore.inverseIndexedRelationshipTypes());
+
+        assertGraphEquals(graphStore.getUnion(), restored.getUnion());
+        for (var label : List.of(NodeLabel.of("A"), NodeLabel.of("B"), NodeLabel.of("C"))) {
+            assertGraphEquals(graphStore.getGraph(label), restored.getGraph(label));
+        }
+        var relationshipType = RelationshipType.of("R");
+        var expected = graphStore.getGraph(relationshipType, Optional.of("cost"));
+        var actual = restored.getGraph(relationshipType, Optional.of("cost"));
+        assertGraphEquals(expected, actual);
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(actual.degreeInverse(nodeId)).isEqualTo(expected.degreeInverse(nodeId));
+        }
+    }
+}
@@ -48,6 +48,11 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.graph.nodeLabel.mutate",
         "gds.alpha.graph.nodeLabel.write",
 
+        "gds.alpha.graph.nodeProperties.quantize",
+        "gds.alpha.graph.nodeProperties.quantize.estimate",
+
+        "gds.alpha.graph.relationships.applyDelta",
+
         "gds.alpha.graph.sample.rwr",
         "gds.alpha.graph.sample.cnarw",
 
@@ -69,6 +74,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.conductance.stream",
 
+        "gds.alpha.contractionHierarchy.build",
+
         "gds.beta.closeness.mutate",
         "gds.beta.closeness.stats",
         "gds.beta.closeness.stream",
@@ -100,6 +107,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.knn.filtered.stream",
         "gds.alpha.knn.filtered.write",
 
+        "gds.alpha.hnsw.build",
+        "gds.alpha.hnsw.query",
+
         "gds.alpha.maxkcut.mutate",
         "gds.alpha.maxkcut.mutate.estimate",
         "gds.alpha.maxkcut.stream",
@@ -561,7 +571,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 406;
+        int expectedCount = 412;
         assertEquals(
             expectedCount,
             returnedRows,
@@ -25,6 +25,9 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,6 +53,12 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    /**
+     * The nodes to visit in the current superstep. If absent,
+     * all nodes of the batch are visited in every superstep.
+     */
+    Optional<Frontier> frontier();
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -59,8 +68,9 @@ public interface ComputeStep<
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +82,20 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+
+                // nodes that did not vote to halt stay active in the next superstep
+                if (frontier.isPresent() && !voteBits.get(nodeId)) {
+                    frontier.get().add(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier.isEmpty() || computeContext.isInitialSuperstep()) {
+            nodeBatch.consume(computeNode);
+        } else {
+            long startNode = nodeBatch.startNode();
+            frontier.get().forEachNode(startNode, startNode + nodeBatch.nodeCount(), computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
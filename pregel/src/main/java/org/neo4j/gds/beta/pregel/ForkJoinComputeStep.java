@@ -28,6 +28,7 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.BitUtil;
 
+import java.util.Optional;
 import java.util.concurrent.CountedCompleter;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -48,6 +49,7 @@ public final class ForkJoinComputeStep<
     private final COMPUTE_CONTEXT computeContext;
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
+    private final Optional<Frontier> frontier;
     private final Messenger<ITERATOR> messenger;
     private Partition nodeBatch;
     private final MutableInt iteration;
@@ -64,6 +66,7 @@ public final class ForkJoinComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
@@ -75,6 +78,7 @@ public final class ForkJoinComputeStep<
         this.computeContextSupplier = computeContextSupplier;
         this.iteration = iteration;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
@@ -108,6 +112,7 @@ public final class ForkJoinComputeStep<
                 nodeValue,
                 messenger,
                 voteBits,
+                frontier,
                 this,
                 hasSentMessage,
                 progressTracker
@@ -170,4 +175,9 @@ public final class ForkJoinComputeStep<
     public ProgressTracker progressTracker() {
         return progressTracker;
     }
+
+    @Override
+    public Optional<Frontier> frontier() {
+        return frontier;
+    }
 }
@@ -49,10 +49,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -63,6 +64,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     public void initIteration(int iteration) {
+        advanceFrontier();
         this.sentMessage = new AtomicBoolean(false);
         MutableInt mutableIteration = new MutableInt(iteration);
         Partition partition = Partition.of(0, graph.nodeCount());
@@ -123,6 +125,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -164,6 +167,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the nodes that need to be visited in the next superstep.
+ * A node is part of the frontier if it received a message or if it
+ * did not vote to halt in the current superstep.
+ *
+ * In addition to the per-node bits, the frontier keeps one bit per
+ * block of {@code 2^BLOCK_SHIFT} consecutive node ids. Blocks without
+ * active nodes are skipped as a whole, which allows compute steps to
+ * skip their partition without touching any of its nodes.
+ */
+public final class Frontier {
+
+    static final int BLOCK_SHIFT = 12;
+    private static final long BLOCK_SIZE = 1L << BLOCK_SHIFT;
+
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+    private HugeAtomicBitSet currentBlocks;
+    private HugeAtomicBitSet nextBlocks;
+
+    static Frontier create(long nodeCount) {
+        var blockCount = blockCount(nodeCount);
+        return new Frontier(
+            HugeAtomicBitSet.create(nodeCount),
+            HugeAtomicBitSet.create(nodeCount),
+            HugeAtomicBitSet.create(blockCount),
+            HugeAtomicBitSet.create(blockCount)
+        );
+    }
+
+    private Frontier(
+        HugeAtomicBitSet current,
+        HugeAtomicBitSet next,
+        HugeAtomicBitSet currentBlocks,
+        HugeAtomicBitSet nextBlocks
+    ) {
+        this.current = current;
+        this.next = next;
+        this.currentBlocks = currentBlocks;
+        this.nextBlocks = nextBlocks;
+    }
+
+    /**
+     * Schedules the given node for the next superstep.
+     * Can be called concurrently.
+     */
+    void add(long nodeId) {
+        next.set(nodeId);
+        long block = nodeId >>> BLOCK_SHIFT;
+        // most calls hit an already active block, avoid the CAS in that case
+        if (!nextBlocks.get(block)) {
+            nextBlocks.set(block);
+        }
+    }
+
+    /**
+     * Makes the nodes scheduled so far the frontier of the upcoming
+     * superstep. Must not be called concurrently with any other method.
+     */
+    void advance() {
+        var tmp = current;
+        current = next;
+        next = tmp;
+        next.clear();
+
+        tmp = currentBlocks;
+        currentBlocks = nextBlocks;
+        nextBlocks = tmp;
+        nextBlocks.clear();
+    }
+
+    boolean contains(long nodeId) {
+        return current.get(nodeId);
+    }
+
+    /**
+     * Calls the consumer for every node in [startNode, endNode) that is
+     * part of the current frontier, in ascending order. Blocks without
+     * active nodes are skipped, a range that does not overlap any active
+     * block is therefore not iterated at all.
+     */
+    void forEachNode(long startNode, long endNode, LongConsumer consumer) {
+        if (startNode >= endNode) {
+            return;
+        }
+        long lastBlock = (endNode - 1) >>> BLOCK_SHIFT;
+        for (long block = startNode >>> BLOCK_SHIFT; block <= lastBlock; block++) {
+            if (!currentBlocks.get(block)) {
+                continue;
+            }
+            long blockStart = Math.max(startNode, block << BLOCK_SHIFT);
+            long blockEnd = Math.min(endNode, (block << BLOCK_SHIFT) + BLOCK_SIZE);
+            for (long nodeId = blockStart; nodeId < blockEnd; nodeId++) {
+                if (current.get(nodeId)) {
+                    consumer.accept(nodeId);
+                }
+            }
+        }
+    }
+
+    private static long blockCount(long nodeCount) {
+        return BitUtil.ceilDiv(nodeCount, BLOCK_SIZE);
+    }
+}
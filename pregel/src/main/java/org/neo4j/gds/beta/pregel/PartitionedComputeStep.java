@@ -27,6 +27,8 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
+
 public final class PartitionedComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -42,6 +44,7 @@ public final class PartitionedComputeStep<
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final Optional<Frontier> frontier;
 
     private final MutableInt iteration;
     private final MutableBoolean hasSentMessage;
@@ -56,6 +59,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -68,6 +72,7 @@ public final class PartitionedComputeStep<
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
         this.iteration = iteration;
         this.hasSentMessage = hasSentMessage;
@@ -124,6 +129,11 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public Optional<Frontier> frontier() {
+        return frontier;
+    }
+
     void init(int iteration) {
         this.iteration.setValue(iteration);
         hasSentMessage.setValue(false);
@@ -53,11 +53,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -69,6 +70,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
+        advanceFrontier();
         for (var computeStep : computeSteps) {
             computeStep.init(iteration);
         }
@@ -167,6 +169,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
@@ -210,6 +213,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             iteration,
             hasSentMessages,
             progressTracker
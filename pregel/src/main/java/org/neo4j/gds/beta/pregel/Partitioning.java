@@ -32,7 +32,8 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 public enum Partitioning {
     RANGE,
     DEGREE,
-    AUTO;
+    AUTO,
+    WORK_STEALING;
 
     private static final List<String> VALUES = Arrays
         .stream(Partitioning.values())
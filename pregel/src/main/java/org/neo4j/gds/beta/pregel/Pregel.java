@@ -34,6 +34,7 @@ import org.neo4j.gds.utils.StringJoining;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
@@ -145,12 +146,20 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         var reducer = computation.reducer();
 
-        this.messenger = reducer.isPresent()
+        Messenger<?> messenger = reducer.isPresent()
             ? new ReducingMessenger(graph, config, reducer.get())
             : config.isAsynchronous()
                 ? new AsyncQueueMessenger(graph.nodeCount())
                 : new SyncQueueMessenger(graph.nodeCount());
 
+        Optional<Frontier> frontier = config.useFrontier()
+            ? Optional.of(Frontier.create(graph.nodeCount()))
+            : Optional.empty();
+
+        this.messenger = frontier.isPresent()
+            ? new FrontierMessenger<>(messenger, frontier.get())
+            : messenger;
+
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
@@ -158,6 +167,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 
@@ -36,6 +37,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Optional<Frontier> frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +47,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +56,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
     }
 
@@ -60,6 +64,14 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
 
     abstract void initIteration(int iteration);
 
+    /**
+     * Promotes the nodes that have been scheduled during the
+     * previous superstep to the frontier of the upcoming one.
+     */
+    void advanceFrontier() {
+        frontier.ifPresent(Frontier::advance);
+    }
+
     abstract void runIteration();
 
     abstract boolean hasConverged();
@@ -78,6 +90,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -89,6 +102,20 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 ));
             }
 
+            if (config.partitioning() == Partitioning.WORK_STEALING) {
+                return new WorkStealingComputer<>(
+                    graph,
+                    computation,
+                    config,
+                    nodeValues,
+                    messenger,
+                    voteBits,
+                    frontier,
+                    (ForkJoinPool) executorService,
+                    progressTracker
+                );
+            }
+
             return new ForkJoinComputer<>(
                 graph,
                 computation,
@@ -96,6 +123,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +136,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             config.concurrency(),
             executorService,
             progressTracker
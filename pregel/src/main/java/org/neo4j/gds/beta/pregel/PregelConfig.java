@@ -49,9 +49,21 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * If enabled, supersteps after the initial one only visit nodes that
+     * received a message or did not vote to halt in the previous superstep.
+     * Partitions without any such node are skipped entirely.
+     * With asynchronous messaging, a message that arrives at a node which
+     * is not part of the current frontier is processed in the next superstep.
+     */
+    @Value.Default
+    default boolean useFrontier() {
+        return false;
+    }
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
-        return partitioning() == Partitioning.AUTO;
+        return partitioning() == Partitioning.AUTO || partitioning() == Partitioning.WORK_STEALING;
     }
 }
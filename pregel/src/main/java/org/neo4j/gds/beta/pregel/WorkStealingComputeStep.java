@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A fork-join compute step that operates on a list of pre-computed,
+ * degree-aware chunks instead of splitting its node range in halves.
+ * The chunk list is split recursively until a task holds a single chunk,
+ * idle workers steal the remaining halves. As chunks are bounded by their
+ * total degree, high-degree nodes end up in chunks of their own.
+ */
+public final class WorkStealingComputeStep<
+    CONFIG extends PregelConfig,
+    ITERATOR extends Messages.MessageIterator,
+    INIT_CONTEXT extends InitContext<CONFIG>,
+    COMPUTE_CONTEXT extends ComputeContext<CONFIG>
+    > extends CountedCompleter<Void> implements ComputeStep<CONFIG, ITERATOR, INIT_CONTEXT, COMPUTE_CONTEXT> {
+
+    private final InitFunction<CONFIG, INIT_CONTEXT> initFunction;
+    private final ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction;
+    private final Supplier<INIT_CONTEXT> initContextSupplier;
+    private final Supplier<COMPUTE_CONTEXT> computeContextSupplier;
+    private final COMPUTE_CONTEXT computeContext;
+    private final NodeValue nodeValue;
+    private final HugeAtomicBitSet voteBits;
+    private final Optional<Frontier> frontier;
+    private final Messenger<ITERATOR> messenger;
+    private final List<? extends Partition> chunks;
+    private final int fromChunk;
+    private int toChunk;
+    private final AtomicBoolean hasSentMessage;
+    private final WorkStealingComputer.BusyTime busyTime;
+    private final ProgressTracker progressTracker;
+
+    WorkStealingComputeStep(
+        InitFunction<CONFIG, INIT_CONTEXT> initFunction,
+        ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction,
+        Supplier<INIT_CONTEXT> initContextSupplier,
+        Supplier<COMPUTE_CONTEXT> computeContextSupplier,
+        List<? extends Partition> chunks,
+        int fromChunk,
+        int toChunk,
+        NodeValue nodeValue,
+        Messenger<ITERATOR> messenger,
+        HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
+        @Nullable CountedCompleter<Void> parent,
+        AtomicBoolean sentMessage,
+        WorkStealingComputer.BusyTime busyTime,
+        ProgressTracker progressTracker
+    ) {
+        super(parent);
+        this.initFunction = initFunction;
+        this.computeFunction = computeFunction;
+        this.initContextSupplier = initContextSupplier;
+        this.computeContextSupplier = computeContextSupplier;
+        this.chunks = chunks;
+        this.fromChunk = fromChunk;
+        this.toChunk = toChunk;
+        this.voteBits = voteBits;
+        this.frontier = frontier;
+        this.nodeValue = nodeValue;
+        this.messenger = messenger;
+        this.hasSentMessage = sentMessage;
+        this.busyTime = busyTime;
+        this.progressTracker = progressTracker;
+        this.computeContext = computeContextSupplier.get();
+    }
+
+    @Override
+    public void compute() {
+        while (toChunk - fromChunk > 1) {
+            int pivot = (fromChunk + toChunk) >>> 1;
+
+            var rightTask = new WorkStealingComputeStep<>(
+                initFunction,
+                computeFunction,
+                initContextSupplier,
+                computeContextSupplier,
+                chunks,
+                pivot,
+                toChunk,
+                nodeValue,
+                messenger,
+                voteBits,
+                frontier,
+                this,
+                hasSentMessage,
+                busyTime,
+                progressTracker
+            );
+
+            this.toChunk = pivot;
+
+            addToPendingCount(1);
+            rightTask.fork();
+        }
+
+        if (fromChunk < toChunk) {
+            long start = System.nanoTime();
+            computeBatch();
+            busyTime.record(System.nanoTime() - start);
+            hasSentMessage.compareAndSet(false, computeContext.hasSentMessage());
+        }
+        tryComplete();
+    }
+
+    @Override
+    public HugeAtomicBitSet voteBits() {
+        return voteBits;
+    }
+
+    @Override
+    public InitFunction<CONFIG, INIT_CONTEXT> initFunction() {
+        return initFunction;
+    }
+
+    @Override
+    public ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction() {
+        return computeFunction;
+    }
+
+    @Override
+    public NodeValue nodeValue() {
+        return nodeValue;
+    }
+
+    @Override
+    public Messenger<ITERATOR> messenger() {
+        return messenger;
+    }
+
+    @Override
+    public Partition nodeBatch() {
+        return chunks.get(fromChunk);
+    }
+
+    @Override
+    public INIT_CONTEXT initContext() {
+        return initContextSupplier.get();
+    }
+
+    @Override
+    public COMPUTE_CONTEXT computeContext() {
+        return computeContext;
+    }
+
+    @Override
+    public ProgressTracker progressTracker() {
+        return progressTracker;
+    }
+
+    @Override
+    public Optional<Frontier> frontier() {
+        return frontier;
+    }
+}
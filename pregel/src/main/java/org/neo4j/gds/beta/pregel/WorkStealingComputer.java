@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.beta.pregel.context.InitContext.BidirectionalInitContext;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Runs supersteps on a fork-join pool over fine-grained chunks whose
+ * size is bounded by the number of relationships they contain. Compared
+ * to {@link ForkJoinComputer}, which splits the node range by node count,
+ * chunks containing high-degree nodes are small and can be stolen
+ * independently, which avoids a single straggling thread on power-law graphs.
+ * The busy time of every worker thread is reported after each superstep.
+ */
+public class WorkStealingComputer<CONFIG extends PregelConfig> extends PregelComputer<CONFIG> {
+
+    // number of chunks per thread, more chunks allow for finer balancing
+    static final int CHUNKS_PER_THREAD = 16;
+    // lower bound for the weight of a chunk, similar to the sequential threshold of the ForkJoinComputeStep
+    static final long MIN_CHUNK_WEIGHT = 1000;
+
+    private final ForkJoinPool forkJoinPool;
+    private final BusyTime busyTime;
+
+    private List<? extends Partition> chunks;
+    private int iteration;
+    private AtomicBoolean sentMessage;
+    private WorkStealingComputeStep<CONFIG, ?, ?, ?> rootTask;
+
+    WorkStealingComputer(
+        Graph graph,
+        BasePregelComputation<CONFIG> computation,
+        CONFIG config,
+        NodeValue nodeValues,
+        Messenger<?> messenger,
+        HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
+        ForkJoinPool forkJoinPool,
+        ProgressTracker progressTracker
+    ) {
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
+        this.forkJoinPool = forkJoinPool;
+        this.busyTime = new BusyTime();
+    }
+
+    @Override
+    public void initComputation() {
+        this.chunks = chunks(graph, config.concurrency());
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        advanceFrontier();
+        this.iteration = iteration;
+        this.sentMessage = new AtomicBoolean(false);
+        this.busyTime.reset();
+        MutableInt mutableIteration = new MutableInt(iteration);
+
+        this.rootTask = computation instanceof PregelComputation
+            ? createComputeStep(mutableIteration, sentMessage)
+            : createBidirectionalComputeSteps(mutableIteration, sentMessage);
+    }
+
+    @Override
+    public void runIteration() {
+        forkJoinPool.invoke(rootTask);
+        progressTracker.logInfo(busyTime.summary(iteration));
+    }
+
+    @Override
+    public boolean hasConverged() {
+        return !sentMessage.get() && voteBits.allSet();
+    }
+
+    @Override
+    void release() {
+        forkJoinPool.shutdown();
+        computation.close();
+    }
+
+    static List<? extends Partition> chunks(Graph graph, int concurrency) {
+        // every node is weighted with its degree plus one,
+        // so that ranges of isolated nodes are split as well
+        long totalWeight = graph.relationshipCount() + graph.nodeCount();
+        long batchSize = Math.max(MIN_CHUNK_WEIGHT, BitUtil.ceilDiv(totalWeight, (long) concurrency * CHUNKS_PER_THREAD));
+
+        return PartitionUtils.degreePartitionWithBatchSize(
+            graph.nodeCount(),
+            nodeId -> graph.degree(nodeId) + 1,
+            batchSize,
+            Function.identity()
+        );
+    }
+
+    @NotNull
+    private WorkStealingComputeStep<CONFIG, ?, InitContext<CONFIG>, ComputeContext<CONFIG>> createComputeStep(
+        MutableInt iteration,
+        AtomicBoolean hasSentMessages
+    ) {
+        Supplier<InitContext<CONFIG>> initContext = () -> new InitContext<>(
+            graph.concurrentCopy(),
+            config,
+            nodeValues,
+            progressTracker
+        );
+
+        Supplier<ComputeContext<CONFIG>> computeContext = () -> new ComputeContext<>(
+            graph.concurrentCopy(),
+            config,
+            computation,
+            nodeValues,
+            messenger,
+            voteBits,
+            iteration,
+            Optional.empty(),
+            progressTracker
+        );
+
+        return new WorkStealingComputeStep<>(
+            ((PregelComputation<CONFIG>) computation)::init,
+            ((PregelComputation<CONFIG>) computation)::compute,
+            initContext,
+            computeContext,
+            chunks,
+            0,
+            chunks.size(),
+            nodeValues,
+            messenger,
+            voteBits,
+            frontier,
+            null,
+            hasSentMessages,
+            busyTime,
+            progressTracker
+        );
+    }
+
+    @NotNull
+    private WorkStealingComputeStep<CONFIG, ?, BidirectionalInitContext<CONFIG>, BidirectionalComputeContext<CONFIG>> createBidirectionalComputeSteps(
+        MutableInt iteration,
+        AtomicBoolean hasSentMessages
+    ) {
+        Supplier<BidirectionalInitContext<CONFIG>> initContext = () -> new BidirectionalInitContext<>(
+            graph.concurrentCopy(),
+            config,
+            nodeValues,
+            progressTracker
+        );
+
+        Supplier<BidirectionalComputeContext<CONFIG>> computeContext = () -> new BidirectionalComputeContext<>(
+            graph.concurrentCopy(),
+            config,
+            computation,
+            nodeValues,
+            messenger,
+            voteBits,
+            iteration,
+            Optional.empty(),
+            progressTracker
+        );
+
+        return new WorkStealingComputeStep<>(
+            ((BidirectionalPregelComputation<CONFIG>) computation)::init,
+            ((BidirectionalPregelComputation<CONFIG>) computation)::compute,
+            initContext,
+            computeContext,
+            chunks,
+            0,
+            chunks.size(),
+            nodeValues,
+            messenger,
+            voteBits,
+            frontier,
+            null,
+            hasSentMessages,
+            busyTime,
+            progressTracker
+        );
+    }
+
+    /**
+     * Accumulates the time each thread spent computing chunks within a superstep.
+     */
+    static final class BusyTime {
+
+        private final Map<Long, LongAdder> nanosPerThread = new ConcurrentHashMap<>();
+
+        void record(long nanos) {
+            nanosPerThread
+                .computeIfAbsent(Thread.currentThread().getId(), threadId -> new LongAdder())
+                .add(nanos);
+        }
+
+        void reset() {
+            nanosPerThread.clear();
+        }
+
+        String summary(int iteration) {
+            var stats = nanosPerThread.values().stream().mapToLong(LongAdder::sum).summaryStatistics();
+            if (stats.getCount() == 0) {
+                return formatWithLocale("Superstep %d busy time: no chunks computed", iteration + 1);
+            }
+            return formatWithLocale(
+                "Superstep %d busy time per thread: min %d ms, max %d ms, average %d ms, imbalance %.2f (%d threads)",
+                iteration + 1,
+                TimeUnit.NANOSECONDS.toMillis(stats.getMin()),
+                TimeUnit.NANOSECONDS.toMillis(stats.getMax()),
+                TimeUnit.NANOSECONDS.toMillis((long) stats.getAverage()),
+                stats.getAverage() > 0 ? stats.getMax() / stats.getAverage() : 1.0,
+                stats.getCount()
+            );
+        }
+    }
+}
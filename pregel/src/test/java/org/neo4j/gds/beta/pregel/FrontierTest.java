@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    private static final long BLOCK_SIZE = 1L << Frontier.BLOCK_SHIFT;
+
+    @Test
+    void shouldOnlyExposeNodesAfterAdvance() {
+        var frontier = Frontier.create(42);
+
+        frontier.add(7);
+        assertThat(frontier.contains(7)).isFalse();
+
+        frontier.advance();
+        assertThat(frontier.contains(7)).isTrue();
+
+        frontier.advance();
+        assertThat(frontier.contains(7)).isFalse();
+    }
+
+    @Test
+    void shouldIterateActiveNodesInRange() {
+        var nodeCount = 3 * BLOCK_SIZE + 5;
+        var frontier = Frontier.create(nodeCount);
+
+        frontier.add(1);
+        frontier.add(BLOCK_SIZE - 1);
+        frontier.add(2 * BLOCK_SIZE + 3);
+        frontier.add(nodeCount - 1);
+        frontier.advance();
+
+        List<Long> nodes = new ArrayList<>();
+        frontier.forEachNode(0, nodeCount, nodes::add);
+        assertThat(nodes).containsExactly(1L, BLOCK_SIZE - 1, 2 * BLOCK_SIZE + 3, nodeCount - 1);
+
+        nodes.clear();
+        frontier.forEachNode(2, 2 * BLOCK_SIZE + 4, nodes::add);
+        assertThat(nodes).containsExactly(BLOCK_SIZE - 1, 2 * BLOCK_SIZE + 3);
+    }
+
+    @Test
+    void shouldSkipInactiveBlocks() {
+        var nodeCount = 4 * BLOCK_SIZE;
+        var frontier = Frontier.create(nodeCount);
+
+        frontier.add(2 * BLOCK_SIZE + 1);
+        frontier.advance();
+
+        List<Long> nodes = new ArrayList<>();
+        frontier.forEachNode(0, 2 * BLOCK_SIZE, nodes::add);
+        frontier.forEachNode(3 * BLOCK_SIZE, nodeCount, nodes::add);
+        frontier.forEachNode(5, 5, nodes::add);
+        assertThat(nodes).isEmpty();
+
+        frontier.forEachNode(2 * BLOCK_SIZE, 3 * BLOCK_SIZE, nodes::add);
+        assertThat(nodes).containsExactly(2 * BLOCK_SIZE + 1);
+    }
+}
@@ -48,6 +48,7 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -195,6 +196,69 @@ class PregelTest {
             );
     }
 
+    @Test
+    void logBusyTimePerThreadForWorkStealing() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(Partitioning.WORK_STEALING)
+            .concurrency(4)
+            .build();
+
+        var computation = new TestPregelComputation();
+
+        var task = Pregel.progressTask(graph, config, computation.getClass().getSimpleName());
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(task, log, config.concurrency(), EmptyTaskRegistryFactory.INSTANCE);
+
+        Pregel.create(
+            graph,
+            config,
+            computation,
+            Pools.DEFAULT,
+            progressTracker
+        ).run();
+
+        assertThat(progressTracker.getProgresses())
+            .extracting(AtomicLong::get)
+            .allMatch(progress -> progress == 0 || progress == graph.nodeCount());
+
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .anyMatch(message -> message.contains("Superstep 1 busy time per thread"))
+            .anyMatch(message -> message.contains("Superstep 2 busy time per thread"));
+    }
+
+    @Test
+    void workStealingChunksAreBoundedByDegree() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var concurrency = 4;
+        var chunks = WorkStealingComputer.chunks(graph, concurrency);
+
+        assertThat(chunks.size()).isGreaterThanOrEqualTo(concurrency * WorkStealingComputer.CHUNKS_PER_THREAD / 2);
+        assertThat(chunks.stream().mapToLong(Partition::nodeCount).sum()).isEqualTo(graph.nodeCount());
+
+        long expectedStart = 0;
+        for (var chunk : chunks) {
+            assertThat(chunk.startNode()).isEqualTo(expectedStart);
+            expectedStart += chunk.nodeCount();
+        }
+    }
+
     @Test
     void cleanupProgressLogging() {
         var graph = RandomGraphGenerator.builder()
@@ -634,6 +698,50 @@ class PregelTest {
         pregelJob.run();
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void frontierComputesSameResultAsFullIteration(Partitioning partitioning, boolean isAsynchronous) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(100)
+            .concurrency(4)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous);
+
+        var expected = Pregel.create(
+            graph,
+            configBuilder.useFrontier(false).build(),
+            new TestShortestPathComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var actual = Pregel.create(
+            graph,
+            configBuilder.useFrontier(true).build(),
+            new TestShortestPathComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(actual.didConverge()).isTrue();
+        assertThat(expected.didConverge()).isTrue();
+        assertArrayEquals(
+            expected.nodeValues().longProperties(TestShortestPathComputation.KEY).toArray(),
+            actual.nodeValues().longProperties(TestShortestPathComputation.KEY).toArray()
+        );
+        if (!isAsynchronous) {
+            assertThat(actual.ranIterations()).isEqualTo(expected.ranIterations());
+        }
+    }
+
     static Stream<Arguments> partitionings() {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
@@ -819,6 +927,39 @@ class PregelTest {
         }
     }
 
+    static class TestShortestPathComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "distance";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.setNodeValue(KEY, 0);
+                    context.sendToNeighbors(1);
+                } else {
+                    context.setNodeValue(KEY, Long.MAX_VALUE);
+                }
+            } else {
+                long distance = context.longNodeValue(KEY);
+                long newDistance = distance;
+                for (var message : messages) {
+                    newDistance = Math.min(newDistance, message.longValue());
+                }
+                if (newDistance < distance) {
+                    context.setNodeValue(KEY, newDistance);
+                    context.sendToNeighbors(newDistance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     @Test
     void throwIfBidirectionalWithoutInverseIndex() {
         ThrowableAssert.ThrowingCallable pregelCreate = () -> Pregel.create(
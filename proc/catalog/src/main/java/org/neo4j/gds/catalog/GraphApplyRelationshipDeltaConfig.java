@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphApplyRelationshipDeltaConfig extends BaseConfig {
+
+    @Configuration.Parameter
+    Optional<String> graphName();
+
+    @Configuration.Parameter
+    String relationshipType();
+
+    /**
+     * Whether to merge the accumulated overrides of the relationship type into new adjacency lists
+     * after the delta has been applied.
+     */
+    @Value.Default
+    default boolean compact() {
+        return false;
+    }
+
+    static GraphApplyRelationshipDeltaConfig of(
+        String graphName,
+        String relationshipType,
+        CypherMapWrapper config
+    ) {
+        return new GraphApplyRelationshipDeltaConfigImpl(
+            Optional.of(graphName),
+            relationshipType,
+            config
+        );
+    }
+
+    @Configuration.Ignore
+    default void validate(GraphStore graphStore) {
+        if (!graphStore.hasRelationshipType(RelationshipType.of(relationshipType()))) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationship type '%s' found in graph '%s'.",
+                relationshipType(),
+                graphName().orElse("")
+            ));
+        }
+    }
+}
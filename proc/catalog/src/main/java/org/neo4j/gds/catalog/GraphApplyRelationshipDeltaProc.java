@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.RelationshipDelta;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+/**
+ * Applies relationship changes to a graph in the catalog without projecting it again.
+ * Node additions are not supported, the nodes of the graph are fixed once it has been projected.
+ */
+public class GraphApplyRelationshipDeltaProc extends CatalogProc {
+
+    private static final String ADDED_KEY = "addedRelationships";
+    private static final String REMOVED_KEY = "removedRelationships";
+    private static final String DETACHED_KEY = "detachedNodes";
+    private static final String SOURCE_KEY = "sourceNode";
+    private static final String TARGET_KEY = "targetNode";
+    private static final String PROPERTIES_KEY = "properties";
+
+    @Procedure(name = "gds.alpha.graph.relationships.applyDelta", mode = READ)
+    @Description("Adds and removes relationships of a relationship type of a projected graph.")
+    public Stream<Result> applyDelta(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "relationshipType") String relationshipType,
+        @Name(value = "delta") Map<String, Object> delta,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        validateGraphName(graphName);
+
+        // input
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = GraphApplyRelationshipDeltaConfig.of(graphName, relationshipType, cypherConfig);
+        // validation
+        validateConfig(cypherConfig, config);
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+        config.validate(graphStore);
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Applying relationship deltas is not supported for graph '%s'.",
+                graphName
+            ));
+        }
+        validateDeltaKeys(delta);
+        var added = listOf(delta, ADDED_KEY, Map.class);
+        var removed = listOf(delta, REMOVED_KEY, Map.class);
+        var detached = listOf(delta, DETACHED_KEY, Number.class);
+        var relationshipDelta = relationshipDelta(added, removed, detached, graphStore.nodes());
+
+        // progress tracking
+        var task = Tasks.leaf("Graph :: Relationships :: ApplyDelta", config.compact() ? 2 : 1);
+        var progressTracker = new TaskProgressTracker(
+            task,
+            executionContext().log(),
+            1,
+            new JobId(),
+            executionContext().taskRegistryFactory(),
+            executionContext().userLogRegistryFactory()
+        );
+
+        // applying
+        var type = RelationshipType.of(relationshipType);
+        var csrGraphStore = (CSRGraphStore) graphStore;
+        progressTracker.beginSubTask();
+        runWithExceptionLogging(
+            "Applying the relationship delta failed",
+            () -> csrGraphStore.applyRelationshipDelta(type, relationshipDelta)
+        );
+        progressTracker.logProgress();
+        boolean compacted = config.compact() && runWithExceptionLogging(
+            "Compacting the relationships failed",
+            () -> csrGraphStore.compactRelationships(type)
+        );
+        progressTracker.endSubTask();
+
+        // result
+        return Stream.of(new Result(
+            graphName,
+            relationshipType,
+            added.size(),
+            removed.size(),
+            detached.size(),
+            graphStore.relationshipCount(type),
+            compacted
+        ));
+    }
+
+    private static void validateDeltaKeys(Map<String, Object> delta) {
+        var unexpectedKeys = new ArrayList<>(delta.keySet());
+        unexpectedKeys.removeAll(Set.of(ADDED_KEY, REMOVED_KEY, DETACHED_KEY));
+        if (!unexpectedKeys.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unexpected keys %s in the delta, expected any of %s.",
+                unexpectedKeys,
+                List.of(ADDED_KEY, REMOVED_KEY, DETACHED_KEY)
+            ));
+        }
+    }
+
+    private static RelationshipDelta relationshipDelta(
+        List<Map> added,
+        List<Map> removed,
+        List<Number> detached,
+        IdMap idMap
+    ) {
+        // all added relationships have to carry values for the properties of the first one
+        var propertyKeys = added.isEmpty()
+            ? List.<String>of()
+            : propertyKeys(mapOf(added.get(0), PROPERTIES_KEY));
+        var relationshipDelta = RelationshipDelta.of(propertyKeys.toArray(String[]::new));
+
+        for (Map<?, ?> relationship : added) {
+            var properties = mapOf(relationship, PROPERTIES_KEY);
+            if (!Set.copyOf(propertyKeys(properties)).equals(Set.copyOf(propertyKeys))) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "All added relationships must have the same properties, expected %s but got %s.",
+                    propertyKeys,
+                    properties.keySet()
+                ));
+            }
+            var values = new double[propertyKeys.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = numberOf(properties, propertyKeys.get(i)).doubleValue();
+            }
+            relationshipDelta.addRelationship(
+                mappedNodeId(relationship, SOURCE_KEY, idMap),
+                mappedNodeId(relationship, TARGET_KEY, idMap),
+                values
+            );
+        }
+        for (Map<?, ?> relationship : removed) {
+            relationshipDelta.removeRelationship(
+                mappedNodeId(relationship, SOURCE_KEY, idMap),
+                mappedNodeId(relationship, TARGET_KEY, idMap)
+            );
+        }
+        for (Number nodeId : detached) {
+            relationshipDelta.detachNode(mappedNodeId(nodeId.longValue(), idMap));
+        }
+        return relationshipDelta;
+    }
+
+    private static List<String> propertyKeys(Map<?, ?> properties) {
+        return properties.keySet().stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listOf(Map<?, ?> map, String key, Class<T> elementType) {
+        var value = map.get(key);
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof List) {
+            var list = (List<?>) value;
+            if (list.stream().allMatch(elementType::isInstance)) {
+                return (List<T>) list;
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected `%s` to be a list of %s, but got `%s`.",
+            key,
+            elementType == Map.class ? "maps" : "node ids",
+            value
+        ));
+    }
+
+    private static Map<?, ?> mapOf(Map<?, ?> map, String key) {
+        var value = map.get(key);
+        if (value == null) {
+            return Map.of();
+        }
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(formatWithLocale("Expected `%s` to be a map, but got `%s`.", key, value));
+        }
+        return (Map<?, ?>) value;
+    }
+
+    private static Number numberOf(Map<?, ?> map, Object key) {
+        var value = map.get(key);
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException(formatWithLocale("Expected `%s` to be a number, but got `%s`.", key, value));
+        }
+        return (Number) value;
+    }
+
+    private static long mappedNodeId(Map<?, ?> relationship, String key, IdMap idMap) {
+        if (!relationship.containsKey(key)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a `%s` in relationship %s.",
+                key,
+                relationship
+            ));
+        }
+        return mappedNodeId(numberOf(relationship, key).longValue(), idMap);
+    }
+
+    private static long mappedNodeId(long nodeId, IdMap idMap) {
+        long mappedNodeId = idMap.safeToMappedNodeId(nodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d is not part of the graph.",
+                nodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+
+    @SuppressWarnings("unused")
+    public static class Result {
+        public final String graphName;
+        public final String relationshipType;
+        public final long relationshipsAdded;
+        public final long relationshipsRemoved;
+        public final long nodesDetached;
+        public final long relationshipCount;
+        public final boolean compacted;
+
+        Result(
+            String graphName,
+            String relationshipType,
+            long relationshipsAdded,
+            long relationshipsRemoved,
+            long nodesDetached,
+            long relationshipCount,
+            boolean compacted
+        ) {
+            this.graphName = graphName;
+            this.relationshipType = relationshipType;
+            this.relationshipsAdded = relationshipsAdded;
+            this.relationshipsRemoved = relationshipsRemoved;
+            this.nodesDetached = nodesDetached;
+            this.relationshipCount = relationshipCount;
+            this.compacted = compacted;
+        }
+    }
+}
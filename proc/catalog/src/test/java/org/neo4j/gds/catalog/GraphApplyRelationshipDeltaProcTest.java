@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphStreamRelationshipsProc.TopologyResult;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.compat.MapUtil.map;
+
+class GraphApplyRelationshipDeltaProcTest extends BaseProcTest {
+
+    @Neo4jGraph(offsetIds = true)
+    static String DB_CYPHER = "CREATE" +
+                              "  (a:N), (b:N), (c:N)" +
+                              ", (a)-[:REL {p: 1.0}]->(b)" +
+                              ", (b)-[:REL {p: 2.0}]->(c)";
+
+    @Inject
+    IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphApplyRelationshipDeltaProc.class,
+            GraphStreamRelationshipsProc.class
+        );
+
+        runQuery(GdsCypher.call("graph")
+            .graphProject()
+            .withNodeLabel("N")
+            .withRelationshipType("REL")
+            .withRelationshipProperty("p")
+            .yields()
+        );
+    }
+
+    @Test
+    void shouldApplyDelta() {
+        var delta = map(
+            "addedRelationships", List.of(map(
+                "sourceNode", idFunction.of("a"),
+                "targetNode", idFunction.of("c"),
+                "properties", map("p", 3.0)
+            )),
+            "removedRelationships", List.of(map(
+                "sourceNode", idFunction.of("a"),
+                "targetNode", idFunction.of("b")
+            ))
+        );
+
+        assertCypherResult(
+            "CALL gds.alpha.graph.relationships.applyDelta('graph', 'REL', $delta)",
+            Map.of("delta", delta),
+            List.of(map(
+                "graphName", "graph",
+                "relationshipType", "REL",
+                "relationshipsAdded", 1L,
+                "relationshipsRemoved", 1L,
+                "nodesDetached", 0L,
+                "relationshipCount", 2L,
+                "compacted", false
+            ))
+        );
+
+        assertThat(streamRelationships()).containsExactlyInAnyOrder(
+            new TopologyResult(idFunction.of("a"), idFunction.of("c"), "REL"),
+            new TopologyResult(idFunction.of("b"), idFunction.of("c"), "REL")
+        );
+    }
+
+    @Test
+    void shouldCompactAfterApplyingTheDelta() {
+        var delta = map("removedRelationships", List.of(map(
+            "sourceNode", idFunction.of("b"),
+            "targetNode", idFunction.of("c")
+        )));
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.graph.relationships.applyDelta('graph', 'REL', $delta, {compact: true})",
+            Map.of("delta", delta),
+            row -> {
+                assertThat(row.getBoolean("compacted")).isTrue();
+                assertThat(row.getNumber("relationshipCount").longValue()).isEqualTo(1L);
+            }
+        );
+
+        assertThat(streamRelationships()).containsExactly(
+            new TopologyResult(idFunction.of("a"), idFunction.of("b"), "REL")
+        );
+    }
+
+    @Test
+    void shouldFailOnUnknownNodes() {
+        assertError(
+            "CALL gds.alpha.graph.relationships.applyDelta('graph', 'REL', {detachedNodes: [1000000000]})",
+            "Node with id 1000000000 is not part of the graph."
+        );
+    }
+
+    @Test
+    void shouldFailOnAddedRelationshipsWithDifferentProperties() {
+        var delta = map("addedRelationships", List.of(
+            map("sourceNode", idFunction.of("a"), "targetNode", idFunction.of("c"), "properties", map("p", 3.0)),
+            map("sourceNode", idFunction.of("c"), "targetNode", idFunction.of("a"))
+        ));
+
+        assertError(
+            "CALL gds.alpha.graph.relationships.applyDelta('graph', 'REL', $delta)",
+            Map.of("delta", delta),
+            "All added relationships must have the same properties, expected [p] but got []."
+        );
+    }
+
+    @Test
+    void shouldFailOnUnknownRelationshipType() {
+        assertError(
+            "CALL gds.alpha.graph.relationships.applyDelta('graph', 'FOO', {})",
+            "No relationship type 'FOO' found in graph 'graph'."
+        );
+    }
+
+    private List<TopologyResult> streamRelationships() {
+        var relationships = new ArrayList<TopologyResult>();
+        runQueryWithRowConsumer("CALL gds.beta.graph.relationships.stream('graph')", row -> relationships.add(
+            new TopologyResult(
+                row.getNumber("sourceNodeId").longValue(),
+                row.getNumber("targetNodeId").longValue(),
+                row.getString("relationshipType")
+            )
+        ));
+        return relationships;
+    }
+}
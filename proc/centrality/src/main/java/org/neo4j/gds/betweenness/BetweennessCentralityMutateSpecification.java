@@ -83,6 +83,10 @@ public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<B
         );
 
         computationResult.result().ifPresent(result -> builder.withCentralityFunction(result::get));
+        var algorithm = computationResult.algorithm();
+        if (algorithm != null) {
+            builder.withSamplingError(algorithm.samplingError());
+        }
 
         return builder;
     }
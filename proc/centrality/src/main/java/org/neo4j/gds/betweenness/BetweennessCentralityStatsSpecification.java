@@ -58,6 +58,10 @@ public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<Be
             );
 
             computationResult.result().ifPresent(result -> builder.withCentralityFunction(result::get));
+            var algorithm = computationResult.algorithm();
+            if (algorithm != null) {
+                builder.withSamplingError(algorithm.samplingError());
+            }
 
             return Stream.of(
                 builder.withPreProcessingMillis(computationResult.preProcessingMillis())
@@ -85,6 +85,10 @@ public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<Be
         );
 
         computationResult.result().ifPresent(result -> builder.withCentralityFunction(result::get));
+        var algorithm = computationResult.algorithm();
+        if (algorithm != null) {
+            builder.withSamplingError(algorithm.samplingError());
+        }
 
         return builder;
     }
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.Map;
+import java.util.OptionalDouble;
 
 public final class MutateResult extends StatsResult {
 
@@ -37,11 +38,12 @@ public final class MutateResult extends StatsResult {
         long postProcessingMillis,
         long mutateMillis,
         @Nullable Map<String, Object> centralityDistribution,
-
+        @Nullable Double samplingError,
         Map<String, Object> config
     ) {
         super(
             centralityDistribution,
+            samplingError,
             preProcessingMillis,
             computeMillis,
             postProcessingMillis,
@@ -57,6 +59,13 @@ public final class MutateResult extends StatsResult {
             super(returnColumns, concurrency);
         }
 
+        @Nullable Double samplingError;
+
+        Builder withSamplingError(OptionalDouble samplingError) {
+            this.samplingError = samplingError.isPresent() ? samplingError.getAsDouble() : null;
+            return this;
+        }
+
         @Override
         public MutateResult buildResult() {
             return new MutateResult(
@@ -66,6 +75,7 @@ public final class MutateResult extends StatsResult {
                 postProcessingMillis,
                 mutateMillis,
                 centralityHistogram,
+                samplingError,
                 config.toMap()
             );
         }
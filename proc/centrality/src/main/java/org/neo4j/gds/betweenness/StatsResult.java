@@ -25,13 +25,16 @@ import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 import org.neo4j.gds.results.StandardStatsResult;
 
 import java.util.Map;
+import java.util.OptionalDouble;
 
 public class StatsResult extends StandardStatsResult {
 
     public final Map<String, Object> centralityDistribution;
+    public final @Nullable Double samplingError;
 
     StatsResult(
         @Nullable Map<String, Object> centralityDistribution,
+        @Nullable Double samplingError,
         long preProcessingMillis,
         long computeMillis,
         long postProcessingMillis,
@@ -39,6 +42,7 @@ public class StatsResult extends StandardStatsResult {
     ) {
         super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
         this.centralityDistribution = centralityDistribution;
+        this.samplingError = samplingError;
     }
 
     static final class Builder extends AbstractCentralityResultBuilder<StatsResult> {
@@ -46,10 +50,18 @@ public class StatsResult extends StandardStatsResult {
             super(returnColumns, concurrency);
         }
 
+        @Nullable Double samplingError;
+
+        Builder withSamplingError(OptionalDouble samplingError) {
+            this.samplingError = samplingError.isPresent() ? samplingError.getAsDouble() : null;
+            return this;
+        }
+
         @Override
         public StatsResult buildResult() {
             return new StatsResult(
                 centralityHistogram,
+                samplingError,
                 preProcessingMillis,
                 computeMillis,
                 postProcessingMillis,
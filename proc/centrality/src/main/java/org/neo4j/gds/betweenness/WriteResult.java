@@ -24,6 +24,7 @@ import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.Map;
+import java.util.OptionalDouble;
 
 public final class WriteResult extends StatsResult {
 
@@ -37,9 +38,10 @@ public final class WriteResult extends StatsResult {
         long postProcessingMillis,
         long writeMillis,
         @Nullable Map<String, Object> centralityDistribution,
+        @Nullable Double samplingError,
         Map<String, Object> config
     ) {
-        super(centralityDistribution, preProcessingMillis, computeMillis, postProcessingMillis, config);
+        super(centralityDistribution, samplingError, preProcessingMillis, computeMillis, postProcessingMillis, config);
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.writeMillis = writeMillis;
     }
@@ -50,6 +52,13 @@ public final class WriteResult extends StatsResult {
             super(returnColumns, concurrency);
         }
 
+        @Nullable Double samplingError;
+
+        Builder withSamplingError(OptionalDouble samplingError) {
+            this.samplingError = samplingError.isPresent() ? samplingError.getAsDouble() : null;
+            return this;
+        }
+
         @Override
         public WriteResult buildResult() {
             return new WriteResult(
@@ -59,6 +68,7 @@ public final class WriteResult extends StatsResult {
                 postProcessingMillis,
                 writeMillis,
                 centralityHistogram,
+                samplingError,
                 config.toMap()
             );
         }
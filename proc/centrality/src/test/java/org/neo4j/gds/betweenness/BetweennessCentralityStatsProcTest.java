@@ -72,9 +72,11 @@ class BetweennessCentralityStatsProcTest extends BaseProcTest {
             .call(DEFAULT_GRAPH_NAME)
             .algo("betweenness")
             .statsMode()
-            .yields("centralityDistribution", "preProcessingMillis", "computeMillis", "postProcessingMillis");
+            .yields("centralityDistribution", "samplingError", "preProcessingMillis", "computeMillis", "postProcessingMillis");
 
         var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.get("samplingError")).isNull();
+
             assertThat(row.get("centralityDistribution"))
                 .isNotNull()
                 .isInstanceOf(Map.class)
@@ -109,6 +111,25 @@ class BetweennessCentralityStatsProcTest extends BaseProcTest {
             .isEqualTo(1);
     }
 
+    @Test
+    void shouldReturnSamplingError() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("betweenness")
+            .statsMode()
+            .addParameter("samplingEpsilon", 0.1)
+            .addParameter("samplingSeed", 42L)
+            .yields("samplingError");
+
+        var rowCount = runQueryWithRowConsumer(query, row ->
+            assertThat(row.getNumber("samplingError"))
+                .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
+                .isBetween(0.0, 0.1)
+        );
+
+        assertThat(rowCount).isEqualTo(1);
+    }
+
     @Test
     void shouldFailOnMixedProjections() {
         runQuery(
@@ -31,6 +31,7 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
 
     TriangleCountMutateResult(
         long globalTriangleCount,
+        double globalTrianglesMarginOfError,
         long nodeCount,
         long preProcessingMillis,
         long computeMillis,
@@ -40,6 +41,7 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
     ) {
         super(
             globalTriangleCount,
+            globalTrianglesMarginOfError,
             nodeCount,
             preProcessingMillis,
             computeMillis,
@@ -52,16 +54,23 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
     static class Builder extends AbstractResultBuilder<TriangleCountMutateResult> {
 
         long globalTriangleCount = 0;
+        double globalTrianglesMarginOfError = 0D;
 
         Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        Builder withGlobalTrianglesMarginOfError(double globalTrianglesMarginOfError) {
+            this.globalTrianglesMarginOfError = globalTrianglesMarginOfError;
+            return this;
+        }
+
         @Override
         public TriangleCountMutateResult build() {
             return new TriangleCountMutateResult(
                 globalTriangleCount,
+                globalTrianglesMarginOfError,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
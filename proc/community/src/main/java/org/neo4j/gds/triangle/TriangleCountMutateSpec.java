@@ -74,7 +74,9 @@ public class TriangleCountMutateSpec implements AlgorithmSpec<IntersectingTriang
         var builder = new TriangleCountMutateResult.Builder();
 
         computationResult.result()
-            .ifPresent(result -> builder.withGlobalTriangleCount(result.globalTriangles()));
+            .ifPresent(result -> builder
+                .withGlobalTriangleCount(result.globalTriangles())
+                .withGlobalTrianglesMarginOfError(result.globalTrianglesMarginOfError()));
 
         return builder;
     }
@@ -28,10 +28,12 @@ import java.util.Map;
 public class TriangleCountStatsResult extends StandardStatsResult {
 
     public final long globalTriangleCount;
+    public final double globalTrianglesMarginOfError;
     public final long nodeCount;
 
     TriangleCountStatsResult(
         long globalTriangleCount,
+        double globalTrianglesMarginOfError,
         long nodeCount,
         long preProcessingMillis,
         long computeMillis,
@@ -40,22 +42,30 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         // post-processing is instant for TC
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.globalTriangleCount = globalTriangleCount;
+        this.globalTrianglesMarginOfError = globalTrianglesMarginOfError;
         this.nodeCount = nodeCount;
     }
 
     static class Builder extends AbstractResultBuilder<TriangleCountStatsResult> {
 
         long globalTriangleCount = 0;
+        double globalTrianglesMarginOfError = 0D;
 
         Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        Builder withGlobalTrianglesMarginOfError(double globalTrianglesMarginOfError) {
+            this.globalTrianglesMarginOfError = globalTrianglesMarginOfError;
+            return this;
+        }
+
         @Override
         public TriangleCountStatsResult build() {
             return new TriangleCountStatsResult(
                 globalTriangleCount,
+                globalTrianglesMarginOfError,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
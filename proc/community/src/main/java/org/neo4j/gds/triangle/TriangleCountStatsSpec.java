@@ -56,6 +56,7 @@ public class TriangleCountStatsSpec implements AlgorithmSpec<IntersectingTriangl
                 .ifPresent(result ->
                     builder
                         .withGlobalTriangleCount(result.globalTriangles())
+                        .withGlobalTrianglesMarginOfError(result.globalTrianglesMarginOfError())
                 );
 
             builder
@@ -75,7 +75,9 @@ public class TriangleCountWriteSpec implements AlgorithmSpec<IntersectingTriangl
         var builder = new TriangleCountWriteResult.Builder();
 
         computationResult.result()
-            .ifPresent(result -> builder.withGlobalTriangleCount(result.globalTriangles()));
+            .ifPresent(result -> builder
+                .withGlobalTriangleCount(result.globalTriangles())
+                .withGlobalTrianglesMarginOfError(result.globalTrianglesMarginOfError()));
 
         return builder;
     }
@@ -31,6 +31,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 
 class TriangleCountStatsProcTest extends BaseProcTest {
@@ -63,6 +64,10 @@ class TriangleCountStatsProcTest extends BaseProcTest {
                 .asInstanceOf(LONG)
                 .isEqualTo(1L);
 
+            assertThat(row.getNumber("globalTrianglesMarginOfError"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0D);
+
             assertThat(row.getNumber("nodeCount"))
                 .asInstanceOf(LONG)
                 .isEqualTo(3L);
@@ -120,5 +125,24 @@ class TriangleCountStatsProcTest extends BaseProcTest {
 
     }
 
+    @Test
+    void testStatsWithSamplingRatio() {
+        var query = GdsCypher.call("graph")
+            .algo("triangleCount")
+            .statsMode()
+            .addParameter("samplingRatio", 0.5)
+            .yields("globalTriangleCount", "globalTrianglesMarginOfError");
 
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("globalTriangleCount"))
+                .asInstanceOf(LONG)
+                .isGreaterThanOrEqualTo(0L);
+
+            assertThat(row.getNumber("globalTrianglesMarginOfError"))
+                .asInstanceOf(DOUBLE)
+                .isGreaterThanOrEqualTo(0D);
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class ContractionHierarchyBuildProc extends BaseProc {
+
+    static final String CONTRACTION_HIERARCHY_BUILD_DESCRIPTION =
+        "Builds a contraction hierarchy that answers source-target shortest path queries on a projected graph.";
+
+    @Procedure(name = "gds.alpha.contractionHierarchy.build", mode = READ)
+    @Description(CONTRACTION_HIERARCHY_BUILD_DESCRIPTION)
+    public Stream<Result> build(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = ContractionHierarchyBuildConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+        var nodeLabels = config.nodeLabelIdentifiers(graphStore);
+        var relationshipTypes = config.internalRelationshipTypes(graphStore);
+        config.graphStoreValidation(graphStore, nodeLabels, relationshipTypes);
+
+        try (var progressTimer = ProgressTimer.start()) {
+            // an existing hierarchy is reused as long as the graph has not been modified since it was built
+            var hierarchy = ContractionHierarchyCatalog.getOrBuild(
+                graphStore,
+                nodeLabels,
+                relationshipTypes,
+                config.relationshipWeightProperty(),
+                graph -> {
+                    var algorithm = new ContractionHierarchyFactory<ContractionHierarchyBuildConfig>().build(
+                        graph,
+                        config,
+                        executionContext().log(),
+                        executionContext().taskRegistryFactory(),
+                        executionContext().userLogRegistryFactory()
+                    );
+                    return runWithExceptionLogging("Contraction hierarchy construction failed", algorithm::compute);
+                }
+            );
+
+            return Stream.of(new Result(
+                graphName,
+                hierarchy.nodeCount(),
+                hierarchy.relationshipCount(),
+                hierarchy.shortcutCount(),
+                progressTimer.stop().getDuration()
+            ));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class Result {
+        public final String graphName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long shortcutCount;
+        public final long buildMillis;
+
+        Result(
+            String graphName,
+            long nodeCount,
+            long relationshipCount,
+            long shortcutCount,
+            long buildMillis
+        ) {
+            this.graphName = graphName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.shortcutCount = shortcutCount;
+            this.buildMillis = buildMillis;
+        }
+    }
+}
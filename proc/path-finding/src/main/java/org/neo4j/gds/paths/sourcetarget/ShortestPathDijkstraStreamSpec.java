@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -26,9 +27,8 @@ import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
 import org.neo4j.gds.paths.ShortestPathStreamResultConsumer;
 import org.neo4j.gds.paths.StreamResult;
-import org.neo4j.gds.paths.dijkstra.Dijkstra;
-import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.paths.dijkstra.ShortestPathDijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
 
 import java.util.stream.Stream;
@@ -37,7 +37,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STREAM;
 import static org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraProc.DIJKSTRA_DESCRIPTION;
 
 @GdsCallable(name = "gds.shortestPath.dijkstra.stream", description = DIJKSTRA_DESCRIPTION, executionMode = STREAM)
-public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>> {
+public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>, ShortestPathDijkstraFactory<ShortestPathDijkstraStreamConfig>> {
 
     @Override
     public String name() {
@@ -45,10 +45,10 @@ public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, P
     }
 
     @Override
-    public DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig> algorithmFactory(
+    public ShortestPathDijkstraFactory<ShortestPathDijkstraStreamConfig> algorithmFactory(
         ExecutionContext executionContext
     ) {
-        return new DijkstraFactory.SourceTargetDijkstraFactory<>();
+        return new ShortestPathDijkstraFactory<>();
     }
 
     @Override
@@ -57,7 +57,7 @@ public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, P
     }
 
     @Override
-    public ComputationResultConsumer<Dijkstra, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>> computationResultConsumer() {
         return new ShortestPathStreamResultConsumer<>();
     }
 
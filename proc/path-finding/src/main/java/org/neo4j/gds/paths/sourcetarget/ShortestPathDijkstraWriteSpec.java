@@ -19,15 +19,15 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
 import org.neo4j.gds.paths.ShortestPathWriteResultConsumer;
-import org.neo4j.gds.paths.dijkstra.Dijkstra;
-import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.paths.dijkstra.ShortestPathDijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraWriteConfig;
 import org.neo4j.gds.results.StandardWriteRelationshipsResult;
 
@@ -37,7 +37,7 @@ import static org.neo4j.gds.executor.ExecutionMode.WRITE_RELATIONSHIP;
 import static org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraProc.DIJKSTRA_DESCRIPTION;
 
 @GdsCallable(name = "gds.shortestPath.dijkstra.write", description = DIJKSTRA_DESCRIPTION, executionMode = WRITE_RELATIONSHIP)
-public class ShortestPathDijkstraWriteSpec implements AlgorithmSpec<Dijkstra, PathFindingResult, ShortestPathDijkstraWriteConfig, Stream<StandardWriteRelationshipsResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraWriteConfig>> {
+public class ShortestPathDijkstraWriteSpec implements AlgorithmSpec<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraWriteConfig, Stream<StandardWriteRelationshipsResult>, ShortestPathDijkstraFactory<ShortestPathDijkstraWriteConfig>> {
 
     @Override
     public String name() {
@@ -45,10 +45,10 @@ public class ShortestPathDijkstraWriteSpec implements AlgorithmSpec<Dijkstra, Pa
     }
 
     @Override
-    public DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraWriteConfig> algorithmFactory(
+    public ShortestPathDijkstraFactory<ShortestPathDijkstraWriteConfig> algorithmFactory(
         ExecutionContext executionContext
     ) {
-        return new DijkstraFactory.SourceTargetDijkstraFactory<>();
+        return new ShortestPathDijkstraFactory<>();
     }
 
     @Override
@@ -57,7 +57,7 @@ public class ShortestPathDijkstraWriteSpec implements AlgorithmSpec<Dijkstra, Pa
     }
 
     @Override
-    public ComputationResultConsumer<Dijkstra, PathFindingResult, ShortestPathDijkstraWriteConfig, Stream<StandardWriteRelationshipsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraWriteConfig, Stream<StandardWriteRelationshipsResult>> computationResultConsumer() {
         return new ShortestPathWriteResultConsumer<>();
     }
 
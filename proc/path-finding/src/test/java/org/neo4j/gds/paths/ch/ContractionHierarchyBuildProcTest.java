@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.ch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractionHierarchyBuildProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Label)" +
+        ", (b:Label)" +
+        ", (c:Label)" +
+        ", (d:Label)" +
+        ", (e:Label)" +
+        ", (f:Label)" +
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    private static final String DIJKSTRA_QUERY =
+        "CALL gds.shortestPath.dijkstra.stream('graph', {" +
+        "   sourceNode: $source," +
+        "   targetNode: $target," +
+        "   relationshipWeightProperty: 'cost'," +
+        "   useContractionHierarchy: true" +
+        " })" +
+        " YIELD nodeIds, costs, totalCost" +
+        " RETURN nodeIds, costs, totalCost";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ContractionHierarchyBuildProc.class,
+            ShortestPathDijkstraStreamProc.class,
+            GraphProjectProc.class
+        );
+        runQuery("CALL gds.graph.project('graph', 'Label', 'TYPE', {relationshipProperties: 'cost'})");
+    }
+
+    @Test
+    void shouldBuildHierarchy() {
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})" +
+            " YIELD graphName, nodeCount, relationshipCount, shortcutCount, buildMillis",
+            row -> {
+                assertThat(row.getString("graphName")).isEqualTo("graph");
+                assertThat(row.getNumber("nodeCount")).isEqualTo(6L);
+                assertThat(row.getNumber("relationshipCount").longValue())
+                    .isGreaterThanOrEqualTo(row.getNumber("shortcutCount").longValue());
+                assertThat(row.getNumber("buildMillis").longValue()).isGreaterThanOrEqualTo(0L);
+            }
+        );
+
+        assertThat(hierarchy(graphStore())).isPresent();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldAnswerDijkstraWithOrWithoutHierarchy(boolean buildHierarchy) {
+        if (buildHierarchy) {
+            runQuery("CALL gds.alpha.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})");
+        }
+
+        assertCypherResult(DIJKSTRA_QUERY, queryParameters(), List.of(expectedPath()));
+    }
+
+    @Test
+    void shouldFallBackToDijkstraAfterTheGraphHasBeenModified() {
+        runQuery("CALL gds.alpha.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})");
+        var graphStore = graphStore();
+        graphStore.addNodeProperty(Set.of(NodeLabel.of("Label")), "foo", new DoubleNullPropertyMap(42.0));
+
+        assertThat(hierarchy(graphStore)).isEmpty();
+        assertCypherResult(DIJKSTRA_QUERY, queryParameters(), List.of(expectedPath()));
+
+        runQuery("CALL gds.alpha.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})");
+        assertThat(hierarchy(graphStore)).isPresent();
+    }
+
+    private Map<String, Object> queryParameters() {
+        return Map.of("source", idFunction.of("a"), "target", idFunction.of("f"));
+    }
+
+    private Map<String, Object> expectedPath() {
+        return Map.of(
+            "nodeIds", List.of(
+                idFunction.of("a"),
+                idFunction.of("c"),
+                idFunction.of("e"),
+                idFunction.of("d"),
+                idFunction.of("f")
+            ),
+            "costs", List.of(0.0, 2.0, 5.0, 9.0, 20.0),
+            "totalCost", 20.0
+        );
+    }
+
+    private GraphStore graphStore() {
+        return GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "graph").graphStore();
+    }
+
+    private static Optional<ContractionHierarchy> hierarchy(GraphStore graphStore) {
+        return ContractionHierarchyCatalog.get(
+            graphStore,
+            List.of(NodeLabel.of("Label")),
+            List.of(RelationshipType.of("TYPE")),
+            Optional.of("cost")
+        );
+    }
+}
@@ -136,6 +136,42 @@ class ShortestPathDijkstraStreamProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void testStreamWithLandmarks() {
+        runQuery("CALL gds.graph.project('indexedGraph', 'Label', {TYPE: {indexInverse: true, properties: 'cost'}})");
+
+        var query = GdsCypher.call("indexedGraph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("landmarks", 2)
+            .yields("nodeIds", "costs", "totalCost");
+
+        var expected = Map.of(
+            "totalCost", 20.0D,
+            "costs", Arrays.stream(costs0).boxed().collect(Collectors.toList()),
+            "nodeIds", Arrays.stream(ids0).boxed().collect(Collectors.toList())
+        );
+        // the second query reuses the landmarks of the first one
+        assertCypherResult(query, List.of(expected));
+        assertCypherResult(query, List.of(expected));
+    }
+
+    @Test
+    void shouldFailOnLandmarksForDirectedGraphWithoutInverseIndex() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("landmarks", 2)
+            .yields();
+
+        assertError(query, "Searching with landmarks requires the relationship types to be either all undirected or all inverse indexed");
+    }
+
     @Test
     void testLazyComputationLoggingFinishes() {
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswBuildProc extends BaseProc {
+
+    static final String HNSW_BUILD_DESCRIPTION =
+        "Builds an approximate nearest neighbour index over an array node property of a projected graph.";
+
+    @Procedure(name = "gds.alpha.hnsw.build", mode = READ)
+    @Description(HNSW_BUILD_DESCRIPTION)
+    public Stream<Result> build(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "indexName") String indexName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswBuildConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+        var nodeLabels = config.nodeLabelIdentifiers(graphStore);
+        config.graphStoreValidation(graphStore, nodeLabels, config.internalRelationshipTypes(graphStore));
+        var graph = graphStore.getGraph(nodeLabels);
+        // the index holds on to the property values, so it is only valid for this version of the graph store
+        var graphModificationTime = graphStore.modificationTime();
+
+        try (var progressTimer = ProgressTimer.start()) {
+            var algorithm = new HnswAlgorithmFactory<HnswBuildConfig>().build(
+                graph,
+                config,
+                executionContext().log(),
+                executionContext().taskRegistryFactory(),
+                executionContext().userLogRegistryFactory()
+            );
+            var index = runWithExceptionLogging("HNSW index construction failed", algorithm::compute);
+
+            GraphStoreCatalog.setVectorIndex(
+                username(),
+                executionContext().databaseId(),
+                graphName,
+                indexName,
+                index,
+                graphModificationTime
+            );
+
+            return Stream.of(new Result(
+                indexName,
+                graphName,
+                index.nodeProperty(),
+                index.nodeCount(),
+                index.maxLevel(),
+                progressTimer.stop().getDuration()
+            ));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class Result {
+        public final String indexName;
+        public final String graphName;
+        public final String nodeProperty;
+        public final long nodeCount;
+        public final long maxLevel;
+        public final long buildMillis;
+
+        Result(
+            String indexName,
+            String graphName,
+            String nodeProperty,
+            long nodeCount,
+            long maxLevel,
+            long buildMillis
+        ) {
+            this.indexName = indexName;
+            this.graphName = graphName;
+            this.nodeProperty = nodeProperty;
+            this.nodeCount = nodeCount;
+            this.maxLevel = maxLevel;
+            this.buildMillis = buildMillis;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.config.NodeConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswQueryProc extends BaseProc {
+
+    static final String HNSW_QUERY_DESCRIPTION =
+        "Returns the nodes most similar to a node or a vector, using a previously built HNSW index.";
+
+    @Procedure(name = "gds.alpha.hnsw.query", mode = READ)
+    @Description(HNSW_QUERY_DESCRIPTION)
+    public Stream<Result> query(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "indexName") String indexName,
+        @Name(value = "query") Object query,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswQueryConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+        var index = GraphStoreCatalog
+            .getVectorIndex(username(), executionContext().databaseId(), graphName, indexName)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No index with name `%s` exists on graph `%s`. " +
+                "Indexes are dropped when the graph is modified after they have been built.",
+                indexName,
+                graphName
+            )));
+
+        BoundedLongPriorityQueue neighbours;
+        if (query instanceof List) {
+            var vector = parseVector((List<?>) query);
+            graphStore.nodeProperty(index.nodeProperty()).values().dimension().ifPresent(dimension -> {
+                if (dimension != vector.length) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "The query vector has dimension %d, but node property `%s` has dimension %d.",
+                        vector.length,
+                        index.nodeProperty(),
+                        dimension
+                    ));
+                }
+            });
+            neighbours = index.nearestNeighbours(vector, config.topK(), config.ef());
+        } else {
+            neighbours = index.nearestNeighbours(NodeConfig.parseNodeId(query, "query"), config.topK(), config.ef());
+        }
+
+        return results(neighbours);
+    }
+
+    private static double[] parseVector(List<?> query) {
+        var vector = new double[query.size()];
+        for (int i = 0; i < vector.length; i++) {
+            var value = query.get(i);
+            if (!(value instanceof Number)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected a list of numbers for `query`. Got %s at position %d.",
+                    value == null ? "null" : value.getClass().getSimpleName(),
+                    i
+                ));
+            }
+            vector[i] = ((Number) value).doubleValue();
+        }
+        return vector;
+    }
+
+    private static Stream<Result> results(BoundedLongPriorityQueue neighbours) {
+        var nodeIds = neighbours.elements().toArray();
+        var similarities = neighbours.priorities().toArray();
+        var results = new Result[nodeIds.length];
+        for (int i = 0; i < nodeIds.length; i++) {
+            results[i] = new Result(nodeIds[i], similarities[i]);
+        }
+        return Stream.of(results);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Result {
+        public final long nodeId;
+        public final double similarity;
+
+        Result(long nodeId, double similarity) {
+            this.nodeId = nodeId;
+            this.similarity = similarity;
+        }
+    }
+}
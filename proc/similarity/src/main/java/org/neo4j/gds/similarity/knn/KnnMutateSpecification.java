@@ -43,15 +43,15 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
 import static org.neo4j.gds.similarity.knn.KnnProc.KNN_DESCRIPTION;
 
 @GdsCallable(name = "gds.knn.mutate", description = KNN_DESCRIPTION, executionMode = MUTATE_RELATIONSHIP)
-public class KnnMutateSpecification implements AlgorithmSpec<Knn, Knn.Result, KnnMutateConfig, Stream<MutateResult>, KnnFactory<KnnMutateConfig>> {
+public class KnnMutateSpecification implements AlgorithmSpec<Knn, Knn.Result, KnnMutateConfig, Stream<MutateResult>, IncrementalKnnFactory<KnnMutateConfig>> {
     @Override
     public String name() {
         return "KnnMutate";
     }
 
     @Override
-    public KnnFactory<KnnMutateConfig> algorithmFactory(ExecutionContext executionContext) {
-        return new KnnFactory<>();
+    public IncrementalKnnFactory<KnnMutateConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new IncrementalKnnFactory<>();
     }
 
     @Override
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.MutateComputationResultConsumer;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.ExecutionMode;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@GdsCallable(name = "gds.alpha.graph.nodeProperties.quantize", executionMode = ExecutionMode.MUTATE_NODE_PROPERTY, description = QuantizeNodePropertySpec.DESCRIPTION)
+public class QuantizeNodePropertySpec implements AlgorithmSpec<QuantizeNodeProperty, ProductQuantization, QuantizeNodePropertyConfig, Stream<QuantizeNodePropertySpec.MutateResult>, QuantizeNodePropertyFactory> {
+
+    public static final String DESCRIPTION = "The QuantizeNodeProperty procedure stores a product-quantized copy of an array node property, which KNN can search instead of the original property.";
+
+    @Override
+    public String name() {
+        return "gds.alpha.graph.nodeProperties.quantize";
+    }
+
+    @Override
+    public QuantizeNodePropertyFactory algorithmFactory(ExecutionContext executionContext) {
+        return new QuantizeNodePropertyFactory();
+    }
+
+    @Override
+    public NewConfigFunction<QuantizeNodePropertyConfig> newConfigFunction() {
+        return ((__, config) -> QuantizeNodePropertyConfig.of(config));
+    }
+
+    private AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<QuantizeNodeProperty, ProductQuantization, QuantizeNodePropertyConfig> computationResult,
+        ExecutionContext executionContext
+    ) {
+        return new MutateResult.Builder();
+    }
+
+    @Override
+    public ComputationResultConsumer<QuantizeNodeProperty, ProductQuantization, QuantizeNodePropertyConfig, Stream<MutateResult>> computationResultConsumer() {
+        return new MutateComputationResultConsumer<>(this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<QuantizeNodeProperty, ProductQuantization, QuantizeNodePropertyConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                computationResult.result().ifPresent(quantization -> {
+                    var graphStore = computationResult.graphStore();
+                    var config = computationResult.config();
+                    // the codes are indexed by the root node ids already, so they are stored without a filtering wrapper
+                    graphStore.addNodeProperty(
+                        new HashSet<>(config.nodeLabelIdentifiers(graphStore)),
+                        config.mutateProperty(),
+                        quantization
+                    );
+                    resultBuilder.withNodePropertiesWritten(computationResult.graph().nodeCount());
+                });
+            }
+        };
+    }
+
+    public static final class MutateResult extends StandardMutateResult {
+        public final long nodePropertiesWritten;
+
+        private MutateResult(
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            long nodePropertiesWritten,
+            Map<String, Object> configuration
+        ) {
+            super(preProcessingMillis, computeMillis, 0L, mutateMillis, configuration);
+            this.nodePropertiesWritten = nodePropertiesWritten;
+        }
+
+        static class Builder extends AbstractResultBuilder<MutateResult> {
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    nodePropertiesWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
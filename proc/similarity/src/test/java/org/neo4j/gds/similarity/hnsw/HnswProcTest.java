@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphDropNodePropertiesProc;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { vector: [1.0, 0.0], score: 1.0 } )" +
+        ", (b { vector: [0.9, 0.1], score: 1.0 } )" +
+        ", (c { vector: [0.0, 1.0], score: 1.0 } )" +
+        ", (d { vector: [0.1, 0.9], score: 1.0 } )";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            HnswBuildProc.class,
+            HnswQueryProc.class,
+            GraphProjectProc.class,
+            GraphDropProc.class,
+            GraphDropNodePropertiesProc.class
+        );
+        runQuery("CALL gds.graph.project('myGraph', {__ALL__: {label: '*', properties: 'vector'}}, '*')");
+    }
+
+    @Test
+    void shouldBuildIndex() {
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.hnsw.build('myGraph', 'myIndex', " +
+            "  {nodeProperty: 'vector', concurrency: 1, randomSeed: 42})" +
+            " YIELD indexName, graphName, nodeProperty, nodeCount, buildMillis",
+            row -> {
+                assertThat(row.getString("indexName")).isEqualTo("myIndex");
+                assertThat(row.getString("graphName")).isEqualTo("myGraph");
+                assertThat(row.getString("nodeProperty")).isEqualTo("vector");
+                assertThat(row.getNumber("nodeCount")).isEqualTo(4L);
+                assertThat(row.getNumber("buildMillis").longValue()).isGreaterThanOrEqualTo(0L);
+            }
+        );
+    }
+
+    @Test
+    void shouldQueryByNode() {
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+
+        var query =
+            "MATCH (a) WHERE a.vector = [1.0, 0.0]" +
+            " CALL gds.alpha.hnsw.query('myGraph', 'myIndex', a, {topK: 1})" +
+            " YIELD nodeId" +
+            " RETURN nodeId";
+        assertCypherResult(query, List.of(Map.of("nodeId", 1L)));
+    }
+
+    @Test
+    void shouldQueryByVector() {
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+
+        var query =
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', [0.0, 2.0], {topK: 2})" +
+            " YIELD nodeId" +
+            " RETURN nodeId";
+        assertCypherResult(query, List.of(Map.of("nodeId", 2L), Map.of("nodeId", 3L)));
+    }
+
+    @Test
+    void shouldFailOnMissingIndex() {
+        assertError(
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', 0)",
+            "No index with name `myIndex` exists on graph `myGraph`."
+        );
+    }
+
+    @Test
+    void shouldDropIndexTogetherWithGraph() {
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+        runQuery("CALL gds.graph.drop('myGraph')");
+        runQuery("CALL gds.graph.project('myGraph', {__ALL__: {label: '*', properties: 'vector'}}, '*')");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', 0)",
+            "No index with name `myIndex` exists on graph `myGraph`."
+        );
+    }
+
+    @Test
+    void shouldDropIndexWhenItsPropertyIsDropped() {
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+        runQuery("CALL gds.graph.nodeProperties.drop('myGraph', ['vector'])");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', 0)",
+            "No index with name `myIndex` exists on graph `myGraph`. " +
+            "Indexes are dropped when the graph is modified after they have been built."
+        );
+    }
+
+    @Test
+    void shouldNotSearchStaleVectorsAfterThePropertyIsReplaced() {
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "myGraph").graphStore();
+        graphStore.removeNodeProperty("vector");
+        graphStore.addNodeProperty(
+            graphStore.nodeLabels(),
+            "vector",
+            new DoubleArrayTestPropertyValues(nodeId -> new double[]{nodeId, 1.0})
+        );
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', [0.0, 2.0])",
+            "No index with name `myIndex` exists on graph `myGraph`."
+        );
+
+        runQuery("CALL gds.alpha.hnsw.build('myGraph', 'myIndex', {nodeProperty: 'vector'})");
+        var query =
+            "CALL gds.alpha.hnsw.query('myGraph', 'myIndex', [0.0, 2.0], {topK: 1})" +
+            " YIELD nodeId" +
+            " RETURN nodeId";
+        assertCypherResult(query, List.of(Map.of("nodeId", 0L)));
+    }
+
+    @Test
+    void shouldFailOnNonArrayProperty() {
+        runQuery("CALL gds.graph.project('scalarGraph', {__ALL__: {label: '*', properties: 'score'}}, '*')");
+
+        assertError(
+            "CALL gds.alpha.hnsw.build('scalarGraph', 'myIndex', {nodeProperty: 'score'})",
+            "Unsupported node property value type [DOUBLE]."
+        );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.catalog.GraphDropNodePropertiesProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.similarity.knn.metrics.ProductQuantization;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+
+class QuantizeNodePropertyProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB_CYPHER =
+        "CREATE" +
+        "  ({vector: [1.0, 0.0, 0.5, 0.1]})" +
+        ", ({vector: [0.9, 0.1, 0.4, 0.1]})" +
+        ", ({vector: [0.0, 1.0, 0.1, 0.5]})" +
+        ", ({vector: [0.1, 0.9, 0.1, 0.4]})" +
+        ", ({vector: [-1.0, 0.0, -0.5, 0.0]})" +
+        ", ({vector: [-0.9, -0.1, -0.4, 0.0]})";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            QuantizeNodePropertyProc.class,
+            KnnStreamProc.class,
+            GraphDropNodePropertiesProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery("CALL gds.graph.project('graph', {__ALL__: {label: '*', properties: 'vector'}}, '*')");
+    }
+
+    @Test
+    void shouldMutateQuantizedProperty() {
+        var rowCount = runQueryWithRowConsumer(
+            "CALL gds.alpha.graph.nodeProperties.quantize('graph', " +
+            "{nodeProperty: 'vector', mutateProperty: 'codes', subspaces: 2, randomSeed: 42})" +
+            " YIELD nodePropertiesWritten",
+            row -> assertThat(row.getNumber("nodePropertiesWritten")).asInstanceOf(LONG).isEqualTo(6L)
+        );
+        assertThat(rowCount).isEqualTo(1);
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "graph").graphStore();
+        var codes = graphStore.nodeProperty("codes").values();
+        assertThat(codes.valueType()).isEqualTo(ValueType.FLOAT_ARRAY);
+        assertThat(codes).isInstanceOf(ProductQuantization.class);
+        assertThat(((ProductQuantization) codes).sourceProperty()).isEqualTo("vector");
+    }
+
+    @Test
+    void shouldSearchCodesAfterDroppingTheOriginalProperty() {
+        runQuery(
+            "CALL gds.alpha.graph.nodeProperties.quantize('graph', " +
+            "{nodeProperty: 'vector', mutateProperty: 'codes', subspaces: 2, randomSeed: 42})"
+        );
+        runQuery("CALL gds.graph.nodeProperties.drop('graph', ['vector'])");
+
+        var query =
+            "CALL gds.knn.stream('graph', " +
+            "{nodeProperties: ['codes'], topK: 1, quantizationRerank: false, randomSeed: 42, concurrency: 1})" +
+            " YIELD node1, node2" +
+            " RETURN node1, node2" +
+            " ORDER BY node1";
+        assertCypherResult(query, List.of(
+            Map.of("node1", 0L, "node2", 1L),
+            Map.of("node1", 1L, "node2", 0L),
+            Map.of("node1", 2L, "node2", 3L),
+            Map.of("node1", 3L, "node2", 2L),
+            Map.of("node1", 4L, "node2", 5L),
+            Map.of("node1", 5L, "node2", 4L)
+        ));
+    }
+}